@@ -0,0 +1,329 @@
+package com.fantasyfootball.archive;
+
+import com.fantasyfootball.dto.PlayerStatsRow;
+import com.fantasyfootball.dto.SeasonStatLine;
+import com.fantasyfootball.index.SeasonStatsStore;
+import com.fantasyfootball.index.StatColumn;
+import com.fantasyfootball.index.WeekVisitor;
+import com.fantasyfootball.scoring.ScoringFormula;
+import com.fantasyfootball.scoring.SeasonScoreBoard;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+
+/**
+ * One archived season, read straight from a memory-mapped file written by
+ * {@link SeasonArchiveWriter}.
+ *
+ * The file starts with a fixed header and a directory of {@code (playerId, offset)} pairs
+ * sorted by player id, followed by one block per player. A block holds the player's
+ * week mask as a varint, then each column in turn with one zigzag varint per week in the
+ * mask, oldest week first. Lookups binary-search the directory and decode one block in
+ * place; nothing is copied out of the mapping, and the file's pages are shared with the
+ * OS page cache instead of living on the heap. Thread-safe, as all reads use absolute
+ * offsets.
+ */
+public final class SeasonArchive {
+
+    static final int MAGIC = 0x46465341;
+    static final short VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    static final int DIRECTORY_ENTRY_BYTES = 8;
+
+    /** The stat columns in {@link StatColumn} order, then games played. */
+    static final int COLUMNS = StatColumn.values().length + 1;
+    static final int GAMES_PLAYED = COLUMNS - 1;
+
+    private final Path file;
+    private final ByteBuffer buffer;
+    private final int season;
+    private final int players;
+    private final int rows;
+    private final int dataStart;
+
+    private SeasonArchive(Path file, ByteBuffer buffer) {
+        this.file = file;
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException(file + " is not a season archive");
+        }
+        if (buffer.getShort(4) != VERSION || buffer.getShort(6) != COLUMNS) {
+            throw new IllegalArgumentException(file + " has an unsupported archive version");
+        }
+        this.season = buffer.getInt(8);
+        this.players = buffer.getInt(12);
+        this.rows = buffer.getInt(16);
+        this.dataStart = HEADER_BYTES + players * DIRECTORY_ENTRY_BYTES;
+        int dataLength = buffer.getInt(20);
+        if (dataStart + dataLength != buffer.capacity()) {
+            throw new IllegalArgumentException(file + " is truncated");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(HEADER_BYTES));
+        if ((int) crc.getValue() != buffer.getInt(24)) {
+            throw new IllegalArgumentException(file + " failed its checksum");
+        }
+    }
+
+    /**
+     * Maps {@code file} read-only and checks its header and checksum.
+     *
+     * @throws IllegalArgumentException if the file is not a valid archive
+     */
+    public static SeasonArchive open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new SeasonArchive(file, mapped.order(ByteOrder.BIG_ENDIAN));
+        }
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    public int season() {
+        return season;
+    }
+
+    public int players() {
+        return players;
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public long sizeBytes() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Sums the player's season, or only their {@code lastWeeks} most recent weeks when
+     * that is positive. Empty if the player is not in the archive.
+     */
+    public Optional<SeasonStatLine> line(int playerId, int lastWeeks) {
+        int entry = find(playerId);
+        if (entry < 0) {
+            return Optional.empty();
+        }
+        Block block = new Block(blockOffset(entry));
+        int selected = block.mask;
+        if (lastWeeks > 0) {
+            while (Integer.bitCount(selected) > lastWeeks) {
+                selected &= selected - 1;
+            }
+        }
+        long[] totals = new long[StatColumn.values().length];
+        for (int c = 0; c < totals.length; c++) {
+            for (int remaining = block.mask; remaining != 0; remaining &= remaining - 1) {
+                int value = block.next();
+                if ((selected & remaining & -remaining) != 0) {
+                    totals[c] += value;
+                }
+            }
+        }
+        return Optional.of(SeasonStatLine.of(playerId, season, Integer.bitCount(selected), totals));
+    }
+
+    /**
+     * The player's weekly rows, oldest week first; empty if the player is not archived.
+     * Archived rows have no id.
+     */
+    public List<PlayerStatsRow> weeks(int playerId) {
+        int entry = find(playerId);
+        return entry >= 0 ? weeksAt(entry) : List.of();
+    }
+
+    /**
+     * Every archived row, by player id and then week, decoding one player's block at a
+     * time as the iterator advances.
+     */
+    public Iterator<PlayerStatsRow> allWeeks() {
+        return IntStream.range(0, players).boxed()
+                .flatMap(entry -> weeksAt(entry).stream())
+                .iterator();
+    }
+
+    private List<PlayerStatsRow> weeksAt(int entry) {
+        int playerId = playerId(entry);
+        Block block = new Block(blockOffset(entry));
+        int weeks = Integer.bitCount(block.mask);
+        int[][] values = new int[COLUMNS][weeks];
+        for (int c = 0; c < COLUMNS; c++) {
+            for (int w = 0; w < weeks; w++) {
+                values[c][w] = block.next();
+            }
+        }
+        List<PlayerStatsRow> result = new ArrayList<>(weeks);
+        int w = 0;
+        for (int remaining = block.mask; remaining != 0; remaining &= remaining - 1, w++) {
+            result.add(new PlayerStatsRow(null, playerId, Integer.numberOfTrailingZeros(remaining) + 1, season,
+                    values[GAMES_PLAYED][w], BigDecimal.valueOf(values[StatColumn.POINTS_SCORED.ordinal()][w], 2),
+                    values[StatColumn.YARDS_GAINED.ordinal()][w], values[StatColumn.TOUCHDOWNS.ordinal()][w],
+                    values[StatColumn.FIELD_GOALS.ordinal()][w], values[StatColumn.INTERCEPTIONS.ordinal()][w],
+                    values[StatColumn.FUMBLES.ordinal()][w], values[StatColumn.RECEPTIONS.ordinal()][w]));
+        }
+        return result;
+    }
+
+    /**
+     * Visits every player with stats in one week, decoding only the blocks whose mask
+     * contains it.
+     */
+    public void forEachInWeek(int week, WeekVisitor visitor) {
+        if (week < 1 || week > SeasonStatsStore.MAX_WEEK) {
+            return;
+        }
+        int bit = 1 << (week - 1);
+        int[] values = new int[StatColumn.values().length];
+        for (int entry = 0; entry < players; entry++) {
+            Block block = new Block(blockOffset(entry));
+            if ((block.mask & bit) == 0) {
+                continue;
+            }
+            int weeks = Integer.bitCount(block.mask);
+            int before = Integer.bitCount(block.mask & (bit - 1));
+            for (int c = 0; c < values.length; c++) {
+                block.skip(before);
+                values[c] = block.next();
+                block.skip(weeks - before - 1);
+            }
+            visitor.visit(playerId(entry), values);
+        }
+    }
+
+    /**
+     * The season lines of the {@code limit} players with the highest total of
+     * {@code column}, ties broken by player id, among players accepted by {@code include}.
+     * Decodes only that column of each block.
+     */
+    public List<SeasonStatLine> leaders(StatColumn column, IntPredicate include, int limit) {
+        long[] ranked = new long[players];
+        int count = 0;
+        for (int entry = 0; entry < players; entry++) {
+            int playerId = playerId(entry);
+            if (!include.test(playerId)) {
+                continue;
+            }
+            Block block = new Block(blockOffset(entry));
+            int weeks = Integer.bitCount(block.mask);
+            block.skip(column.ordinal() * weeks);
+            long total = 0;
+            for (int w = 0; w < weeks; w++) {
+                total += block.next();
+            }
+            ranked[count++] = (total << 32) | (Integer.MAX_VALUE - playerId);
+        }
+        Arrays.sort(ranked, 0, count);
+        List<SeasonStatLine> leaders = new ArrayList<>(Math.min(limit, count));
+        for (int i = count - 1; i >= 0 && leaders.size() < limit; i--) {
+            line(Integer.MAX_VALUE - (int) ranked[i], 0).ifPresent(leaders::add);
+        }
+        return leaders;
+    }
+
+    /**
+     * Scores every player's season with {@code formula}, decoding each block into one
+     * reused scratch array.
+     */
+    public SeasonScoreBoard score(ScoringFormula formula) {
+        int[] playerIds = new int[players];
+        long[] points = new long[players];
+        int[] weeks = new int[players];
+        int[][] scratch = new int[StatColumn.values().length][SeasonStatsStore.MAX_WEEK];
+        for (int entry = 0; entry < players; entry++) {
+            Block block = new Block(blockOffset(entry));
+            int count = Integer.bitCount(block.mask);
+            for (int c = 0; c < scratch.length; c++) {
+                for (int w = 0; w < count; w++) {
+                    scratch[c][w] = block.next();
+                }
+            }
+            long total = 0;
+            for (int w = 0; w < count; w++) {
+                total += formula.scoreWeek(scratch, w);
+            }
+            playerIds[entry] = playerId(entry);
+            points[entry] = total;
+            weeks[entry] = count;
+        }
+        return new SeasonScoreBoard(playerIds, points, weeks);
+    }
+
+    private int find(int playerId) {
+        int low = 0;
+        int high = players - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int id = playerId(mid);
+            if (id < playerId) {
+                low = mid + 1;
+            } else if (id > playerId) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int playerId(int entry) {
+        return buffer.getInt(HEADER_BYTES + entry * DIRECTORY_ENTRY_BYTES);
+    }
+
+    private int blockOffset(int entry) {
+        return dataStart + buffer.getInt(HEADER_BYTES + entry * DIRECTORY_ENTRY_BYTES + 4);
+    }
+
+    /**
+     * Sequential reader over one player's block.
+     */
+    private final class Block {
+
+        private int position;
+        private final int mask;
+
+        Block(int offset) {
+            position = offset;
+            mask = (int) readVarint();
+        }
+
+        int next() {
+            long zigzag = readVarint();
+            return (int) (zigzag >>> 1) ^ -(int) (zigzag & 1);
+        }
+
+        void skip(int values) {
+            for (int i = 0; i < values; i++) {
+                while ((buffer.get(position++) & 0x80) != 0) {
+                    // continuation byte
+                }
+            }
+        }
+
+        private long readVarint() {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = buffer.get(position++);
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.fantasyfootball.archive;
+
+import com.fantasyfootball.dto.PlayerStatsRow;
+import com.fantasyfootball.index.SeasonStatsStore;
+import com.fantasyfootball.index.StatColumn;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * Packs one season's rows into the {@link SeasonArchive} file format. Rows must be added
+ * ordered by player id and then week. The whole file is built in memory, a season being
+ * a few hundred kilobytes, and written to a temporary file that is moved into place, so a
+ * reader never maps a partial archive.
+ */
+public final class SeasonArchiveWriter {
+
+    private final int season;
+    private final int[][] pending = new int[SeasonArchive.COLUMNS][SeasonStatsStore.MAX_WEEK];
+    private int[] playerIds = new int[1024];
+    private int[] offsets = new int[1024];
+    private byte[] data = new byte[64 * 1024];
+    private int dataLength;
+    private int players;
+    private int rows;
+    private int currentPlayer;
+    private int currentMask;
+    private int lastWeek;
+
+    public SeasonArchiveWriter(int season) {
+        this.season = season;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the row is from another season, its week is out
+     *         of range, or it is out of order
+     */
+    public void add(PlayerStatsRow row) {
+        int playerId = row.playerId();
+        int week = row.week();
+        if (row.season() != season) {
+            throw new IllegalArgumentException("Row of season " + row.season() + " in archive of " + season);
+        }
+        if (week < 1 || week > SeasonStatsStore.MAX_WEEK) {
+            throw new IllegalArgumentException("Week " + week + " is outside 1-" + SeasonStatsStore.MAX_WEEK);
+        }
+        if (currentMask != 0 && playerId != currentPlayer) {
+            if (playerId < currentPlayer) {
+                throw new IllegalArgumentException("Rows must be ordered by player id");
+            }
+            flushPlayer();
+        } else if (currentMask != 0 && week <= lastWeek) {
+            throw new IllegalArgumentException("Rows must be ordered by week");
+        }
+        currentPlayer = playerId;
+        lastWeek = week;
+        currentMask |= 1 << (week - 1);
+        for (StatColumn column : StatColumn.values()) {
+            pending[column.ordinal()][week - 1] = column.valueOf(row);
+        }
+        pending[SeasonArchive.GAMES_PLAYED][week - 1] = row.gamesPlayed() != null ? row.gamesPlayed() : 0;
+        rows++;
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * Writes the archive to {@code file}, replacing it atomically, and returns its size in
+     * bytes.
+     */
+    public long writeTo(Path file) throws IOException {
+        if (currentMask != 0) {
+            flushPlayer();
+        }
+        int directoryBytes = players * SeasonArchive.DIRECTORY_ENTRY_BYTES;
+        ByteBuffer body = ByteBuffer.allocate(directoryBytes + dataLength);
+        for (int i = 0; i < players; i++) {
+            body.putInt(playerIds[i]).putInt(offsets[i]);
+        }
+        body.put(data, 0, dataLength).flip();
+        CRC32 crc = new CRC32();
+        crc.update(body.duplicate());
+
+        ByteBuffer header = ByteBuffer.allocate(SeasonArchive.HEADER_BYTES);
+        header.putInt(SeasonArchive.MAGIC)
+                .putShort(SeasonArchive.VERSION)
+                .putShort((short) SeasonArchive.COLUMNS)
+                .putInt(season)
+                .putInt(players)
+                .putInt(rows)
+                .putInt(dataLength)
+                .putInt((int) crc.getValue())
+                .rewind();
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (header.hasRemaining() || body.hasRemaining()) {
+                channel.write(new ByteBuffer[]{header, body});
+            }
+            channel.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return SeasonArchive.HEADER_BYTES + directoryBytes + dataLength;
+    }
+
+    private void flushPlayer() {
+        if (players == playerIds.length) {
+            playerIds = Arrays.copyOf(playerIds, players * 2);
+            offsets = Arrays.copyOf(offsets, players * 2);
+        }
+        playerIds[players] = currentPlayer;
+        offsets[players] = dataLength;
+        players++;
+        writeVarint(currentMask & 0xFFFFFFFFL);
+        for (int c = 0; c < SeasonArchive.COLUMNS; c++) {
+            for (int remaining = currentMask; remaining != 0; remaining &= remaining - 1) {
+                int value = pending[c][Integer.numberOfTrailingZeros(remaining)];
+                writeVarint(((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL);
+            }
+        }
+        currentMask = 0;
+    }
+
+    private void writeVarint(long value) {
+        if (dataLength + 10 > data.length) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+        while ((value & ~0x7FL) != 0) {
+            data[dataLength++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[dataLength++] = (byte) value;
+    }
+}
@@ -0,0 +1,56 @@
+package com.fantasyfootball.controller;
+
+import com.fantasyfootball.dto.ArchivedSeasonView;
+import com.fantasyfootball.dto.PlayerStatsView;
+import com.fantasyfootball.service.SeasonArchiveService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/archive")
+@CrossOrigin(origins = "http://localhost:3000")
+public class ArchiveController {
+    
+    @Autowired
+    private SeasonArchiveService seasonArchiveService;
+    
+    @GetMapping("/seasons")
+    public ResponseEntity<List<ArchivedSeasonView>> getArchivedSeasons() {
+        return ResponseEntity.ok(seasonArchiveService.getSeasons());
+    }
+    
+    /**
+     * Moves a past season's stats out of the database into its archive file.
+     */
+    @PostMapping("/seasons/{season}")
+    public ResponseEntity<ArchivedSeasonView> archiveSeason(@PathVariable Integer season) {
+        try {
+            ArchivedSeasonView archived = seasonArchiveService.archiveSeason(season);
+            return ResponseEntity.status(HttpStatus.CREATED).body(archived);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    @GetMapping("/seasons/{season}/players/{playerId}")
+    public ResponseEntity<List<PlayerStatsView>> getArchivedWeeks(
+            @PathVariable Integer season,
+            @PathVariable Integer playerId) {
+        try {
+            List<PlayerStatsView> weeks = seasonArchiveService.getWeeks(playerId, season).stream()
+                    .map(PlayerStatsView::from)
+                    .toList();
+            return weeks.isEmpty() ? ResponseEntity.notFound().build() : ResponseEntity.ok(weeks);
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
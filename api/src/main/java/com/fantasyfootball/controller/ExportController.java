@@ -0,0 +1,42 @@
+package com.fantasyfootball.controller;
+
+import com.fantasyfootball.service.ExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Bulk exports for offline analytics. Every endpoint streams newline-delimited JSON, one
+ * object per line, without building the full result in memory.
+ */
+@RestController
+@RequestMapping("/export")
+@CrossOrigin(origins = "http://localhost:3000")
+public class ExportController {
+    
+    @Autowired
+    private ExportService exportService;
+    
+    @GetMapping(value = "/players", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPlayers() {
+        return ndjson(out -> exportService.exportPlayers(out));
+    }
+    
+    @GetMapping(value = "/player-stats", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPlayerStats(@RequestParam(required = false) Integer season) {
+        return ndjson(out -> exportService.exportPlayerStats(season, out));
+    }
+    
+    @GetMapping(value = "/rosters", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportRosters(@RequestParam(required = false) Integer teamId) {
+        return ndjson(out -> exportService.exportRosters(teamId, out));
+    }
+    
+    private static ResponseEntity<StreamingResponseBody> ndjson(StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
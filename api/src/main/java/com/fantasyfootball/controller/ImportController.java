@@ -0,0 +1,47 @@
+package com.fantasyfootball.controller;
+
+import com.fantasyfootball.dto.StatsImportProgress;
+import com.fantasyfootball.service.StatsImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/imports")
+@CrossOrigin(origins = "http://localhost:3000")
+public class ImportController {
+    
+    @Autowired
+    private StatsImportService statsImportService;
+    
+    /**
+     * Starts importing a stats file from the server's import directory; poll the returned
+     * id for progress.
+     */
+    @PostMapping("/stats")
+    public ResponseEntity<StatsImportProgress> startStatsImport(@RequestParam String file) {
+        try {
+            StatsImportProgress progress = statsImportService.startImport(file);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(progress);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    @GetMapping("/stats")
+    public ResponseEntity<List<StatsImportProgress>> getStatsImports() {
+        return ResponseEntity.ok(statsImportService.getImports());
+    }
+    
+    @GetMapping("/stats/{id}")
+    public ResponseEntity<StatsImportProgress> getStatsImport(@PathVariable Long id) {
+        return statsImportService.getImport(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,157 @@
+package com.fantasyfootball.controller;
+
+import com.fantasyfootball.dto.LeagueTeamSettings;
+import com.fantasyfootball.dto.LeagueView;
+import com.fantasyfootball.dto.MatchupResult;
+import com.fantasyfootball.dto.MatchupView;
+import com.fantasyfootball.dto.NewMatchup;
+import com.fantasyfootball.dto.ScheduleOptions;
+import com.fantasyfootball.dto.SeasonScheduleResult;
+import com.fantasyfootball.dto.StandingView;
+import com.fantasyfootball.entity.League;
+import com.fantasyfootball.service.LeagueService;
+import com.fantasyfootball.service.ScheduleService;
+import com.fantasyfootball.service.TeamInAnotherLeagueException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/leagues")
+@CrossOrigin(origins = "http://localhost:3000")
+public class LeagueController {
+    
+    @Autowired
+    private LeagueService leagueService;
+    
+    @Autowired
+    private ScheduleService scheduleService;
+    
+    @PostMapping
+    public ResponseEntity<LeagueView> createLeague(@RequestBody League league) {
+        try {
+            return ResponseEntity.ok(LeagueView.from(leagueService.createLeague(league)));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    @GetMapping("/{id}")
+    public ResponseEntity<LeagueView> getLeague(@PathVariable Integer id) {
+        return leagueService.getLeague(id)
+                .map(league -> ResponseEntity.ok(LeagueView.from(league)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @PostMapping("/{id}/teams/{teamId}")
+    public ResponseEntity<Void> addTeam(@PathVariable Integer id, @PathVariable Integer teamId) {
+        try {
+            leagueService.addTeam(id, teamId);
+            return ResponseEntity.ok().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (TeamInAnotherLeagueException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    @PutMapping("/{id}/teams/{teamId}")
+    public ResponseEntity<Void> updateTeam(
+            @PathVariable Integer id,
+            @PathVariable Integer teamId,
+            @RequestBody LeagueTeamSettings settings) {
+        try {
+            leagueService.updateTeam(id, teamId, settings);
+            return ResponseEntity.ok().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    @PostMapping("/{id}/schedule")
+    public ResponseEntity<List<MatchupView>> generateSchedule(
+            @PathVariable Integer id,
+            @RequestBody ScheduleOptions options) {
+        try {
+            return ResponseEntity.ok(MatchupView.fromAll(scheduleService.generateSchedule(id, options)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    @PostMapping("/seasons/{season}/schedule")
+    public ResponseEntity<SeasonScheduleResult> generateSeasonSchedules(
+            @PathVariable Integer season,
+            @RequestBody ScheduleOptions options) {
+        try {
+            return ResponseEntity.ok(scheduleService.generateSeason(season, options));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    @GetMapping("/{id}/matchups")
+    public ResponseEntity<List<MatchupView>> getMatchups(
+            @PathVariable Integer id,
+            @RequestParam(required = false) Integer week) {
+        return ResponseEntity.ok(MatchupView.fromAll(leagueService.getMatchups(id, week)));
+    }
+    
+    @PostMapping("/{id}/matchups")
+    public ResponseEntity<MatchupView> scheduleMatchup(@PathVariable Integer id, @RequestBody NewMatchup matchup) {
+        try {
+            return ResponseEntity.ok(MatchupView.from(
+                    leagueService.scheduleMatchup(id, matchup.week(), matchup.homeTeamId(), matchup.awayTeamId())));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    @PutMapping("/{id}/matchups/{matchupId}/result")
+    public ResponseEntity<MatchupView> finalizeMatchup(
+            @PathVariable Integer id,
+            @PathVariable Integer matchupId,
+            @RequestBody MatchupResult result) {
+        try {
+            return ResponseEntity.ok(MatchupView.from(
+                    leagueService.finalizeMatchup(id, matchupId, result.homePoints(), result.awayPoints())));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    @PostMapping("/{id}/weeks/{week}/finalize")
+    public ResponseEntity<List<MatchupView>> finalizeWeek(@PathVariable Integer id, @PathVariable Integer week) {
+        try {
+            return ResponseEntity.ok(MatchupView.fromAll(leagueService.finalizeWeek(id, week)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    @GetMapping("/{id}/standings")
+    public ResponseEntity<List<StandingView>> getStandings(@PathVariable Integer id) {
+        try {
+            return ResponseEntity.ok(leagueService.getStandings(id));
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
@@ -1,8 +1,18 @@
 package com.fantasyfootball.controller;
 
+import com.fantasyfootball.dto.CursorPage;
+import com.fantasyfootball.dto.LeaderboardEntry;
+import com.fantasyfootball.dto.PlayerFacetQuery;
+import com.fantasyfootball.dto.PlayerRank;
+import com.fantasyfootball.dto.PlayerSuggestion;
+import com.fantasyfootball.dto.PlayerSummary;
+import com.fantasyfootball.dto.PlayerView;
+import com.fantasyfootball.dto.PlayerWithStatsView;
 import com.fantasyfootball.entity.Player;
+import com.fantasyfootball.service.PlayerAvailabilityService;
 import com.fantasyfootball.service.PlayerService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -17,103 +27,206 @@ public class PlayerController {
     @Autowired
     private PlayerService playerService;
     
+    @Autowired
+    private PlayerAvailabilityService playerAvailabilityService;
+    
     @GetMapping
-    public ResponseEntity<List<Player>> getAllPlayers() {
+    public ResponseEntity<List<PlayerView>> getAllPlayers() {
         List<Player> players = playerService.getAllPlayers();
-        return ResponseEntity.ok(players);
+        return ResponseEntity.ok(PlayerView.fromAll(players));
     }
     
     @GetMapping("/active")
-    public ResponseEntity<List<Player>> getActivePlayers() {
+    public ResponseEntity<List<PlayerView>> getActivePlayers() {
         List<Player> players = playerService.getActivePlayers();
-        return ResponseEntity.ok(players);
+        return ResponseEntity.ok(PlayerView.fromAll(players));
+    }
+    
+    @GetMapping("/page")
+    public ResponseEntity<CursorPage<PlayerSummary>> getPlayerPage(
+            @RequestParam(required = false, defaultValue = "points") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "50") int size,
+            @RequestParam(required = false, defaultValue = "true") boolean activeOnly) {
+        try {
+            CursorPage<PlayerSummary> page = playerService.getPlayerPage(sort, cursor, size, activeOnly);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    @GetMapping("/query")
+    public ResponseEntity<List<PlayerSummary>> queryPlayers(
+            @RequestParam(required = false) List<String> position,
+            @RequestParam(required = false) List<Integer> nflTeam,
+            @RequestParam(required = false) List<String> conference,
+            @RequestParam(required = false) List<String> division,
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) Boolean dst,
+            @RequestParam(required = false, defaultValue = "points") String sort,
+            @RequestParam(required = false, defaultValue = "50") int limit) {
+        PlayerFacetQuery query = new PlayerFacetQuery(position, nflTeam, conference, division, active, dst, sort, limit);
+        try {
+            List<PlayerSummary> players = playerService.queryPlayers(query);
+            return ResponseEntity.ok(players);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+    
+    @GetMapping("/leaderboard")
+    public ResponseEntity<List<LeaderboardEntry>> getLeaderboard(
+            @RequestParam(required = false) String position,
+            @RequestParam(required = false, defaultValue = "1") int from,
+            @RequestParam(required = false, defaultValue = "25") int limit) {
+        try {
+            List<LeaderboardEntry> leaderboard = playerService.getLeaderboard(position, from, limit);
+            return ResponseEntity.ok(leaderboard);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<Player> getPlayerById(@PathVariable Integer id) {
+    public ResponseEntity<PlayerView> getPlayerById(@PathVariable Integer id) {
         Optional<Player> player = playerService.getPlayerById(id);
-        return player.map(ResponseEntity::ok)
+        return player.map(PlayerView::from)
+                    .map(ResponseEntity::ok)
                     .orElse(ResponseEntity.notFound().build());
     }
     
     @GetMapping("/{id}/with-team")
-    public ResponseEntity<Player> getPlayerWithNflTeam(@PathVariable Integer id) {
+    public ResponseEntity<PlayerView> getPlayerWithNflTeam(@PathVariable Integer id) {
         Optional<Player> player = playerService.getPlayerWithNflTeam(id);
-        return player.map(ResponseEntity::ok)
+        return player.map(PlayerView::from)
+                    .map(ResponseEntity::ok)
                     .orElse(ResponseEntity.notFound().build());
     }
     
     @GetMapping("/{id}/with-stats")
-    public ResponseEntity<Player> getPlayerWithStats(@PathVariable Integer id) {
-        Optional<Player> player = playerService.getPlayerWithStats(id);
-        return player.map(ResponseEntity::ok)
+    public ResponseEntity<PlayerWithStatsView> getPlayerWithStats(@PathVariable Integer id) {
+        return playerService.getPlayerWithStats(id)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @GetMapping("/{id}/rank")
+    public ResponseEntity<PlayerRank> getPlayerRank(@PathVariable Integer id) {
+        try {
+            return playerService.getPlayerRank(id)
+                    .map(ResponseEntity::ok)
                     .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
     }
     
     @GetMapping("/position/{position}")
-    public ResponseEntity<List<Player>> getPlayersByPosition(@PathVariable String position) {
+    public ResponseEntity<List<PlayerView>> getPlayersByPosition(@PathVariable String position) {
         List<Player> players = playerService.getPlayersByPosition(position);
-        return ResponseEntity.ok(players);
+        return ResponseEntity.ok(PlayerView.fromAll(players));
     }
     
     @GetMapping("/nfl-team/{nflTeamId}")
-    public ResponseEntity<List<Player>> getPlayersByNflTeam(@PathVariable Integer nflTeamId) {
+    public ResponseEntity<List<PlayerView>> getPlayersByNflTeam(@PathVariable Integer nflTeamId) {
         List<Player> players = playerService.getPlayersByNflTeam(nflTeamId);
-        return ResponseEntity.ok(players);
+        return ResponseEntity.ok(PlayerView.fromAll(players));
     }
     
     @GetMapping("/search")
-    public ResponseEntity<List<Player>> searchPlayersByName(@RequestParam String name) {
-        List<Player> players = playerService.searchPlayersByName(name);
-        return ResponseEntity.ok(players);
+    public ResponseEntity<List<PlayerView>> searchPlayersByName(
+            @RequestParam String name,
+            @RequestParam(required = false, defaultValue = "false") boolean fuzzy) {
+        List<Player> players = fuzzy
+                ? playerService.searchPlayersFuzzy(name)
+                : playerService.searchPlayersByName(name);
+        return ResponseEntity.ok(PlayerView.fromAll(players));
+    }
+    
+    @GetMapping("/suggest")
+    public ResponseEntity<PlayerSuggestion[]> suggestPlayers(
+            @RequestParam String prefix,
+            @RequestParam(required = false, defaultValue = "10") int limit) {
+        PlayerSuggestion[] suggestions = playerService.suggestPlayers(prefix, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+    
+    @GetMapping("/available")
+    public ResponseEntity<List<PlayerSummary>> getAvailablePlayers(
+            @RequestParam(required = false) Integer leagueId,
+            @RequestParam(required = false) Integer teamId,
+            @RequestParam(required = false) List<String> position,
+            @RequestParam(required = false, defaultValue = "points") String sort,
+            @RequestParam(required = false, defaultValue = "50") int limit) {
+        if ((leagueId == null) == (teamId == null)) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            List<PlayerSummary> players = leagueId != null
+                    ? playerAvailabilityService.getAvailablePlayersInLeague(leagueId, position, sort, limit)
+                    : playerAvailabilityService.getAvailablePlayersForTeam(teamId, position, sort, limit);
+            return ResponseEntity.ok(players);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
     }
     
     @GetMapping("/available/{teamId}")
-    public ResponseEntity<List<Player>> getAvailablePlayersNotOnTeam(@PathVariable Integer teamId) {
+    public ResponseEntity<List<PlayerView>> getAvailablePlayersNotOnTeam(@PathVariable Integer teamId) {
         List<Player> players = playerService.getAvailablePlayersNotOnTeam(teamId);
-        return ResponseEntity.ok(players);
+        return ResponseEntity.ok(PlayerView.fromAll(players));
     }
     
     @GetMapping("/regular/position/{position}")
-    public ResponseEntity<List<Player>> getRegularPlayersByPosition(@PathVariable String position) {
+    public ResponseEntity<List<PlayerView>> getRegularPlayersByPosition(@PathVariable String position) {
         List<Player> players = playerService.getRegularPlayersByPosition(position);
-        return ResponseEntity.ok(players);
+        return ResponseEntity.ok(PlayerView.fromAll(players));
     }
     
     @GetMapping("/defenses")
-    public ResponseEntity<List<Player>> getAllDefenseUnits() {
+    public ResponseEntity<List<PlayerView>> getAllDefenseUnits() {
         List<Player> defenses = playerService.getAllDefenseUnits();
-        return ResponseEntity.ok(defenses);
+        return ResponseEntity.ok(PlayerView.fromAll(defenses));
     }
     
     @GetMapping("/regular")
-    public ResponseEntity<List<Player>> getAllRegularPlayers() {
+    public ResponseEntity<List<PlayerView>> getAllRegularPlayers() {
         List<Player> players = playerService.getAllRegularPlayers();
-        return ResponseEntity.ok(players);
+        return ResponseEntity.ok(PlayerView.fromAll(players));
     }
     
     @GetMapping("/defenses/nfl-team/{nflTeamId}")
-    public ResponseEntity<Player> getDefenseByNflTeam(@PathVariable Integer nflTeamId) {
+    public ResponseEntity<PlayerView> getDefenseByNflTeam(@PathVariable Integer nflTeamId) {
         Optional<Player> defense = playerService.getDefenseByNflTeam(nflTeamId);
-        return defense.map(ResponseEntity::ok)
+        return defense.map(PlayerView::from)
+                     .map(ResponseEntity::ok)
                      .orElse(ResponseEntity.notFound().build());
     }
     
     @PostMapping
-    public ResponseEntity<Player> createPlayer(@RequestBody Player player) {
+    public ResponseEntity<PlayerView> createPlayer(@RequestBody Player player) {
         try {
             Player savedPlayer = playerService.savePlayer(player);
-            return ResponseEntity.ok(savedPlayer);
+            return ResponseEntity.ok(PlayerView.from(savedPlayer));
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
     }
     
     @PutMapping("/{id}")
-    public ResponseEntity<Player> updatePlayer(@PathVariable Integer id, @RequestBody Player playerDetails) {
+    public ResponseEntity<PlayerView> updatePlayer(@PathVariable Integer id, @RequestBody Player playerDetails) {
         try {
             Player updatedPlayer = playerService.updatePlayer(id, playerDetails);
-            return ResponseEntity.ok(updatedPlayer);
+            return ResponseEntity.ok(PlayerView.from(updatedPlayer));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
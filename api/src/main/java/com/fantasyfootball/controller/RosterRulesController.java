@@ -0,0 +1,49 @@
+package com.fantasyfootball.controller;
+
+import com.fantasyfootball.dto.RosterSlotRuleView;
+import com.fantasyfootball.service.RosterRulesService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/roster/leagues/{leagueId}")
+@CrossOrigin(origins = "http://localhost:3000")
+public class RosterRulesController {
+    
+    @Autowired
+    private RosterRulesService rosterRulesService;
+    
+    @GetMapping("/rules")
+    public ResponseEntity<List<RosterSlotRuleView>> getRules(@PathVariable Integer leagueId) {
+        return ResponseEntity.ok(rosterRulesService.getRules(leagueId));
+    }
+    
+    @PutMapping("/rules")
+    public ResponseEntity<List<RosterSlotRuleView>> replaceRules(
+            @PathVariable Integer leagueId,
+            @RequestBody List<RosterSlotRuleView> rules) {
+        try {
+            return ResponseEntity.ok(rosterRulesService.replaceRules(leagueId, rules));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    @PutMapping("/rules/preset/{preset}")
+    public ResponseEntity<List<RosterSlotRuleView>> applyPreset(
+            @PathVariable Integer leagueId,
+            @PathVariable String preset) {
+        try {
+            return ResponseEntity.ok(rosterRulesService.applyPreset(leagueId, preset));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.fantasyfootball.controller;
+
+import com.fantasyfootball.dto.PlayerSeasonScore;
+import com.fantasyfootball.dto.ScoringRuleView;
+import com.fantasyfootball.service.ScoringService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/scoring/leagues/{leagueId}")
+@CrossOrigin(origins = "http://localhost:3000")
+public class ScoringController {
+    
+    @Autowired
+    private ScoringService scoringService;
+    
+    @GetMapping("/rules")
+    public ResponseEntity<List<ScoringRuleView>> getRules(@PathVariable Integer leagueId) {
+        return ResponseEntity.ok(scoringService.getRules(leagueId));
+    }
+    
+    @PutMapping("/rules")
+    public ResponseEntity<List<ScoringRuleView>> replaceRules(
+            @PathVariable Integer leagueId,
+            @RequestBody List<ScoringRuleView> rules) {
+        try {
+            return ResponseEntity.ok(scoringService.replaceRules(leagueId, rules));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    @PutMapping("/rules/preset/{preset}")
+    public ResponseEntity<List<ScoringRuleView>> applyPreset(
+            @PathVariable Integer leagueId,
+            @PathVariable String preset) {
+        try {
+            return ResponseEntity.ok(scoringService.applyPreset(leagueId, preset));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    @GetMapping("/seasons/{season}/leaders")
+    public ResponseEntity<List<PlayerSeasonScore>> getSeasonLeaders(
+            @PathVariable Integer leagueId,
+            @PathVariable Integer season,
+            @RequestParam(required = false) String position,
+            @RequestParam(required = false, defaultValue = "25") int limit) {
+        try {
+            return ResponseEntity.ok(scoringService.getSeasonLeaders(leagueId, season, position, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+    
+    @GetMapping("/players/{playerId}/seasons/{season}")
+    public ResponseEntity<PlayerSeasonScore> getPlayerScore(
+            @PathVariable Integer leagueId,
+            @PathVariable Integer playerId,
+            @PathVariable Integer season) {
+        try {
+            return scoringService.getPlayerScore(leagueId, playerId, season)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.fantasyfootball.controller;
+
+import com.fantasyfootball.dto.PlayerPercentileView;
+import com.fantasyfootball.dto.PlayerStatsView;
+import com.fantasyfootball.dto.SeasonStatLine;
+import com.fantasyfootball.dto.SeasonSummaryView;
+import com.fantasyfootball.dto.StatQuantilesView;
+import com.fantasyfootball.dto.StatRankView;
+import com.fantasyfootball.entity.PlayerStats;
+import com.fantasyfootball.service.SeasonStatsService;
+import com.fantasyfootball.service.SeasonSummaryService;
+import com.fantasyfootball.service.StatPercentileService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@RestController
+@RequestMapping("/stats")
+@CrossOrigin(origins = "http://localhost:3000")
+public class StatsController {
+    
+    @Autowired
+    private SeasonStatsService seasonStatsService;
+    
+    @Autowired
+    private SeasonSummaryService seasonSummaryService;
+    
+    @Autowired
+    private StatPercentileService statPercentileService;
+    
+    @GetMapping("/players/{playerId}/seasons/{season}")
+    public ResponseEntity<SeasonStatLine> getSeasonLine(
+            @PathVariable Integer playerId,
+            @PathVariable Integer season,
+            @RequestParam(required = false, defaultValue = "0") int lastWeeks) {
+        try {
+            return seasonStatsService.getSeasonLine(playerId, season, lastWeeks)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+    
+    @GetMapping("/players/{playerId}/seasons/{season}/summary")
+    public ResponseEntity<SeasonSummaryView> getSeasonSummary(
+            @PathVariable Integer playerId,
+            @PathVariable Integer season) {
+        return seasonSummaryService.getSummary(playerId, season)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @GetMapping("/seasons/{season}/leaders")
+    public ResponseEntity<List<SeasonStatLine>> getSeasonLeaders(
+            @PathVariable Integer season,
+            @RequestParam(required = false, defaultValue = "pointsScored") String stat,
+            @RequestParam(required = false) String position,
+            @RequestParam(required = false, defaultValue = "25") int limit) {
+        try {
+            List<SeasonStatLine> leaders = seasonStatsService.getSeasonLeaders(season, stat, position, limit);
+            return ResponseEntity.ok(leaders);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+    
+    /**
+     * Where the player's week falls among all players of their position that week.
+     */
+    @GetMapping("/players/{playerId}/seasons/{season}/weeks/{week}/percentile")
+    public ResponseEntity<PlayerPercentileView> getPlayerPercentile(
+            @PathVariable Integer playerId,
+            @PathVariable Integer season,
+            @PathVariable Integer week,
+            @RequestParam(required = false, defaultValue = "pointsScored") String stat) {
+        try {
+            return statPercentileService.getPlayerPercentile(playerId, season, week, stat)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+    
+    /**
+     * Estimated values of a stat at the given quantiles of a position's weekly values,
+     * over one season or a range of seasons and weeks.
+     */
+    @GetMapping("/positions/{position}/quantiles")
+    public ResponseEntity<StatQuantilesView> getPositionQuantiles(
+            @PathVariable String position,
+            @RequestParam Integer season,
+            @RequestParam(required = false) Integer toSeason,
+            @RequestParam(required = false, defaultValue = "1") int fromWeek,
+            @RequestParam(required = false, defaultValue = "32") int toWeek,
+            @RequestParam(required = false, defaultValue = "pointsScored") String stat,
+            @RequestParam(required = false, defaultValue = "0.25,0.5,0.75,0.9") List<Double> q) {
+        try {
+            return ResponseEntity.ok(statPercentileService.getQuantiles(position, stat, season, toSeason, fromWeek,
+                    toWeek, q));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+    
+    /**
+     * The percentile of a value among a position's weekly values of a stat.
+     */
+    @GetMapping("/positions/{position}/rank")
+    public ResponseEntity<StatRankView> getPositionRank(
+            @PathVariable String position,
+            @RequestParam BigDecimal value,
+            @RequestParam Integer season,
+            @RequestParam(required = false) Integer toSeason,
+            @RequestParam(required = false, defaultValue = "1") int fromWeek,
+            @RequestParam(required = false, defaultValue = "32") int toWeek,
+            @RequestParam(required = false, defaultValue = "pointsScored") String stat) {
+        try {
+            return ResponseEntity.ok(statPercentileService.getRank(position, stat, season, toSeason, fromWeek, toWeek,
+                    value));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+    
+    @PutMapping("/players/{playerId}/seasons/{season}/weeks/{week}")
+    public ResponseEntity<PlayerStatsView> saveWeek(
+            @PathVariable Integer playerId,
+            @PathVariable Integer season,
+            @PathVariable Integer week,
+            @RequestBody PlayerStats stats) {
+        try {
+            PlayerStats saved = seasonStatsService.saveWeek(playerId, season, week, stats);
+            return ResponseEntity.ok(PlayerStatsView.from(saved));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    @DeleteMapping("/players/{playerId}/seasons/{season}/weeks/{week}")
+    public ResponseEntity<Void> deleteWeek(
+            @PathVariable Integer playerId,
+            @PathVariable Integer season,
+            @PathVariable Integer week) {
+        try {
+            seasonStatsService.deleteWeek(playerId, season, week);
+            return ResponseEntity.ok().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
@@ -1,139 +1,253 @@
 package com.fantasyfootball.controller;
 
+import com.fantasyfootball.dto.CursorPage;
+import com.fantasyfootball.dto.LineupSlot;
+import com.fantasyfootball.dto.OptimalLineupView;
+import com.fantasyfootball.dto.RosterEntryView;
+import com.fantasyfootball.dto.TeamSummary;
+import com.fantasyfootball.dto.TeamView;
+import com.fantasyfootball.dto.TeamWithPlayersView;
 import com.fantasyfootball.entity.Team;
 import com.fantasyfootball.entity.TeamPlayer;
 import com.fantasyfootball.entity.RosterPosition;
+import com.fantasyfootball.service.LineupService;
+import com.fantasyfootball.service.RosterDocumentService;
+import com.fantasyfootball.service.RosterWriteExecutor;
+import com.fantasyfootball.service.RosterWriteRejectedException;
 import com.fantasyfootball.service.TeamService;
+import com.fantasyfootball.service.TeamVersionService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/teams")
 @CrossOrigin(origins = "http://localhost:3000")
 public class TeamController {
     
+    // How long a client waits before retrying a write its team's full queue turned away
+    private static final String WRITE_RETRY_AFTER_SECONDS = "1";
+    
     @Autowired
     private TeamService teamService;
     
+    @Autowired
+    private RosterWriteExecutor rosterWriteExecutor;
+    
+    @Autowired
+    private LineupService lineupService;
+    
+    @Autowired
+    private TeamVersionService teamVersionService;
+    
+    @Autowired
+    private RosterDocumentService rosterDocumentService;
+    
     @GetMapping
-    public ResponseEntity<List<Team>> getAllTeams() {
+    public ResponseEntity<List<TeamView>> getAllTeams() {
         List<Team> teams = teamService.getAllTeams();
-        return ResponseEntity.ok(teams);
+        return ResponseEntity.ok(TeamView.fromAll(teams));
+    }
+    
+    @GetMapping("/summary")
+    public ResponseEntity<CursorPage<TeamSummary>> getTeamSummaries(
+            @RequestParam(required = false, defaultValue = "name") String sort,
+            @RequestParam(required = false) String order,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "50") int size,
+            @RequestParam(required = false) Integer ownerId,
+            @RequestParam(required = false) Integer leagueId,
+            @RequestParam(required = false) String name) {
+        try {
+            CursorPage<TeamSummary> page = teamService.getTeamSummaries(sort, order, cursor, size, ownerId, leagueId, name);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<Team> getTeamById(@PathVariable Integer id) {
+    public ResponseEntity<TeamView> getTeamById(@PathVariable Integer id, WebRequest request) {
+        String etag = teamVersionService.etag(id);
+        if (request.checkNotModified(etag)) {
+            return notModified(etag);
+        }
         Optional<Team> team = teamService.getTeamById(id);
-        return team.map(ResponseEntity::ok)
+        return team.map(TeamView::from)
+                  .map(view -> ResponseEntity.ok().eTag(etag).body(view))
                   .orElse(ResponseEntity.notFound().build());
     }
     
     @GetMapping("/{id}/with-players")
-    public ResponseEntity<Team> getTeamWithPlayers(@PathVariable Integer id) {
+    public ResponseEntity<TeamWithPlayersView> getTeamWithPlayers(@PathVariable Integer id, WebRequest request) {
+        String etag = teamVersionService.etag(id);
+        if (request.checkNotModified(etag)) {
+            return notModified(etag);
+        }
         Optional<Team> team = teamService.getTeamWithPlayers(id);
-        return team.map(ResponseEntity::ok)
+        return team.map(TeamWithPlayersView::from)
+                  .map(view -> ResponseEntity.ok().eTag(etag).body(view))
                   .orElse(ResponseEntity.notFound().build());
     }
     
     @GetMapping("/owner/{ownerId}")
-    public ResponseEntity<List<Team>> getTeamsByOwner(@PathVariable Integer ownerId) {
+    public ResponseEntity<List<TeamView>> getTeamsByOwner(@PathVariable Integer ownerId) {
         List<Team> teams = teamService.getTeamsByOwnerId(ownerId);
-        return ResponseEntity.ok(teams);
+        return ResponseEntity.ok(TeamView.fromAll(teams));
     }
     
     @PostMapping
-    public ResponseEntity<Team> createTeam(@RequestBody Team team) {
+    public ResponseEntity<TeamView> createTeam(@RequestBody Team team) {
         try {
             Team savedTeam = teamService.saveTeam(team);
-            return ResponseEntity.ok(savedTeam);
+            return ResponseEntity.ok(TeamView.from(savedTeam));
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
     }
     
     @PutMapping("/{id}")
-    public ResponseEntity<Team> updateTeam(@PathVariable Integer id, @RequestBody Team teamDetails) {
+    public ResponseEntity<TeamView> updateTeam(@PathVariable Integer id, @RequestBody Team teamDetails) {
         Optional<Team> teamOpt = teamService.getTeamById(id);
         if (teamOpt.isPresent()) {
             Team team = teamOpt.get();
             team.setName(teamDetails.getName());
             team.setBudget(teamDetails.getBudget());
             Team updatedTeam = teamService.saveTeam(team);
-            return ResponseEntity.ok(updatedTeam);
+            return ResponseEntity.ok(TeamView.from(updatedTeam));
         } else {
             return ResponseEntity.notFound().build();
         }
     }
     
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteTeam(@PathVariable Integer id) {
-        try {
-            teamService.deleteTeam(id);
-            return ResponseEntity.ok().build();
-        } catch (Exception e) {
-            return ResponseEntity.notFound().build();
-        }
+    public CompletableFuture<ResponseEntity<Void>> deleteTeam(@PathVariable Integer id) {
+        return rosterWriteExecutor.run(id, () -> teamService.deleteTeam(id))
+                .thenApply(done -> ResponseEntity.ok().<Void>build())
+                .exceptionally(e -> writeFailed(e, HttpStatus.NOT_FOUND));
     }
     
+    // The stored roster document, already serialized JSON
     @GetMapping("/{id}/roster")
-    public ResponseEntity<List<TeamPlayer>> getTeamRoster(@PathVariable Integer id) {
-        List<TeamPlayer> roster = teamService.getTeamRoster(id);
-        return ResponseEntity.ok(roster);
+    public ResponseEntity<byte[]> getTeamRoster(@PathVariable Integer id, WebRequest request) {
+        String etag = teamVersionService.etag(id);
+        if (request.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        byte[] roster = rosterDocumentService.getDocument(id);
+        return ResponseEntity.ok().eTag(etag).contentType(MediaType.APPLICATION_JSON).body(roster);
     }
     
     @GetMapping("/{id}/starters")
-    public ResponseEntity<List<TeamPlayer>> getTeamStarters(@PathVariable Integer id) {
+    public ResponseEntity<List<RosterEntryView>> getTeamStarters(@PathVariable Integer id, WebRequest request) {
+        String etag = teamVersionService.etag(id);
+        if (request.checkNotModified(etag)) {
+            return notModified(etag);
+        }
         List<TeamPlayer> starters = teamService.getTeamStarters(id);
-        return ResponseEntity.ok(starters);
+        return ResponseEntity.ok().eTag(etag).body(RosterEntryView.fromAll(starters));
     }
     
     @GetMapping("/{id}/bench")
-    public ResponseEntity<List<TeamPlayer>> getTeamBench(@PathVariable Integer id) {
+    public ResponseEntity<List<RosterEntryView>> getTeamBench(@PathVariable Integer id, WebRequest request) {
+        String etag = teamVersionService.etag(id);
+        if (request.checkNotModified(etag)) {
+            return notModified(etag);
+        }
         List<TeamPlayer> bench = teamService.getTeamBench(id);
-        return ResponseEntity.ok(bench);
+        return ResponseEntity.ok().eTag(etag).body(RosterEntryView.fromAll(bench));
     }
     
     @PostMapping("/{teamId}/players/{playerId}")
-    public ResponseEntity<TeamPlayer> addPlayerToTeam(
+    public CompletableFuture<ResponseEntity<RosterEntryView>> addPlayerToTeam(
             @PathVariable Integer teamId,
             @PathVariable Integer playerId,
             @RequestParam String rosterPosition,
             @RequestParam(required = false, defaultValue = "0.0") BigDecimal cost) {
-        try {
-            TeamPlayer teamPlayer = teamService.addPlayerToTeam(teamId, playerId, rosterPosition, cost);
-            return ResponseEntity.ok(teamPlayer);
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest().build();
-        }
+        return rosterWriteExecutor.submit(teamId, () -> teamService.addPlayerToTeam(teamId, playerId, rosterPosition, cost))
+                .thenApply(teamPlayer -> ResponseEntity.ok(RosterEntryView.from(teamPlayer)))
+                .exceptionally(e -> writeFailed(e, HttpStatus.BAD_REQUEST));
     }
     
     @DeleteMapping("/{teamId}/players/{playerId}")
-    public ResponseEntity<Void> removePlayerFromTeam(
+    public CompletableFuture<ResponseEntity<Void>> removePlayerFromTeam(
             @PathVariable Integer teamId,
             @PathVariable Integer playerId) {
-        try {
-            teamService.removePlayerFromTeam(teamId, playerId);
-            return ResponseEntity.ok().build();
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
-        }
+        return rosterWriteExecutor.run(teamId, () -> teamService.removePlayerFromTeam(teamId, playerId))
+                .thenApply(done -> ResponseEntity.ok().<Void>build())
+                .exceptionally(e -> writeFailed(e, HttpStatus.NOT_FOUND));
     }
     
     @PutMapping("/{teamId}/players/{playerId}/roster-position")
-    public ResponseEntity<TeamPlayer> movePlayerToRosterPosition(
+    public CompletableFuture<ResponseEntity<RosterEntryView>> movePlayerToRosterPosition(
             @PathVariable Integer teamId,
             @PathVariable Integer playerId,
             @RequestParam String rosterPosition) {
+        return rosterWriteExecutor.submit(teamId, () -> teamService.movePlayerToRosterPosition(teamId, playerId, rosterPosition))
+                .thenApply(teamPlayer -> ResponseEntity.ok(RosterEntryView.from(teamPlayer)))
+                .exceptionally(e -> writeFailed(e, HttpStatus.BAD_REQUEST));
+    }
+    
+    @PutMapping("/{id}/lineup")
+    public CompletableFuture<ResponseEntity<List<RosterEntryView>>> setLineup(
+            @PathVariable Integer id,
+            @RequestBody List<LineupSlot> lineup) {
+        return rosterWriteExecutor.submit(id, () -> teamService.setLineup(id, lineup))
+                .thenApply(roster -> ResponseEntity.ok(RosterEntryView.fromAll(roster)))
+                .exceptionally(e -> writeFailed(e, HttpStatus.NOT_FOUND));
+    }
+    
+    @GetMapping("/{id}/lineup/optimal")
+    public ResponseEntity<OptimalLineupView> getOptimalLineup(
+            @PathVariable Integer id,
+            @RequestParam Integer season,
+            @RequestParam(required = false) Integer week) {
         try {
-            TeamPlayer teamPlayer = teamService.movePlayerToRosterPosition(teamId, playerId, rosterPosition);
-            return ResponseEntity.ok(teamPlayer);
+            return ResponseEntity.ok(lineupService.getOptimalLineup(id, season, week));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
         } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    @PutMapping("/{id}/lineup/optimal")
+    public CompletableFuture<ResponseEntity<List<RosterEntryView>>> applyOptimalLineup(
+            @PathVariable Integer id,
+            @RequestParam Integer season,
+            @RequestParam(required = false) Integer week) {
+        return rosterWriteExecutor.submit(id, () -> lineupService.applyOptimalLineup(id, season, week))
+                .thenApply(roster -> ResponseEntity.ok(RosterEntryView.fromAll(roster)))
+                .exceptionally(e -> writeFailed(e, HttpStatus.NOT_FOUND));
+    }
+    
+    /**
+     * Optimal lineups of every team in the league, or of every team without a league id,
+     * with the points each leaves on its bench.
+     */
+    @GetMapping("/lineups/optimal")
+    public ResponseEntity<List<OptimalLineupView>> getOptimalLineups(
+            @RequestParam(required = false) Integer leagueId,
+            @RequestParam Integer season,
+            @RequestParam(required = false) Integer week) {
+        try {
+            return ResponseEntity.ok(lineupService.getOptimalLineups(leagueId, season, week));
+        } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
         }
     }
     
@@ -150,11 +264,11 @@ public class TeamController {
     }
     
     @GetMapping("/{teamId}/players/position/{rosterPosition}")
-    public ResponseEntity<List<TeamPlayer>> getPlayersByRosterPosition(
+    public ResponseEntity<List<RosterEntryView>> getPlayersByRosterPosition(
             @PathVariable Integer teamId,
             @PathVariable String rosterPosition) {
         List<TeamPlayer> players = teamService.getPlayersByRosterPosition(teamId, rosterPosition);
-        return ResponseEntity.ok(players);
+        return ResponseEntity.ok(RosterEntryView.fromAll(players));
     }
     
     @GetMapping("/{id}/size")
@@ -162,4 +276,30 @@ public class TeamController {
         long size = teamService.getTeamSize(id);
         return ResponseEntity.ok(size);
     }
+    
+    /**
+     * Team and roster reads are tagged with the team's {@link TeamVersionService} version,
+     * read before the data, so a client whose copy is current gets a 304 without a query.
+     */
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+    
+    /**
+     * Roster writes run on the team's {@link RosterWriteExecutor} stripe. A full queue is a
+     * 503 telling the client when to retry and an invalid request a 400; other failures
+     * keep each endpoint's own status.
+     */
+    private static <T> ResponseEntity<T> writeFailed(Throwable e, HttpStatus otherwise) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof RosterWriteRejectedException) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, WRITE_RETRY_AFTER_SECONDS)
+                    .build();
+        }
+        if (cause instanceof IllegalArgumentException) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.status(otherwise).build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.fantasyfootball.dto;
+
+import com.fantasyfootball.archive.SeasonArchive;
+
+public record ArchivedSeasonView(
+        Integer season,
+        int players,
+        int rows,
+        long bytes) {
+    
+    public static ArchivedSeasonView from(SeasonArchive archive) {
+        return new ArchivedSeasonView(archive.season(), archive.players(), archive.rows(), archive.sizeBytes());
+    }
+}
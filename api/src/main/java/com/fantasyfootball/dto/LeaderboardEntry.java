@@ -0,0 +1,7 @@
+package com.fantasyfootball.dto;
+
+/**
+ * A player and their 1-based rank on a fantasy-points leaderboard.
+ */
+public record LeaderboardEntry(int rank, PlayerSummary player) {
+}
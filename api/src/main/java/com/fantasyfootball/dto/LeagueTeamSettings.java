@@ -0,0 +1,9 @@
+package com.fantasyfootball.dto;
+
+/**
+ * A team's division and rival within its league, set with
+ * {@code PUT /leagues/{id}/teams/{teamId}}. Null leaves the team in the default division
+ * or without a rival.
+ */
+public record LeagueTeamSettings(Integer division, Integer rivalTeamId) {
+}
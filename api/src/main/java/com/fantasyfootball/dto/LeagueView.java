@@ -0,0 +1,20 @@
+package com.fantasyfootball.dto;
+
+import com.fantasyfootball.entity.League;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record LeagueView(
+        Integer id,
+        String name,
+        Integer maxTeams,
+        LocalDate draftDate,
+        Integer season,
+        LocalDateTime createdAt) {
+    
+    public static LeagueView from(League league) {
+        return new LeagueView(league.getId(), league.getName(), league.getMaxTeams(), league.getDraftDate(),
+                league.getSeason(), league.getCreatedAt());
+    }
+}
@@ -0,0 +1,8 @@
+package com.fantasyfootball.dto;
+
+/**
+ * One entry of a lineup sent to {@code PUT /teams/{id}/lineup}: the roster slot a player
+ * on the team should occupy.
+ */
+public record LineupSlot(Integer playerId, String rosterPosition) {
+}
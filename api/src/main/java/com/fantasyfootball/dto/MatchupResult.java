@@ -0,0 +1,9 @@
+package com.fantasyfootball.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Final points of a matchup, sent to {@code PUT /leagues/{id}/matchups/{matchupId}/result}.
+ */
+public record MatchupResult(BigDecimal homePoints, BigDecimal awayPoints) {
+}
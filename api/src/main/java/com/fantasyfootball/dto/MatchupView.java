@@ -0,0 +1,26 @@
+package com.fantasyfootball.dto;
+
+import com.fantasyfootball.entity.Matchup;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record MatchupView(
+        Integer id,
+        Integer leagueId,
+        Integer week,
+        Integer homeTeamId,
+        Integer awayTeamId,
+        BigDecimal homePoints,
+        BigDecimal awayPoints,
+        String status) {
+    
+    public static MatchupView from(Matchup matchup) {
+        return new MatchupView(matchup.getId(), matchup.getLeagueId(), matchup.getWeek(), matchup.getHomeTeamId(),
+                matchup.getAwayTeamId(), matchup.getHomePoints(), matchup.getAwayPoints(), matchup.getStatus());
+    }
+    
+    public static List<MatchupView> fromAll(List<Matchup> matchups) {
+        return matchups.stream().map(MatchupView::from).toList();
+    }
+}
@@ -0,0 +1,7 @@
+package com.fantasyfootball.dto;
+
+/**
+ * A game to schedule with {@code POST /leagues/{id}/matchups}.
+ */
+public record NewMatchup(Integer week, Integer homeTeamId, Integer awayTeamId) {
+}
@@ -0,0 +1,24 @@
+package com.fantasyfootball.dto;
+
+import com.fantasyfootball.entity.NflTeam;
+import org.hibernate.Hibernate;
+
+public record NflTeamRef(
+        Integer id,
+        String name,
+        String displayName,
+        String abbreviation,
+        String conference,
+        String division) {
+    
+    public static NflTeamRef from(NflTeam nflTeam) {
+        if (nflTeam == null) {
+            return null;
+        }
+        if (!Hibernate.isInitialized(nflTeam)) {
+            return new NflTeamRef(nflTeam.getId(), null, null, null, null, null);
+        }
+        return new NflTeamRef(nflTeam.getId(), nflTeam.getName(), nflTeam.getDisplayName(),
+                nflTeam.getAbbreviation(), nflTeam.getConference(), nflTeam.getDivision());
+    }
+}
@@ -0,0 +1,21 @@
+package com.fantasyfootball.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * The highest-scoring lineup for a team's current roster, next to what its current
+ * starters score. {@code week} is null when points are per week played over the season.
+ * The lineup lists every rostered player, so it can be sent to
+ * {@code PUT /teams/{id}/lineup} as it is.
+ */
+public record OptimalLineupView(
+        Integer teamId,
+        Integer leagueId,
+        Integer season,
+        Integer week,
+        BigDecimal points,
+        BigDecimal currentPoints,
+        BigDecimal pointsLeftOnBench,
+        List<LineupSlot> lineup) {
+}
@@ -0,0 +1,17 @@
+package com.fantasyfootball.dto;
+
+import com.fantasyfootball.entity.User;
+import org.hibernate.Hibernate;
+
+public record OwnerView(Integer id, String username) {
+    
+    public static OwnerView from(User user) {
+        if (user == null) {
+            return null;
+        }
+        if (!Hibernate.isInitialized(user)) {
+            return new OwnerView(user.getId(), null);
+        }
+        return new OwnerView(user.getId(), user.getUsername());
+    }
+}
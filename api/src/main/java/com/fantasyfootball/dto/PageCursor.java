@@ -0,0 +1,31 @@
+package com.fantasyfootball.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last row returned by a keyset-paginated query: the sort key and the id
+ * used as tiebreaker. Clients treat the encoded form as opaque.
+ */
+public record PageCursor(String sortKey, Integer id) {
+    
+    private static final char SEPARATOR = '|';
+    
+    public String encode() {
+        String raw = id + String.valueOf(SEPARATOR) + sortKey;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public static PageCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid page cursor: " + cursor);
+            }
+            return new PageCursor(raw.substring(separator + 1), Integer.valueOf(raw.substring(0, separator)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid page cursor: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.fantasyfootball.dto;
+
+import java.util.List;
+
+/**
+ * Filter for {@code GET /players/query}. Values within one facet are OR-ed together, facets
+ * are AND-ed; an empty list or {@code null} flag leaves that facet unconstrained.
+ */
+public record PlayerFacetQuery(
+        List<String> positions,
+        List<Integer> nflTeamIds,
+        List<String> conferences,
+        List<String> divisions,
+        Boolean active,
+        Boolean dst,
+        String sort,
+        int limit) {
+}
@@ -0,0 +1,18 @@
+package com.fantasyfootball.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Where a player's week of one stat falls among every player of their position that
+ * week. {@code percentile} is 0-100, counting half of any ties.
+ */
+public record PlayerPercentileView(
+        Integer playerId,
+        String position,
+        Integer season,
+        Integer week,
+        String stat,
+        BigDecimal value,
+        BigDecimal percentile,
+        long sampleSize) {
+}
@@ -0,0 +1,13 @@
+package com.fantasyfootball.dto;
+
+/**
+ * Where a player stands on the leaderboard for their position and on the overall board.
+ */
+public record PlayerRank(
+        Integer playerId,
+        String position,
+        int positionRank,
+        int positionTotal,
+        int overallRank,
+        int overallTotal) {
+}
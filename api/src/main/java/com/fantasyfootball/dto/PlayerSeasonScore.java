@@ -0,0 +1,15 @@
+package com.fantasyfootball.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * A player's fantasy points for one season under a league's scoring rules.
+ */
+public record PlayerSeasonScore(
+        Integer playerId,
+        Integer leagueId,
+        Integer season,
+        int weeks,
+        BigDecimal points,
+        BigDecimal pointsPerWeek) {
+}
@@ -0,0 +1,30 @@
+package com.fantasyfootball.dto;
+
+import com.fantasyfootball.entity.PlayerStats;
+
+import java.math.BigDecimal;
+
+/**
+ * Flat view of one {@code player_stats} row, built directly by JPQL constructor expressions
+ * so bulk readers (the NDJSON export, the season stats store) never create entities.
+ */
+public record PlayerStatsRow(
+        Integer id,
+        Integer playerId,
+        Integer week,
+        Integer season,
+        Integer gamesPlayed,
+        BigDecimal pointsScored,
+        Integer yardsGained,
+        Integer touchdowns,
+        Integer fieldGoals,
+        Integer interceptions,
+        Integer fumbles,
+        Integer receptions) {
+    
+    public static PlayerStatsRow from(Integer playerId, PlayerStats stats) {
+        return new PlayerStatsRow(stats.getId(), playerId, stats.getWeek(), stats.getSeason(),
+                stats.getGamesPlayed(), stats.getPointsScored(), stats.getYardsGained(), stats.getTouchdowns(),
+                stats.getFieldGoals(), stats.getInterceptions(), stats.getFumbles(), stats.getReceptions());
+    }
+}
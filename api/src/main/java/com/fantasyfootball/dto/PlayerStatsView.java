@@ -0,0 +1,31 @@
+package com.fantasyfootball.dto;
+
+import com.fantasyfootball.entity.PlayerStats;
+
+import java.math.BigDecimal;
+
+public record PlayerStatsView(
+        Integer id,
+        Integer week,
+        Integer season,
+        Integer gamesPlayed,
+        BigDecimal pointsScored,
+        Integer yardsGained,
+        Integer touchdowns,
+        Integer fieldGoals,
+        Integer interceptions,
+        Integer fumbles,
+        Integer receptions) {
+    
+    public static PlayerStatsView from(PlayerStats stats) {
+        return new PlayerStatsView(stats.getId(), stats.getWeek(), stats.getSeason(), stats.getGamesPlayed(),
+                stats.getPointsScored(), stats.getYardsGained(), stats.getTouchdowns(),
+                stats.getFieldGoals(), stats.getInterceptions(), stats.getFumbles(), stats.getReceptions());
+    }
+    
+    public static PlayerStatsView from(PlayerStatsRow row) {
+        return new PlayerStatsView(row.id(), row.week(), row.season(), row.gamesPlayed(), row.pointsScored(),
+                row.yardsGained(), row.touchdowns(), row.fieldGoals(), row.interceptions(), row.fumbles(),
+                row.receptions());
+    }
+}
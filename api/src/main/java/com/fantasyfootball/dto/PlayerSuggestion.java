@@ -0,0 +1,6 @@
+package com.fantasyfootball.dto;
+
+import java.math.BigDecimal;
+
+public record PlayerSuggestion(Integer id, String name, String position, BigDecimal fantasyPoints) {
+}
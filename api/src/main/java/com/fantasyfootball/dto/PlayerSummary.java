@@ -0,0 +1,27 @@
+package com.fantasyfootball.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Slim, read-only view of a player built directly by JPQL constructor expressions, so
+ * listing endpoints never touch lazy associations.
+ */
+public record PlayerSummary(
+        Integer id,
+        String displayName,
+        String firstName,
+        String lastName,
+        String position,
+        Boolean isDst,
+        Integer nflTeamId,
+        String nflTeamAbbreviation,
+        BigDecimal fantasyPoints,
+        Boolean isActive) {
+    
+    public PlayerSummary(Integer id, String firstName, String lastName, String dstTeamName, Boolean isDst,
+                         String position, Integer nflTeamId, String nflTeamAbbreviation,
+                         BigDecimal fantasyPoints, Boolean isActive) {
+        this(id, Boolean.TRUE.equals(isDst) ? dstTeamName : firstName + " " + lastName,
+                firstName, lastName, position, isDst, nflTeamId, nflTeamAbbreviation, fantasyPoints, isActive);
+    }
+}
@@ -0,0 +1,49 @@
+package com.fantasyfootball.dto;
+
+import com.fantasyfootball.entity.Player;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Read model for a player. Only the NFL team is embedded, and only when the query that
+ * loaded the player fetched it; statistics are exposed through {@link PlayerWithStatsView}.
+ */
+public record PlayerView(
+        Integer id,
+        String firstName,
+        String lastName,
+        String displayName,
+        String position,
+        NflTeamRef nflTeam,
+        Integer jerseyNumber,
+        Integer heightInches,
+        Integer weightLbs,
+        LocalDate birthDate,
+        Integer yearsExperience,
+        BigDecimal salary,
+        BigDecimal fantasyPoints,
+        Boolean isActive,
+        Boolean isDst,
+        String dstTeamName,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+    
+    public static PlayerView from(Player player) {
+        if (player == null) {
+            return null;
+        }
+        return new PlayerView(player.getId(), player.getFirstName(), player.getLastName(),
+                player.getDisplayName(), player.getPosition(), NflTeamRef.from(player.getNflTeam()),
+                player.getJerseyNumber(), player.getHeightInches(), player.getWeightLbs(),
+                player.getBirthDate(), player.getYearsExperience(), player.getSalary(),
+                player.getFantasyPoints(), player.getIsActive(), player.getIsDst(),
+                player.getDstTeamName(), player.getCreatedAt(), player.getUpdatedAt());
+    }
+    
+    public static List<PlayerView> fromAll(List<Player> players) {
+        return players.stream().map(PlayerView::from).toList();
+    }
+}
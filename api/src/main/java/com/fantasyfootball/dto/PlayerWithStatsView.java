@@ -0,0 +1,28 @@
+package com.fantasyfootball.dto;
+
+import com.fantasyfootball.entity.Player;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+public record PlayerWithStatsView(@JsonUnwrapped PlayerView player, List<PlayerStatsView> playerStats) {
+    
+    public static PlayerWithStatsView from(Player player) {
+        return from(player, List.of());
+    }
+    
+    /**
+     * The player's live stats together with weeks read from season archives, whose rows
+     * have no id.
+     */
+    public static PlayerWithStatsView from(Player player, List<PlayerStatsRow> archivedWeeks) {
+        Stream<PlayerStatsView> live = player.getPlayerStats() == null ? Stream.empty() : player.getPlayerStats().stream()
+                .map(PlayerStatsView::from);
+        List<PlayerStatsView> stats = Stream.concat(live, archivedWeeks.stream().map(PlayerStatsView::from))
+                .sorted(Comparator.comparing(PlayerStatsView::season).thenComparing(PlayerStatsView::week))
+                .toList();
+        return new PlayerWithStatsView(PlayerView.from(player), stats);
+    }
+}
@@ -0,0 +1,30 @@
+package com.fantasyfootball.dto;
+
+import com.fantasyfootball.entity.TeamPlayer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Read model for one {@code team_players} row with its player and roster slot embedded.
+ */
+public record RosterEntryView(
+        Integer id,
+        PlayerView player,
+        String rosterPosition,
+        RosterSlotView rosterPositionEntity,
+        LocalDateTime acquisitionDate,
+        BigDecimal cost,
+        LocalDateTime createdAt) {
+    
+    public static RosterEntryView from(TeamPlayer teamPlayer) {
+        return new RosterEntryView(teamPlayer.getId(), PlayerView.from(teamPlayer.getPlayer()),
+                teamPlayer.getRosterPosition(), RosterSlotView.from(teamPlayer.getRosterPositionEntity()),
+                teamPlayer.getAcquisitionDate(), teamPlayer.getCost(), teamPlayer.getCreatedAt());
+    }
+    
+    public static List<RosterEntryView> fromAll(List<TeamPlayer> teamPlayers) {
+        return teamPlayers.stream().map(RosterEntryView::from).toList();
+    }
+}
@@ -0,0 +1,11 @@
+package com.fantasyfootball.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+/**
+ * One line of the roster export: a roster entry tagged with the team it belongs to.
+ */
+public record RosterExportRow(
+        Integer teamId,
+        @JsonUnwrapped RosterEntryView entry) {
+}
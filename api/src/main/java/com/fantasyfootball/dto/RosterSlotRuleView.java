@@ -0,0 +1,22 @@
+package com.fantasyfootball.dto;
+
+import com.fantasyfootball.entity.LeagueRosterSlot;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * One slot of a league's roster rules as read and written by the API: up to
+ * {@code maxCount} players whose position is one of {@code eligible} may fill it.
+ */
+public record RosterSlotRuleView(String slot, Integer maxCount, List<String> eligible) {
+    
+    public static RosterSlotRuleView from(LeagueRosterSlot slot) {
+        return new RosterSlotRuleView(slot.getSlotCode(), slot.getMaxCount(),
+                Arrays.asList(slot.getEligiblePositions().split(",")));
+    }
+    
+    public static List<RosterSlotRuleView> fromAll(List<LeagueRosterSlot> slots) {
+        return slots.stream().map(RosterSlotRuleView::from).toList();
+    }
+}
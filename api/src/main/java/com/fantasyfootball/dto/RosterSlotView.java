@@ -0,0 +1,20 @@
+package com.fantasyfootball.dto;
+
+import com.fantasyfootball.entity.RosterPosition;
+import org.hibernate.Hibernate;
+
+public record RosterSlotView(
+        String positionCode,
+        String positionName,
+        Integer maxCount,
+        Boolean isStarting,
+        Integer displayOrder) {
+    
+    public static RosterSlotView from(RosterPosition rosterPosition) {
+        if (rosterPosition == null || !Hibernate.isInitialized(rosterPosition)) {
+            return null;
+        }
+        return new RosterSlotView(rosterPosition.getPositionCode(), rosterPosition.getPositionName(),
+                rosterPosition.getMaxCount(), rosterPosition.getIsStarting(), rosterPosition.getDisplayOrder());
+    }
+}
@@ -0,0 +1,9 @@
+package com.fantasyfootball.dto;
+
+import java.util.List;
+
+/**
+ * How to generate a regular season: its length in weeks and the weeks rivals meet in.
+ */
+public record ScheduleOptions(Integer weeks, List<Integer> rivalryWeeks) {
+}
@@ -0,0 +1,21 @@
+package com.fantasyfootball.dto;
+
+import com.fantasyfootball.entity.ScoringRule;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * A scoring rule as read and written by the API: {@code points} per unit of {@code stat},
+ * or once per week at or above {@code threshold} when one is given.
+ */
+public record ScoringRuleView(String stat, BigDecimal points, Integer threshold) {
+    
+    public static ScoringRuleView from(ScoringRule rule) {
+        return new ScoringRuleView(rule.getStat(), rule.getPoints(), rule.getThreshold());
+    }
+    
+    public static List<ScoringRuleView> fromAll(List<ScoringRule> rules) {
+        return rules.stream().map(ScoringRuleView::from).toList();
+    }
+}
@@ -0,0 +1,8 @@
+package com.fantasyfootball.dto;
+
+/**
+ * Outcome of generating the schedules of a whole season. Leagues that already had
+ * matchups or have fewer than two teams are skipped.
+ */
+public record SeasonScheduleResult(int leaguesScheduled, int leaguesSkipped, int matchupsCreated) {
+}
@@ -0,0 +1,41 @@
+package com.fantasyfootball.dto;
+
+import com.fantasyfootball.index.StatColumn;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * A player's statistics summed over the weeks of a season they have rows for, or over
+ * their most recent weeks when a window was requested.
+ */
+public record SeasonStatLine(
+        Integer playerId,
+        Integer season,
+        int weeks,
+        BigDecimal pointsScored,
+        int yardsGained,
+        int touchdowns,
+        int fieldGoals,
+        int interceptions,
+        int fumbles,
+        int receptions,
+        BigDecimal pointsPerWeek,
+        BigDecimal yardsPerWeek) {
+    
+    /**
+     * Builds a line from column totals indexed by {@link StatColumn#ordinal()}, points in
+     * hundredths, summed over {@code weeks} weeks.
+     */
+    public static SeasonStatLine of(int playerId, int season, int weeks, long[] totals) {
+        BigDecimal points = BigDecimal.valueOf(totals[StatColumn.POINTS_SCORED.ordinal()], 2);
+        long yards = totals[StatColumn.YARDS_GAINED.ordinal()];
+        BigDecimal divisor = BigDecimal.valueOf(weeks);
+        return new SeasonStatLine(playerId, season, weeks, points, (int) yards,
+                (int) totals[StatColumn.TOUCHDOWNS.ordinal()], (int) totals[StatColumn.FIELD_GOALS.ordinal()],
+                (int) totals[StatColumn.INTERCEPTIONS.ordinal()], (int) totals[StatColumn.FUMBLES.ordinal()],
+                (int) totals[StatColumn.RECEPTIONS.ordinal()],
+                points.divide(divisor, 2, RoundingMode.HALF_UP),
+                BigDecimal.valueOf(yards).divide(divisor, 2, RoundingMode.HALF_UP));
+    }
+}
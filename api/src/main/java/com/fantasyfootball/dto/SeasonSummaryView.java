@@ -0,0 +1,50 @@
+package com.fantasyfootball.dto;
+
+import com.fantasyfootball.entity.PlayerSeasonSummary;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * A player's season totals and averages with the spread of their weekly points.
+ * {@code pointsVariation} is the standard deviation relative to the mean (lower is
+ * steadier, higher is boom or bust) and is null when the mean is zero.
+ */
+public record SeasonSummaryView(
+        Integer playerId,
+        Integer season,
+        int weeks,
+        BigDecimal pointsScored,
+        int yardsGained,
+        int touchdowns,
+        int fieldGoals,
+        int interceptions,
+        int fumbles,
+        int receptions,
+        BigDecimal pointsPerWeek,
+        BigDecimal pointsStdDev,
+        BigDecimal pointsVariation,
+        int recentWeeks,
+        BigDecimal recentPointsPerWeek) {
+    
+    public static SeasonSummaryView from(PlayerSeasonSummary summary) {
+        double mean = summary.getMeanPoints();
+        double stdDev = summary.getPointsStdDev();
+        BigDecimal[] recent = summary.getRecentPoints();
+        BigDecimal recentTotal = BigDecimal.ZERO;
+        for (BigDecimal points : recent) {
+            recentTotal = recentTotal.add(points);
+        }
+        return new SeasonSummaryView(summary.getPlayerId(), summary.getSeason(), summary.getWeeksPlayed(),
+                summary.getTotalPoints(), summary.getTotalYards(), summary.getTotalTouchdowns(),
+                summary.getTotalFieldGoals(), summary.getTotalInterceptions(), summary.getTotalFumbles(),
+                summary.getTotalReceptions(), round(mean), round(stdDev),
+                mean != 0 ? round(stdDev / mean) : null, recent.length,
+                recent.length > 0 ? recentTotal.divide(BigDecimal.valueOf(recent.length), 2, RoundingMode.HALF_UP)
+                        : BigDecimal.ZERO.setScale(2));
+    }
+    
+    private static BigDecimal round(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+}
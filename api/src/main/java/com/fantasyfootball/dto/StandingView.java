@@ -0,0 +1,36 @@
+package com.fantasyfootball.dto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * A team's line in its league's standings, built directly by a JPQL constructor
+ * expression. {@code streak} reads like {@code W3}, and is null before the first result.
+ */
+public record StandingView(
+        int rank,
+        Integer teamId,
+        String teamName,
+        int wins,
+        int losses,
+        int ties,
+        BigDecimal winPercentage,
+        BigDecimal pointsFor,
+        BigDecimal pointsAgainst,
+        String streak) {
+    
+    public StandingView(int rank, Integer teamId, String teamName, int wins, int losses, int ties,
+                        BigDecimal pointsFor, BigDecimal pointsAgainst, String streakResult, int streakLength) {
+        this(rank, teamId, teamName, wins, losses, ties, winPercentage(wins, losses, ties), pointsFor, pointsAgainst,
+                streakResult != null ? streakResult + streakLength : null);
+    }
+    
+    // a tie counts as half a win
+    private static BigDecimal winPercentage(int wins, int losses, int ties) {
+        int games = wins + losses + ties;
+        if (games == 0) {
+            return BigDecimal.ZERO.setScale(3);
+        }
+        return BigDecimal.valueOf(2L * wins + ties).divide(BigDecimal.valueOf(2L * games), 3, RoundingMode.HALF_UP);
+    }
+}
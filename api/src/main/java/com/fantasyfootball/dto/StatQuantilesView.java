@@ -0,0 +1,22 @@
+package com.fantasyfootball.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Estimated quantiles of the weekly values of one stat for a position over a range of
+ * seasons and weeks.
+ */
+public record StatQuantilesView(
+        String position,
+        String stat,
+        Integer fromSeason,
+        Integer toSeason,
+        Integer fromWeek,
+        Integer toWeek,
+        long sampleSize,
+        List<Quantile> quantiles) {
+    
+    public record Quantile(double quantile, BigDecimal value) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.fantasyfootball.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * The percentile of {@code value} among the weekly values of one stat for a position over
+ * a range of seasons and weeks.
+ */
+public record StatRankView(
+        String position,
+        String stat,
+        Integer fromSeason,
+        Integer toSeason,
+        Integer fromWeek,
+        Integer toWeek,
+        BigDecimal value,
+        BigDecimal percentile,
+        long sampleSize) {
+}
@@ -0,0 +1,31 @@
+package com.fantasyfootball.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Progress and throughput of a stats import. Row counts: {@code rowsParsed} non-empty
+ * lines, of which {@code rowsRejected} failed to parse or validate and
+ * {@code rowsUnresolved} named an unknown ESPN id; the rest were staged with COPY, and
+ * {@code rowsUpserted} is the number of {@code player_stats} rows written from them.
+ */
+public record StatsImportProgress(
+        Long id,
+        String file,
+        String format,
+        String status,
+        long bytesTotal,
+        long bytesRead,
+        long rowsParsed,
+        long rowsRejected,
+        long rowsUnresolved,
+        long rowsStaged,
+        long rowsUpserted,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        long loadMillis,
+        long upsertMillis,
+        long rowsPerSecond,
+        List<String> errors,
+        String failure) {
+}
@@ -0,0 +1,17 @@
+package com.fantasyfootball.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * One row of the team listing, aggregated over the roster in SQL: how many players the
+ * team holds, how many of them fill starting slots and what they cost together.
+ */
+public record TeamSummary(
+        Integer id,
+        String name,
+        String ownerUsername,
+        BigDecimal budget,
+        int rosterSize,
+        int startersFilled,
+        BigDecimal spent) {
+}
@@ -0,0 +1,25 @@
+package com.fantasyfootball.dto;
+
+import com.fantasyfootball.entity.Team;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record TeamView(
+        Integer id,
+        String name,
+        OwnerView owner,
+        BigDecimal budget,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+    
+    public static TeamView from(Team team) {
+        return new TeamView(team.getId(), team.getName(), OwnerView.from(team.getOwner()),
+                team.getBudget(), team.getCreatedAt(), team.getUpdatedAt());
+    }
+    
+    public static List<TeamView> fromAll(List<Team> teams) {
+        return teams.stream().map(TeamView::from).toList();
+    }
+}
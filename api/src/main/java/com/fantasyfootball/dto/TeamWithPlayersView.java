@@ -0,0 +1,16 @@
+package com.fantasyfootball.dto;
+
+import com.fantasyfootball.entity.Team;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import java.util.List;
+
+public record TeamWithPlayersView(@JsonUnwrapped TeamView team, List<RosterEntryView> teamPlayers) {
+    
+    public static TeamWithPlayersView from(Team team) {
+        List<RosterEntryView> players = team.getTeamPlayers() == null
+                ? List.of()
+                : RosterEntryView.fromAll(team.getTeamPlayers());
+        return new TeamWithPlayersView(TeamView.from(team), players);
+    }
+}
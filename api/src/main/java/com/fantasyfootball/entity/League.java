@@ -0,0 +1,92 @@
+package com.fantasyfootball.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A league of teams playing one season. Membership is the {@code league_teams} table,
+ * which has no entity; teams are joined through {@code LeagueService}.
+ */
+@Entity
+@Table(name = "leagues")
+public class League {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+    
+    @NotBlank
+    @Column(nullable = false, length = 100)
+    private String name;
+    
+    @Min(2)
+    @Column(name = "max_teams")
+    private Integer maxTeams = 12;
+    
+    @Column(name = "draft_date")
+    private LocalDate draftDate;
+    
+    @NotNull
+    @Column(nullable = false)
+    private Integer season;
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+    
+    public Integer getId() {
+        return id;
+    }
+    
+    public void setId(Integer id) {
+        this.id = id;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public Integer getMaxTeams() {
+        return maxTeams;
+    }
+    
+    public void setMaxTeams(Integer maxTeams) {
+        this.maxTeams = maxTeams;
+    }
+    
+    public LocalDate getDraftDate() {
+        return draftDate;
+    }
+    
+    public void setDraftDate(LocalDate draftDate) {
+        this.draftDate = draftDate;
+    }
+    
+    public Integer getSeason() {
+        return season;
+    }
+    
+    public void setSeason(Integer season) {
+        this.season = season;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,75 @@
+package com.fantasyfootball.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * One slot of a league's roster settings: up to {@code maxCount} players listed at one of
+ * {@code eligiblePositions} (comma-separated) may fill {@code slotCode}.
+ */
+@Entity
+@Table(name = "league_roster_slots")
+public class LeagueRosterSlot {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+    
+    @NotNull
+    @Column(name = "league_id", nullable = false)
+    private Integer leagueId;
+    
+    @NotBlank
+    @Column(name = "slot_code", nullable = false, length = 10)
+    private String slotCode;
+    
+    @Min(1)
+    @Column(name = "max_count", nullable = false)
+    private Integer maxCount;
+    
+    @NotBlank
+    @Column(name = "eligible_positions", nullable = false, length = 100)
+    private String eligiblePositions;
+    
+    public Integer getId() {
+        return id;
+    }
+    
+    public void setId(Integer id) {
+        this.id = id;
+    }
+    
+    public Integer getLeagueId() {
+        return leagueId;
+    }
+    
+    public void setLeagueId(Integer leagueId) {
+        this.leagueId = leagueId;
+    }
+    
+    public String getSlotCode() {
+        return slotCode;
+    }
+    
+    public void setSlotCode(String slotCode) {
+        this.slotCode = slotCode;
+    }
+    
+    public Integer getMaxCount() {
+        return maxCount;
+    }
+    
+    public void setMaxCount(Integer maxCount) {
+        this.maxCount = maxCount;
+    }
+    
+    public String getEligiblePositions() {
+        return eligiblePositions;
+    }
+    
+    public void setEligiblePositions(String eligiblePositions) {
+        this.eligiblePositions = eligiblePositions;
+    }
+}
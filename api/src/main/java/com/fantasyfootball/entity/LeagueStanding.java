@@ -0,0 +1,201 @@
+package com.fantasyfootball.entity;
+
+import com.fantasyfootball.league.MatchupOutcome;
+import com.fantasyfootball.league.StandingsRanker;
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * A team's record in a league, kept in step with its finalized matchups: each result is
+ * added with {@link #apply} and a corrected one is taken out the same way first. The
+ * streak is extended in constant time while results arrive in week order and rebuilt
+ * from the games otherwise; {@code rank} is the team's place after the last result.
+ */
+@Entity
+@Table(name = "league_standings")
+@IdClass(LeagueStanding.Key.class)
+public class LeagueStanding {
+    
+    // league and team are referenced by id so standings never load either
+    @Id
+    @Column(name = "league_id")
+    private Integer leagueId;
+    
+    @Id
+    @Column(name = "team_id")
+    private Integer teamId;
+    
+    @Column(nullable = false)
+    private int wins;
+    
+    @Column(nullable = false)
+    private int losses;
+    
+    @Column(nullable = false)
+    private int ties;
+    
+    @Column(name = "points_for", nullable = false, precision = 10, scale = 2)
+    private BigDecimal pointsFor = BigDecimal.ZERO;
+    
+    @Column(name = "points_against", nullable = false, precision = 10, scale = 2)
+    private BigDecimal pointsAgainst = BigDecimal.ZERO;
+    
+    @Column(name = "streak_result", length = 1)
+    private String streakResult;
+    
+    @Column(name = "streak_length", nullable = false)
+    private int streakLength;
+    
+    @Column(name = "last_week", nullable = false)
+    private int lastWeek;
+    
+    @Column(nullable = false)
+    private int rank;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+    
+    /**
+     * Adds one result with {@code sign} 1, or takes it out again with -1.
+     */
+    public void apply(MatchupOutcome outcome, BigDecimal scored, BigDecimal conceded, int sign) {
+        switch (outcome) {
+            case WIN -> wins += sign;
+            case LOSS -> losses += sign;
+            case TIE -> ties += sign;
+        }
+        pointsFor = sign > 0 ? pointsFor.add(scored) : pointsFor.subtract(scored);
+        pointsAgainst = sign > 0 ? pointsAgainst.add(conceded) : pointsAgainst.subtract(conceded);
+    }
+    
+    /**
+     * Whether a result of {@code week} is the team's newest, so {@link #extendStreak} can
+     * take it; an earlier or corrected week needs {@link #setStreak} from the games.
+     */
+    public boolean isAfterLastWeek(int week) {
+        return week > lastWeek;
+    }
+    
+    public void extendStreak(MatchupOutcome outcome, int week) {
+        if (outcome.code().equals(streakResult)) {
+            streakLength++;
+        } else {
+            streakResult = outcome.code();
+            streakLength = 1;
+        }
+        lastWeek = week;
+    }
+    
+    public void setStreak(MatchupOutcome outcome, int length, int week) {
+        streakResult = outcome != null ? outcome.code() : null;
+        streakLength = length;
+        lastWeek = week;
+    }
+    
+    public int getGamesPlayed() {
+        return wins + losses + ties;
+    }
+    
+    public StandingsRanker.Record toRecord() {
+        return new StandingsRanker.Record(teamId, wins, losses, ties, pointsFor, pointsAgainst);
+    }
+    
+    public Integer getLeagueId() {
+        return leagueId;
+    }
+    
+    public void setLeagueId(Integer leagueId) {
+        this.leagueId = leagueId;
+    }
+    
+    public Integer getTeamId() {
+        return teamId;
+    }
+    
+    public void setTeamId(Integer teamId) {
+        this.teamId = teamId;
+    }
+    
+    public int getWins() {
+        return wins;
+    }
+    
+    public int getLosses() {
+        return losses;
+    }
+    
+    public int getTies() {
+        return ties;
+    }
+    
+    public BigDecimal getPointsFor() {
+        return pointsFor;
+    }
+    
+    public BigDecimal getPointsAgainst() {
+        return pointsAgainst;
+    }
+    
+    public String getStreakResult() {
+        return streakResult;
+    }
+    
+    public int getStreakLength() {
+        return streakLength;
+    }
+    
+    public int getLastWeek() {
+        return lastWeek;
+    }
+    
+    public int getRank() {
+        return rank;
+    }
+    
+    public void setRank(int rank) {
+        this.rank = rank;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public static class Key implements Serializable {
+    
+        private Integer leagueId;
+        private Integer teamId;
+    
+        public Key() {
+        }
+    
+        public Key(Integer leagueId, Integer teamId) {
+            this.leagueId = leagueId;
+            this.teamId = teamId;
+        }
+    
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key key)) {
+                return false;
+            }
+            return Objects.equals(leagueId, key.leagueId) && Objects.equals(teamId, key.teamId);
+        }
+    
+        @Override
+        public int hashCode() {
+            return Objects.hash(leagueId, teamId);
+        }
+    }
+}
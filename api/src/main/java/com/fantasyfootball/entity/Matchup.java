@@ -0,0 +1,136 @@
+package com.fantasyfootball.entity;
+
+import com.fantasyfootball.league.MatchupOutcome;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One head-to-head game of a league week. Points are set when the result is final and
+ * may be corrected afterwards; see {@code LeagueService#finalizeMatchup}.
+ */
+@Entity
+@Table(name = "matchups")
+public class Matchup {
+    
+    public static final String SCHEDULED = "SCHEDULED";
+    public static final String FINAL = "FINAL";
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+    
+    // league and teams are referenced by id so a week of matchups loads nothing else
+    @NotNull
+    @Column(name = "league_id", nullable = false)
+    private Integer leagueId;
+    
+    @Min(1)
+    @Column(nullable = false)
+    private Integer week;
+    
+    @NotNull
+    @Column(name = "home_team_id", nullable = false)
+    private Integer homeTeamId;
+    
+    @NotNull
+    @Column(name = "away_team_id", nullable = false)
+    private Integer awayTeamId;
+    
+    @Column(name = "home_points", precision = 8, scale = 2)
+    private BigDecimal homePoints;
+    
+    @Column(name = "away_points", precision = 8, scale = 2)
+    private BigDecimal awayPoints;
+    
+    @Column(nullable = false, length = 10)
+    private String status = SCHEDULED;
+    
+    @Column(name = "finalized_at")
+    private LocalDateTime finalizedAt;
+    
+    public boolean isFinal() {
+        return FINAL.equals(status);
+    }
+    
+    /**
+     * The home team's result; only meaningful once final.
+     */
+    public MatchupOutcome homeOutcome() {
+        return MatchupOutcome.of(homePoints, awayPoints);
+    }
+    
+    public Integer getId() {
+        return id;
+    }
+    
+    public void setId(Integer id) {
+        this.id = id;
+    }
+    
+    public Integer getLeagueId() {
+        return leagueId;
+    }
+    
+    public void setLeagueId(Integer leagueId) {
+        this.leagueId = leagueId;
+    }
+    
+    public Integer getWeek() {
+        return week;
+    }
+    
+    public void setWeek(Integer week) {
+        this.week = week;
+    }
+    
+    public Integer getHomeTeamId() {
+        return homeTeamId;
+    }
+    
+    public void setHomeTeamId(Integer homeTeamId) {
+        this.homeTeamId = homeTeamId;
+    }
+    
+    public Integer getAwayTeamId() {
+        return awayTeamId;
+    }
+    
+    public void setAwayTeamId(Integer awayTeamId) {
+        this.awayTeamId = awayTeamId;
+    }
+    
+    public BigDecimal getHomePoints() {
+        return homePoints;
+    }
+    
+    public void setHomePoints(BigDecimal homePoints) {
+        this.homePoints = homePoints;
+    }
+    
+    public BigDecimal getAwayPoints() {
+        return awayPoints;
+    }
+    
+    public void setAwayPoints(BigDecimal awayPoints) {
+        this.awayPoints = awayPoints;
+    }
+    
+    public String getStatus() {
+        return status;
+    }
+    
+    public void setStatus(String status) {
+        this.status = status;
+    }
+    
+    public LocalDateTime getFinalizedAt() {
+        return finalizedAt;
+    }
+    
+    public void setFinalizedAt(LocalDateTime finalizedAt) {
+        this.finalizedAt = finalizedAt;
+    }
+}
@@ -0,0 +1,302 @@
+package com.fantasyfootball.entity;
+
+import com.fantasyfootball.dto.PlayerStatsRow;
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Running aggregates of one player's season, kept in step with {@code player_stats} so
+ * totals, averages and consistency are read from a single row.
+ *
+ * Every week written or corrected is folded in with {@link #apply} in constant time:
+ * totals are adjusted by the difference, and the mean and sum of squared deviations of
+ * weekly points follow Welford's update, which can also be run backwards to take a week
+ * out. The points of the {@link #RECENT_WEEKS} most recent weeks are kept newest first
+ * for rolling averages.
+ */
+@Entity
+@Table(name = "player_season_summaries")
+@IdClass(PlayerSeasonSummary.Key.class)
+public class PlayerSeasonSummary {
+    
+    public static final int RECENT_WEEKS = 3;
+    
+    // players are referenced by id so a summary write never loads the player
+    @Id
+    @Column(name = "player_id")
+    private Integer playerId;
+    
+    @Id
+    @Column
+    private Integer season;
+    
+    @Column(name = "weeks_played", nullable = false)
+    private int weeksPlayed;
+    
+    @Column(name = "total_points", nullable = false, precision = 8, scale = 2)
+    private BigDecimal totalPoints = BigDecimal.ZERO;
+    
+    @Column(name = "total_yards", nullable = false)
+    private int totalYards;
+    
+    @Column(name = "total_touchdowns", nullable = false)
+    private int totalTouchdowns;
+    
+    @Column(name = "total_field_goals", nullable = false)
+    private int totalFieldGoals;
+    
+    @Column(name = "total_interceptions", nullable = false)
+    private int totalInterceptions;
+    
+    @Column(name = "total_fumbles", nullable = false)
+    private int totalFumbles;
+    
+    @Column(name = "total_receptions", nullable = false)
+    private int totalReceptions;
+    
+    @Column(name = "mean_points", nullable = false)
+    private double meanPoints;
+    
+    @Column(name = "m2_points", nullable = false)
+    private double m2Points;
+    
+    @Column(name = "recent_weeks", nullable = false, columnDefinition = "integer[]")
+    private int[] recentWeeks = new int[0];
+    
+    @Column(name = "recent_points", nullable = false, columnDefinition = "decimal(6,2)[]")
+    private BigDecimal[] recentPoints = new BigDecimal[0];
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+    
+    /**
+     * Replaces {@code previous} with {@code current}: a new week has no previous row, a
+     * correction has both and a deletion has no current row. Afterwards the recent weeks
+     * may be short of a week that only {@code player_stats} knows; see
+     * {@link #isRecentComplete()}.
+     */
+    public void apply(PlayerStatsRow previous, PlayerStatsRow current) {
+        if (previous != null) {
+            addTotals(previous, -1);
+            removePoints(points(previous).doubleValue());
+        }
+        if (current != null) {
+            addTotals(current, 1);
+            addPoints(points(current).doubleValue());
+            putRecent(current.week(), points(current));
+        } else if (previous != null) {
+            removeRecent(previous.week());
+        }
+    }
+    
+    /**
+     * False when a deleted week left the recent weeks shorter than the player's season;
+     * they must then be refilled with {@link #setRecent}.
+     */
+    public boolean isRecentComplete() {
+        return recentWeeks.length == Math.min(weeksPlayed, RECENT_WEEKS);
+    }
+    
+    /**
+     * Sample standard deviation of weekly points; zero with fewer than two weeks.
+     */
+    public double getPointsStdDev() {
+        return weeksPlayed > 1 ? Math.sqrt(m2Points / (weeksPlayed - 1)) : 0;
+    }
+    
+    private void addTotals(PlayerStatsRow row, int sign) {
+        weeksPlayed += sign;
+        totalPoints = sign > 0 ? totalPoints.add(points(row)) : totalPoints.subtract(points(row));
+        totalYards += sign * valueOf(row.yardsGained());
+        totalTouchdowns += sign * valueOf(row.touchdowns());
+        totalFieldGoals += sign * valueOf(row.fieldGoals());
+        totalInterceptions += sign * valueOf(row.interceptions());
+        totalFumbles += sign * valueOf(row.fumbles());
+        totalReceptions += sign * valueOf(row.receptions());
+    }
+    
+    // weeksPlayed already counts the added week
+    private void addPoints(double points) {
+        double delta = points - meanPoints;
+        meanPoints += delta / weeksPlayed;
+        m2Points += delta * (points - meanPoints);
+    }
+    
+    // weeksPlayed no longer counts the removed week; undoes addPoints exactly
+    private void removePoints(double points) {
+        if (weeksPlayed == 0) {
+            meanPoints = 0;
+            m2Points = 0;
+            return;
+        }
+        double previousMean = meanPoints - (points - meanPoints) / weeksPlayed;
+        m2Points = Math.max(0, m2Points - (points - previousMean) * (points - meanPoints));
+        meanPoints = previousMean;
+    }
+    
+    private void putRecent(int week, BigDecimal points) {
+        int at = 0;
+        while (at < recentWeeks.length && recentWeeks[at] > week) {
+            at++;
+        }
+        if (at < recentWeeks.length && recentWeeks[at] == week) {
+            recentPoints[at] = points;
+            return;
+        }
+        if (at >= RECENT_WEEKS) {
+            return;
+        }
+        int length = Math.min(recentWeeks.length + 1, RECENT_WEEKS);
+        int[] weeks = new int[length];
+        BigDecimal[] values = new BigDecimal[length];
+        System.arraycopy(recentWeeks, 0, weeks, 0, at);
+        System.arraycopy(recentPoints, 0, values, 0, at);
+        weeks[at] = week;
+        values[at] = points;
+        System.arraycopy(recentWeeks, at, weeks, at + 1, length - at - 1);
+        System.arraycopy(recentPoints, at, values, at + 1, length - at - 1);
+        recentWeeks = weeks;
+        recentPoints = values;
+    }
+    
+    private void removeRecent(int week) {
+        for (int i = 0; i < recentWeeks.length; i++) {
+            if (recentWeeks[i] == week) {
+                int[] weeks = new int[recentWeeks.length - 1];
+                BigDecimal[] values = new BigDecimal[weeks.length];
+                System.arraycopy(recentWeeks, 0, weeks, 0, i);
+                System.arraycopy(recentPoints, 0, values, 0, i);
+                System.arraycopy(recentWeeks, i + 1, weeks, i, weeks.length - i);
+                System.arraycopy(recentPoints, i + 1, values, i, weeks.length - i);
+                recentWeeks = weeks;
+                recentPoints = values;
+                return;
+            }
+        }
+    }
+    
+    private static BigDecimal points(PlayerStatsRow row) {
+        return row.pointsScored() != null ? row.pointsScored() : BigDecimal.ZERO;
+    }
+    
+    private static int valueOf(Integer value) {
+        return value != null ? value : 0;
+    }
+    
+    public Integer getPlayerId() {
+        return playerId;
+    }
+    
+    public void setPlayerId(Integer playerId) {
+        this.playerId = playerId;
+    }
+    
+    public Integer getSeason() {
+        return season;
+    }
+    
+    public void setSeason(Integer season) {
+        this.season = season;
+    }
+    
+    public int getWeeksPlayed() {
+        return weeksPlayed;
+    }
+    
+    public BigDecimal getTotalPoints() {
+        return totalPoints;
+    }
+    
+    public int getTotalYards() {
+        return totalYards;
+    }
+    
+    public int getTotalTouchdowns() {
+        return totalTouchdowns;
+    }
+    
+    public int getTotalFieldGoals() {
+        return totalFieldGoals;
+    }
+    
+    public int getTotalInterceptions() {
+        return totalInterceptions;
+    }
+    
+    public int getTotalFumbles() {
+        return totalFumbles;
+    }
+    
+    public int getTotalReceptions() {
+        return totalReceptions;
+    }
+    
+    public double getMeanPoints() {
+        return meanPoints;
+    }
+    
+    public double getM2Points() {
+        return m2Points;
+    }
+    
+    public int[] getRecentWeeks() {
+        return recentWeeks.clone();
+    }
+    
+    public BigDecimal[] getRecentPoints() {
+        return recentPoints.clone();
+    }
+    
+    /**
+     * Replaces the recent weeks, newest first; at most {@link #RECENT_WEEKS} are kept.
+     */
+    public void setRecent(int[] weeks, BigDecimal[] points) {
+        int length = Math.min(weeks.length, RECENT_WEEKS);
+        this.recentWeeks = Arrays.copyOf(weeks, length);
+        this.recentPoints = Arrays.copyOf(points, length);
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public static class Key implements Serializable {
+    
+        private Integer playerId;
+        private Integer season;
+    
+        public Key() {
+        }
+    
+        public Key(Integer playerId, Integer season) {
+            this.playerId = playerId;
+            this.season = season;
+        }
+    
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key key)) {
+                return false;
+            }
+            return Objects.equals(playerId, key.playerId) && Objects.equals(season, key.season);
+        }
+    
+        @Override
+        public int hashCode() {
+            return Objects.hash(playerId, season);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.fantasyfootball.entity;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Min;
+import org.hibernate.annotations.PartitionKey;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
@@ -23,6 +24,8 @@ public class PlayerStats {
     @Column(nullable = false)
     private Integer week;
     
+    // player_stats is partitioned by season; Hibernate adds it to updates and deletes by id
+    @PartitionKey
     @Min(2020)
     @Column(nullable = false)
     private Integer season;
@@ -54,6 +57,10 @@ public class PlayerStats {
     @Column
     private Integer fumbles = 0;
     
+    @Min(0)
+    @Column
+    private Integer receptions = 0;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
@@ -150,6 +157,14 @@ public class PlayerStats {
         this.fumbles = fumbles;
     }
 
+    public Integer getReceptions() {
+        return receptions;
+    }
+
+    public void setReceptions(Integer receptions) {
+        this.receptions = receptions;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
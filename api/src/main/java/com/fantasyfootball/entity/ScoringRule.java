@@ -0,0 +1,76 @@
+package com.fantasyfootball.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+
+/**
+ * One line of a league's scoring settings. Without a threshold the rule awards
+ * {@code points} per unit of {@code stat}; with one it awards {@code points} once for
+ * every week in which the stat reaches the threshold.
+ */
+@Entity
+@Table(name = "league_scoring_rules")
+public class ScoringRule {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+    
+    // leagues has no entity yet, so the league is referenced by id
+    @NotNull
+    @Column(name = "league_id", nullable = false)
+    private Integer leagueId;
+    
+    @NotBlank
+    @Column(nullable = false, length = 20)
+    private String stat;
+    
+    @NotNull
+    @Column(nullable = false, precision = 8, scale = 4)
+    private BigDecimal points;
+    
+    @Column
+    private Integer threshold;
+    
+    public Integer getId() {
+        return id;
+    }
+    
+    public void setId(Integer id) {
+        this.id = id;
+    }
+    
+    public Integer getLeagueId() {
+        return leagueId;
+    }
+    
+    public void setLeagueId(Integer leagueId) {
+        this.leagueId = leagueId;
+    }
+    
+    public String getStat() {
+        return stat;
+    }
+    
+    public void setStat(String stat) {
+        this.stat = stat;
+    }
+    
+    public BigDecimal getPoints() {
+        return points;
+    }
+    
+    public void setPoints(BigDecimal points) {
+        this.points = points;
+    }
+    
+    public Integer getThreshold() {
+        return threshold;
+    }
+    
+    public void setThreshold(Integer threshold) {
+        this.threshold = threshold;
+    }
+}
@@ -0,0 +1,49 @@
+package com.fantasyfootball.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * A team's roster serialized as the JSON array {@code GET /teams/{id}/roster} returns,
+ * so the read is one primary-key lookup. Written through
+ * {@code RosterDocumentService} only.
+ */
+@Entity
+@Table(name = "team_roster_documents")
+public class TeamRosterDocument {
+    
+    // teams are referenced by id so reading a document never loads the team
+    @Id
+    @Column(name = "team_id")
+    private Integer teamId;
+    
+    @Column(nullable = false)
+    private byte[] document;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    public Integer getTeamId() {
+        return teamId;
+    }
+    
+    public void setTeamId(Integer teamId) {
+        this.teamId = teamId;
+    }
+    
+    public byte[] getDocument() {
+        return document;
+    }
+    
+    public void setDocument(byte[] document) {
+        this.document = document;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
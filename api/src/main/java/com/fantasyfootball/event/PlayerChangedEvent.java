@@ -0,0 +1,22 @@
+package com.fantasyfootball.event;
+
+import com.fantasyfootball.entity.Player;
+
+/**
+ * Published by {@code PlayerService} whenever a player is created, updated or deleted.
+ * A {@code null} player means the player with {@code playerId} was deleted.
+ */
+public record PlayerChangedEvent(Integer playerId, Player player) {
+    
+    public static PlayerChangedEvent saved(Player player) {
+        return new PlayerChangedEvent(player.getId(), player);
+    }
+    
+    public static PlayerChangedEvent deleted(Integer playerId) {
+        return new PlayerChangedEvent(playerId, null);
+    }
+    
+    public boolean isDeleted() {
+        return player == null;
+    }
+}
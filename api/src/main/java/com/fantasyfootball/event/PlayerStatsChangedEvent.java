@@ -0,0 +1,22 @@
+package com.fantasyfootball.event;
+
+import com.fantasyfootball.dto.PlayerStatsRow;
+
+/**
+ * Published whenever one week of a player's statistics is written or deleted. A
+ * {@code null} row means the week was deleted.
+ */
+public record PlayerStatsChangedEvent(Integer playerId, Integer season, Integer week, PlayerStatsRow row) {
+    
+    public static PlayerStatsChangedEvent saved(PlayerStatsRow row) {
+        return new PlayerStatsChangedEvent(row.playerId(), row.season(), row.week(), row);
+    }
+    
+    public static PlayerStatsChangedEvent deleted(Integer playerId, Integer season, Integer week) {
+        return new PlayerStatsChangedEvent(playerId, season, week, null);
+    }
+    
+    public boolean isDeleted() {
+        return row == null;
+    }
+}
@@ -0,0 +1,10 @@
+package com.fantasyfootball.event;
+
+import java.util.Set;
+
+/**
+ * Published by {@code StatsImportService} after a bulk import wrote {@code player_stats}
+ * rows directly, bypassing the per-week {@link PlayerStatsChangedEvent}.
+ */
+public record PlayerStatsImportedEvent(Long importId, Set<Integer> seasons) {
+}
@@ -0,0 +1,31 @@
+package com.fantasyfootball.event;
+
+/**
+ * Published by {@code TeamService} whenever a fantasy team's roster changes. For
+ * {@link Type#CLEARED} (the team was deleted) {@code playerId} is {@code null}.
+ */
+public record RosterChangedEvent(Integer teamId, Integer playerId, Type type) {
+    
+    public enum Type {
+        ADDED,
+        REMOVED,
+        MOVED,
+        CLEARED
+    }
+    
+    public static RosterChangedEvent added(Integer teamId, Integer playerId) {
+        return new RosterChangedEvent(teamId, playerId, Type.ADDED);
+    }
+    
+    public static RosterChangedEvent removed(Integer teamId, Integer playerId) {
+        return new RosterChangedEvent(teamId, playerId, Type.REMOVED);
+    }
+    
+    public static RosterChangedEvent moved(Integer teamId, Integer playerId) {
+        return new RosterChangedEvent(teamId, playerId, Type.MOVED);
+    }
+    
+    public static RosterChangedEvent cleared(Integer teamId) {
+        return new RosterChangedEvent(teamId, null, Type.CLEARED);
+    }
+}
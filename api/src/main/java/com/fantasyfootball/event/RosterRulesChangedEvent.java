@@ -0,0 +1,11 @@
+package com.fantasyfootball.event;
+
+import com.fantasyfootball.dto.RosterSlotRuleView;
+
+import java.util.List;
+
+/**
+ * Published by {@code RosterRulesService} when a league's roster rules are replaced.
+ */
+public record RosterRulesChangedEvent(Integer leagueId, List<RosterSlotRuleView> rules) {
+}
@@ -0,0 +1,11 @@
+package com.fantasyfootball.event;
+
+import com.fantasyfootball.dto.ScoringRuleView;
+
+import java.util.List;
+
+/**
+ * Published by {@code ScoringService} when a league's scoring rules are replaced.
+ */
+public record ScoringRulesChangedEvent(Integer leagueId, List<ScoringRuleView> rules) {
+}
@@ -0,0 +1,8 @@
+package com.fantasyfootball.event;
+
+/**
+ * Published by {@code SeasonArchiveService} once a season's rows have moved from
+ * {@code player_stats} into its archive file.
+ */
+public record SeasonArchivedEvent(Integer season) {
+}
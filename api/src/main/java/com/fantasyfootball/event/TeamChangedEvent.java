@@ -0,0 +1,8 @@
+package com.fantasyfootball.event;
+
+/**
+ * Published by {@code TeamService} when a team is created or its details are saved.
+ * Roster changes are a {@link RosterChangedEvent} instead.
+ */
+public record TeamChangedEvent(Integer teamId) {
+}
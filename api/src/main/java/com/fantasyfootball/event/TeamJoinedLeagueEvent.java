@@ -0,0 +1,7 @@
+package com.fantasyfootball.event;
+
+/**
+ * Published by {@code LeagueService} when a team is added to a league.
+ */
+public record TeamJoinedLeagueEvent(Integer leagueId, Integer teamId) {
+}
@@ -0,0 +1,184 @@
+package com.fantasyfootball.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Skip list that also answers positional queries. Every forward link records its width,
+ * the number of bottom-level steps it skips, so the rank of a key and the key at a rank
+ * are found in the same expected O(log n) descent as a lookup. Keys must be distinct under
+ * the comparator. Not thread-safe; callers guard it with their own lock.
+ */
+class IndexedSkipList<K> {
+
+    private static final int MAX_LEVEL = 32;
+
+    private final Comparator<? super K> comparator;
+    private final Node<K> head = new Node<>(null, MAX_LEVEL);
+    private int level = 1;
+    private int size;
+
+    IndexedSkipList(Comparator<? super K> comparator) {
+        this.comparator = comparator;
+    }
+
+    /**
+     * Inserts {@code key}, returning false if an equal key is already present.
+     */
+    boolean add(K key) {
+        @SuppressWarnings("unchecked")
+        Node<K>[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        Node<K> node = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (node.next[i] != null && comparator.compare(node.next[i].key, key) < 0) {
+                rank[i] += node.width[i];
+                node = node.next[i];
+            }
+            update[i] = node;
+        }
+        if (node.next[0] != null && comparator.compare(node.next[0].key, key) == 0) {
+            return false;
+        }
+
+        int height = randomLevel();
+        if (height > level) {
+            for (int i = level; i < height; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.width[i] = size;
+            }
+            level = height;
+        }
+        Node<K> inserted = new Node<>(key, height);
+        for (int i = 0; i < height; i++) {
+            inserted.next[i] = update[i].next[i];
+            update[i].next[i] = inserted;
+            inserted.width[i] = update[i].width[i] - (rank[0] - rank[i]);
+            update[i].width[i] = rank[0] - rank[i] + 1;
+        }
+        for (int i = height; i < level; i++) {
+            update[i].width[i]++;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes {@code key}, returning false if it was not present.
+     */
+    boolean remove(K key) {
+        @SuppressWarnings("unchecked")
+        Node<K>[] update = new Node[MAX_LEVEL];
+        Node<K> node = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && comparator.compare(node.next[i].key, key) < 0) {
+                node = node.next[i];
+            }
+            update[i] = node;
+        }
+        Node<K> removed = node.next[0];
+        if (removed == null || comparator.compare(removed.key, key) != 0) {
+            return false;
+        }
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == removed) {
+                update[i].width[i] += removed.width[i] - 1;
+                update[i].next[i] = removed.next[i];
+            } else {
+                update[i].width[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * Returns the 1-based position of {@code key}, or 0 if it is not present.
+     */
+    int rank(K key) {
+        int rank = 0;
+        Node<K> node = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && comparator.compare(node.next[i].key, key) <= 0) {
+                rank += node.width[i];
+                node = node.next[i];
+            }
+            if (node != head && comparator.compare(node.key, key) == 0) {
+                return rank;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns up to {@code count} keys starting at the 1-based position {@code fromRank}.
+     */
+    List<K> range(int fromRank, int count) {
+        if (fromRank < 1 || fromRank > size || count <= 0) {
+            return List.of();
+        }
+        int traversed = 0;
+        Node<K> node = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && traversed + node.width[i] <= fromRank) {
+                traversed += node.width[i];
+                node = node.next[i];
+            }
+            if (traversed == fromRank) {
+                break;
+            }
+        }
+        List<K> keys = new ArrayList<>(Math.min(count, size - fromRank + 1));
+        while (node != null && keys.size() < count) {
+            keys.add(node.key);
+            node = node.next[0];
+        }
+        return keys;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            head.next[i] = null;
+            head.width[i] = 0;
+        }
+        level = 1;
+        size = 0;
+    }
+
+    /**
+     * Each level is kept with probability 1/4, giving about 1.33 links per key.
+     */
+    private static int randomLevel() {
+        int height = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (height < MAX_LEVEL && random.nextInt(4) == 0) {
+            height++;
+        }
+        return height;
+    }
+
+    private static final class Node<K> {
+
+        final K key;
+        final Node<K>[] next;
+        final int[] width;
+
+        @SuppressWarnings("unchecked")
+        Node(K key, int height) {
+            this.key = key;
+            this.next = new Node[height];
+            this.width = new int[height];
+        }
+    }
+}
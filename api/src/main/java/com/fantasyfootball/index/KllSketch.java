@@ -0,0 +1,224 @@
+package com.fantasyfootball.index;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * KLL quantile sketch over int values: answers approximate ranks and quantiles of a stream
+ * in bounded memory, and two sketches merge into one describing both streams.
+ *
+ * Values are kept in a stack of compactors. Level {@code h} holds values of weight
+ * {@code 2^h}; when the sketch outgrows its capacity the lowest full level is sorted and
+ * every other value, from a random offset, moves up a level with double weight. Level
+ * capacities shrink geometrically by 2/3 going down from the top, so a sketch retains at
+ * most about {@code 3k} values however many it has seen, and the rank error is about
+ * {@code 1.7 / k} of the count with high probability. Until the first compaction the
+ * sketch is exact. Not thread-safe; callers guard it with their own lock.
+ */
+public final class KllSketch {
+
+    public static final int DEFAULT_K = 200;
+
+    private static final int MIN_LEVEL_WIDTH = 8;
+    private static final double DECAY = 2.0 / 3.0;
+
+    private final int k;
+    private int[][] levels = new int[1][];
+    private int[] sizes = new int[1];
+    private int levelCount = 1;
+    private int capacity;
+    private int retained;
+    private long count;
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+
+    public KllSketch() {
+        this(DEFAULT_K);
+    }
+
+    public KllSketch(int k) {
+        if (k < MIN_LEVEL_WIDTH) {
+            throw new IllegalArgumentException("k must be at least " + MIN_LEVEL_WIDTH);
+        }
+        this.k = k;
+        levels[0] = new int[MIN_LEVEL_WIDTH];
+        capacity = totalCapacity();
+    }
+
+    public void update(int value) {
+        append(0, value);
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        compress();
+    }
+
+    /**
+     * Adds everything {@code other} has seen to this sketch; {@code other} is unchanged.
+     *
+     * @throws IllegalArgumentException if the sketches were built with different k
+     */
+    public void merge(KllSketch other) {
+        if (other.k != k) {
+            throw new IllegalArgumentException("Cannot merge sketches with k " + k + " and " + other.k);
+        }
+        if (other.count == 0) {
+            return;
+        }
+        while (levelCount < other.levelCount) {
+            addLevel();
+        }
+        for (int h = 0; h < other.levelCount; h++) {
+            for (int i = 0; i < other.sizes[h]; i++) {
+                append(h, other.levels[h][i]);
+            }
+        }
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        compress();
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * The number of values held, which bounds the sketch's memory.
+     */
+    public int retained() {
+        return retained;
+    }
+
+    /**
+     * Estimated number of values seen that are less than {@code value}, or less than or
+     * equal to it when {@code inclusive}.
+     */
+    public long rank(int value, boolean inclusive) {
+        long rank = 0;
+        for (int h = 0; h < levelCount; h++) {
+            int[] items = levels[h];
+            long below = 0;
+            for (int i = 0; i < sizes[h]; i++) {
+                if (items[i] < value || (inclusive && items[i] == value)) {
+                    below++;
+                }
+            }
+            rank += below << h;
+        }
+        return rank;
+    }
+
+    /**
+     * Estimated value at normalized rank {@code fraction}: the smallest value with at
+     * least that fraction of the count at or below it. 0 and 1 give the exact minimum and
+     * maximum.
+     *
+     * @throws IllegalArgumentException if the fraction is outside 0-1
+     * @throws IllegalStateException if the sketch is empty
+     */
+    public int quantile(double fraction) {
+        if (!(fraction >= 0 && fraction <= 1)) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1");
+        }
+        if (count == 0) {
+            throw new IllegalStateException("Sketch is empty");
+        }
+        if (fraction == 0) {
+            return min;
+        }
+        if (fraction == 1) {
+            return max;
+        }
+        // Value in the high half, level in the low half, so sorting orders by value
+        long[] weighted = new long[retained];
+        int n = 0;
+        for (int h = 0; h < levelCount; h++) {
+            for (int i = 0; i < sizes[h]; i++) {
+                weighted[n++] = ((long) levels[h][i] << 32) | h;
+            }
+        }
+        Arrays.sort(weighted);
+        double target = fraction * count;
+        long cumulative = 0;
+        for (long entry : weighted) {
+            cumulative += 1L << (int) entry;
+            if (cumulative >= target) {
+                return (int) (entry >> 32);
+            }
+        }
+        return max;
+    }
+
+    private void append(int level, int value) {
+        if (level == levelCount) {
+            addLevel();
+        }
+        if (sizes[level] == levels[level].length) {
+            levels[level] = Arrays.copyOf(levels[level], sizes[level] * 2);
+        }
+        levels[level][sizes[level]++] = value;
+        retained++;
+    }
+
+    private void addLevel() {
+        levels = Arrays.copyOf(levels, levelCount + 1);
+        sizes = Arrays.copyOf(sizes, levelCount + 1);
+        levels[levelCount] = new int[MIN_LEVEL_WIDTH];
+        levelCount++;
+        capacity = totalCapacity();
+    }
+
+    private void compress() {
+        while (retained > capacity) {
+            for (int h = 0; h < levelCount; h++) {
+                if (sizes[h] >= capacity(h)) {
+                    compact(h);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Sorts level {@code h} and promotes every other value to the level above. With an odd
+     * count the largest value stays behind.
+     */
+    private void compact(int h) {
+        if (h + 1 == levelCount) {
+            addLevel();
+        }
+        int size = sizes[h];
+        int[] items = levels[h];
+        Arrays.sort(items, 0, size);
+        int pairs = size / 2;
+        int offset = ThreadLocalRandom.current().nextInt(2);
+        for (int i = 0; i < pairs; i++) {
+            append(h + 1, items[2 * i + offset]);
+        }
+        if (size % 2 == 1) {
+            items[0] = items[size - 1];
+            sizes[h] = 1;
+        } else {
+            sizes[h] = 0;
+        }
+        retained -= 2 * pairs;
+    }
+
+    private int capacity(int h) {
+        int depth = levelCount - 1 - h;
+        return Math.max(MIN_LEVEL_WIDTH, (int) Math.ceil(k * Math.pow(DECAY, depth)));
+    }
+
+    private int totalCapacity() {
+        int total = 0;
+        for (int h = 0; h < levelCount; h++) {
+            total += capacity(h);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,165 @@
+package com.fantasyfootball.index;
+
+import java.util.Arrays;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Trie of strings searched by Levenshtein distance. A search walks the trie carrying one
+ * row of the edit-distance matrix per depth, which simulates a Levenshtein automaton for
+ * the query: once every cell of a row exceeds the allowed distance no word below that
+ * node can match and the whole subtree is skipped. Shared prefixes are computed once.
+ * Not thread-safe; callers guard it with their own lock.
+ */
+class LevenshteinTrie {
+
+    private final Node root = new Node();
+    private int size;
+
+    /**
+     * Adds {@code word}, returning false if it was already present.
+     */
+    boolean add(String word) {
+        Node node = root;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.childOrCreate(word.charAt(i));
+        }
+        if (node.word != null) {
+            return false;
+        }
+        node.word = word;
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes {@code word}, returning false if it was not present. Emptied branches are
+     * left in place and skipped by searches.
+     */
+    boolean remove(String word) {
+        Node node = root;
+        for (int i = 0; i < word.length() && node != null; i++) {
+            node = node.child(word.charAt(i));
+        }
+        if (node == null || node.word == null) {
+            return false;
+        }
+        node.word = null;
+        size--;
+        return true;
+    }
+
+    /**
+     * Calls {@code consumer} with every word within {@code maxDistance} edits of
+     * {@code query} and its distance.
+     */
+    void search(String query, int maxDistance, ObjIntConsumer<String> consumer) {
+        int columns = query.length() + 1;
+        int[][] rows = new int[query.length() + maxDistance + 2][columns];
+        for (int j = 0; j < columns; j++) {
+            rows[0][j] = j;
+        }
+        if (root.word != null && query.length() <= maxDistance) {
+            consumer.accept(root.word, query.length());
+        }
+        for (int i = 0; i < root.size; i++) {
+            walk(root.children[i], root.keys[i], 1, query, maxDistance, rows, consumer);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Fills the row for {@code depth} and descends. Only the diagonal band of cells within
+     * {@code maxDistance} of the diagonal can stay within the bound, so the cells outside it
+     * are not computed; the single cell on each side of the band is set to a sentinel one
+     * above the bound so the next row reads a value that is too large.
+     */
+    private static void walk(Node node, char c, int depth, String query, int maxDistance, int[][] rows,
+                             ObjIntConsumer<String> consumer) {
+        int[] previous = rows[depth - 1];
+        int[] row = rows[depth];
+        int tooFar = maxDistance + 1;
+        int last = row.length - 1;
+        int from = Math.max(1, depth - maxDistance);
+        int to = Math.min(last, depth + maxDistance);
+        row[0] = Math.min(depth, tooFar);
+        row[from - 1] = from == 1 ? row[0] : tooFar;
+        int best = row[from - 1];
+        for (int j = from; j <= to; j++) {
+            int substitution = previous[j - 1] + (query.charAt(j - 1) == c ? 0 : 1);
+            int cell = Math.min(substitution, Math.min(previous[j], row[j - 1]) + 1);
+            row[j] = Math.min(cell, tooFar);
+            best = Math.min(best, row[j]);
+        }
+        if (to < last) {
+            row[to + 1] = tooFar;
+        }
+        if (node.word != null && to == last && row[last] <= maxDistance) {
+            consumer.accept(node.word, row[last]);
+        }
+        if (best > maxDistance || depth + 1 >= rows.length) {
+            return;
+        }
+        for (int i = 0; i < node.size; i++) {
+            walk(node.children[i], node.keys[i], depth + 1, query, maxDistance, rows, consumer);
+        }
+    }
+
+    /**
+     * Levenshtein distance with unit costs for insertion, deletion and substitution.
+     */
+    static int distance(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            char c = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (c == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private static final class Node {
+
+        char[] keys = new char[0];
+        Node[] children = new Node[0];
+        int size;
+        String word;
+
+        Node child(char c) {
+            int pos = Arrays.binarySearch(keys, 0, size, c);
+            return pos >= 0 ? children[pos] : null;
+        }
+
+        Node childOrCreate(char c) {
+            int pos = Arrays.binarySearch(keys, 0, size, c);
+            if (pos >= 0) {
+                return children[pos];
+            }
+            int insertAt = -pos - 1;
+            if (size == keys.length) {
+                int capacity = Math.max(2, size * 2);
+                keys = Arrays.copyOf(keys, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(keys, insertAt, keys, insertAt + 1, size - insertAt);
+            System.arraycopy(children, insertAt, children, insertAt + 1, size - insertAt);
+            Node child = new Node();
+            keys[insertAt] = c;
+            children[insertAt] = child;
+            size++;
+            return child;
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.fantasyfootball.index;
+
+import com.fantasyfootball.dto.PlayerFacetQuery;
+import com.fantasyfootball.dto.PlayerSummary;
+import com.fantasyfootball.entity.NflTeam;
+import com.fantasyfootball.entity.Player;
+import org.hibernate.Hibernate;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory snapshot of every player with a compressed bitmap per facet value: position,
+ * NFL team, conference, division, active and D/ST. A query ORs the bitmaps of the values
+ * requested within a facet, ANDs the facets together and then sorts and trims only the
+ * surviving rows.
+ */
+@Component
+public class PlayerFacetIndex implements PlayerIndex {
+
+    public static final int MAX_RESULTS = 1000;
+
+    private static final Comparator<PlayerSummary> BY_POINTS = Comparator
+            .comparing((PlayerSummary p) -> p.fantasyPoints() != null ? p.fantasyPoints() : BigDecimal.ZERO,
+                    Comparator.reverseOrder())
+            .thenComparing(PlayerSummary::id);
+
+    private static final Comparator<PlayerSummary> BY_NAME = Comparator
+            .comparing((PlayerSummary p) -> p.lastName() != null ? p.lastName() : p.displayName(),
+                    Comparator.nullsLast(Comparator.<String>naturalOrder()))
+            .thenComparing(PlayerSummary::id);
+
+    private static final Comparator<PlayerSummary> BY_ID = Comparator.comparing(PlayerSummary::id);
+
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final Map<Integer, TeamFacets> teams = new HashMap<>();
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final RoaringBitmap active = new RoaringBitmap();
+    private final RoaringBitmap dst = new RoaringBitmap();
+    private final Map<String, RoaringBitmap> byPosition = new HashMap<>();
+    private final Map<Integer, RoaringBitmap> byNflTeam = new HashMap<>();
+    private final Map<String, RoaringBitmap> byConference = new HashMap<>();
+    private final Map<String, RoaringBitmap> byDivision = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void rebuild(Collection<Player> players) {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            teams.clear();
+            all.clear();
+            active.clear();
+            dst.clear();
+            byPosition.clear();
+            byNflTeam.clear();
+            byConference.clear();
+            byDivision.clear();
+            for (Player player : players) {
+                if (player.getId() != null) {
+                    add(player);
+                }
+            }
+            all.runOptimize();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(Player player) {
+        if (player.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            delete(player.getId());
+            add(player);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Integer playerId) {
+        lock.writeLock().lock();
+        try {
+            delete(playerId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<PlayerSummary> query(PlayerFacetQuery query) {
+        return query(query, null);
+    }
+
+    /**
+     * Same as {@link #query(PlayerFacetQuery)}, additionally dropping every player id set
+     * in {@code excluded} (for example the players already rostered in a league).
+     */
+    public List<PlayerSummary> query(PlayerFacetQuery query, RoaringBitmap excluded) {
+        int limit = Math.max(0, Math.min(query.limit(), MAX_RESULTS));
+        Comparator<PlayerSummary> order = comparatorFor(query.sort());
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matches = all.clone();
+            matches.and(anyOf(byPosition, query.positions()));
+            matches.and(anyOf(byNflTeam, query.nflTeamIds()));
+            matches.and(anyOf(byConference, query.conferences()));
+            matches.and(anyOf(byDivision, query.divisions()));
+            applyFlag(matches, active, query.active());
+            applyFlag(matches, dst, query.dst());
+            if (excluded != null) {
+                matches.andNot(excluded);
+            }
+            return topN(matches, order, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public PlayerSummary getSummary(Integer playerId) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(playerId);
+            return entry != null ? entry.summary : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<PlayerSummary> topN(RoaringBitmap matches, Comparator<PlayerSummary> order, int limit) {
+        if (limit == 0) {
+            return List.of();
+        }
+        PriorityQueue<PlayerSummary> worstFirst = new PriorityQueue<>(limit + 1, order.reversed());
+        matches.forEach((int id) -> {
+            worstFirst.offer(entries.get(id).summary);
+            if (worstFirst.size() > limit) {
+                worstFirst.poll();
+            }
+        });
+        List<PlayerSummary> result = new ArrayList<>(worstFirst);
+        result.sort(order);
+        return result;
+    }
+
+    private static Comparator<PlayerSummary> comparatorFor(String sort) {
+        if (sort == null || "points".equalsIgnoreCase(sort)) {
+            return BY_POINTS;
+        }
+        if ("name".equalsIgnoreCase(sort)) {
+            return BY_NAME;
+        }
+        if ("id".equalsIgnoreCase(sort)) {
+            return BY_ID;
+        }
+        throw new IllegalArgumentException("Unsupported sort: " + sort);
+    }
+
+    private <K> RoaringBitmap anyOf(Map<K, RoaringBitmap> facet, Collection<K> values) {
+        if (values == null || values.isEmpty()) {
+            return all;
+        }
+        RoaringBitmap union = new RoaringBitmap();
+        for (K value : values) {
+            RoaringBitmap bitmap = facet.get(value);
+            if (bitmap != null) {
+                union.or(bitmap);
+            }
+        }
+        return union;
+    }
+
+    private static void applyFlag(RoaringBitmap matches, RoaringBitmap flag, Boolean wanted) {
+        if (wanted == null) {
+            return;
+        }
+        if (wanted) {
+            matches.and(flag);
+        } else {
+            matches.andNot(flag);
+        }
+    }
+
+    private void add(Player player) {
+        int id = player.getId();
+        TeamFacets team = teamFacets(player);
+        PlayerSummary summary = new PlayerSummary(id, player.getFirstName(), player.getLastName(),
+                player.getDstTeamName(), player.getIsDst(), player.getPosition(),
+                team != null ? team.id : null, team != null ? team.abbreviation : null,
+                player.getFantasyPoints(), player.getIsActive());
+        entries.put(id, new Entry(summary, team));
+
+        all.add(id);
+        if (Boolean.TRUE.equals(player.getIsActive())) {
+            active.add(id);
+        }
+        if (Boolean.TRUE.equals(player.getIsDst())) {
+            dst.add(id);
+        }
+        if (player.getPosition() != null) {
+            byPosition.computeIfAbsent(player.getPosition(), k -> new RoaringBitmap()).add(id);
+        }
+        if (team != null) {
+            byNflTeam.computeIfAbsent(team.id, k -> new RoaringBitmap()).add(id);
+            if (team.conference != null) {
+                byConference.computeIfAbsent(team.conference, k -> new RoaringBitmap()).add(id);
+            }
+            if (team.division != null) {
+                byDivision.computeIfAbsent(team.division, k -> new RoaringBitmap()).add(id);
+            }
+        }
+    }
+
+    private void delete(int id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        all.remove(id);
+        active.remove(id);
+        dst.remove(id);
+        removeFrom(byPosition, entry.summary.position(), id);
+        if (entry.team != null) {
+            removeFrom(byNflTeam, entry.team.id, id);
+            removeFrom(byConference, entry.team.conference, id);
+            removeFrom(byDivision, entry.team.division, id);
+        }
+    }
+
+    private static <K> void removeFrom(Map<K, RoaringBitmap> facet, K value, int id) {
+        if (value == null) {
+            return;
+        }
+        RoaringBitmap bitmap = facet.get(value);
+        if (bitmap != null) {
+            bitmap.remove(id);
+            if (bitmap.isEmpty()) {
+                facet.remove(value);
+            }
+        }
+    }
+
+    /**
+     * Conference and division come from the player's NFL team. NFL teams are cached by id
+     * the first time they are seen loaded, so writes that only carry an uninitialized proxy
+     * still land in the right buckets. {@code PlayerService} resolves the id-only team of
+     * a request body before saving, so a stub is never cached.
+     */
+    private TeamFacets teamFacets(Player player) {
+        NflTeam nflTeam = player.getNflTeam();
+        if (nflTeam == null || nflTeam.getId() == null) {
+            return null;
+        }
+        if (Hibernate.isInitialized(nflTeam) && nflTeam.getAbbreviation() != null) {
+            TeamFacets facets = new TeamFacets(nflTeam.getId(), nflTeam.getAbbreviation(),
+                    nflTeam.getConference(), nflTeam.getDivision());
+            teams.put(facets.id, facets);
+            return facets;
+        }
+        return teams.getOrDefault(nflTeam.getId(), new TeamFacets(nflTeam.getId(), null, null, null));
+    }
+
+    private record Entry(PlayerSummary summary, TeamFacets team) {
+    }
+
+    private record TeamFacets(Integer id, String abbreviation, String conference, String division) {
+    }
+}
@@ -0,0 +1,371 @@
+package com.fantasyfootball.index;
+
+import com.fantasyfootball.entity.Player;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typo-tolerant index over the display names of active players.
+ *
+ * Names are folded to lowercase ASCII letters and digits, with diacritics and punctuation
+ * removed and hyphens treated as spaces, so "Ja'Marr Chase" becomes "jamarr chase". Each
+ * word of a folded name goes into a {@link LevenshteinTrie}, and so does every trailing run of its
+ * words with the spaces removed ("jaxonsmithnjigba", "smithnjigba", "njigba"), so a query
+ * whose words are joined differently ("amonra stbrown", "smithnjigba") still matches.
+ *
+ * A query matches a player when every query word is within the allowed edit distance of
+ * some word of the name, or sounds like one (same Soundex code). Its score is the sum of
+ * those distances; a phonetic-only match counts one more than the distance allowed for that
+ * word. Matching a compacted run of words instead scores its distance. Results are ranked
+ * by score, then fantasy points.
+ */
+@Component
+public class PlayerFuzzyIndex implements PlayerIndex {
+
+    public static final int MAX_RESULTS = 50;
+
+    private static final int MIN_PHONETIC_LENGTH = 3;
+    private static final int MAX_COMPACT_DISTANCE = 2;
+
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final Map<String, SortedIntList> wordPostings = new HashMap<>();
+    private final Map<String, SortedIntList> namePostings = new HashMap<>();
+    private final Map<String, Set<String>> wordsBySound = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private LevenshteinTrie words = new LevenshteinTrie();
+    private LevenshteinTrie names = new LevenshteinTrie();
+
+    @Override
+    public void rebuild(Collection<Player> players) {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            wordPostings.clear();
+            namePostings.clear();
+            wordsBySound.clear();
+            words = new LevenshteinTrie();
+            names = new LevenshteinTrie();
+            for (Player player : players) {
+                if (isIndexable(player)) {
+                    insert(player.getId(), fold(player.getDisplayName()), points(player));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(Player player) {
+        lock.writeLock().lock();
+        try {
+            Entry existing = entries.get(player.getId());
+            if (existing != null) {
+                delete(player.getId(), existing);
+            }
+            if (isIndexable(player)) {
+                insert(player.getId(), fold(player.getDisplayName()), points(player));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Integer playerId) {
+        lock.writeLock().lock();
+        try {
+            Entry existing = entries.get(playerId);
+            if (existing != null) {
+                delete(playerId, existing);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of up to {@link #MAX_RESULTS} active players whose name is close to
+     * {@code term}, closest first.
+     */
+    public List<Integer> search(String term) {
+        String query = fold(term);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+        String[] queryWords = query.split(" ");
+        Map<Integer, Integer> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            scoreByWords(queryWords, scores);
+            String compact = query.replace(" ", "");
+            names.search(compact, Math.min(maxDistance(compact), MAX_COMPACT_DISTANCE), (name, distance) -> {
+                SortedIntList ids = namePostings.get(name);
+                if (ids != null) {
+                    for (int i = 0; i < ids.size(); i++) {
+                        scores.merge(ids.get(i), distance, Math::min);
+                    }
+                }
+            });
+
+            List<Match> matches = new ArrayList<>(scores.size());
+            for (Map.Entry<Integer, Integer> score : scores.entrySet()) {
+                matches.add(new Match(score.getKey(), score.getValue(), entries.get(score.getKey()).points()));
+            }
+            matches.sort(Comparator.comparingInt(Match::score)
+                    .thenComparing(Comparator.comparingDouble(Match::points).reversed())
+                    .thenComparingInt(Match::id));
+            List<Integer> ids = new ArrayList<>(Math.min(matches.size(), MAX_RESULTS));
+            for (int i = 0; i < matches.size() && i < MAX_RESULTS; i++) {
+                ids.add(matches.get(i).id());
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Scores players that match every query word. For each word only the cheapest matching
+     * name word counts.
+     */
+    private void scoreByWords(String[] queryWords, Map<Integer, Integer> scores) {
+        Map<Integer, Integer> totals = null;
+        for (String queryWord : queryWords) {
+            Map<Integer, Integer> best = new HashMap<>();
+            int allowed = maxDistance(queryWord);
+            words.search(queryWord, allowed, (word, distance) -> addPostings(word, distance, best));
+            if (queryWord.length() >= MIN_PHONETIC_LENGTH) {
+                for (String word : wordsBySound.getOrDefault(soundex(queryWord), Set.of())) {
+                    addPostings(word, allowed + 1, best);
+                }
+            }
+            if (totals == null) {
+                totals = best;
+            } else {
+                Map<Integer, Integer> next = new HashMap<>();
+                for (Map.Entry<Integer, Integer> total : totals.entrySet()) {
+                    Integer cost = best.get(total.getKey());
+                    if (cost != null) {
+                        next.put(total.getKey(), total.getValue() + cost);
+                    }
+                }
+                totals = next;
+            }
+            if (totals.isEmpty()) {
+                return;
+            }
+        }
+        scores.putAll(totals);
+    }
+
+    private void addPostings(String word, int cost, Map<Integer, Integer> best) {
+        SortedIntList ids = wordPostings.get(word);
+        if (ids == null) {
+            return;
+        }
+        for (int i = 0; i < ids.size(); i++) {
+            best.merge(ids.get(i), cost, Math::min);
+        }
+    }
+
+    private void insert(int id, String name, double points) {
+        if (name.isEmpty()) {
+            return;
+        }
+        entries.put(id, new Entry(name, points));
+        for (String word : distinctWords(name)) {
+            SortedIntList ids = wordPostings.get(word);
+            if (ids == null) {
+                ids = new SortedIntList();
+                wordPostings.put(word, ids);
+                words.add(word);
+                if (word.length() >= MIN_PHONETIC_LENGTH) {
+                    wordsBySound.computeIfAbsent(soundex(word), k -> new HashSet<>()).add(word);
+                }
+            }
+            ids.add(id);
+        }
+        for (String compact : compactSuffixes(name)) {
+            SortedIntList ids = namePostings.get(compact);
+            if (ids == null) {
+                ids = new SortedIntList();
+                namePostings.put(compact, ids);
+                names.add(compact);
+            }
+            ids.add(id);
+        }
+    }
+
+    private void delete(int id, Entry entry) {
+        entries.remove(id);
+        for (String word : distinctWords(entry.name())) {
+            SortedIntList ids = wordPostings.get(word);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                wordPostings.remove(word);
+                words.remove(word);
+                Set<String> similar = wordsBySound.get(soundex(word));
+                if (similar != null) {
+                    similar.remove(word);
+                }
+            }
+        }
+        for (String compact : compactSuffixes(entry.name())) {
+            SortedIntList ids = namePostings.get(compact);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                namePostings.remove(compact);
+                names.remove(compact);
+            }
+        }
+    }
+
+    /**
+     * The name with spaces removed, then the same for each run of trailing words.
+     */
+    private static Set<String> compactSuffixes(String name) {
+        Set<String> suffixes = new HashSet<>();
+        String compact = name.replace(" ", "");
+        suffixes.add(compact);
+        int consumed = 0;
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) == ' ') {
+                suffixes.add(compact.substring(consumed));
+            } else {
+                consumed++;
+            }
+        }
+        return suffixes;
+    }
+
+    private static Set<String> distinctWords(String name) {
+        Set<String> distinct = new HashSet<>();
+        for (String word : name.split(" ")) {
+            if (!word.isEmpty()) {
+                distinct.add(word);
+            }
+        }
+        return distinct;
+    }
+
+    /**
+     * Edit distance tolerated for a word of the given length: none up to two characters,
+     * one up to five, two up to nine and three beyond that.
+     */
+    static int maxDistance(String word) {
+        int length = word.length();
+        if (length <= 2) {
+            return 0;
+        }
+        if (length <= 5) {
+            return 1;
+        }
+        return length <= 9 ? 2 : 3;
+    }
+
+    /**
+     * Folds a name for matching: lowercase, diacritics stripped, hyphens, slashes and
+     * underscores become spaces, any other character that is not a letter or digit is
+     * dropped, and runs of spaces are collapsed.
+     */
+    static String fold(String value) {
+        if (value == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = Character.toLowerCase(decomposed.charAt(i));
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                folded.append(c);
+            } else if (Character.isWhitespace(c) || c == '-' || c == '/' || c == '_') {
+                if (folded.length() > 0 && folded.charAt(folded.length() - 1) != ' ') {
+                    folded.append(' ');
+                }
+            }
+        }
+        int end = folded.length();
+        if (end > 0 && folded.charAt(end - 1) == ' ') {
+            folded.setLength(end - 1);
+        }
+        return folded.toString();
+    }
+
+    /**
+     * American Soundex code of a folded word: its first letter followed by three digits
+     * for the following consonant groups.
+     */
+    static String soundex(String word) {
+        char[] code = {word.charAt(0), '0', '0', '0'};
+        int length = 1;
+        char previous = soundexDigit(word.charAt(0));
+        for (int i = 1; i < word.length() && length < code.length; i++) {
+            char c = word.charAt(i);
+            char digit = soundexDigit(c);
+            if (digit != '0' && digit != previous) {
+                code[length++] = digit;
+            }
+            if (c != 'h' && c != 'w') {
+                previous = digit;
+            }
+        }
+        return new String(code);
+    }
+
+    private static char soundexDigit(char c) {
+        switch (c) {
+            case 'b': case 'f': case 'p': case 'v':
+                return '1';
+            case 'c': case 'g': case 'j': case 'k': case 'q': case 's': case 'x': case 'z':
+                return '2';
+            case 'd': case 't':
+                return '3';
+            case 'l':
+                return '4';
+            case 'm': case 'n':
+                return '5';
+            case 'r':
+                return '6';
+            default:
+                return '0';
+        }
+    }
+
+    private static boolean isIndexable(Player player) {
+        return player.getId() != null
+                && Boolean.TRUE.equals(player.getIsActive())
+                && player.getDisplayName() != null;
+    }
+
+    private static double points(Player player) {
+        BigDecimal points = player.getFantasyPoints();
+        return points != null ? points.doubleValue() : 0.0;
+    }
+
+    private record Entry(String name, double points) {
+    }
+
+    private record Match(int id, int score, double points) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.fantasyfootball.index;
+
+import com.fantasyfootball.entity.Player;
+
+import java.util.Collection;
+
+/**
+ * An in-memory structure derived from the players table. Implementations are
+ * discovered by {@code PlayerIndexService}, which loads them at startup and keeps
+ * them in sync with player writes.
+ */
+public interface PlayerIndex {
+    
+    void rebuild(Collection<Player> players);
+    
+    void upsert(Player player);
+    
+    void remove(Integer playerId);
+}
@@ -0,0 +1,182 @@
+package com.fantasyfootball.index;
+
+import com.fantasyfootball.entity.Player;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Fantasy-point leaderboards of active players, one per position plus an overall board.
+ *
+ * Each board is an {@link IndexedSkipList} ordered by points descending, then player id,
+ * so ranks are dense and ties are broken by id. A points change moves a single key, and
+ * top N, the rank of a player and a window of ranks each cost O(log n) plus the size of
+ * the answer; nothing is re-sorted.
+ */
+@Component
+public class PlayerLeaderboardIndex implements PlayerIndex {
+
+    private static final Comparator<Ranked> BY_POINTS = Comparator
+            .comparingLong(Ranked::points).reversed()
+            .thenComparingInt(Ranked::id);
+
+    private final Map<Integer, Ranked> entries = new HashMap<>();
+    private final Map<String, IndexedSkipList<Ranked>> byPosition = new HashMap<>();
+    private final IndexedSkipList<Ranked> overall = new IndexedSkipList<>(BY_POINTS);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void rebuild(Collection<Player> players) {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            byPosition.clear();
+            overall.clear();
+            for (Player player : players) {
+                if (isRanked(player)) {
+                    insert(player);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(Player player) {
+        if (player.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            delete(player.getId());
+            if (isRanked(player)) {
+                insert(player);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Integer playerId) {
+        lock.writeLock().lock();
+        try {
+            delete(playerId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of up to {@code count} players starting at the 1-based rank
+     * {@code fromRank} on the board for {@code position}, or the overall board when
+     * {@code position} is null.
+     */
+    public List<Integer> range(String position, int fromRank, int count) {
+        lock.readLock().lock();
+        try {
+            IndexedSkipList<Ranked> board = board(position);
+            if (board == null) {
+                return List.of();
+            }
+            List<Ranked> keys = board.range(fromRank, count);
+            List<Integer> ids = new ArrayList<>(keys.size());
+            for (Ranked key : keys) {
+                ids.add(key.id());
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the player's 1-based rank on the board for {@code position}, or the overall
+     * board when {@code position} is null; 0 if the player is not on that board.
+     */
+    public int rank(String position, Integer playerId) {
+        lock.readLock().lock();
+        try {
+            Ranked key = entries.get(playerId);
+            IndexedSkipList<Ranked> board = board(position);
+            return key != null && board != null ? board.rank(key) : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size(String position) {
+        lock.readLock().lock();
+        try {
+            IndexedSkipList<Ranked> board = board(position);
+            return board != null ? board.size() : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the board position of a ranked player, or null if the player is not ranked.
+     */
+    public String positionOf(Integer playerId) {
+        lock.readLock().lock();
+        try {
+            Ranked key = entries.get(playerId);
+            return key != null ? key.position() : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private IndexedSkipList<Ranked> board(String position) {
+        return position == null ? overall : byPosition.get(normalizePosition(position));
+    }
+
+    private void insert(Player player) {
+        Ranked key = new Ranked(player.getId(), hundredths(player.getFantasyPoints()),
+                normalizePosition(player.getPosition()));
+        entries.put(key.id(), key);
+        overall.add(key);
+        byPosition.computeIfAbsent(key.position(), p -> new IndexedSkipList<>(BY_POINTS)).add(key);
+    }
+
+    private void delete(Integer playerId) {
+        Ranked key = entries.remove(playerId);
+        if (key == null) {
+            return;
+        }
+        overall.remove(key);
+        IndexedSkipList<Ranked> board = byPosition.get(key.position());
+        if (board != null) {
+            board.remove(key);
+        }
+    }
+
+    private static boolean isRanked(Player player) {
+        return player.getId() != null
+                && Boolean.TRUE.equals(player.getIsActive())
+                && player.getPosition() != null;
+    }
+
+    private static long hundredths(BigDecimal points) {
+        return points == null ? 0 : points.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue();
+    }
+
+    static String normalizePosition(String position) {
+        return position.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private record Ranked(int id, long points, String position) {
+    }
+}
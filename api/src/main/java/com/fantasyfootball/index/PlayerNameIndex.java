@@ -0,0 +1,215 @@
+package com.fantasyfootball.index;
+
+import com.fantasyfootball.entity.Player;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Trigram inverted index over the display names of active players.
+ *
+ * A search term of three or more characters is answered by scanning the posting list
+ * of its rarest trigram and verifying each candidate with a substring check, which
+ * matches the semantics of the {@code LIKE '%term%'} query it replaces. Shorter terms
+ * have no trigram to look up and fall back to a scan of the in-memory names.
+ */
+@Component
+public class PlayerNameIndex implements PlayerIndex {
+
+    private static final int GRAM = 3;
+
+    private static final int EXACT_MATCH = 0;
+    private static final int NAME_PREFIX_MATCH = 1;
+    private static final int WORD_PREFIX_MATCH = 2;
+    private static final int SUBSTRING_MATCH = 3;
+
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final Map<Long, SortedIntList> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void rebuild(Collection<Player> players) {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            postings.clear();
+            for (Player player : players) {
+                if (isIndexable(player)) {
+                    insert(player.getId(), normalize(player.getDisplayName()), points(player));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(Player player) {
+        lock.writeLock().lock();
+        try {
+            Entry existing = entries.get(player.getId());
+            if (!isIndexable(player)) {
+                if (existing != null) {
+                    delete(player.getId(), existing);
+                }
+                return;
+            }
+            String name = normalize(player.getDisplayName());
+            if (existing != null && existing.name.equals(name)) {
+                entries.put(player.getId(), new Entry(name, points(player)));
+                return;
+            }
+            if (existing != null) {
+                delete(player.getId(), existing);
+            }
+            insert(player.getId(), name, points(player));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Integer playerId) {
+        lock.writeLock().lock();
+        try {
+            Entry existing = entries.get(playerId);
+            if (existing != null) {
+                delete(playerId, existing);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of active players whose display name contains {@code term},
+     * ignoring case. Exact matches rank first, then names starting with the term, then
+     * names with a word starting with the term; ties are broken by fantasy points.
+     */
+    public List<Integer> search(String term) {
+        String needle = normalize(term);
+        if (needle.isEmpty()) {
+            return List.of();
+        }
+        List<Match> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            if (needle.length() < GRAM) {
+                for (Map.Entry<Integer, Entry> e : entries.entrySet()) {
+                    collect(e.getKey(), e.getValue(), needle, matches);
+                }
+            } else {
+                SortedIntList candidates = rarestPosting(needle);
+                if (candidates == null) {
+                    return List.of();
+                }
+                for (int i = 0; i < candidates.size(); i++) {
+                    int id = candidates.get(i);
+                    collect(id, entries.get(id), needle, matches);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        matches.sort(Comparator.comparingInt(Match::rank)
+                .thenComparing(Comparator.comparingDouble(Match::points).reversed())
+                .thenComparingInt(Match::id));
+        List<Integer> ids = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            ids.add(match.id());
+        }
+        return ids;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private SortedIntList rarestPosting(String needle) {
+        SortedIntList rarest = null;
+        for (int i = 0; i + GRAM <= needle.length(); i++) {
+            SortedIntList posting = postings.get(gramKey(needle, i));
+            if (posting == null) {
+                return null;
+            }
+            if (rarest == null || posting.size() < rarest.size()) {
+                rarest = posting;
+            }
+        }
+        return rarest;
+    }
+
+    private static void collect(int id, Entry entry, String needle, List<Match> matches) {
+        int at = entry.name.indexOf(needle);
+        if (at < 0) {
+            return;
+        }
+        int rank;
+        if (at == 0) {
+            rank = entry.name.length() == needle.length() ? EXACT_MATCH : NAME_PREFIX_MATCH;
+        } else if (entry.name.charAt(at - 1) == ' ') {
+            rank = WORD_PREFIX_MATCH;
+        } else {
+            rank = SUBSTRING_MATCH;
+        }
+        matches.add(new Match(id, rank, entry.points));
+    }
+
+    private void insert(int id, String name, double points) {
+        entries.put(id, new Entry(name, points));
+        for (int i = 0; i + GRAM <= name.length(); i++) {
+            postings.computeIfAbsent(gramKey(name, i), k -> new SortedIntList()).add(id);
+        }
+    }
+
+    private void delete(int id, Entry entry) {
+        entries.remove(id);
+        String name = entry.name;
+        for (int i = 0; i + GRAM <= name.length(); i++) {
+            long key = gramKey(name, i);
+            SortedIntList posting = postings.get(key);
+            if (posting != null && posting.remove(id) && posting.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    private static long gramKey(String s, int offset) {
+        return ((long) s.charAt(offset) << 32) | ((long) s.charAt(offset + 1) << 16) | s.charAt(offset + 2);
+    }
+
+    private static boolean isIndexable(Player player) {
+        return player.getId() != null
+                && Boolean.TRUE.equals(player.getIsActive())
+                && player.getDisplayName() != null;
+    }
+
+    private static double points(Player player) {
+        BigDecimal points = player.getFantasyPoints();
+        return points != null ? points.doubleValue() : 0.0;
+    }
+
+    static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(String name, double points) {
+    }
+
+    private record Match(int id, int rank, double points) {
+    }
+}
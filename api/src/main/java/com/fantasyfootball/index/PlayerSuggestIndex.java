@@ -0,0 +1,235 @@
+package com.fantasyfootball.index;
+
+import com.fantasyfootball.dto.PlayerSuggestion;
+import com.fantasyfootball.entity.Player;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Typeahead index over active players' display names.
+ *
+ * Names are stored in an immutable radix (path-compressed) trie keyed by the full name
+ * and by every later word of the name, so "chase" finds "Ja'Marr Chase". Each node keeps
+ * the best {@link #MAX_SUGGESTIONS} players of its subtree ranked by fantasy points, so a
+ * lookup is a walk down the prefix followed by a copy into the result array.
+ *
+ * Writes update a map of suggestions and schedule a rebuild of the trie on a background
+ * thread; bursts of writes are coalesced into a single rebuild and readers keep using the
+ * previous trie until the new one is published.
+ */
+@Component
+public class PlayerSuggestIndex implements PlayerIndex {
+
+    public static final int MAX_SUGGESTIONS = 25;
+
+    private static final PlayerSuggestion[] NONE = new PlayerSuggestion[0];
+
+    private static final Comparator<PlayerSuggestion> BY_POINTS = Comparator
+            .comparing(PlayerSuggestion::fantasyPoints, Comparator.reverseOrder())
+            .thenComparing(PlayerSuggestion::name)
+            .thenComparing(PlayerSuggestion::id);
+
+    private final Map<Integer, PlayerSuggestion> suggestions = new ConcurrentHashMap<>();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private final Executor rebuildExecutor;
+
+    private volatile Node root = Node.EMPTY;
+
+    public PlayerSuggestIndex() {
+        this(Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "player-suggest-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    PlayerSuggestIndex(Executor rebuildExecutor) {
+        this.rebuildExecutor = rebuildExecutor;
+    }
+
+    @Override
+    public void rebuild(Collection<Player> players) {
+        suggestions.clear();
+        for (Player player : players) {
+            if (isSuggestable(player)) {
+                suggestions.put(player.getId(), toSuggestion(player));
+            }
+        }
+        root = build(suggestions.values());
+    }
+
+    @Override
+    public void upsert(Player player) {
+        if (isSuggestable(player)) {
+            suggestions.put(player.getId(), toSuggestion(player));
+        } else if (player.getId() != null) {
+            suggestions.remove(player.getId());
+        }
+        scheduleRebuild();
+    }
+
+    @Override
+    public void remove(Integer playerId) {
+        if (suggestions.remove(playerId) != null) {
+            scheduleRebuild();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} players whose name, or a word of it, starts with
+     * {@code prefix} (ignoring case), best fantasy points first. Apart from the returned
+     * array nothing is allocated.
+     */
+    public PlayerSuggestion[] suggest(String prefix, int limit) {
+        if (prefix == null || limit <= 0) {
+            return NONE;
+        }
+        int end = prefix.length();
+        while (end > 0 && Character.isWhitespace(prefix.charAt(end - 1))) {
+            end--;
+        }
+        int i = 0;
+        while (i < end && Character.isWhitespace(prefix.charAt(i))) {
+            i++;
+        }
+        if (i == end) {
+            return NONE;
+        }
+        Node node = root;
+        while (i < end) {
+            char c = Character.toLowerCase(prefix.charAt(i));
+            int childIndex = Arrays.binarySearch(node.firstChars, c);
+            if (childIndex < 0) {
+                return NONE;
+            }
+            node = node.children[childIndex];
+            String label = node.label;
+            for (int j = 0; j < label.length() && i < end; j++, i++) {
+                if (label.charAt(j) != Character.toLowerCase(prefix.charAt(i))) {
+                    return NONE;
+                }
+            }
+        }
+        return Arrays.copyOf(node.top, Math.min(limit, node.top.length));
+    }
+
+    private void scheduleRebuild() {
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                rebuildScheduled.set(false);
+                root = build(new ArrayList<>(suggestions.values()));
+            });
+        }
+    }
+
+    private static Node build(Collection<PlayerSuggestion> entries) {
+        List<Key> keys = new ArrayList<>();
+        for (PlayerSuggestion suggestion : entries) {
+            String name = PlayerNameIndex.normalize(suggestion.name());
+            keys.add(new Key(name, suggestion));
+            for (int i = 1; i < name.length(); i++) {
+                if (name.charAt(i - 1) == ' ' && name.charAt(i) != ' ') {
+                    keys.add(new Key(name.substring(i), suggestion));
+                }
+            }
+        }
+        if (keys.isEmpty()) {
+            return Node.EMPTY;
+        }
+        keys.sort(Comparator.comparing(Key::text));
+        return buildNode("", keys, 0, keys.size(), 0);
+    }
+
+    /**
+     * Builds the node for {@code keys[lo, hi)}, which all share their first {@code depth}
+     * characters. Keys ending exactly at {@code depth} sort first and terminate here.
+     */
+    private static Node buildNode(String label, List<Key> keys, int lo, int hi, int depth) {
+        List<PlayerSuggestion> candidates = new ArrayList<>();
+        while (lo < hi && keys.get(lo).text().length() == depth) {
+            candidates.add(keys.get(lo).suggestion());
+            lo++;
+        }
+        List<Node> children = new ArrayList<>();
+        int start = lo;
+        while (start < hi) {
+            char c = keys.get(start).text().charAt(depth);
+            int end = start + 1;
+            while (end < hi && keys.get(end).text().charAt(depth) == c) {
+                end++;
+            }
+            String first = keys.get(start).text();
+            String last = keys.get(end - 1).text();
+            int shared = depth + 1;
+            while (shared < first.length() && shared < last.length() && first.charAt(shared) == last.charAt(shared)) {
+                shared++;
+            }
+            Node child = buildNode(first.substring(depth, shared), keys, start, end, shared);
+            children.add(child);
+            candidates.addAll(Arrays.asList(child.top));
+            start = end;
+        }
+
+        candidates.sort(BY_POINTS);
+        List<PlayerSuggestion> top = new ArrayList<>(Math.min(candidates.size(), MAX_SUGGESTIONS));
+        Set<Integer> seen = new HashSet<>();
+        for (PlayerSuggestion candidate : candidates) {
+            if (top.size() == MAX_SUGGESTIONS) {
+                break;
+            }
+            if (seen.add(candidate.id())) {
+                top.add(candidate);
+            }
+        }
+
+        char[] firstChars = new char[children.size()];
+        for (int i = 0; i < firstChars.length; i++) {
+            firstChars[i] = children.get(i).label.charAt(0);
+        }
+        return new Node(label, firstChars, children.toArray(new Node[0]), top.toArray(NONE));
+    }
+
+    private static boolean isSuggestable(Player player) {
+        return player.getId() != null
+                && Boolean.TRUE.equals(player.getIsActive())
+                && player.getDisplayName() != null;
+    }
+
+    private static PlayerSuggestion toSuggestion(Player player) {
+        BigDecimal points = player.getFantasyPoints() != null ? player.getFantasyPoints() : BigDecimal.ZERO;
+        return new PlayerSuggestion(player.getId(), player.getDisplayName(), player.getPosition(), points);
+    }
+
+    private record Key(String text, PlayerSuggestion suggestion) {
+    }
+
+    private static final class Node {
+
+        static final Node EMPTY = new Node("", new char[0], new Node[0], NONE);
+
+        final String label;
+        final char[] firstChars;
+        final Node[] children;
+        final PlayerSuggestion[] top;
+
+        Node(String label, char[] firstChars, Node[] children, PlayerSuggestion[] top) {
+            this.label = label;
+            this.firstChars = firstChars;
+            this.children = children;
+            this.top = top;
+        }
+    }
+}
@@ -0,0 +1,415 @@
+package com.fantasyfootball.index;
+
+import com.fantasyfootball.dto.PlayerStatsRow;
+import com.fantasyfootball.dto.SeasonStatLine;
+import com.fantasyfootball.scoring.ScoringFormula;
+import com.fantasyfootball.scoring.SeasonScore;
+import com.fantasyfootball.scoring.SeasonScoreBoard;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Column store of weekly player statistics, partitioned by season.
+ *
+ * Within a season every player owns one row, and every {@link StatColumn} is a single
+ * {@code int[]} holding {@link #MAX_WEEK} consecutive slots per row, indexed by week.
+ * Weeks without a {@code player_stats} row stay zero and are tracked in a per-row bit
+ * mask, so a season total is a sum over one contiguous slice and a last-N-weeks total
+ * walks the top N bits of the mask. Points are kept in hundredths.
+ */
+@Component
+public class SeasonStatsStore {
+
+    public static final int MAX_WEEK = 32;
+
+    private static final int COLUMNS = StatColumn.values().length;
+    private static final int INITIAL_ROWS = 64;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<Integer, SeasonColumns> seasons = new HashMap<>();
+
+    /**
+     * Replaces the whole store with {@code rows}. The new columns are built before the
+     * lock is taken, so readers see either the old or the new store.
+     */
+    public void replaceAll(Iterator<PlayerStatsRow> rows) {
+        Map<Integer, SeasonColumns> loaded = new HashMap<>();
+        while (rows.hasNext()) {
+            put(loaded, rows.next());
+        }
+        lock.writeLock().lock();
+        try {
+            seasons = loaded;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sets one player-week, overwriting what was stored for it.
+     */
+    public void put(PlayerStatsRow row) {
+        lock.writeLock().lock();
+        try {
+            put(seasons, row);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int playerId, int season, int week) {
+        lock.writeLock().lock();
+        try {
+            SeasonColumns columns = seasons.get(season);
+            int row = columns != null ? columns.rowOf(playerId) : -1;
+            if (row >= 0 && week >= 1 && week <= MAX_WEEK) {
+                columns.clear(row, week);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removePlayer(int playerId) {
+        lock.writeLock().lock();
+        try {
+            for (SeasonColumns columns : seasons.values()) {
+                int row = columns.rowOf(playerId);
+                if (row >= 0) {
+                    for (int week = 1; week <= MAX_WEEK; week++) {
+                        columns.clear(row, week);
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops a whole season, once it is served from elsewhere.
+     */
+    public void removeSeason(int season) {
+        lock.writeLock().lock();
+        try {
+            seasons.remove(season);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sums the player's season, or only their {@code lastWeeks} most recent weeks with
+     * stats when that is positive. Empty if the player has no stats that season.
+     */
+    public Optional<SeasonStatLine> line(int playerId, int season, int lastWeeks) {
+        lock.readLock().lock();
+        try {
+            SeasonColumns columns = seasons.get(season);
+            int row = columns != null ? columns.rowOf(playerId) : -1;
+            if (row < 0 || columns.weekMasks[row] == 0) {
+                return Optional.empty();
+            }
+            int mask = columns.weekMasks[row];
+            if (lastWeeks > 0) {
+                while (Integer.bitCount(mask) > lastWeeks) {
+                    mask &= mask - 1;
+                }
+            }
+            return Optional.of(columns.line(row, season, mask));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The player's value of {@code column} in one week; empty if they have no stats that
+     * week.
+     */
+    public OptionalInt value(int playerId, int season, int week, StatColumn column) {
+        lock.readLock().lock();
+        try {
+            SeasonColumns columns = seasons.get(season);
+            int row = columns != null ? columns.rowOf(playerId) : -1;
+            if (row < 0 || week < 1 || week > MAX_WEEK || (columns.weekMasks[row] & (1 << (week - 1))) == 0) {
+                return OptionalInt.empty();
+            }
+            return OptionalInt.of(columns.values[column.ordinal()][row * MAX_WEEK + week - 1]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The latest season in which the player has stats; empty if they have none.
+     */
+    public OptionalInt latestSeason(int playerId) {
+        lock.readLock().lock();
+        try {
+            OptionalInt latest = OptionalInt.empty();
+            for (Map.Entry<Integer, SeasonColumns> entry : seasons.entrySet()) {
+                int row = entry.getValue().rowOf(playerId);
+                if (row >= 0 && entry.getValue().weekMasks[row] != 0
+                        && (latest.isEmpty() || entry.getKey() > latest.getAsInt())) {
+                    latest = OptionalInt.of(entry.getKey());
+                }
+            }
+            return latest;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The players with stats in the season.
+     */
+    public List<Integer> playerIds(int season) {
+        lock.readLock().lock();
+        try {
+            SeasonColumns columns = seasons.get(season);
+            if (columns == null) {
+                return List.of();
+            }
+            List<Integer> playerIds = new ArrayList<>(columns.rows);
+            for (int row = 0; row < columns.rows; row++) {
+                if (columns.weekMasks[row] != 0) {
+                    playerIds.add(columns.playerIds[row]);
+                }
+            }
+            return playerIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Visits every player with stats in one week of the season, under the read lock.
+     */
+    public void forEachInWeek(int season, int week, WeekVisitor visitor) {
+        lock.readLock().lock();
+        try {
+            SeasonColumns columns = seasons.get(season);
+            if (columns == null || week < 1 || week > MAX_WEEK) {
+                return;
+            }
+            int bit = 1 << (week - 1);
+            int[] values = new int[COLUMNS];
+            for (int row = 0; row < columns.rows; row++) {
+                if ((columns.weekMasks[row] & bit) != 0) {
+                    int slot = row * MAX_WEEK + week - 1;
+                    for (int c = 0; c < COLUMNS; c++) {
+                        values[c] = columns.values[c][slot];
+                    }
+                    visitor.visit(columns.playerIds[row], values);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the season lines of the {@code limit} players with the highest season total
+     * of {@code column}, ties broken by player id. Only players accepted by
+     * {@code include} are considered.
+     */
+    public List<SeasonStatLine> leaders(int season, StatColumn column, IntPredicate include, int limit) {
+        lock.readLock().lock();
+        try {
+            SeasonColumns columns = seasons.get(season);
+            if (columns == null || limit <= 0) {
+                return List.of();
+            }
+            long[] ranked = new long[columns.rows];
+            int count = 0;
+            for (int row = 0; row < columns.rows; row++) {
+                int playerId = columns.playerIds[row];
+                if (columns.weekMasks[row] != 0 && include.test(playerId)) {
+                    long total = columns.total(column.ordinal(), row);
+                    ranked[count++] = (total << 32) | (Integer.MAX_VALUE - playerId);
+                }
+            }
+            Arrays.sort(ranked, 0, count);
+            List<SeasonStatLine> leaders = new ArrayList<>(Math.min(limit, count));
+            for (int i = count - 1; i >= 0 && leaders.size() < limit; i--) {
+                int playerId = Integer.MAX_VALUE - (int) ranked[i];
+                int row = columns.rowOf(playerId);
+                leaders.add(columns.line(row, season, columns.weekMasks[row]));
+            }
+            return leaders;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Scores every player's season with {@code formula}, splitting the rows across the
+     * common fork-join pool.
+     */
+    public SeasonScoreBoard scoreSeason(int season, ScoringFormula formula) {
+        lock.readLock().lock();
+        try {
+            SeasonColumns columns = seasons.get(season);
+            if (columns == null) {
+                return new SeasonScoreBoard(new int[0], new long[0], new int[0]);
+            }
+            int rows = columns.rows;
+            long[] points = new long[rows];
+            int[] weeks = new int[rows];
+            IntStream.range(0, rows).parallel().forEach(row -> {
+                points[row] = columns.score(row, formula);
+                weeks[row] = Integer.bitCount(columns.weekMasks[row]);
+            });
+            return new SeasonScoreBoard(Arrays.copyOf(columns.playerIds, rows), points, weeks);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Scores one player's season with {@code formula}; zero weeks if they have no stats.
+     */
+    public SeasonScore scorePlayer(int playerId, int season, ScoringFormula formula) {
+        lock.readLock().lock();
+        try {
+            SeasonColumns columns = seasons.get(season);
+            int row = columns != null ? columns.rowOf(playerId) : -1;
+            if (row < 0) {
+                return new SeasonScore(playerId, 0, 0);
+            }
+            return new SeasonScore(playerId, Integer.bitCount(columns.weekMasks[row]), columns.score(row, formula));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Scores each player's week with {@code formula}, under one read lock; zero for a
+     * player without stats that week.
+     */
+    public long[] scoreWeek(int[] playerIds, int season, int week, ScoringFormula formula) {
+        long[] points = new long[playerIds.length];
+        if (week < 1 || week > MAX_WEEK) {
+            return points;
+        }
+        int bit = 1 << (week - 1);
+        lock.readLock().lock();
+        try {
+            SeasonColumns columns = seasons.get(season);
+            if (columns == null) {
+                return points;
+            }
+            for (int i = 0; i < playerIds.length; i++) {
+                int row = columns.rowOf(playerIds[i]);
+                if (row >= 0 && (columns.weekMasks[row] & bit) != 0) {
+                    points[i] = formula.scoreWeek(columns.values, row * MAX_WEEK + week - 1);
+                }
+            }
+            return points;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void put(Map<Integer, SeasonColumns> seasons, PlayerStatsRow stats) {
+        int week = stats.week();
+        if (week < 1 || week > MAX_WEEK) {
+            throw new IllegalArgumentException("Week " + week + " is outside 1-" + MAX_WEEK);
+        }
+        SeasonColumns columns = seasons.computeIfAbsent(stats.season(), s -> new SeasonColumns());
+        int row = columns.rowFor(stats.playerId());
+        int slot = row * MAX_WEEK + week - 1;
+        for (StatColumn column : StatColumn.values()) {
+            columns.values[column.ordinal()][slot] = column.valueOf(stats);
+        }
+        columns.weekMasks[row] |= 1 << (week - 1);
+    }
+
+    private static final class SeasonColumns {
+
+        private final Map<Integer, Integer> rowByPlayer = new HashMap<>();
+        private final int[][] values = new int[COLUMNS][INITIAL_ROWS * MAX_WEEK];
+        private int[] playerIds = new int[INITIAL_ROWS];
+        private int[] weekMasks = new int[INITIAL_ROWS];
+        private int rows;
+
+        int rowOf(int playerId) {
+            Integer row = rowByPlayer.get(playerId);
+            return row != null ? row : -1;
+        }
+
+        int rowFor(int playerId) {
+            Integer existing = rowByPlayer.get(playerId);
+            if (existing != null) {
+                return existing;
+            }
+            if (rows == playerIds.length) {
+                int capacity = rows * 2;
+                playerIds = Arrays.copyOf(playerIds, capacity);
+                weekMasks = Arrays.copyOf(weekMasks, capacity);
+                for (int c = 0; c < COLUMNS; c++) {
+                    values[c] = Arrays.copyOf(values[c], capacity * MAX_WEEK);
+                }
+            }
+            playerIds[rows] = playerId;
+            rowByPlayer.put(playerId, rows);
+            return rows++;
+        }
+
+        void clear(int row, int week) {
+            int slot = row * MAX_WEEK + week - 1;
+            for (int c = 0; c < COLUMNS; c++) {
+                values[c][slot] = 0;
+            }
+            weekMasks[row] &= ~(1 << (week - 1));
+        }
+
+        /**
+         * Season total of one column; weeks without stats are zero, so the whole slice
+         * can be summed without consulting the mask.
+         */
+        long total(int column, int row) {
+            int[] slice = values[column];
+            int from = row * MAX_WEEK;
+            long sum = 0;
+            for (int i = from; i < from + MAX_WEEK; i++) {
+                sum += slice[i];
+            }
+            return sum;
+        }
+
+        long score(int row, ScoringFormula formula) {
+            int base = row * MAX_WEEK;
+            long total = 0;
+            for (int remaining = weekMasks[row]; remaining != 0; remaining &= remaining - 1) {
+                total += formula.scoreWeek(values, base + Integer.numberOfTrailingZeros(remaining));
+            }
+            return total;
+        }
+
+        SeasonStatLine line(int row, int season, int mask) {
+            long[] totals = new long[COLUMNS];
+            int base = row * MAX_WEEK;
+            for (int remaining = mask; remaining != 0; remaining &= remaining - 1) {
+                int slot = base + Integer.numberOfTrailingZeros(remaining);
+                for (int c = 0; c < COLUMNS; c++) {
+                    totals[c] += values[c][slot];
+                }
+            }
+            return SeasonStatLine.of(playerIds[row], season, Integer.bitCount(mask), totals);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.fantasyfootball.index;
+
+import java.util.Arrays;
+
+/**
+ * Growable, sorted array of distinct ints used for posting lists. Not thread-safe;
+ * callers guard it with their own lock.
+ */
+class SortedIntList {
+
+    private int[] values;
+    private int size;
+
+    SortedIntList() {
+        this(4);
+    }
+
+    SortedIntList(int initialCapacity) {
+        values = new int[Math.max(1, initialCapacity)];
+    }
+
+    boolean add(int value) {
+        int pos = Arrays.binarySearch(values, 0, size, value);
+        if (pos >= 0) {
+            return false;
+        }
+        int insertAt = -pos - 1;
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+        values[insertAt] = value;
+        size++;
+        return true;
+    }
+
+    boolean remove(int value) {
+        int pos = Arrays.binarySearch(values, 0, size, value);
+        if (pos < 0) {
+            return false;
+        }
+        System.arraycopy(values, pos + 1, values, pos, size - pos - 1);
+        size--;
+        return true;
+    }
+
+    boolean contains(int value) {
+        return Arrays.binarySearch(values, 0, size, value) >= 0;
+    }
+
+    int get(int index) {
+        return values[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,87 @@
+package com.fantasyfootball.index;
+
+import com.fantasyfootball.dto.PlayerStatsRow;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * The per-week statistics held by {@link SeasonStatsStore}, one primitive column each.
+ * Points are stored in hundredths so the column stays integral.
+ */
+public enum StatColumn {
+    
+    POINTS_SCORED("pointsScored"),
+    YARDS_GAINED("yardsGained"),
+    TOUCHDOWNS("touchdowns"),
+    FIELD_GOALS("fieldGoals"),
+    INTERCEPTIONS("interceptions"),
+    FUMBLES("fumbles"),
+    RECEPTIONS("receptions");
+    
+    private final String paramName;
+    
+    StatColumn(String paramName) {
+        this.paramName = paramName;
+    }
+    
+    public String paramName() {
+        return paramName;
+    }
+    
+    /**
+     * This column's value in {@code row}; points in hundredths, missing values as zero.
+     */
+    public int valueOf(PlayerStatsRow row) {
+        return switch (this) {
+            case POINTS_SCORED -> row.pointsScored() == null ? 0
+                    : row.pointsScored().movePointRight(2).setScale(0, RoundingMode.HALF_UP).intValueExact();
+            case YARDS_GAINED -> orZero(row.yardsGained());
+            case TOUCHDOWNS -> orZero(row.touchdowns());
+            case FIELD_GOALS -> orZero(row.fieldGoals());
+            case INTERCEPTIONS -> orZero(row.interceptions());
+            case FUMBLES -> orZero(row.fumbles());
+            case RECEPTIONS -> orZero(row.receptions());
+        };
+    }
+    
+    /**
+     * A stored value of this column in its natural unit, points back from hundredths.
+     */
+    public BigDecimal toDecimal(long value) {
+        return this == POINTS_SCORED ? BigDecimal.valueOf(value, 2) : BigDecimal.valueOf(value);
+    }
+    
+    /**
+     * The stored value of {@code value}, points in hundredths.
+     *
+     * @throws IllegalArgumentException if it does not fit the column
+     */
+    public int fromDecimal(BigDecimal value) {
+        try {
+            BigDecimal stored = this == POINTS_SCORED ? value.movePointRight(2) : value;
+            return stored.setScale(0, RoundingMode.HALF_UP).intValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Value out of range: " + value);
+        }
+    }
+    
+    /**
+     * Accepts the JSON field name ({@code yardsGained}) or the constant name
+     * ({@code YARDS_GAINED}), ignoring case.
+     */
+    public static StatColumn fromParam(String value) {
+        if (value != null) {
+            for (StatColumn column : values()) {
+                if (column.paramName.equalsIgnoreCase(value.trim()) || column.name().equalsIgnoreCase(value.trim())) {
+                    return column;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unknown stat: " + value);
+    }
+    
+    private static int orZero(Integer value) {
+        return value != null ? value : 0;
+    }
+}
@@ -0,0 +1,12 @@
+package com.fantasyfootball.index;
+
+/**
+ * Receives the players that have stats in one week, with their values indexed by
+ * {@link StatColumn#ordinal()} and points in hundredths. The array is reused between
+ * calls.
+ */
+@FunctionalInterface
+public interface WeekVisitor {
+
+    void visit(int playerId, int[] values);
+}
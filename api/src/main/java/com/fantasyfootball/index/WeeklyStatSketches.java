@@ -0,0 +1,213 @@
+package com.fantasyfootball.index;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntFunction;
+
+/**
+ * Distributions of each stat per position and week, as one {@link KllSketch} per
+ * (season, week, position, stat), so percentiles over any run of weeks and seasons come
+ * from merging a few bounded sketches instead of scanning rows.
+ *
+ * A week is built from its source the first time a range needing it is read. After that,
+ * a player's first row of the week is added to its sketches as it is written. Sketches
+ * cannot forget a value, so rewriting or deleting a row the week already counts, or a
+ * counted player changing position, drops the week to be built again. Each week keeps
+ * the ids it counts per position to tell the two apart.
+ */
+@Component
+public class WeeklyStatSketches {
+
+    private static final int COLUMNS = StatColumn.values().length;
+
+    /**
+     * Visits the players with stats in one week of a season.
+     */
+    @FunctionalInterface
+    public interface WeekSource {
+
+        void forEachInWeek(int season, int week, WeekVisitor visitor);
+    }
+
+    private final Map<WeekKey, Week> weeks = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Merges the position's sketches of {@code column} over every week in the range,
+     * first building the weeks that are missing from {@code source}, with positions from
+     * {@code positionOf}. The result is a new sketch owned by the caller.
+     */
+    public KllSketch merge(String position, StatColumn column, int fromSeason, int toSeason, int fromWeek,
+                           int toWeek, WeekSource source, IntFunction<String> positionOf) {
+        String key = normalize(position);
+        lock.readLock().lock();
+        try {
+            if (isLoaded(fromSeason, toSeason, fromWeek, toWeek)) {
+                return mergeLoaded(key, column, fromSeason, toSeason, fromWeek, toWeek);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        lock.writeLock().lock();
+        try {
+            for (int season = fromSeason; season <= toSeason; season++) {
+                for (int week = fromWeek; week <= toWeek; week++) {
+                    weeks.computeIfAbsent(new WeekKey(season, week), k -> build(k, source, positionOf));
+                }
+            }
+            return mergeLoaded(key, column, fromSeason, toSeason, fromWeek, toWeek);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Counts a written player-week in a week that is already built; players without a
+     * position are not counted. A row the week already counts cannot be replaced in
+     * place, so the week is dropped instead.
+     */
+    public void add(int playerId, int season, int week, String position, int[] values) {
+        lock.writeLock().lock();
+        try {
+            WeekKey key = new WeekKey(season, week);
+            Week built = weeks.get(key);
+            if (built == null || position == null) {
+                return;
+            }
+            if (built.contains(playerId)) {
+                weeks.remove(key);
+                return;
+            }
+            built.add(playerId, normalize(position), values);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int playerId, int season, int week) {
+        lock.writeLock().lock();
+        try {
+            WeekKey key = new WeekKey(season, week);
+            Week built = weeks.get(key);
+            if (built != null && built.contains(playerId)) {
+                weeks.remove(key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops the weeks that count the player under a position other than
+     * {@code position}; a null position drops every week that counts them.
+     */
+    public void playerChanged(int playerId, String position) {
+        String key = position != null ? normalize(position) : null;
+        lock.writeLock().lock();
+        try {
+            weeks.values().removeIf(week -> week.countsElsewhere(playerId, key));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeSeason(int season) {
+        lock.writeLock().lock();
+        try {
+            weeks.keySet().removeIf(key -> key.season() == season);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean isLoaded(int fromSeason, int toSeason, int fromWeek, int toWeek) {
+        for (int season = fromSeason; season <= toSeason; season++) {
+            for (int week = fromWeek; week <= toWeek; week++) {
+                if (!weeks.containsKey(new WeekKey(season, week))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private KllSketch mergeLoaded(String position, StatColumn column, int fromSeason, int toSeason, int fromWeek,
+                                  int toWeek) {
+        KllSketch merged = new KllSketch();
+        for (int season = fromSeason; season <= toSeason; season++) {
+            for (int week = fromWeek; week <= toWeek; week++) {
+                Cell cell = weeks.get(new WeekKey(season, week)).cells.get(position);
+                if (cell != null) {
+                    merged.merge(cell.sketches[column.ordinal()]);
+                }
+            }
+        }
+        return merged;
+    }
+
+    private static Week build(WeekKey key, WeekSource source, IntFunction<String> positionOf) {
+        Week week = new Week();
+        source.forEachInWeek(key.season(), key.week(), (playerId, values) -> {
+            String position = positionOf.apply(playerId);
+            if (position != null) {
+                week.add(playerId, normalize(position), values);
+            }
+        });
+        return week;
+    }
+
+    private static String normalize(String position) {
+        return position.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private record WeekKey(int season, int week) {
+    }
+
+    private static final class Week {
+
+        private final Map<String, Cell> cells = new HashMap<>();
+
+        void add(int playerId, String position, int[] values) {
+            Cell cell = cells.computeIfAbsent(position, p -> new Cell());
+            cell.players.add(playerId);
+            for (int c = 0; c < COLUMNS; c++) {
+                cell.sketches[c].update(values[c]);
+            }
+        }
+
+        boolean contains(int playerId) {
+            for (Cell cell : cells.values()) {
+                if (cell.players.contains(playerId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean countsElsewhere(int playerId, String position) {
+            for (Map.Entry<String, Cell> entry : cells.entrySet()) {
+                if (!entry.getKey().equals(position) && entry.getValue().players.contains(playerId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class Cell {
+
+        private final SortedIntList players = new SortedIntList(64);
+        private final KllSketch[] sketches = new KllSketch[COLUMNS];
+
+        Cell() {
+            for (int c = 0; c < COLUMNS; c++) {
+                sketches[c] = new KllSketch();
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.fantasyfootball.ingest;
+
+import org.postgresql.copy.CopyIn;
+
+import java.sql.SQLException;
+
+/**
+ * Encodes staging rows in PostgreSQL's COPY text format into a reusable byte buffer and
+ * hands full buffers to a {@link CopyIn}.
+ */
+final class CopyRowWriter {
+
+    static final String COPY_SQL = "COPY stats_import_staging (import_id, line_offset, player_id, week, season, " +
+            "games_played, points_scored, yards_gained, touchdowns, field_goals, interceptions, fumbles, receptions) " +
+            "FROM STDIN";
+
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int MAX_ROW_BYTES = 256;
+
+    private final CopyIn copy;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final byte[] digits = new byte[20];
+    private int length;
+
+    CopyRowWriter(CopyIn copy) {
+        this.copy = copy;
+    }
+
+    void write(long importId, long lineOffset, int playerId, StatsRecord record) throws SQLException {
+        if (length > BUFFER_SIZE - MAX_ROW_BYTES) {
+            flush();
+        }
+        putLong(importId);
+        putTab();
+        putLong(lineOffset);
+        putTab();
+        putLong(playerId);
+        putTab();
+        putLong(record.get(StatsImportField.WEEK));
+        putTab();
+        putLong(record.get(StatsImportField.SEASON));
+        putTab();
+        putLong(record.get(StatsImportField.GAMES_PLAYED));
+        putTab();
+        putHundredths(record.get(StatsImportField.POINTS_SCORED));
+        putTab();
+        putLong(record.get(StatsImportField.YARDS_GAINED));
+        putTab();
+        putLong(record.get(StatsImportField.TOUCHDOWNS));
+        putTab();
+        putLong(record.get(StatsImportField.FIELD_GOALS));
+        putTab();
+        putLong(record.get(StatsImportField.INTERCEPTIONS));
+        putTab();
+        putLong(record.get(StatsImportField.FUMBLES));
+        putTab();
+        putLong(record.get(StatsImportField.RECEPTIONS));
+        buffer[length++] = '\n';
+    }
+
+    /**
+     * Sends what is buffered and ends the COPY, returning the number of rows it stored.
+     */
+    long finish() throws SQLException {
+        flush();
+        return copy.endCopy();
+    }
+
+    void cancel() {
+        try {
+            if (copy.isActive()) {
+                copy.cancelCopy();
+            }
+        } catch (SQLException e) {
+            // the connection is discarded with the failed chunk
+        }
+    }
+
+    private void flush() throws SQLException {
+        if (length > 0) {
+            copy.writeToCopy(buffer, 0, length);
+            length = 0;
+        }
+    }
+
+    private void putTab() {
+        buffer[length++] = '\t';
+    }
+
+    private void putHundredths(long hundredths) {
+        if (hundredths < 0) {
+            buffer[length++] = '-';
+            hundredths = -hundredths;
+        }
+        putLong(hundredths / 100);
+        long fraction = hundredths % 100;
+        buffer[length++] = '.';
+        buffer[length++] = (byte) ('0' + fraction / 10);
+        buffer[length++] = (byte) ('0' + fraction % 10);
+    }
+
+    private void putLong(long value) {
+        if (value < 0) {
+            buffer[length++] = '-';
+            value = -value;
+        }
+        int count = 0;
+        do {
+            digits[count++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        while (count > 0) {
+            buffer[length++] = digits[--count];
+        }
+    }
+}
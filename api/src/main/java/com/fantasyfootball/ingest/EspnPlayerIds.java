@@ -0,0 +1,57 @@
+package com.fantasyfootball.ingest;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Maps numeric ESPN player ids to player ids through a sorted {@code long[]}, so resolving
+ * a parsed line is a binary search with no boxing.
+ */
+final class EspnPlayerIds {
+
+    private final long[] espnIds;
+    private final int[] playerIds;
+
+    private EspnPlayerIds(long[] espnIds, int[] playerIds) {
+        this.espnIds = espnIds;
+        this.playerIds = playerIds;
+    }
+
+    /**
+     * Builds the map from {@code (espn_id, id)} rows. ESPN ids that are not numeric cannot
+     * appear in an import line and are left out.
+     */
+    static EspnPlayerIds of(List<Object[]> rows) {
+        long[][] pairs = new long[rows.size()][];
+        int count = 0;
+        for (Object[] row : rows) {
+            try {
+                pairs[count] = new long[]{Long.parseLong(row[0].toString().trim()), ((Number) row[1]).longValue()};
+                count++;
+            } catch (NumberFormatException e) {
+                // not addressable from an import file
+            }
+        }
+        long[][] sorted = Arrays.copyOf(pairs, count);
+        Arrays.sort(sorted, (a, b) -> Long.compare(a[0], b[0]));
+        long[] espnIds = new long[count];
+        int[] playerIds = new int[count];
+        for (int i = 0; i < count; i++) {
+            espnIds[i] = sorted[i][0];
+            playerIds[i] = (int) sorted[i][1];
+        }
+        return new EspnPlayerIds(espnIds, playerIds);
+    }
+
+    /**
+     * Returns the player id for {@code espnId}, or -1 if no player has it.
+     */
+    int resolve(long espnId) {
+        int index = Arrays.binarySearch(espnIds, espnId);
+        return index >= 0 ? playerIds[index] : -1;
+    }
+
+    int size() {
+        return espnIds.length;
+    }
+}
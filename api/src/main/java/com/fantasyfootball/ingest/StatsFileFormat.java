@@ -0,0 +1,27 @@
+package com.fantasyfootball.ingest;
+
+import java.util.Locale;
+
+public enum StatsFileFormat {
+    
+    /** Comma-separated with a header row naming the columns. */
+    CSV,
+    
+    /** One flat JSON object per line. */
+    NDJSON;
+    
+    /**
+     * Picks the format from the file extension: {@code .csv}, or {@code .ndjson},
+     * {@code .jsonl} and {@code .json} for NDJSON.
+     */
+    public static StatsFileFormat fromFileName(String fileName) {
+        String name = fileName.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl") || name.endsWith(".json")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("Unsupported stats file type: " + fileName);
+    }
+}
@@ -0,0 +1,273 @@
+package com.fantasyfootball.ingest;
+
+import com.fantasyfootball.index.SeasonStatsStore;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Loads a CSV or NDJSON stats file into {@code stats_import_staging}.
+ *
+ * The file is cut at line boundaries into chunks of roughly {@code chunkSize} bytes. Each
+ * chunk is memory-mapped and parsed by one worker straight from the mapping, and its rows
+ * are streamed into a COPY on the worker's own connection, so parsing and loading run in
+ * parallel across chunks and no line is ever materialized as a String.
+ */
+public final class StatsFileLoader {
+
+    private static final int HEADER_LIMIT = 64 * 1024;
+    private static final int SCAN_BUFFER = 8 * 1024;
+    private static final int PROGRESS_INTERVAL = 1 << 14;
+    private static final long MAX_POINTS_HUNDREDTHS = 999_999;
+
+    private final DataSource dataSource;
+    private final ExecutorService workers;
+    private final long chunkSize;
+
+    public StatsFileLoader(DataSource dataSource, ExecutorService workers, long chunkSize) {
+        this.dataSource = dataSource;
+        this.workers = workers;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Stages every valid line of {@code file} under the job's id and returns the seasons
+     * it touched, as a set of season numbers.
+     *
+     * @param espnIds {@code (espn_id, player id)} rows used to resolve players
+     */
+    public BitSet load(Path file, StatsImportJob job, List<Object[]> espnIds)
+            throws IOException, SQLException, InterruptedException {
+        EspnPlayerIds players = EspnPlayerIds.of(espnIds);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            job.setBytesTotal(size);
+            long dataStart = skipByteOrderMark(channel);
+            StatsLineParser parser;
+            if (job.getFormat() == StatsFileFormat.CSV) {
+                long headerEnd = nextLineStart(channel, dataStart, size);
+                parser = StatsLineParser.csv(readHeader(channel, dataStart, headerEnd));
+                dataStart = headerEnd;
+            } else {
+                parser = StatsLineParser.ndjson();
+            }
+            job.bytesRead.add(dataStart);
+
+            List<Future<BitSet>> chunks = new ArrayList<>();
+            for (long start = dataStart; start < size; ) {
+                long end = start + chunkSize >= size ? size : nextLineStart(channel, start + chunkSize, size);
+                long chunkStart = start;
+                chunks.add(workers.submit(() -> loadChunk(channel, chunkStart, end, parser, players, job)));
+                start = end;
+            }
+            return collect(chunks);
+        }
+    }
+
+    private static BitSet collect(List<Future<BitSet>> chunks)
+            throws IOException, SQLException, InterruptedException {
+        BitSet seasons = new BitSet();
+        try {
+            for (Future<BitSet> chunk : chunks) {
+                seasons.or(chunk.get());
+            }
+            return seasons;
+        } catch (ExecutionException e) {
+            chunks.forEach(chunk -> chunk.cancel(true));
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof SQLException sql) {
+                throw sql;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            chunks.forEach(chunk -> chunk.cancel(true));
+            throw e;
+        }
+    }
+
+    private BitSet loadChunk(FileChannel channel, long start, long end, StatsLineParser parser,
+                             EspnPlayerIds players, StatsImportJob job) throws IOException, SQLException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        int limit = (int) (end - start);
+        StatsRecord record = new StatsRecord();
+        BitSet seasons = new BitSet();
+        try (Connection connection = dataSource.getConnection()) {
+            CopyIn copy = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(CopyRowWriter.COPY_SQL);
+            CopyRowWriter writer = new CopyRowWriter(copy);
+            try {
+                int pos = 0;
+                int reported = 0;
+                long parsed = 0;
+                long unresolved = 0;
+                while (pos < limit) {
+                    int lineEnd = pos;
+                    while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                        lineEnd++;
+                    }
+                    int contentEnd = lineEnd > pos && buffer.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+                    if (contentEnd > pos) {
+                        parsed++;
+                        record.clear();
+                        String error = parser.parse(buffer, pos, contentEnd, record);
+                        if (error == null) {
+                            error = validate(record);
+                        }
+                        if (error != null) {
+                            job.reject(start + pos, error);
+                        } else {
+                            int playerId = players.resolve(record.get(StatsImportField.ESPN_ID));
+                            if (playerId < 0) {
+                                unresolved++;
+                            } else {
+                                writer.write(job.getId(), start + pos, playerId, record);
+                                seasons.set((int) record.get(StatsImportField.SEASON));
+                            }
+                        }
+                        if (parsed % PROGRESS_INTERVAL == 0) {
+                            if (Thread.currentThread().isInterrupted()) {
+                                throw new IOException("Import cancelled");
+                            }
+                            job.rowsParsed.add(PROGRESS_INTERVAL);
+                            job.bytesRead.add(pos - reported);
+                            reported = pos;
+                        }
+                    }
+                    pos = lineEnd + 1;
+                }
+                job.rowsStaged.add(writer.finish());
+                job.rowsParsed.add(parsed % PROGRESS_INTERVAL);
+                job.rowsUnresolved.add(unresolved);
+                job.bytesRead.add(limit - reported);
+                return seasons;
+            } catch (IOException | SQLException | RuntimeException e) {
+                writer.cancel();
+                throw e;
+            }
+        }
+    }
+
+    private static String validate(StatsRecord record) {
+        if (!record.hasRequired()) {
+            return "Missing espn_id, season or week";
+        }
+        long week = record.get(StatsImportField.WEEK);
+        if (week < 1 || week > SeasonStatsStore.MAX_WEEK) {
+            return "Week outside 1-" + SeasonStatsStore.MAX_WEEK;
+        }
+        long season = record.get(StatsImportField.SEASON);
+        if (season < 1 || season > 9999) {
+            return "Invalid season";
+        }
+        for (StatsImportField field : StatsImportField.FIELDS) {
+            long value = record.get(field);
+            if (field == StatsImportField.POINTS_SCORED) {
+                if (Math.abs(value) > MAX_POINTS_HUNDREDTHS) {
+                    return "Points out of range";
+                }
+            } else if (value < 0 || value > Integer.MAX_VALUE) {
+                return "Negative or oversized " + field.name().toLowerCase(Locale.ROOT);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Maps the header's columns to {@link StatsImportField} ordinals, -1 for columns that
+     * are not imported.
+     */
+    private static int[] readHeader(FileChannel channel, long from, long to) throws IOException {
+        if (to - from > HEADER_LIMIT) {
+            throw new IllegalArgumentException("CSV header is longer than " + HEADER_LIMIT + " bytes");
+        }
+        ByteBuffer header = ByteBuffer.allocate((int) (to - from));
+        channel.read(header, from);
+        int end = header.position();
+        while (end > 0 && (header.get(end - 1) == '\n' || header.get(end - 1) == '\r')) {
+            end--;
+        }
+        List<Integer> columns = new ArrayList<>();
+        int seen = 0;
+        for (int start = 0; start <= end; ) {
+            int comma = start;
+            while (comma < end && header.get(comma) != ',') {
+                comma++;
+            }
+            int nameStart = start;
+            int nameEnd = comma;
+            while (nameStart < nameEnd && isQuoteOrSpace(header.get(nameStart))) {
+                nameStart++;
+            }
+            while (nameEnd > nameStart && isQuoteOrSpace(header.get(nameEnd - 1))) {
+                nameEnd--;
+            }
+            StatsImportField field = StatsImportField.match(header, nameStart, nameEnd);
+            columns.add(field != null ? field.ordinal() : -1);
+            if (field != null) {
+                seen |= StatsImportField.bit(field);
+            }
+            start = comma + 1;
+        }
+        if ((seen & StatsImportField.REQUIRED) != StatsImportField.REQUIRED) {
+            throw new IllegalArgumentException("CSV header must name espn_id, season and week columns");
+        }
+        return columns.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static boolean isQuoteOrSpace(byte b) {
+        return b == '"' || b == ' ' || b == '\t';
+    }
+
+    private static long skipByteOrderMark(FileChannel channel) throws IOException {
+        ByteBuffer bom = ByteBuffer.allocate(3);
+        channel.read(bom, 0);
+        byte[] bytes = Arrays.copyOf(bom.array(), bom.position());
+        return bytes.length == 3 && (bytes[0] & 0xFF) == 0xEF && (bytes[1] & 0xFF) == 0xBB && (bytes[2] & 0xFF) == 0xBF
+                ? 3 : 0;
+    }
+
+    /**
+     * Returns the offset just past the first newline at or after {@code from}, or
+     * {@code size} if there is none.
+     */
+    private static long nextLineStart(FileChannel channel, long from, long size) throws IOException {
+        ByteBuffer scan = ByteBuffer.allocate(SCAN_BUFFER);
+        long pos = from;
+        while (pos < size) {
+            scan.clear();
+            int read = channel.read(scan, pos);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (scan.get(i) == '\n') {
+                    return pos + i + 1;
+                }
+            }
+            pos += read;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,77 @@
+package com.fantasyfootball.ingest;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The columns a stats import file may carry, each accepted under its
+ * {@code player_stats} column name or its JSON property name. Unknown columns are
+ * ignored.
+ */
+enum StatsImportField {
+
+    ESPN_ID("espn_id", "espnId", false),
+    SEASON("season", "season", false),
+    WEEK("week", "week", false),
+    GAMES_PLAYED("games_played", "gamesPlayed", false),
+    POINTS_SCORED("points_scored", "pointsScored", true),
+    YARDS_GAINED("yards_gained", "yardsGained", false),
+    TOUCHDOWNS("touchdowns", "touchdowns", false),
+    FIELD_GOALS("field_goals", "fieldGoals", false),
+    INTERCEPTIONS("interceptions", "interceptions", false),
+    FUMBLES("fumbles", "fumbles", false),
+    RECEPTIONS("receptions", "receptions", false);
+
+    static final StatsImportField[] FIELDS = values();
+    static final int REQUIRED = bit(ESPN_ID) | bit(SEASON) | bit(WEEK);
+
+    private final byte[] columnName;
+    private final byte[] jsonName;
+    private final boolean hundredths;
+
+    StatsImportField(String columnName, String jsonName, boolean hundredths) {
+        this.columnName = columnName.getBytes(StandardCharsets.US_ASCII);
+        this.jsonName = jsonName.getBytes(StandardCharsets.US_ASCII);
+        this.hundredths = hundredths;
+    }
+
+    /**
+     * Whether values are decimals parsed to hundredths rather than integers.
+     */
+    boolean hundredths() {
+        return hundredths;
+    }
+
+    static int bit(StatsImportField field) {
+        return 1 << field.ordinal();
+    }
+
+    /**
+     * Finds the field named by bytes {@code [from, to)} of {@code buffer}, ignoring ASCII
+     * case, or returns null. Compares bytes in place so no String is created per key.
+     */
+    static StatsImportField match(ByteBuffer buffer, int from, int to) {
+        for (StatsImportField field : FIELDS) {
+            if (equalsIgnoreCase(buffer, from, to, field.columnName) || equalsIgnoreCase(buffer, from, to, field.jsonName)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private static boolean equalsIgnoreCase(ByteBuffer buffer, int from, int to, byte[] name) {
+        if (to - from != name.length) {
+            return false;
+        }
+        for (int i = 0; i < name.length; i++) {
+            if (lower(buffer.get(from + i)) != lower(name[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int lower(byte b) {
+        return b >= 'A' && b <= 'Z' ? b + ('a' - 'A') : b;
+    }
+}
@@ -0,0 +1,120 @@
+package com.fantasyfootball.ingest;
+
+import com.fantasyfootball.dto.StatsImportProgress;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * State and counters of one stats import. Workers add to the counters concurrently while
+ * the progress endpoint reads them.
+ */
+public final class StatsImportJob {
+
+    public enum Status { QUEUED, LOADING, UPSERTING, COMPLETED, FAILED }
+
+    private static final int MAX_ERRORS = 20;
+
+    private final long id;
+    private final String file;
+    private final StatsFileFormat format;
+
+    final LongAdder bytesRead = new LongAdder();
+    final LongAdder rowsParsed = new LongAdder();
+    final LongAdder rowsRejected = new LongAdder();
+    final LongAdder rowsUnresolved = new LongAdder();
+    final LongAdder rowsStaged = new LongAdder();
+
+    private final List<String> errors = new ArrayList<>();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile long bytesTotal;
+    private volatile long rowsUpserted;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile long startNanos;
+    private volatile long loadedNanos;
+    private volatile long finishedNanos;
+    private volatile String failure;
+
+    public StatsImportJob(long id, String file, StatsFileFormat format) {
+        this.id = id;
+        this.file = file;
+        this.format = format;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public StatsFileFormat getFormat() {
+        return format;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void started() {
+        startedAt = LocalDateTime.now();
+        startNanos = System.nanoTime();
+        status = Status.LOADING;
+    }
+
+    public void loaded() {
+        loadedNanos = System.nanoTime();
+        status = Status.UPSERTING;
+    }
+
+    public void completed(long upserted) {
+        rowsUpserted = upserted;
+        finish(Status.COMPLETED);
+    }
+
+    public void failed(Exception e) {
+        failure = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        finish(Status.FAILED);
+    }
+
+    void setBytesTotal(long bytesTotal) {
+        this.bytesTotal = bytesTotal;
+    }
+
+    /**
+     * Keeps the first few rejected lines for the progress report; later ones are only
+     * counted.
+     */
+    void reject(long offset, String reason) {
+        rowsRejected.increment();
+        synchronized (errors) {
+            if (errors.size() < MAX_ERRORS) {
+                errors.add("byte " + offset + ": " + reason);
+            }
+        }
+    }
+
+    public StatsImportProgress toProgress() {
+        long now = System.nanoTime();
+        long loadEnd = loadedNanos != 0 ? loadedNanos : finishedNanos != 0 ? finishedNanos : now;
+        long loadMillis = startNanos != 0 ? (loadEnd - startNanos) / 1_000_000 : 0;
+        long upsertMillis = loadedNanos != 0 ? ((finishedNanos != 0 ? finishedNanos : now) - loadedNanos) / 1_000_000 : 0;
+        long totalMillis = loadMillis + upsertMillis;
+        long parsed = rowsParsed.sum();
+        List<String> errorSample;
+        synchronized (errors) {
+            errorSample = List.copyOf(errors);
+        }
+        return new StatsImportProgress(id, file, format.name(), status.name(), bytesTotal, bytesRead.sum(),
+                parsed, rowsRejected.sum(), rowsUnresolved.sum(), rowsStaged.sum(), rowsUpserted,
+                startedAt, finishedAt, loadMillis, upsertMillis,
+                totalMillis > 0 ? parsed * 1000 / totalMillis : 0, errorSample, failure);
+    }
+
+    private void finish(Status finalStatus) {
+        finishedAt = LocalDateTime.now();
+        finishedNanos = System.nanoTime();
+        status = finalStatus;
+    }
+}
@@ -0,0 +1,277 @@
+package com.fantasyfootball.ingest;
+
+import java.nio.ByteBuffer;
+import java.util.Locale;
+
+/**
+ * Parses one line of a stats file straight out of a (mapped) byte buffer into a
+ * {@link StatsRecord}. Numbers are accumulated digit by digit from the bytes, so a line
+ * costs no allocation beyond an error message when it is rejected.
+ */
+abstract class StatsLineParser {
+
+    static final long MISSING = Long.MIN_VALUE;
+    static final long MALFORMED = Long.MIN_VALUE + 1;
+
+    private static final int MAX_DIGITS = 12;
+
+    /**
+     * Parses bytes {@code [from, to)}, which exclude the line terminator.
+     *
+     * @return null if the line parsed, otherwise why it was rejected
+     */
+    abstract String parse(ByteBuffer buffer, int from, int to, StatsRecord record);
+
+    static StatsLineParser csv(int[] fieldByColumn) {
+        return new Csv(fieldByColumn);
+    }
+
+    static StatsLineParser ndjson() {
+        return new Ndjson();
+    }
+
+    /**
+     * Parses an integer, or a decimal in hundredths (rounding half up past two decimals),
+     * from bytes {@code [from, to)}. Surrounding spaces and double quotes are ignored.
+     * Returns {@link #MISSING} for an empty value and {@link #MALFORMED} for anything that
+     * is not a number.
+     */
+    static long parseNumber(ByteBuffer buffer, int from, int to, boolean hundredths) {
+        while (from < to && isTrimmable(buffer.get(from))) {
+            from++;
+        }
+        while (to > from && isTrimmable(buffer.get(to - 1))) {
+            to--;
+        }
+        if (from == to) {
+            return MISSING;
+        }
+        boolean negative = buffer.get(from) == '-';
+        int pos = negative ? from + 1 : from;
+        long value = 0;
+        int digits = 0;
+        while (pos < to && isDigit(buffer.get(pos))) {
+            if (++digits > MAX_DIGITS) {
+                return MALFORMED;
+            }
+            value = value * 10 + (buffer.get(pos++) - '0');
+        }
+        int fraction = 0;
+        if (pos < to && buffer.get(pos) == '.') {
+            pos++;
+            int fractionDigits = 0;
+            while (pos < to && isDigit(buffer.get(pos))) {
+                int digit = buffer.get(pos++) - '0';
+                if (fractionDigits < 2) {
+                    fraction = fraction * 10 + digit;
+                } else if (fractionDigits == 2 && digit >= 5) {
+                    fraction++;
+                }
+                fractionDigits++;
+            }
+            if (!hundredths && fraction != 0) {
+                return MALFORMED;
+            }
+            if (fractionDigits == 1) {
+                fraction *= 10;
+            }
+        } else if (digits == 0) {
+            return MALFORMED;
+        }
+        if (pos != to) {
+            return MALFORMED;
+        }
+        long result = hundredths ? value * 100 + fraction : value;
+        return negative ? -result : result;
+    }
+
+    private static boolean isTrimmable(byte b) {
+        return b == ' ' || b == '\t' || b == '"';
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static String store(StatsRecord record, StatsImportField field, ByteBuffer buffer, int from, int to) {
+        long value = parseNumber(buffer, from, to, field.hundredths());
+        if (value == MALFORMED) {
+            return "Malformed " + field.name().toLowerCase(Locale.ROOT);
+        }
+        if (value != MISSING) {
+            record.set(field, value);
+        }
+        return null;
+    }
+
+    /**
+     * Comma-separated values whose header was mapped to fields up front. Fields may be
+     * double-quoted; quoted commas are skipped.
+     */
+    private static final class Csv extends StatsLineParser {
+
+        private final int[] fieldByColumn;
+
+        Csv(int[] fieldByColumn) {
+            this.fieldByColumn = fieldByColumn;
+        }
+
+        @Override
+        String parse(ByteBuffer buffer, int from, int to, StatsRecord record) {
+            int column = 0;
+            int start = from;
+            while (true) {
+                int end = start;
+                boolean quoted = false;
+                while (end < to && (quoted || buffer.get(end) != ',')) {
+                    if (buffer.get(end) == '"') {
+                        quoted = !quoted;
+                    }
+                    end++;
+                }
+                int field = column < fieldByColumn.length ? fieldByColumn[column] : -1;
+                if (field >= 0) {
+                    String error = store(record, StatsImportField.FIELDS[field], buffer, start, end);
+                    if (error != null) {
+                        return error;
+                    }
+                }
+                if (end >= to) {
+                    return null;
+                }
+                start = end + 1;
+                column++;
+            }
+        }
+    }
+
+    /**
+     * One flat JSON object per line. Values of known fields may be numbers or numeric
+     * strings; values of other keys, including nested objects and arrays, are skipped.
+     */
+    private static final class Ndjson extends StatsLineParser {
+
+        @Override
+        String parse(ByteBuffer buffer, int from, int to, StatsRecord record) {
+            int pos = skipSpace(buffer, from, to);
+            if (pos >= to || buffer.get(pos) != '{') {
+                return "Line is not a JSON object";
+            }
+            pos = skipSpace(buffer, pos + 1, to);
+            if (pos < to && buffer.get(pos) == '}') {
+                return null;
+            }
+            while (pos < to) {
+                if (buffer.get(pos) != '"') {
+                    return "Expected a JSON key";
+                }
+                int keyEnd = endOfString(buffer, pos + 1, to);
+                if (keyEnd < 0) {
+                    return "Unterminated JSON string";
+                }
+                StatsImportField field = StatsImportField.match(buffer, pos + 1, keyEnd);
+                pos = skipSpace(buffer, keyEnd + 1, to);
+                if (pos >= to || buffer.get(pos) != ':') {
+                    return "Expected ':' after JSON key";
+                }
+                pos = skipSpace(buffer, pos + 1, to);
+                if (pos >= to) {
+                    return "Missing JSON value";
+                }
+                int valueStart = pos;
+                int valueEnd;
+                byte first = buffer.get(pos);
+                if (first == '"') {
+                    valueEnd = endOfString(buffer, pos + 1, to);
+                    if (valueEnd < 0) {
+                        return "Unterminated JSON string";
+                    }
+                    valueStart = pos + 1;
+                    pos = valueEnd + 1;
+                } else if (first == '{' || first == '[') {
+                    if (field != null) {
+                        return "Expected a number for " + field.name().toLowerCase(Locale.ROOT);
+                    }
+                    pos = endOfContainer(buffer, pos, to);
+                    if (pos < 0) {
+                        return "Unterminated JSON value";
+                    }
+                    valueEnd = pos;
+                } else {
+                    while (pos < to && !isValueEnd(buffer.get(pos))) {
+                        pos++;
+                    }
+                    valueEnd = pos;
+                }
+                if (field != null && !isNull(buffer, valueStart, valueEnd)) {
+                    String error = store(record, field, buffer, valueStart, valueEnd);
+                    if (error != null) {
+                        return error;
+                    }
+                }
+                pos = skipSpace(buffer, pos, to);
+                if (pos < to && buffer.get(pos) == ',') {
+                    pos = skipSpace(buffer, pos + 1, to);
+                } else if (pos < to && buffer.get(pos) == '}') {
+                    return null;
+                } else {
+                    return "Expected ',' or '}'";
+                }
+            }
+            return "Unterminated JSON object";
+        }
+
+        private static int skipSpace(ByteBuffer buffer, int pos, int to) {
+            while (pos < to && (buffer.get(pos) == ' ' || buffer.get(pos) == '\t')) {
+                pos++;
+            }
+            return pos;
+        }
+
+        /**
+         * Returns the index of the quote closing a string whose content starts at
+         * {@code pos}, or -1.
+         */
+        private static int endOfString(ByteBuffer buffer, int pos, int to) {
+            while (pos < to) {
+                byte b = buffer.get(pos);
+                if (b == '\\') {
+                    pos += 2;
+                } else if (b == '"') {
+                    return pos;
+                } else {
+                    pos++;
+                }
+            }
+            return -1;
+        }
+
+        private static int endOfContainer(ByteBuffer buffer, int pos, int to) {
+            int depth = 0;
+            while (pos < to) {
+                byte b = buffer.get(pos);
+                if (b == '"') {
+                    pos = endOfString(buffer, pos + 1, to);
+                    if (pos < 0) {
+                        return -1;
+                    }
+                } else if (b == '{' || b == '[') {
+                    depth++;
+                } else if ((b == '}' || b == ']') && --depth == 0) {
+                    return pos + 1;
+                }
+                pos++;
+            }
+            return -1;
+        }
+
+        private static boolean isValueEnd(byte b) {
+            return b == ',' || b == '}' || b == ' ' || b == '\t';
+        }
+
+        private static boolean isNull(ByteBuffer buffer, int from, int to) {
+            return to - from == 4 && buffer.get(from) == 'n' && buffer.get(from + 1) == 'u'
+                    && buffer.get(from + 2) == 'l' && buffer.get(from + 3) == 'l';
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.fantasyfootball.ingest;
+
+/**
+ * One parsed line, reused for every line a worker parses. Values are indexed by
+ * {@link StatsImportField#ordinal()}; {@code present} has a bit set for each field the
+ * line supplied.
+ */
+final class StatsRecord {
+
+    final long[] values = new long[StatsImportField.FIELDS.length];
+    int present;
+
+    void clear() {
+        present = 0;
+    }
+
+    void set(StatsImportField field, long value) {
+        values[field.ordinal()] = value;
+        present |= StatsImportField.bit(field);
+    }
+
+    long get(StatsImportField field) {
+        return (present & StatsImportField.bit(field)) != 0 ? values[field.ordinal()] : 0;
+    }
+
+    boolean hasRequired() {
+        return (present & StatsImportField.REQUIRED) == StatsImportField.REQUIRED;
+    }
+}
@@ -0,0 +1,36 @@
+package com.fantasyfootball.league;
+
+import java.math.BigDecimal;
+
+/**
+ * A team's result in one head-to-head matchup. The code is how standings store it.
+ */
+public enum MatchupOutcome {
+
+    WIN("W"),
+    LOSS("L"),
+    TIE("T");
+
+    private final String code;
+
+    MatchupOutcome(String code) {
+        this.code = code;
+    }
+
+    public String code() {
+        return code;
+    }
+
+    public MatchupOutcome opposite() {
+        return switch (this) {
+            case WIN -> LOSS;
+            case LOSS -> WIN;
+            case TIE -> TIE;
+        };
+    }
+
+    public static MatchupOutcome of(BigDecimal pointsFor, BigDecimal pointsAgainst) {
+        int comparison = pointsFor.compareTo(pointsAgainst);
+        return comparison > 0 ? WIN : comparison < 0 ? LOSS : TIE;
+    }
+}
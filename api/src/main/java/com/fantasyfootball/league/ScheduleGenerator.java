@@ -0,0 +1,283 @@
+package com.fantasyfootball.league;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Builds a league's regular season of weekly head-to-head games.
+ *
+ * Weeks follow the circle method: with an odd team count a phantom team is added and
+ * whoever draws it has a bye. The season repeats one cycle for as many weeks as it has,
+ * where a cycle is a full round robin over the league followed, when teams are split
+ * into divisions, by a round robin within each division, so division opponents meet
+ * twice per cycle and everyone else once. Division round robins run side by side, the
+ * shorter ones repeating, and teams with a division bye that week play each other.
+ *
+ * A rivalry week sets every team against its rival, if it has one, and pairs the other
+ * teams from a round robin of their own; it does not use up a round of the cycle.
+ * Hosts are chosen once all weeks are set, so that every team's home and away games
+ * differ by one at most and two teams meeting twice host once each.
+ *
+ * Team order is shuffled with the seed first, so leagues of the same size do not all
+ * open with the same games, while regenerating with the same seed gives the same
+ * season. Generation touches only arrays of a few dozen teams, so thousands of leagues
+ * take milliseconds.
+ */
+public final class ScheduleGenerator {
+
+    private static final int BYE = -1;
+
+    private ScheduleGenerator() {
+    }
+
+    /**
+     * @param weeks the number of regular-season weeks, numbered from 1
+     * @param rivalryWeeks weeks in which rivals play each other
+     * @param seed decides the shuffled team order
+     * @return the games in week order
+     * @throws IllegalArgumentException with fewer than two teams or no weeks
+     */
+    public static List<Game> generate(List<Entrant> entrants, int weeks, Set<Integer> rivalryWeeks, long seed) {
+        int teams = entrants.size();
+        if (teams < 2) {
+            throw new IllegalArgumentException("A schedule needs at least two teams");
+        }
+        if (weeks < 1) {
+            throw new IllegalArgumentException("A schedule needs at least one week");
+        }
+        List<Entrant> order = new ArrayList<>(entrants);
+        order.sort((a, b) -> Integer.compare(a.teamId(), b.teamId()));
+        Collections.shuffle(order, new Random(seed));
+        int[] teamIds = new int[teams];
+        Map<Integer, Integer> indexOf = new HashMap<>();
+        Map<Integer, List<Integer>> divisions = new TreeMap<>();
+        for (int i = 0; i < teams; i++) {
+            Entrant entrant = order.get(i);
+            teamIds[i] = entrant.teamId();
+            indexOf.put(entrant.teamId(), i);
+            divisions.computeIfAbsent(entrant.division() != null ? entrant.division() : 0, k -> new ArrayList<>()).add(i);
+        }
+        // only rivalries both teams agree on count
+        int[] rivals = new int[teams];
+        for (int i = 0; i < teams; i++) {
+            Integer rival = indexOf.get(order.get(i).rivalTeamId());
+            rivals[i] = rival != null && rival != i && Integer.valueOf(teamIds[i]).equals(order.get(rival).rivalTeamId())
+                    ? rival
+                    : BYE;
+        }
+        List<int[][]> cycle = new ArrayList<>(roundRobin(all(teams)));
+        if (divisions.size() > 1) {
+            cycle.addAll(divisionRounds(divisions.values()));
+        }
+        List<int[]> slots = new ArrayList<>();
+        int round = 0;
+        int rivalryRound = 0;
+        for (int week = 1; week <= weeks; week++) {
+            int[][] pairs = rivalryWeeks.contains(week)
+                    ? rivalryRound(rivals, rivalryRound++)
+                    : cycle.get(round++ % cycle.size());
+            for (int[] pair : pairs) {
+                slots.add(new int[] {week, pair[0], pair[1]});
+            }
+        }
+        boolean[] flipped = orient(slots, teams);
+        List<Game> games = new ArrayList<>(slots.size());
+        for (int g = 0; g < slots.size(); g++) {
+            int[] slot = slots.get(g);
+            games.add(flipped[g]
+                    ? new Game(slot[0], teamIds[slot[2]], teamIds[slot[1]])
+                    : new Game(slot[0], teamIds[slot[1]], teamIds[slot[2]]));
+        }
+        return games;
+    }
+
+    /**
+     * Rounds of a single round robin between the given teams, by the circle method: the
+     * first team stays put and the others rotate one place each round. Pairs with the
+     * phantom team of an odd count are left out, so that team has a bye.
+     */
+    static List<int[][]> roundRobin(int[] members) {
+        int size = members.length % 2 == 0 ? members.length : members.length + 1;
+        int[] circle = new int[size];
+        System.arraycopy(members, 0, circle, 0, members.length);
+        if (size > members.length) {
+            circle[size - 1] = BYE;
+        }
+        List<int[][]> rounds = new ArrayList<>(size - 1);
+        for (int round = 0; round < size - 1; round++) {
+            List<int[]> pairs = new ArrayList<>(size / 2);
+            for (int i = 0; i < size / 2; i++) {
+                int first = circle[i];
+                int second = circle[size - 1 - i];
+                if (first != BYE && second != BYE) {
+                    // alternate which side is listed first, the first host of a repeat meeting
+                    pairs.add(round % 2 == 0 ? new int[] {first, second} : new int[] {second, first});
+                }
+            }
+            rounds.add(pairs.toArray(new int[0][]));
+            int last = circle[size - 1];
+            System.arraycopy(circle, 1, circle, 2, size - 2);
+            circle[1] = last;
+        }
+        return rounds;
+    }
+
+    private static List<int[][]> divisionRounds(Iterable<List<Integer>> divisions) {
+        List<List<int[][]>> perDivision = new ArrayList<>();
+        List<int[]> members = new ArrayList<>();
+        int length = 0;
+        for (List<Integer> division : divisions) {
+            int[] teams = division.stream().mapToInt(Integer::intValue).toArray();
+            members.add(teams);
+            List<int[][]> rounds = teams.length > 1 ? roundRobin(teams) : Collections.singletonList(new int[0][]);
+            perDivision.add(rounds);
+            length = Math.max(length, rounds.size());
+        }
+        List<int[][]> combined = new ArrayList<>(length);
+        for (int round = 0; round < length; round++) {
+            List<int[]> pairs = new ArrayList<>();
+            List<Integer> idle = new ArrayList<>();
+            for (int d = 0; d < perDivision.size(); d++) {
+                int[][] divisionRound = perDivision.get(d).get(round % perDivision.get(d).size());
+                Set<Integer> playing = new HashSet<>();
+                for (int[] pair : divisionRound) {
+                    pairs.add(pair);
+                    playing.add(pair[0]);
+                    playing.add(pair[1]);
+                }
+                for (int team : members.get(d)) {
+                    if (!playing.contains(team)) {
+                        idle.add(team);
+                    }
+                }
+            }
+            for (int i = 0; i + 1 < idle.size(); i += 2) {
+                pairs.add(new int[] {idle.get(i), idle.get(i + 1)});
+            }
+            combined.add(pairs.toArray(new int[0][]));
+        }
+        return combined;
+    }
+
+    private static int[][] rivalryRound(int[] rivals, int occurrence) {
+        List<int[]> pairs = new ArrayList<>();
+        List<Integer> others = new ArrayList<>();
+        for (int i = 0; i < rivals.length; i++) {
+            if (rivals[i] == BYE) {
+                others.add(i);
+            } else if (i < rivals[i]) {
+                pairs.add(occurrence % 2 == 0 ? new int[] {i, rivals[i]} : new int[] {rivals[i], i});
+            }
+        }
+        if (others.size() > 1) {
+            List<int[][]> rounds = roundRobin(others.stream().mapToInt(Integer::intValue).toArray());
+            Collections.addAll(pairs, rounds.get(occurrence % rounds.size()));
+        }
+        return pairs.toArray(new int[0][]);
+    }
+
+    /**
+     * Decides which team of each {@code {week, team, team}} game is at home, flipping the
+     * listed order where the second team should host, so every team's home and away games
+     * differ by one at most. Repeat meetings of two teams alternate hosts in pairs. The
+     * games left form a graph whose teams of odd degree are joined to one extra vertex;
+     * every vertex then has even degree, and orienting each edge the way an Euler circuit
+     * walks it enters every team as often as it leaves, extra edges aside.
+     */
+    private static boolean[] orient(List<int[]> games, int teams) {
+        boolean[] flipped = new boolean[games.size()];
+        Map<Long, List<Integer>> meetings = new HashMap<>();
+        for (int g = 0; g < games.size(); g++) {
+            int[] game = games.get(g);
+            long key = (long) Math.min(game[1], game[2]) * teams + Math.max(game[1], game[2]);
+            meetings.computeIfAbsent(key, k -> new ArrayList<>()).add(g);
+        }
+        // {team, team, game}, game -1 for an edge to the extra vertex
+        List<int[]> edges = new ArrayList<>();
+        int[] degree = new int[teams + 1];
+        for (List<Integer> meeting : meetings.values()) {
+            int paired = meeting.size() - meeting.size() % 2;
+            for (int j = 1; j < paired; j += 2) {
+                int[] first = games.get(meeting.get(j - 1));
+                int[] second = games.get(meeting.get(j));
+                flipped[meeting.get(j)] = first[1] == second[1];
+            }
+            if (paired < meeting.size()) {
+                int g = meeting.get(paired);
+                int[] game = games.get(g);
+                edges.add(new int[] {game[1], game[2], g});
+                degree[game[1]]++;
+                degree[game[2]]++;
+            }
+        }
+        for (int team = 0; team < teams; team++) {
+            if (degree[team] % 2 != 0) {
+                edges.add(new int[] {team, teams, -1});
+            }
+        }
+        List<List<Integer>> incident = new ArrayList<>(teams + 1);
+        for (int vertex = 0; vertex <= teams; vertex++) {
+            incident.add(new ArrayList<>());
+        }
+        for (int e = 0; e < edges.size(); e++) {
+            incident.get(edges.get(e)[0]).add(e);
+            incident.get(edges.get(e)[1]).add(e);
+        }
+        // Hierholzer's walk: with every degree even, each trail closes where it started
+        boolean[] walked = new boolean[edges.size()];
+        int[] nextEdge = new int[teams + 1];
+        Deque<Integer> trail = new ArrayDeque<>();
+        for (int start = 0; start <= teams; start++) {
+            trail.push(start);
+            while (!trail.isEmpty()) {
+                int vertex = trail.peek();
+                List<Integer> around = incident.get(vertex);
+                while (nextEdge[vertex] < around.size() && walked[around.get(nextEdge[vertex])]) {
+                    nextEdge[vertex]++;
+                }
+                if (nextEdge[vertex] == around.size()) {
+                    trail.pop();
+                    continue;
+                }
+                int e = around.get(nextEdge[vertex]++);
+                walked[e] = true;
+                int[] edge = edges.get(e);
+                if (edge[2] >= 0) {
+                    flipped[edge[2]] = games.get(edge[2])[1] != vertex;
+                }
+                trail.push(edge[0] == vertex ? edge[1] : edge[0]);
+            }
+        }
+        return flipped;
+    }
+
+    private static int[] all(int teams) {
+        int[] members = new int[teams];
+        for (int i = 0; i < teams; i++) {
+            members[i] = i;
+        }
+        return members;
+    }
+
+    /**
+     * A league team as scheduling sees it. Teams without a division share one; a rivalry
+     * counts only if both teams name each other.
+     */
+    public record Entrant(int teamId, Integer division, Integer rivalTeamId) {
+    }
+
+    /**
+     * One scheduled game.
+     */
+    public record Game(int week, int homeTeamId, int awayTeamId) {
+    }
+}
@@ -0,0 +1,120 @@
+package com.fantasyfootball.league;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Orders a league's teams from their standings records alone.
+ *
+ * Teams are ranked by winning percentage, a tie counting as half a win. Teams level on
+ * percentage are ordered by their combined head-to-head percentage against the others in
+ * that group, then by points for, points against (fewer first) and team id. A record
+ * with no games counts as .500, and percentages are compared as exact fractions.
+ *
+ * A league has a few dozen teams at most, so ranking it again after every result costs
+ * next to nothing; head-to-head records are only asked for when a group is level.
+ */
+public final class StandingsRanker {
+
+    private StandingsRanker() {
+    }
+
+    /**
+     * @return the team ids in rank order
+     */
+    public static List<Integer> rank(List<Record> records, Supplier<HeadToHead> headToHead) {
+        List<Record> ordered = new ArrayList<>(records);
+        ordered.sort((a, b) -> compareFractions(b.halfWins(), b.halfGames(), a.halfWins(), a.halfGames()));
+        HeadToHead results = null;
+        List<Integer> ranked = new ArrayList<>(ordered.size());
+        int start = 0;
+        while (start < ordered.size()) {
+            int end = start + 1;
+            Record first = ordered.get(start);
+            while (end < ordered.size() && compareFractions(first.halfWins(), first.halfGames(),
+                    ordered.get(end).halfWins(), ordered.get(end).halfGames()) == 0) {
+                end++;
+            }
+            List<Record> group = ordered.subList(start, end);
+            if (group.size() > 1) {
+                if (results == null) {
+                    results = headToHead.get();
+                }
+                group.sort(tiebreak(group, results));
+            }
+            for (Record record : group) {
+                ranked.add(record.teamId());
+            }
+            start = end;
+        }
+        return ranked;
+    }
+
+    private static Comparator<Record> tiebreak(List<Record> group, HeadToHead results) {
+        Map<Integer, long[]> groupRecord = new HashMap<>();
+        for (Record team : group) {
+            long halfWins = 0;
+            long halfGames = 0;
+            for (Record opponent : group) {
+                if (opponent.teamId() != team.teamId()) {
+                    int[] against = results.against(team.teamId(), opponent.teamId());
+                    halfWins += 2L * against[0] + against[2];
+                    halfGames += 2L * (against[0] + against[1] + against[2]);
+                }
+            }
+            groupRecord.put(team.teamId(), new long[] {halfWins, halfGames});
+        }
+        Comparator<Record> byHeadToHead = (a, b) -> {
+            long[] left = groupRecord.get(a.teamId());
+            long[] right = groupRecord.get(b.teamId());
+            return compareFractions(right[0], right[1], left[0], left[1]);
+        };
+        return byHeadToHead
+                .thenComparing(Record::pointsFor, Comparator.reverseOrder())
+                .thenComparing(Record::pointsAgainst)
+                .thenComparingInt(Record::teamId);
+    }
+
+    // A fraction with nothing played is .500
+    private static int compareFractions(long numerator, long denominator, long otherNumerator, long otherDenominator) {
+        if (denominator == 0) {
+            numerator = 1;
+            denominator = 2;
+        }
+        if (otherDenominator == 0) {
+            otherNumerator = 1;
+            otherDenominator = 2;
+        }
+        return Long.compare(numerator * otherDenominator, otherNumerator * denominator);
+    }
+
+    /**
+     * One team's season record. Wins, losses and ties are counted in whole games.
+     */
+    public record Record(int teamId, int wins, int losses, int ties, BigDecimal pointsFor, BigDecimal pointsAgainst) {
+
+        long halfWins() {
+            return 2L * wins + ties;
+        }
+
+        long halfGames() {
+            return 2L * (wins + losses + ties);
+        }
+    }
+
+    /**
+     * Head-to-head results between two teams of the league.
+     */
+    public interface HeadToHead {
+
+        /**
+         * @return the team's wins, losses and ties against the opponent
+         */
+        int[] against(int teamId, int opponentId);
+    }
+}
@@ -0,0 +1,53 @@
+package com.fantasyfootball.repository;
+
+import com.fantasyfootball.entity.League;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LeagueRepository extends JpaRepository<League, Integer> {
+    
+    /**
+     * The league, locked until the transaction ends. Every write to a league's teams,
+     * matchups or standings takes this lock first, so they apply one at a time.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM League l WHERE l.id = :leagueId")
+    Optional<League> findForUpdate(@Param("leagueId") Integer leagueId);
+    
+    // league_teams has no entity
+    @Query(value = "SELECT team_id FROM league_teams WHERE league_id = :leagueId ORDER BY team_id", nativeQuery = true)
+    List<Integer> findTeamIds(@Param("leagueId") Integer leagueId);
+    
+    @Query(value = "SELECT league_id FROM league_teams WHERE team_id = :teamId", nativeQuery = true)
+    Optional<Integer> findLeagueIdByTeamId(@Param("teamId") Integer teamId);
+    
+    @Modifying
+    @Query(value = "INSERT INTO league_teams (league_id, team_id) VALUES (:leagueId, :teamId)", nativeQuery = true)
+    void addTeam(@Param("leagueId") Integer leagueId, @Param("teamId") Integer teamId);
+    
+    @Modifying
+    @Query(value = "UPDATE league_teams SET division = :division WHERE league_id = :leagueId AND team_id = :teamId", nativeQuery = true)
+    int setDivision(@Param("leagueId") Integer leagueId, @Param("teamId") Integer teamId, @Param("division") Integer division);
+    
+    /**
+     * Ends every rivalry the given teams are part of, on both sides.
+     */
+    @Modifying
+    @Query(value = "UPDATE league_teams SET rival_team_id = NULL WHERE league_id = :leagueId " +
+                   "AND (team_id IN (:teamIds) OR rival_team_id IN (:teamIds))", nativeQuery = true)
+    void clearRivals(@Param("leagueId") Integer leagueId, @Param("teamIds") List<Integer> teamIds);
+    
+    @Modifying
+    @Query(value = "UPDATE league_teams SET rival_team_id = CASE team_id WHEN :teamId THEN :rivalTeamId ELSE :teamId END " +
+                   "WHERE league_id = :leagueId AND team_id IN (:teamId, :rivalTeamId)", nativeQuery = true)
+    void setRivals(@Param("leagueId") Integer leagueId, @Param("teamId") Integer teamId, @Param("rivalTeamId") Integer rivalTeamId);
+}
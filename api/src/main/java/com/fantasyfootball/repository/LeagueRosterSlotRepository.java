@@ -0,0 +1,22 @@
+package com.fantasyfootball.repository;
+
+import com.fantasyfootball.entity.LeagueRosterSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface LeagueRosterSlotRepository extends JpaRepository<LeagueRosterSlot, Integer> {
+    
+    List<LeagueRosterSlot> findByLeagueIdOrderById(Integer leagueId);
+    
+    List<LeagueRosterSlot> findAllByOrderByLeagueIdAscIdAsc();
+    
+    @Modifying
+    @Query("DELETE FROM LeagueRosterSlot s WHERE s.leagueId = :leagueId")
+    void deleteByLeagueId(@Param("leagueId") Integer leagueId);
+}
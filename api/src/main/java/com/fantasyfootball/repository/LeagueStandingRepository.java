@@ -0,0 +1,41 @@
+package com.fantasyfootball.repository;
+
+import com.fantasyfootball.dto.StandingView;
+import com.fantasyfootball.entity.LeagueStanding;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface LeagueStandingRepository extends JpaRepository<LeagueStanding, LeagueStanding.Key> {
+    
+    List<LeagueStanding> findByLeagueId(Integer leagueId);
+    
+    @Query("SELECT new com.fantasyfootball.dto.StandingView(s.rank, s.teamId, t.name, s.wins, s.losses, s.ties, " +
+           "s.pointsFor, s.pointsAgainst, s.streakResult, s.streakLength) " +
+           "FROM LeagueStanding s JOIN Team t ON t.id = s.teamId WHERE s.leagueId = :leagueId ORDER BY s.rank, s.teamId")
+    List<StandingView> findViewsByLeagueId(@Param("leagueId") Integer leagueId);
+    
+    /**
+     * Adds to the team's record against one opponent; negative counts take a result out.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO league_head_to_head (league_id, team_id, opponent_id, wins, losses, ties) " +
+                   "VALUES (:leagueId, :teamId, :opponentId, :wins, :losses, :ties) " +
+                   "ON CONFLICT (league_id, team_id, opponent_id) DO UPDATE SET " +
+                   "wins = league_head_to_head.wins + EXCLUDED.wins, " +
+                   "losses = league_head_to_head.losses + EXCLUDED.losses, " +
+                   "ties = league_head_to_head.ties + EXCLUDED.ties", nativeQuery = true)
+    void addHeadToHead(@Param("leagueId") Integer leagueId, @Param("teamId") Integer teamId,
+                       @Param("opponentId") Integer opponentId, @Param("wins") int wins,
+                       @Param("losses") int losses, @Param("ties") int ties);
+    
+    // rows are (team_id, opponent_id, wins, losses, ties)
+    @Query(value = "SELECT team_id, opponent_id, wins, losses, ties FROM league_head_to_head WHERE league_id = :leagueId",
+           nativeQuery = true)
+    List<Object[]> findHeadToHead(@Param("leagueId") Integer leagueId);
+}
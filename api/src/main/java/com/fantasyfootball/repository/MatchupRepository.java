@@ -0,0 +1,36 @@
+package com.fantasyfootball.repository;
+
+import com.fantasyfootball.entity.Matchup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MatchupRepository extends JpaRepository<Matchup, Integer> {
+    
+    List<Matchup> findByLeagueIdOrderByWeekAscIdAsc(Integer leagueId);
+    
+    List<Matchup> findByLeagueIdAndWeekOrderById(Integer leagueId, Integer week);
+    
+    @Query("SELECT COUNT(m) FROM Matchup m WHERE m.leagueId = :leagueId AND m.week = :week " +
+           "AND (m.homeTeamId IN :teamIds OR m.awayTeamId IN :teamIds)")
+    long countByLeagueIdAndWeekAndTeams(@Param("leagueId") Integer leagueId, @Param("week") Integer week,
+                                        @Param("teamIds") Collection<Integer> teamIds);
+    
+    // newest first, for rebuilding a streak
+    @Query("SELECT m FROM Matchup m WHERE m.leagueId = :leagueId AND m.status = 'FINAL' " +
+           "AND (m.homeTeamId = :teamId OR m.awayTeamId = :teamId) ORDER BY m.week DESC, m.id DESC")
+    List<Matchup> findFinalByLeagueIdAndTeamId(@Param("leagueId") Integer leagueId, @Param("teamId") Integer teamId);
+    
+    @Query("SELECT COUNT(m) FROM Matchup m WHERE m.leagueId = :leagueId AND m.status = 'FINAL'")
+    long countFinalByLeagueId(@Param("leagueId") Integer leagueId);
+    
+    @Modifying
+    @Query("DELETE FROM Matchup m WHERE m.leagueId = :leagueId AND m.status = 'SCHEDULED'")
+    int deleteScheduledByLeagueId(@Param("leagueId") Integer leagueId);
+}
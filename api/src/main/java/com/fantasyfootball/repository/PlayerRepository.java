@@ -1,52 +1,109 @@
 package com.fantasyfootball.repository;
 
+import com.fantasyfootball.dto.PlayerSummary;
 import com.fantasyfootball.entity.Player;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PlayerRepository extends JpaRepository<Player, Integer> {
     
+    @EntityGraph(attributePaths = "nflTeam")
     List<Player> findByPosition(String position);
     
+    @EntityGraph(attributePaths = "nflTeam")
     List<Player> findByNflTeamId(Integer nflTeamId);
     
+    @EntityGraph(attributePaths = "nflTeam")
     List<Player> findByIsActiveTrue();
     
+    @EntityGraph(attributePaths = "nflTeam")
+    List<Player> findByIdIn(Collection<Integer> ids);
+    
+    @EntityGraph(attributePaths = "nflTeam")
     @Query("SELECT p FROM Player p WHERE p.isActive = true AND " +
            "(LOWER(p.firstName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
            "LOWER(p.lastName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
            "LOWER(p.dstTeamName) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
     List<Player> findByNameContainingIgnoreCase(@Param("searchTerm") String searchTerm);
     
+    @EntityGraph(attributePaths = "nflTeam")
     @Query("SELECT p FROM Player p WHERE p.position = :position AND p.isActive = true")
     List<Player> findActivePlayersByPosition(@Param("position") String position);
     
+    @Query("SELECT p FROM Player p LEFT JOIN FETCH p.nflTeam")
+    List<Player> findAllWithNflTeam();
+    
     @Query("SELECT p FROM Player p LEFT JOIN FETCH p.nflTeam WHERE p.id = :playerId")
     Optional<Player> findByIdWithNflTeam(@Param("playerId") Integer playerId);
     
-    @Query("SELECT p FROM Player p LEFT JOIN FETCH p.playerStats WHERE p.id = :playerId")
+    @Query("SELECT p FROM Player p LEFT JOIN FETCH p.nflTeam LEFT JOIN FETCH p.playerStats WHERE p.id = :playerId")
     Optional<Player> findByIdWithStats(@Param("playerId") Integer playerId);
     
+    @EntityGraph(attributePaths = "nflTeam")
     @Query("SELECT p FROM Player p WHERE p.id NOT IN " +
            "(SELECT tp.player.id FROM TeamPlayer tp WHERE tp.team.id = :teamId)")
     List<Player> findAvailablePlayersNotOnTeam(@Param("teamId") Integer teamId);
     
     // D/ST specific queries
+    @EntityGraph(attributePaths = "nflTeam")
     @Query("SELECT p FROM Player p WHERE p.isDst = true AND p.isActive = true")
     List<Player> findAllDefenseUnits();
     
+    @EntityGraph(attributePaths = "nflTeam")
     @Query("SELECT p FROM Player p WHERE p.isDst = false AND p.isActive = true")
     List<Player> findAllRegularPlayers();
     
+    @EntityGraph(attributePaths = "nflTeam")
     @Query("SELECT p FROM Player p WHERE p.nflTeam.id = :nflTeamId AND p.isDst = true")
     Optional<Player> findDefenseByNflTeamId(@Param("nflTeamId") Integer nflTeamId);
     
+    @EntityGraph(attributePaths = "nflTeam")
     @Query("SELECT p FROM Player p WHERE p.position = :position AND p.isDst = false AND p.isActive = true")
     List<Player> findRegularPlayersByPosition(@Param("position") String position);
+    
+    // Keyset pagination over slim projections; pass PageRequest.of(0, size) as the page limit
+    String PLAYER_SUMMARY_SELECT = "SELECT new com.fantasyfootball.dto.PlayerSummary(" +
+           "p.id, p.firstName, p.lastName, p.dstTeamName, p.isDst, p.position, " +
+           "t.id, t.abbreviation, p.fantasyPoints, p.isActive) " +
+           "FROM Player p LEFT JOIN p.nflTeam t WHERE p.isActive IN :activeStates ";
+    
+    // fantasy_points is nullable; a player without points sorts, and pages, as 0
+    @Query(PLAYER_SUMMARY_SELECT + "ORDER BY COALESCE(p.fantasyPoints, 0) DESC, p.id")
+    List<PlayerSummary> findSummariesByPoints(@Param("activeStates") Collection<Boolean> activeStates,
+                                              Pageable limit);
+    
+    @Query(PLAYER_SUMMARY_SELECT +
+           "AND (COALESCE(p.fantasyPoints, 0) < :points OR (COALESCE(p.fantasyPoints, 0) = :points AND p.id > :lastId)) " +
+           "ORDER BY COALESCE(p.fantasyPoints, 0) DESC, p.id")
+    List<PlayerSummary> findSummariesByPointsAfter(@Param("activeStates") Collection<Boolean> activeStates,
+                                                   @Param("points") BigDecimal points,
+                                                   @Param("lastId") Integer lastId,
+                                                   Pageable limit);
+    
+    @Query(PLAYER_SUMMARY_SELECT + "ORDER BY COALESCE(p.lastName, p.dstTeamName, ''), p.id")
+    List<PlayerSummary> findSummariesByName(@Param("activeStates") Collection<Boolean> activeStates,
+                                            Pageable limit);
+    
+    @Query(PLAYER_SUMMARY_SELECT +
+           "AND (COALESCE(p.lastName, p.dstTeamName, '') > :name OR " +
+           "(COALESCE(p.lastName, p.dstTeamName, '') = :name AND p.id > :lastId)) " +
+           "ORDER BY COALESCE(p.lastName, p.dstTeamName, ''), p.id")
+    List<PlayerSummary> findSummariesByNameAfter(@Param("activeStates") Collection<Boolean> activeStates,
+                                                 @Param("name") String name,
+                                                 @Param("lastId") Integer lastId,
+                                                 Pageable limit);
+    
+    // espn_id is written by scripts/populate_players.py and not mapped on Player
+    @Query(value = "SELECT espn_id, id FROM players WHERE espn_id IS NOT NULL", nativeQuery = true)
+    List<Object[]> findAllEspnIds();
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.fantasyfootball.repository;
+
+import com.fantasyfootball.entity.PlayerSeasonSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface PlayerSeasonSummaryRepository extends JpaRepository<PlayerSeasonSummary, PlayerSeasonSummary.Key> {
+    
+    Optional<PlayerSeasonSummary> findByPlayerIdAndSeason(Integer playerId, Integer season);
+    
+    /**
+     * Creates an empty summary unless one exists, so concurrent first writes of a season
+     * do not race on the primary key; pair with {@link #findForUpdate}.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO player_season_summaries (player_id, season, weeks_played, total_points, " +
+                   "total_yards, total_touchdowns, total_field_goals, total_interceptions, total_fumbles, " +
+                   "total_receptions, mean_points, m2_points, recent_weeks, recent_points) " +
+                   "VALUES (:playerId, :season, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, '{}', '{}') " +
+                   "ON CONFLICT (player_id, season) DO NOTHING", nativeQuery = true)
+    void insertIfAbsent(@Param("playerId") Integer playerId, @Param("season") Integer season);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM PlayerSeasonSummary s WHERE s.playerId = :playerId AND s.season = :season")
+    Optional<PlayerSeasonSummary> findForUpdate(@Param("playerId") Integer playerId, @Param("season") Integer season);
+    
+    /**
+     * Recomputes the summaries of whole seasons from {@code player_stats} in one statement,
+     * for writes that bypass the per-week path such as bulk imports. Same aggregate as the
+     * V5 backfill; {@code var_pop * count} is the Welford sum of squared deviations.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO player_season_summaries (player_id, season, weeks_played, total_points, " +
+                   "total_yards, total_touchdowns, total_field_goals, total_interceptions, total_fumbles, " +
+                   "total_receptions, mean_points, m2_points, recent_weeks, recent_points, updated_at) " +
+                   "SELECT player_id, season, count(*), sum(coalesce(points_scored, 0)), " +
+                   "sum(coalesce(yards_gained, 0)), sum(coalesce(touchdowns, 0)), sum(coalesce(field_goals, 0)), " +
+                   "sum(coalesce(interceptions, 0)), sum(coalesce(fumbles, 0)), sum(coalesce(receptions, 0)), " +
+                   "avg(coalesce(points_scored, 0)), var_pop(coalesce(points_scored, 0)) * count(*), " +
+                   "coalesce(array_agg(week ORDER BY week DESC) FILTER (WHERE recency <= 3), '{}'), " +
+                   "coalesce(array_agg(coalesce(points_scored, 0) ORDER BY week DESC) FILTER (WHERE recency <= 3), '{}'), " +
+                   "CURRENT_TIMESTAMP " +
+                   "FROM (SELECT ps.*, row_number() OVER (PARTITION BY player_id, season ORDER BY week DESC) AS recency " +
+                   "FROM player_stats ps WHERE season IN (:seasons) AND player_id IS NOT NULL) s " +
+                   "GROUP BY player_id, season " +
+                   "ON CONFLICT (player_id, season) DO UPDATE SET weeks_played = EXCLUDED.weeks_played, " +
+                   "total_points = EXCLUDED.total_points, total_yards = EXCLUDED.total_yards, " +
+                   "total_touchdowns = EXCLUDED.total_touchdowns, total_field_goals = EXCLUDED.total_field_goals, " +
+                   "total_interceptions = EXCLUDED.total_interceptions, total_fumbles = EXCLUDED.total_fumbles, " +
+                   "total_receptions = EXCLUDED.total_receptions, mean_points = EXCLUDED.mean_points, " +
+                   "m2_points = EXCLUDED.m2_points, recent_weeks = EXCLUDED.recent_weeks, " +
+                   "recent_points = EXCLUDED.recent_points, updated_at = EXCLUDED.updated_at",
+           nativeQuery = true)
+    int rebuildSeasons(@Param("seasons") Collection<Integer> seasons);
+}
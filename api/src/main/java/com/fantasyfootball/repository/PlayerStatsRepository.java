@@ -0,0 +1,56 @@
+package com.fantasyfootball.repository;
+
+import com.fantasyfootball.dto.PlayerStatsRow;
+import com.fantasyfootball.entity.PlayerStats;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Repository
+public interface PlayerStatsRepository extends JpaRepository<PlayerStats, Integer> {
+    
+    Optional<PlayerStats> findByPlayerIdAndSeasonAndWeek(Integer playerId, Integer season, Integer week);
+    
+    // [week, pointsScored] of a player's season, newest week first
+    @Query("SELECT ps.week, ps.pointsScored FROM PlayerStats ps " +
+           "WHERE ps.player.id = :playerId AND ps.season = :season ORDER BY ps.week DESC")
+    List<Object[]> findRecentWeekPoints(@Param("playerId") Integer playerId, @Param("season") Integer season,
+                                        Pageable limit);
+    
+    /**
+     * Streams every row as a projection through a server-side cursor. Must be consumed
+     * inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.fantasyfootball.dto.PlayerStatsRow(ps.id, ps.player.id, ps.week, ps.season, " +
+           "ps.gamesPlayed, ps.pointsScored, ps.yardsGained, ps.touchdowns, ps.fieldGoals, ps.interceptions, " +
+           "ps.fumbles, ps.receptions) FROM PlayerStats ps")
+    Stream<PlayerStatsRow> streamAllRows();
+    
+    /**
+     * Streams one season's rows ordered by player and week, as {@code SeasonArchiveWriter}
+     * expects them. Must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.fantasyfootball.dto.PlayerStatsRow(ps.id, ps.player.id, ps.week, ps.season, " +
+           "ps.gamesPlayed, ps.pointsScored, ps.yardsGained, ps.touchdowns, ps.fieldGoals, ps.interceptions, " +
+           "ps.fumbles, ps.receptions) FROM PlayerStats ps WHERE ps.season = :season " +
+           "ORDER BY ps.player.id, ps.week")
+    Stream<PlayerStatsRow> streamSeasonRows(@Param("season") Integer season);
+    
+    long countBySeason(Integer season);
+    
+    @Modifying
+    @Query("DELETE FROM PlayerStats ps WHERE ps.season = :season")
+    int deleteBySeason(@Param("season") Integer season);
+}
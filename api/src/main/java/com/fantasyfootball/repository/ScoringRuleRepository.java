@@ -0,0 +1,22 @@
+package com.fantasyfootball.repository;
+
+import com.fantasyfootball.entity.ScoringRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ScoringRuleRepository extends JpaRepository<ScoringRule, Integer> {
+    
+    List<ScoringRule> findByLeagueIdOrderById(Integer leagueId);
+    
+    List<ScoringRule> findAllByOrderByLeagueIdAscIdAsc();
+    
+    @Modifying
+    @Query("DELETE FROM ScoringRule r WHERE r.leagueId = :leagueId")
+    void deleteByLeagueId(@Param("leagueId") Integer leagueId);
+}
@@ -1,8 +1,11 @@
 package com.fantasyfootball.repository;
 
 import com.fantasyfootball.entity.TeamPlayer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -18,16 +21,29 @@ public interface TeamPlayerRepository extends JpaRepository<TeamPlayer, Integer>
     
     Optional<TeamPlayer> findByTeamIdAndPlayerId(Integer teamId, Integer playerId);
     
-    @Query("SELECT tp FROM TeamPlayer tp LEFT JOIN FETCH tp.player p LEFT JOIN FETCH p.nflTeam WHERE tp.team.id = :teamId")
+    @Query("SELECT tp FROM TeamPlayer tp LEFT JOIN FETCH tp.player p LEFT JOIN FETCH p.nflTeam " +
+           "LEFT JOIN FETCH tp.rosterPositionEntity rpe WHERE tp.team.id = :teamId ORDER BY rpe.displayOrder, tp.id")
     List<TeamPlayer> findByTeamIdWithPlayerDetails(@Param("teamId") Integer teamId);
     
-    @Query("SELECT tp FROM TeamPlayer tp JOIN FETCH tp.rosterPositionEntity rpe WHERE tp.team.id = :teamId AND rpe.isStarting = true ORDER BY rpe.displayOrder")
+    /**
+     * The roster as read-only entities: changing them is never flushed, so a caller that
+     * writes the roster with its own SQL can update them to match.
+     */
+    @Query("SELECT tp FROM TeamPlayer tp LEFT JOIN FETCH tp.player p LEFT JOIN FETCH p.nflTeam " +
+           "LEFT JOIN FETCH tp.rosterPositionEntity WHERE tp.team.id = :teamId")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<TeamPlayer> findByTeamIdReadOnly(@Param("teamId") Integer teamId);
+    
+    @Query("SELECT tp FROM TeamPlayer tp JOIN FETCH tp.rosterPositionEntity rpe JOIN FETCH tp.player p LEFT JOIN FETCH p.nflTeam " +
+           "WHERE tp.team.id = :teamId AND rpe.isStarting = true ORDER BY rpe.displayOrder")
     List<TeamPlayer> findStartersByTeamId(@Param("teamId") Integer teamId);
     
-    @Query("SELECT tp FROM TeamPlayer tp JOIN FETCH tp.rosterPositionEntity rpe WHERE tp.team.id = :teamId AND rpe.isStarting = false")
+    @Query("SELECT tp FROM TeamPlayer tp JOIN FETCH tp.rosterPositionEntity rpe JOIN FETCH tp.player p LEFT JOIN FETCH p.nflTeam " +
+           "WHERE tp.team.id = :teamId AND rpe.isStarting = false")
     List<TeamPlayer> findBenchPlayersByTeamId(@Param("teamId") Integer teamId);
     
-    @Query("SELECT tp FROM TeamPlayer tp WHERE tp.team.id = :teamId AND tp.rosterPosition = :rosterPosition")
+    @Query("SELECT tp FROM TeamPlayer tp JOIN FETCH tp.rosterPositionEntity JOIN FETCH tp.player p LEFT JOIN FETCH p.nflTeam " +
+           "WHERE tp.team.id = :teamId AND tp.rosterPosition = :rosterPosition")
     List<TeamPlayer> findByTeamIdAndRosterPosition(@Param("teamId") Integer teamId, @Param("rosterPosition") String rosterPosition);
     
     @Query("SELECT tp FROM TeamPlayer tp WHERE tp.team.id = :teamId AND tp.rosterPosition = :rosterPosition")
@@ -38,4 +54,16 @@ public interface TeamPlayerRepository extends JpaRepository<TeamPlayer, Integer>
     
     @Query("SELECT COUNT(tp) FROM TeamPlayer tp WHERE tp.team.id = :teamId")
     long countByTeamId(@Param("teamId") Integer teamId);
-}
\ No newline at end of file
+    
+    @Query("SELECT tp.team.id, tp.player.id FROM TeamPlayer tp")
+    List<Object[]> findAllTeamAndPlayerIds();
+    
+    // rows are (team_id, player_id, player position, roster_position), ordered by team
+    @Query("SELECT tp.team.id, p.id, p.position, tp.rosterPosition FROM TeamPlayer tp JOIN tp.player p ORDER BY tp.team.id, tp.id")
+    List<Object[]> findAllLineupEntries();
+    
+    @Query(value = "SELECT tp.team_id, tp.player_id, p.position, tp.roster_position FROM team_players tp " +
+           "JOIN players p ON p.id = tp.player_id JOIN league_teams lt ON lt.team_id = tp.team_id " +
+           "WHERE lt.league_id = :leagueId ORDER BY tp.team_id, tp.id", nativeQuery = true)
+    List<Object[]> findLineupEntriesByLeagueId(@Param("leagueId") Integer leagueId);
+}
@@ -1,6 +1,7 @@
 package com.fantasyfootball.repository;
 
 import com.fantasyfootball.entity.Team;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,15 +13,27 @@ import java.util.Optional;
 @Repository
 public interface TeamRepository extends JpaRepository<Team, Integer> {
     
+    @Override
+    @EntityGraph(attributePaths = "owner")
+    List<Team> findAll();
+    
+    @EntityGraph(attributePaths = "owner")
     List<Team> findByOwnerUsername(String username);
     
+    @EntityGraph(attributePaths = "owner")
     List<Team> findByOwnerId(Integer ownerId);
     
     Optional<Team> findByNameAndOwnerId(String name, Integer ownerId);
     
-    @Query("SELECT t FROM Team t LEFT JOIN FETCH t.teamPlayers tp LEFT JOIN FETCH tp.player WHERE t.id = :teamId")
+    @Query("SELECT DISTINCT t FROM Team t LEFT JOIN FETCH t.owner " +
+           "LEFT JOIN FETCH t.teamPlayers tp LEFT JOIN FETCH tp.player p LEFT JOIN FETCH p.nflTeam " +
+           "LEFT JOIN FETCH tp.rosterPositionEntity WHERE t.id = :teamId")
     Optional<Team> findByIdWithPlayers(@Param("teamId") Integer teamId);
     
     @Query("SELECT t FROM Team t LEFT JOIN FETCH t.owner WHERE t.id = :teamId")
     Optional<Team> findByIdWithOwner(@Param("teamId") Integer teamId);
-}
\ No newline at end of file
+    
+    // league_teams has no entity; rows are (team_id, league_id)
+    @Query(value = "SELECT team_id, league_id FROM league_teams", nativeQuery = true)
+    List<Object[]> findAllLeagueAssignments();
+}
@@ -0,0 +1,53 @@
+package com.fantasyfootball.repository;
+
+import com.fantasyfootball.entity.TeamRosterDocument;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TeamRosterDocumentRepository extends JpaRepository<TeamRosterDocument, Integer> {
+    
+    @Query("SELECT d.document FROM TeamRosterDocument d WHERE d.teamId = :teamId")
+    Optional<byte[]> findDocumentByTeamId(@Param("teamId") Integer teamId);
+    
+    @Modifying
+    @Query(value = "INSERT INTO team_roster_documents (team_id, document, updated_at) " +
+                   "VALUES (:teamId, :document, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (team_id) DO UPDATE SET document = EXCLUDED.document, updated_at = EXCLUDED.updated_at",
+           nativeQuery = true)
+    void upsert(@Param("teamId") Integer teamId, @Param("document") byte[] document);
+    
+    @Query(value = "SELECT t.id FROM teams t WHERE NOT EXISTS " +
+                   "(SELECT 1 FROM team_roster_documents d WHERE d.team_id = t.id) ORDER BY t.id LIMIT :limit",
+           nativeQuery = true)
+    List<Integer> findTeamIdsWithoutDocument(@Param("limit") int limit);
+    
+    /**
+     * For documents built by the startup backfill: a document written meanwhile by a
+     * roster change is at least as new, so it is kept.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO team_roster_documents (team_id, document, updated_at) " +
+                   "VALUES (:teamId, :document, CURRENT_TIMESTAMP) ON CONFLICT (team_id) DO NOTHING",
+           nativeQuery = true)
+    void insertIfAbsent(@Param("teamId") Integer teamId, @Param("document") byte[] document);
+    
+    /**
+     * Share-locks the team row while its document is built, so a player change, which
+     * takes {@link #lockTeamsOfPlayer} first, cannot commit in between. Empty if there
+     * is no such team.
+     */
+    @Query(value = "SELECT id FROM teams WHERE id = :teamId FOR SHARE", nativeQuery = true)
+    List<Integer> lockTeam(@Param("teamId") Integer teamId);
+    
+    // NO KEY UPDATE does not conflict with the key-share locks of roster inserts
+    @Query(value = "SELECT t.id FROM teams t WHERE t.id IN (SELECT tp.team_id FROM team_players tp " +
+                   "WHERE tp.player_id = :playerId) ORDER BY t.id FOR NO KEY UPDATE", nativeQuery = true)
+    List<Integer> lockTeamsOfPlayer(@Param("playerId") Integer playerId);
+}
@@ -0,0 +1,148 @@
+package com.fantasyfootball.roster;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Picks the starting lineup that scores the most points under a team's roster rules.
+ *
+ * Every starting slot is expanded into one seat per player it holds, and seats are matched
+ * to players as an assignment problem (Hungarian method), so flex slots are filled exactly
+ * rather than greedily. A seat stays empty only when every eligible player would score
+ * below zero. Everyone not starting goes to {@value RosterRules#BENCH}.
+ *
+ * A roster has a few dozen players and seats at most, so one solve is a few thousand
+ * array operations over primitives, cheap enough to run for every team in one call.
+ */
+public final class LineupOptimizer {
+
+    private static final long FORBIDDEN = Long.MAX_VALUE / 4;
+
+    private LineupOptimizer() {
+    }
+
+    /**
+     * @param positions each roster player's position code
+     * @param points each player's points, in any fixed-point unit that fits well under a
+     *        {@code long}
+     * @param current each player's current slot, or {@code null}; among lineups scoring
+     *        the same, the one that keeps the most players where they are is chosen
+     */
+    public static Solution solve(RosterRules rules, String[] positions, long[] points, String[] current) {
+        int players = positions.length;
+        if (points.length != players || (current != null && current.length != players)) {
+            throw new IllegalArgumentException("Positions, points and current slots must match");
+        }
+        List<String> seats = new ArrayList<>();
+        List<Integer> masks = new ArrayList<>();
+        for (String slot : rules.slots()) {
+            if (!RosterRules.BENCH.equals(slot)) {
+                for (int i = 0; i < rules.maxCount(slot); i++) {
+                    seats.add(slot);
+                    masks.add(rules.eligibleMask(slot));
+                }
+            }
+        }
+        int[] bits = new int[players];
+        for (int p = 0; p < players; p++) {
+            PlayerPosition position = PlayerPosition.fromCode(positions[p]);
+            bits[p] = position != null ? position.bit() : 0;
+        }
+        int rows = seats.size();
+        // One empty-seat column per seat, so every seat can always be matched. It is
+        // unusable for the other seats and costs its own one unit, so a player scoring
+        // nothing still starts.
+        int columns = players + rows;
+        // Points are scaled so that the tie-breaks below, worth at most one unit per seat
+        // each, never outweigh a point.
+        long scale = 2L * rows + 1;
+        long[][] cost = new long[rows + 1][columns + 1];
+        for (int r = 0; r < rows; r++) {
+            String slot = seats.get(r);
+            int mask = masks.get(r);
+            for (int p = 0; p < players; p++) {
+                // As in RosterRules#canPlay
+                if (mask == PlayerPosition.ALL || (mask & bits[p]) != 0) {
+                    long stay = current != null && slot.equals(current[p]) ? 1 : 0;
+                    cost[r + 1][p + 1] = -(points[p] * scale + stay);
+                } else {
+                    cost[r + 1][p + 1] = FORBIDDEN;
+                }
+            }
+            Arrays.fill(cost[r + 1], players + 1, columns + 1, FORBIDDEN);
+            cost[r + 1][players + 1 + r] = 1;
+        }
+        int[] seatOf = assign(cost, rows, columns);
+        String[] slots = new String[players];
+        Arrays.fill(slots, RosterRules.BENCH);
+        long total = 0;
+        for (int c = 1; c <= players; c++) {
+            if (seatOf[c] != 0) {
+                slots[c - 1] = seats.get(seatOf[c] - 1);
+                total += points[c - 1];
+            }
+        }
+        return new Solution(slots, total);
+    }
+
+    /**
+     * Minimum-cost assignment of every row to a distinct column, with rows and columns
+     * numbered from 1 and {@code rows <= columns}. Returns the row matched to each column,
+     * 0 for none.
+     */
+    private static int[] assign(long[][] cost, int rows, int columns) {
+        long[] rowPotential = new long[rows + 1];
+        long[] columnPotential = new long[columns + 1];
+        int[] rowOf = new int[columns + 1];
+        int[] previous = new int[columns + 1];
+        long[] slack = new long[columns + 1];
+        boolean[] visited = new boolean[columns + 1];
+        for (int row = 1; row <= rows; row++) {
+            rowOf[0] = row;
+            int column = 0;
+            Arrays.fill(slack, Long.MAX_VALUE);
+            Arrays.fill(visited, false);
+            do {
+                visited[column] = true;
+                int current = rowOf[column];
+                long delta = Long.MAX_VALUE;
+                int next = 0;
+                for (int c = 1; c <= columns; c++) {
+                    if (!visited[c]) {
+                        long reduced = cost[current][c] - rowPotential[current] - columnPotential[c];
+                        if (reduced < slack[c]) {
+                            slack[c] = reduced;
+                            previous[c] = column;
+                        }
+                        if (slack[c] < delta) {
+                            delta = slack[c];
+                            next = c;
+                        }
+                    }
+                }
+                for (int c = 0; c <= columns; c++) {
+                    if (visited[c]) {
+                        rowPotential[rowOf[c]] += delta;
+                        columnPotential[c] -= delta;
+                    } else {
+                        slack[c] -= delta;
+                    }
+                }
+                column = next;
+            } while (rowOf[column] != 0);
+            do {
+                int back = previous[column];
+                rowOf[column] = rowOf[back];
+                column = back;
+            } while (column != 0);
+        }
+        return rowOf;
+    }
+
+    /**
+     * The slot for each roster player, in the order given, and the points of the starters.
+     */
+    public record Solution(String[] slots, long points) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.fantasyfootball.roster;
+
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Positions a player can be listed at, offensive and individual defensive (IDP). Each has
+ * one bit in the eligibility masks of {@link RosterRules}.
+ */
+public enum PlayerPosition {
+
+    QB,
+    RB,
+    WR,
+    TE,
+    K,
+    DST,
+    DL,
+    LB,
+    DB;
+
+    /** Mask with every position's bit set. */
+    public static final int ALL = (1 << values().length) - 1;
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    public static int maskOf(Collection<PlayerPosition> positions) {
+        int mask = 0;
+        for (PlayerPosition position : positions) {
+            mask |= position.bit();
+        }
+        return mask;
+    }
+
+    /**
+     * The position for a player's {@code position} column, with the usual aliases (DE and
+     * DT are DL, CB and S are DB), or {@code null} for anything else.
+     */
+    public static PlayerPosition fromCode(String code) {
+        if (code == null) {
+            return null;
+        }
+        return switch (code.trim().toUpperCase(Locale.ROOT)) {
+            case "QB" -> QB;
+            case "RB" -> RB;
+            case "WR" -> WR;
+            case "TE" -> TE;
+            case "K", "PK" -> K;
+            case "DST", "D/ST", "DEF" -> DST;
+            case "DL", "DE", "DT" -> DL;
+            case "LB" -> LB;
+            case "DB", "CB", "S" -> DB;
+            default -> null;
+        };
+    }
+
+    /**
+     * Like {@link #fromCode} but for positions named in roster rules, where an unknown
+     * name is an error.
+     *
+     * @throws IllegalArgumentException if the position is unknown
+     */
+    public static PlayerPosition fromParam(String code) {
+        PlayerPosition position = fromCode(code);
+        if (position == null) {
+            throw new IllegalArgumentException("Unknown player position: " + code);
+        }
+        return position;
+    }
+}
@@ -0,0 +1,66 @@
+package com.fantasyfootball.roster;
+
+import com.fantasyfootball.dto.RosterSlotRuleView;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Common roster settings. {@link #STANDARD} matches the {@code roster_positions} seed and
+ * also applies to teams whose league has no roster rules of its own, and to teams in no
+ * league.
+ */
+public enum RosterPreset {
+
+    STANDARD(1, false, false),
+    TWO_QB(2, false, false),
+    SUPERFLEX(1, true, false),
+    IDP(1, false, true);
+
+    private final List<RosterSlotRuleView> rules;
+
+    RosterPreset(int quarterbacks, boolean superflex, boolean defensivePlayers) {
+        List<RosterSlotRuleView> rules = new ArrayList<>();
+        rules.add(slot("QB", quarterbacks, "QB"));
+        rules.add(slot("RB", 2, "RB"));
+        rules.add(slot("WR", 2, "WR"));
+        rules.add(slot("TE", 1, "TE"));
+        rules.add(slot("FLEX", 1, "RB", "WR", "TE"));
+        if (superflex) {
+            rules.add(slot("SUPERFLEX", 1, "QB", "RB", "WR", "TE"));
+        }
+        rules.add(slot("K", 1, "K"));
+        rules.add(slot("DST", 1, "DST"));
+        if (defensivePlayers) {
+            rules.add(slot("DL", 2, "DL"));
+            rules.add(slot("LB", 2, "LB"));
+            rules.add(slot("DB", 2, "DB"));
+            rules.add(slot("IDP", 1, "DL", "LB", "DB"));
+        }
+        rules.add(new RosterSlotRuleView(RosterRules.BENCH, 7,
+                Arrays.stream(PlayerPosition.values()).map(PlayerPosition::name).toList()));
+        this.rules = List.copyOf(rules);
+    }
+
+    public List<RosterSlotRuleView> rules() {
+        return rules;
+    }
+
+    /**
+     * Accepts {@code two-qb}, {@code TWO_QB}, {@code 2qb} and similar spellings.
+     */
+    public static RosterPreset fromParam(String value) {
+        try {
+            String name = value.trim().toUpperCase(Locale.ROOT).replace('-', '_');
+            return valueOf(name.equals("2QB") ? "TWO_QB" : name);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Unknown roster preset: " + value);
+        }
+    }
+
+    private static RosterSlotRuleView slot(String code, int maxCount, String... eligible) {
+        return new RosterSlotRuleView(code, maxCount, List.of(eligible));
+    }
+}
@@ -0,0 +1,117 @@
+package com.fantasyfootball.roster;
+
+import com.fantasyfootball.dto.RosterSlotRuleView;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A league's roster rules compiled into an immutable lookup: for every slot, the
+ * positions eligible for it as a bitmask over {@link PlayerPosition} and the most players
+ * it holds. Checking a move is then a map lookup and a bit test.
+ *
+ * A slot every position is eligible for (the bench, in every preset) also takes players
+ * whose position is none of the known ones, as the bench always has.
+ */
+public final class RosterRules {
+
+    public static final String BENCH = "BENCH";
+
+    private final Map<String, Slot> slots;
+    private final List<RosterSlotRuleView> rules;
+
+    private RosterRules(Map<String, Slot> slots, List<RosterSlotRuleView> rules) {
+        this.slots = slots;
+        this.rules = rules;
+    }
+
+    /**
+     * @throws IllegalArgumentException if a slot is unnamed or listed twice, holds fewer
+     *         than one player, has no eligible positions or names an unknown one, or if
+     *         there is no {@value #BENCH} slot
+     */
+    public static RosterRules compile(List<RosterSlotRuleView> rules) {
+        Map<String, Slot> slots = new LinkedHashMap<>();
+        List<RosterSlotRuleView> normalized = new ArrayList<>(rules.size());
+        for (RosterSlotRuleView rule : rules) {
+            if (rule.slot() == null || rule.slot().isBlank()) {
+                throw new IllegalArgumentException("Every roster slot needs a name");
+            }
+            String code = rule.slot().trim().toUpperCase(Locale.ROOT);
+            if (rule.maxCount() == null || rule.maxCount() < 1) {
+                throw new IllegalArgumentException("Slot " + code + " must hold at least one player");
+            }
+            if (rule.eligible() == null || rule.eligible().isEmpty()) {
+                throw new IllegalArgumentException("Slot " + code + " needs at least one eligible position");
+            }
+            EnumSet<PlayerPosition> eligible = EnumSet.noneOf(PlayerPosition.class);
+            for (String position : rule.eligible()) {
+                eligible.add(PlayerPosition.fromParam(position));
+            }
+            if (slots.put(code, new Slot(PlayerPosition.maskOf(eligible), rule.maxCount())) != null) {
+                throw new IllegalArgumentException("Slot " + code + " is listed more than once");
+            }
+            normalized.add(new RosterSlotRuleView(code, rule.maxCount(),
+                    eligible.stream().map(PlayerPosition::name).toList()));
+        }
+        if (!slots.containsKey(BENCH)) {
+            throw new IllegalArgumentException("Roster rules need a " + BENCH + " slot");
+        }
+        return new RosterRules(Collections.unmodifiableMap(slots), List.copyOf(normalized));
+    }
+
+    public boolean hasSlot(String slot) {
+        return slots.containsKey(slot);
+    }
+
+    /**
+     * The most players the slot holds, or 0 if the rules have no such slot.
+     */
+    public int maxCount(String slot) {
+        Slot rule = slots.get(slot);
+        return rule != null ? rule.maxCount() : 0;
+    }
+
+    /**
+     * Whether a player listed at {@code playerPosition} may fill {@code slot}.
+     */
+    public boolean canPlay(String slot, String playerPosition) {
+        Slot rule = slots.get(slot);
+        if (rule == null) {
+            return false;
+        }
+        if (rule.eligible() == PlayerPosition.ALL) {
+            return true;
+        }
+        PlayerPosition position = PlayerPosition.fromCode(playerPosition);
+        return position != null && (rule.eligible() & position.bit()) != 0;
+    }
+
+    /**
+     * The positions eligible for the slot as a bitmask, or 0 if the rules have no such slot.
+     */
+    int eligibleMask(String slot) {
+        Slot rule = slots.get(slot);
+        return rule != null ? rule.eligible() : 0;
+    }
+
+    public Set<String> slots() {
+        return slots.keySet();
+    }
+
+    /**
+     * The rules these were compiled from, with slot and position names normalized.
+     */
+    public List<RosterSlotRuleView> rules() {
+        return rules;
+    }
+
+    private record Slot(int eligible, int maxCount) {
+    }
+}
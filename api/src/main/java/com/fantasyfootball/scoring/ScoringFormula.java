@@ -0,0 +1,127 @@
+package com.fantasyfootball.scoring;
+
+import com.fantasyfootball.dto.ScoringRuleView;
+import com.fantasyfootball.index.StatColumn;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A league's scoring rules compiled into an evaluator over primitive stat columns.
+ *
+ * Compiling parses every rule once, merges per-unit rules on the same stat and drops the
+ * ones that cancel out, so scoring a week is one multiply-add per remaining stat plus one
+ * comparison per threshold bonus. Points are fixed-point longs in units of
+ * 10<sup>-{@value #SCALE}</sup>, which represents rules like 0.04 per yard exactly.
+ */
+public final class ScoringFormula {
+
+    public static final int SCALE = 4;
+
+    private final int[] termColumns;
+    private final long[] termWeights;
+    private final int[] bonusColumns;
+    private final int[] bonusThresholds;
+    private final long[] bonusPoints;
+
+    private ScoringFormula(int[] termColumns, long[] termWeights,
+                           int[] bonusColumns, int[] bonusThresholds, long[] bonusPoints) {
+        this.termColumns = termColumns;
+        this.termWeights = termWeights;
+        this.bonusColumns = bonusColumns;
+        this.bonusThresholds = bonusThresholds;
+        this.bonusPoints = bonusPoints;
+    }
+
+    /**
+     * @throws IllegalArgumentException if a rule names an unknown or unscorable stat, has
+     *         no points or more than {@value #SCALE} decimals, or a threshold below 1
+     */
+    public static ScoringFormula compile(List<ScoringRuleView> rules) {
+        long[] weights = new long[StatColumn.values().length];
+        List<ScoringRuleView> bonuses = new ArrayList<>();
+        for (ScoringRuleView rule : rules) {
+            StatColumn column = scorableColumn(rule.stat());
+            long points = fixedPoint(rule.points());
+            if (rule.threshold() == null) {
+                weights[column.ordinal()] += points;
+            } else if (rule.threshold() < 1) {
+                throw new IllegalArgumentException("Threshold must be positive: " + rule.threshold());
+            } else {
+                bonuses.add(rule);
+            }
+        }
+
+        int terms = 0;
+        for (long weight : weights) {
+            if (weight != 0) {
+                terms++;
+            }
+        }
+        int[] termColumns = new int[terms];
+        long[] termWeights = new long[terms];
+        int t = 0;
+        for (int column = 0; column < weights.length; column++) {
+            if (weights[column] != 0) {
+                termColumns[t] = column;
+                termWeights[t++] = weights[column];
+            }
+        }
+
+        int[] bonusColumns = new int[bonuses.size()];
+        int[] bonusThresholds = new int[bonuses.size()];
+        long[] bonusPoints = new long[bonuses.size()];
+        for (int b = 0; b < bonuses.size(); b++) {
+            ScoringRuleView rule = bonuses.get(b);
+            bonusColumns[b] = StatColumn.fromParam(rule.stat()).ordinal();
+            bonusThresholds[b] = rule.threshold();
+            bonusPoints[b] = fixedPoint(rule.points());
+        }
+        return new ScoringFormula(termColumns, termWeights, bonusColumns, bonusThresholds, bonusPoints);
+    }
+
+    /**
+     * Scores one week. {@code columns} is indexed by {@link StatColumn#ordinal()} and
+     * {@code slot} selects the week within each column.
+     */
+    public long scoreWeek(int[][] columns, int slot) {
+        long total = 0;
+        for (int t = 0; t < termColumns.length; t++) {
+            total += termWeights[t] * columns[termColumns[t]][slot];
+        }
+        for (int b = 0; b < bonusColumns.length; b++) {
+            if (columns[bonusColumns[b]][slot] >= bonusThresholds[b]) {
+                total += bonusPoints[b];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Converts a fixed-point score to points rounded to hundredths.
+     */
+    public static BigDecimal toPoints(long fixed) {
+        return BigDecimal.valueOf(fixed, SCALE).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static StatColumn scorableColumn(String stat) {
+        StatColumn column = StatColumn.fromParam(stat);
+        if (column == StatColumn.POINTS_SCORED) {
+            throw new IllegalArgumentException("pointsScored is a result and cannot be scored");
+        }
+        return column;
+    }
+
+    private static long fixedPoint(BigDecimal points) {
+        if (points == null) {
+            throw new IllegalArgumentException("Scoring rule has no points");
+        }
+        try {
+            return points.movePointRight(SCALE).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Points must have at most " + SCALE + " decimals: " + points);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.fantasyfootball.scoring;
+
+import com.fantasyfootball.dto.ScoringRuleView;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Common scoring settings. {@link #STANDARD} also applies to leagues with no rules of
+ * their own.
+ */
+public enum ScoringPreset {
+    
+    STANDARD(null),
+    HALF_PPR("0.5"),
+    PPR("1");
+    
+    private final List<ScoringRuleView> rules;
+    
+    ScoringPreset(String pointsPerReception) {
+        List<ScoringRuleView> rules = new ArrayList<>(List.of(
+                rule("yardsGained", "0.1"),
+                rule("touchdowns", "6"),
+                rule("fieldGoals", "3"),
+                rule("interceptions", "-2"),
+                rule("fumbles", "-2")));
+        if (pointsPerReception != null) {
+            rules.add(rule("receptions", pointsPerReception));
+        }
+        this.rules = List.copyOf(rules);
+    }
+    
+    public List<ScoringRuleView> rules() {
+        return rules;
+    }
+    
+    /**
+     * Accepts {@code half-ppr}, {@code HALF_PPR} and similar spellings.
+     */
+    public static ScoringPreset fromParam(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Unknown scoring preset: " + value);
+        }
+    }
+    
+    private static ScoringRuleView rule(String stat, String points) {
+        return new ScoringRuleView(stat, new BigDecimal(points), null);
+    }
+}
@@ -0,0 +1,8 @@
+package com.fantasyfootball.scoring;
+
+/**
+ * One player's season score, in {@link ScoringFormula} fixed point, over {@code weeks}
+ * weeks with stats.
+ */
+public record SeasonScore(int playerId, int weeks, long points) {
+}
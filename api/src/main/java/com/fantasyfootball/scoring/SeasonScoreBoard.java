@@ -0,0 +1,83 @@
+package com.fantasyfootball.scoring;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * Season scores of every player under one formula, held in parallel primitive arrays.
+ * A stat change rescores a single player in place with {@link #update}. Not thread-safe;
+ * callers guard boards with their own lock.
+ */
+public final class SeasonScoreBoard {
+
+    private final int[] playerIds;
+    private final long[] points;
+    private final int[] weeks;
+    private final Map<Integer, Integer> indexByPlayer;
+
+    public SeasonScoreBoard(int[] playerIds, long[] points, int[] weeks) {
+        this.playerIds = playerIds;
+        this.points = points;
+        this.weeks = weeks;
+        this.indexByPlayer = new HashMap<>(playerIds.length * 2);
+        for (int i = 0; i < playerIds.length; i++) {
+            indexByPlayer.put(playerIds[i], i);
+        }
+    }
+
+    /**
+     * Replaces a player's score. Returns false if the player is not on the board, in which
+     * case the board has to be rebuilt.
+     */
+    public boolean update(SeasonScore score) {
+        Integer index = indexByPlayer.get(score.playerId());
+        if (index == null) {
+            return score.weeks() == 0;
+        }
+        points[index] = score.points();
+        weeks[index] = score.weeks();
+        return true;
+    }
+
+    /**
+     * The player's score, or null if they have no stats this season.
+     */
+    public SeasonScore get(int playerId) {
+        Integer index = indexByPlayer.get(playerId);
+        return index != null && weeks[index] > 0 ? score(index) : null;
+    }
+
+    /**
+     * The {@code limit} highest scores among players with stats accepted by
+     * {@code include}, ties broken by player id.
+     */
+    public List<SeasonScore> top(int limit, IntPredicate include) {
+        int[] candidates = new int[playerIds.length];
+        int count = 0;
+        for (int i = 0; i < playerIds.length; i++) {
+            if (weeks[i] > 0 && include.test(playerIds[i])) {
+                candidates[count++] = i;
+            }
+        }
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = candidates[i];
+        }
+        Arrays.sort(order, (a, b) -> points[a] != points[b]
+                ? Long.compare(points[b], points[a])
+                : Integer.compare(playerIds[a], playerIds[b]));
+        List<SeasonScore> top = new ArrayList<>(Math.min(limit, count));
+        for (int i = 0; i < count && top.size() < limit; i++) {
+            top.add(score(order[i]));
+        }
+        return top;
+    }
+
+    private SeasonScore score(int index) {
+        return new SeasonScore(playerIds[index], weeks[index], points[index]);
+    }
+}
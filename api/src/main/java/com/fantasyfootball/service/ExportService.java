@@ -0,0 +1,164 @@
+package com.fantasyfootball.service;
+
+import com.fantasyfootball.archive.SeasonArchive;
+import com.fantasyfootball.dto.PlayerStatsRow;
+import com.fantasyfootball.dto.PlayerView;
+import com.fantasyfootball.dto.RosterEntryView;
+import com.fantasyfootball.dto.RosterExportRow;
+import com.fantasyfootball.entity.Player;
+import com.fantasyfootball.entity.TeamPlayer;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.query.Query;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Writes players, player statistics and rosters as newline-delimited JSON.
+ *
+ * Each export runs one query through a forward-only cursor, so PostgreSQL hands rows over
+ * {@code fantasy.export.fetch-size} at a time instead of materializing the result. After
+ * every fetch the session is cleared and the output flushed, which keeps memory flat no
+ * matter how many rows are exported. Archived seasons are no longer in
+ * {@code player_stats}; their rows are streamed from the archive files instead, without
+ * ids, after the live rows when every season is exported.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ExportService {
+
+    private static final String PLAYERS_QUERY =
+            "SELECT p FROM Player p LEFT JOIN FETCH p.nflTeam ORDER BY p.id";
+
+    private static final String PLAYER_STATS_SELECT =
+            "SELECT new com.fantasyfootball.dto.PlayerStatsRow(ps.id, ps.player.id, ps.week, ps.season, " +
+            "ps.gamesPlayed, ps.pointsScored, ps.yardsGained, ps.touchdowns, ps.fieldGoals, ps.interceptions, " +
+            "ps.fumbles, ps.receptions) FROM PlayerStats ps ";
+
+    private static final String ROSTERS_SELECT =
+            "SELECT tp.team.id, tp FROM TeamPlayer tp JOIN FETCH tp.player p LEFT JOIN FETCH p.nflTeam " +
+            "LEFT JOIN FETCH tp.rosterPositionEntity rpe ";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SeasonArchiveService seasonArchiveService;
+
+    @Value("${fantasy.export.fetch-size:1000}")
+    private int fetchSize;
+
+    public long exportPlayers(OutputStream out) throws IOException {
+        Query<Player> query = session().createQuery(PLAYERS_QUERY, Player.class);
+        return write(query, PlayerView::from, out);
+    }
+
+    public long exportPlayerStats(Integer season, OutputStream out) throws IOException {
+        Optional<SeasonArchive> archive = seasonArchiveService.getArchive(season);
+        if (archive.isPresent()) {
+            return writeArchived(List.of(archive.get()), out);
+        }
+        Query<PlayerStatsRow> query;
+        if (season == null) {
+            query = session().createQuery(PLAYER_STATS_SELECT + "ORDER BY ps.id", PlayerStatsRow.class);
+        } else {
+            query = session().createQuery(PLAYER_STATS_SELECT + "WHERE ps.season = :season ORDER BY ps.id",
+                    PlayerStatsRow.class);
+            query.setParameter("season", season);
+        }
+        long count = write(query, Function.identity(), out);
+        if (season == null) {
+            count += writeArchived(seasonArchiveService.getArchives(), out);
+        }
+        return count;
+    }
+
+    public long exportRosters(Integer teamId, OutputStream out) throws IOException {
+        Query<Object[]> query;
+        if (teamId == null) {
+            query = session().createQuery(ROSTERS_SELECT + "ORDER BY tp.team.id, rpe.displayOrder, tp.id",
+                    Object[].class);
+        } else {
+            query = session().createQuery(ROSTERS_SELECT + "WHERE tp.team.id = :teamId ORDER BY rpe.displayOrder, tp.id",
+                    Object[].class);
+            query.setParameter("teamId", teamId);
+        }
+        return write(query, row -> new RosterExportRow((Integer) row[0], RosterEntryView.from((TeamPlayer) row[1])), out);
+    }
+
+    private <T> long write(Query<T> query, Function<T, ?> toRow, OutputStream out) throws IOException {
+        Session session = session();
+        ObjectWriter writer = writer();
+        JsonGenerator generator = generator(out);
+
+        query.setFetchSize(fetchSize);
+        query.setReadOnly(true);
+        query.setCacheMode(CacheMode.IGNORE);
+        long count = 0;
+        try (ScrollableResults<T> rows = query.scroll(ScrollMode.FORWARD_ONLY)) {
+            while (rows.next()) {
+                writer.writeValue(generator, toRow.apply(rows.get()));
+                generator.writeRaw('\n');
+                if (++count % fetchSize == 0) {
+                    session.clear();
+                    generator.flush();
+                }
+            }
+        }
+        generator.flush();
+        return count;
+    }
+
+    // Archived rows are decoded from the mapped files, so there is no session to clear
+    private long writeArchived(List<SeasonArchive> archives, OutputStream out) throws IOException {
+        ObjectWriter writer = writer();
+        JsonGenerator generator = generator(out);
+        long count = 0;
+        for (SeasonArchive archive : archives) {
+            for (Iterator<PlayerStatsRow> rows = archive.allWeeks(); rows.hasNext(); ) {
+                writer.writeValue(generator, rows.next());
+                generator.writeRaw('\n');
+                if (++count % fetchSize == 0) {
+                    generator.flush();
+                }
+            }
+        }
+        generator.flush();
+        return count;
+    }
+
+    private ObjectWriter writer() {
+        return objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    private JsonGenerator generator(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        return generator;
+    }
+
+    private Session session() {
+        return entityManager.unwrap(Session.class);
+    }
+}
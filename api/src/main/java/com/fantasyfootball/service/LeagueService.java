@@ -0,0 +1,369 @@
+package com.fantasyfootball.service;
+
+import com.fantasyfootball.dto.LeagueTeamSettings;
+import com.fantasyfootball.dto.StandingView;
+import com.fantasyfootball.entity.League;
+import com.fantasyfootball.entity.LeagueStanding;
+import com.fantasyfootball.entity.Matchup;
+import com.fantasyfootball.event.TeamJoinedLeagueEvent;
+import com.fantasyfootball.index.SeasonStatsStore;
+import com.fantasyfootball.league.MatchupOutcome;
+import com.fantasyfootball.league.StandingsRanker;
+import com.fantasyfootball.repository.LeagueRepository;
+import com.fantasyfootball.repository.LeagueStandingRepository;
+import com.fantasyfootball.repository.MatchupRepository;
+import com.fantasyfootball.repository.TeamPlayerRepository;
+import com.fantasyfootball.repository.TeamRepository;
+import com.fantasyfootball.roster.RosterRules;
+import com.fantasyfootball.scoring.ScoringFormula;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Leagues, their weekly head-to-head matchups and their standings.
+ *
+ * Standings are maintained as results come in rather than computed from the games when
+ * read: finalizing a matchup adds the result to both teams' {@link LeagueStanding} rows
+ * and their head-to-head record, a corrected result is taken out first, and the league
+ * is ranked again from its standings rows with {@link StandingsRanker}. Reading
+ * standings is then one query over the league's rows, however many games have been
+ * played or leagues exist.
+ *
+ * Every write to a league locks its {@code leagues} row first, so results of one league
+ * apply one at a time while different leagues proceed in parallel.
+ */
+@Service
+@Transactional
+public class LeagueService {
+
+    @Autowired
+    private LeagueRepository leagueRepository;
+
+    @Autowired
+    private MatchupRepository matchupRepository;
+
+    @Autowired
+    private LeagueStandingRepository standingRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamPlayerRepository teamPlayerRepository;
+
+    @Autowired
+    private ScoringService scoringService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * @throws IllegalArgumentException if the name or season is missing
+     */
+    public League createLeague(League league) {
+        if (league.getName() == null || league.getName().isBlank() || league.getSeason() == null) {
+            throw new IllegalArgumentException("A league needs a name and a season");
+        }
+        league.setId(null);
+        return leagueRepository.save(league);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<League> getLeague(Integer leagueId) {
+        return leagueRepository.findById(leagueId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Integer> getTeamIds(Integer leagueId) {
+        return leagueRepository.findTeamIds(leagueId);
+    }
+
+    /**
+     * Adds the team to the league with an empty record, ranked last.
+     *
+     * @throws IllegalArgumentException if the team is in the league already or it is full
+     * @throws TeamInAnotherLeagueException if the team plays in another league
+     * @throws RuntimeException if the league or team does not exist
+     */
+    public void addTeam(Integer leagueId, Integer teamId) {
+        League league = lockLeague(leagueId);
+        if (!teamRepository.existsById(teamId)) {
+            throw new RuntimeException("Team not found");
+        }
+        List<Integer> teamIds = leagueRepository.findTeamIds(leagueId);
+        if (teamIds.contains(teamId)) {
+            throw new IllegalArgumentException("Team " + teamId + " is already in league " + leagueId);
+        }
+        if (leagueRepository.findLeagueIdByTeamId(teamId).isPresent()) {
+            throw new TeamInAnotherLeagueException(teamId);
+        }
+        if (league.getMaxTeams() != null && teamIds.size() >= league.getMaxTeams()) {
+            throw new IllegalArgumentException("League " + leagueId + " is full (max: " + league.getMaxTeams() + ")");
+        }
+        try {
+            leagueRepository.addTeam(leagueId, teamId);
+        } catch (DataIntegrityViolationException e) {
+            // joined another league since the check; only this league's row is locked
+            throw new TeamInAnotherLeagueException(teamId);
+        }
+        LeagueStanding standing = standingFor(leagueId, teamId);
+        standing.setRank(teamIds.size() + 1);
+        eventPublisher.publishEvent(new TeamJoinedLeagueEvent(leagueId, teamId));
+    }
+
+    /**
+     * Sets the team's division and rival, which schedule generation reads. Rivalries are
+     * mutual: naming a rival ends any rivalry either team had and makes the rival name
+     * this team back.
+     *
+     * @throws IllegalArgumentException if the team or rival is not in the league, or is
+     *         its own rival
+     * @throws RuntimeException if the league does not exist
+     */
+    public void updateTeam(Integer leagueId, Integer teamId, LeagueTeamSettings settings) {
+        lockLeague(leagueId);
+        List<Integer> teamIds = leagueRepository.findTeamIds(leagueId);
+        Integer rivalTeamId = settings.rivalTeamId();
+        if (!teamIds.contains(teamId)) {
+            throw new IllegalArgumentException("Team " + teamId + " is not in league " + leagueId);
+        }
+        if (rivalTeamId != null && (rivalTeamId.equals(teamId) || !teamIds.contains(rivalTeamId))) {
+            throw new IllegalArgumentException("A rival must be another team of league " + leagueId);
+        }
+        leagueRepository.setDivision(leagueId, teamId, settings.division());
+        leagueRepository.clearRivals(leagueId, rivalTeamId != null ? List.of(teamId, rivalTeamId) : List.of(teamId));
+        if (rivalTeamId != null) {
+            leagueRepository.setRivals(leagueId, teamId, rivalTeamId);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the week is out of range, a team is not in the
+     *         league, both are the same or either already plays that week
+     * @throws RuntimeException if the league does not exist
+     */
+    public Matchup scheduleMatchup(Integer leagueId, Integer week, Integer homeTeamId, Integer awayTeamId) {
+        lockLeague(leagueId);
+        checkWeek(week);
+        if (homeTeamId == null || awayTeamId == null || homeTeamId.equals(awayTeamId)) {
+            throw new IllegalArgumentException("A matchup needs two different teams");
+        }
+        List<Integer> teamIds = leagueRepository.findTeamIds(leagueId);
+        if (!teamIds.contains(homeTeamId) || !teamIds.contains(awayTeamId)) {
+            throw new IllegalArgumentException("Both teams must be in league " + leagueId);
+        }
+        if (matchupRepository.countByLeagueIdAndWeekAndTeams(leagueId, week, List.of(homeTeamId, awayTeamId)) > 0) {
+            throw new IllegalArgumentException("A team already plays in week " + week);
+        }
+        Matchup matchup = new Matchup();
+        matchup.setLeagueId(leagueId);
+        matchup.setWeek(week);
+        matchup.setHomeTeamId(homeTeamId);
+        matchup.setAwayTeamId(awayTeamId);
+        return matchupRepository.save(matchup);
+    }
+
+    /**
+     * The league's matchups in week order, or those of one week.
+     */
+    @Transactional(readOnly = true)
+    public List<Matchup> getMatchups(Integer leagueId, Integer week) {
+        return week != null
+                ? matchupRepository.findByLeagueIdAndWeekOrderById(leagueId, week)
+                : matchupRepository.findByLeagueIdOrderByWeekAscIdAsc(leagueId);
+    }
+
+    /**
+     * Sets the final points of a matchup and applies the result to the standings. A
+     * matchup already final is corrected: its previous result is taken out first.
+     *
+     * @throws IllegalArgumentException if either score is missing
+     * @throws RuntimeException if the league or matchup does not exist
+     */
+    public Matchup finalizeMatchup(Integer leagueId, Integer matchupId, BigDecimal homePoints, BigDecimal awayPoints) {
+        if (homePoints == null || awayPoints == null) {
+            throw new IllegalArgumentException("Both scores are required");
+        }
+        lockLeague(leagueId);
+        Matchup matchup = matchupRepository.findById(matchupId)
+                .filter(m -> m.getLeagueId().equals(leagueId))
+                .orElseThrow(() -> new RuntimeException("Matchup not found"));
+        applyResult(matchup, homePoints, awayPoints);
+        rank(leagueId);
+        return matchup;
+    }
+
+    /**
+     * Finalizes every matchup of the week still scheduled, scoring each team as the sum
+     * of its current starters' points that week under the league's scoring rules. The
+     * whole league's starters are scored in one call and the league is ranked once.
+     *
+     * @throws IllegalArgumentException if the week is out of range
+     * @throws IllegalStateException if season stats are not loaded yet
+     * @throws RuntimeException if the league does not exist
+     */
+    public List<Matchup> finalizeWeek(Integer leagueId, Integer week) {
+        League league = lockLeague(leagueId);
+        checkWeek(week);
+        List<Matchup> scheduled = matchupRepository.findByLeagueIdAndWeekOrderById(leagueId, week)
+                .stream()
+                .filter(matchup -> !matchup.isFinal())
+                .toList();
+        if (scheduled.isEmpty()) {
+            return scheduled;
+        }
+        List<Integer> starterTeams = new ArrayList<>();
+        List<Integer> starterIds = new ArrayList<>();
+        for (Object[] row : teamPlayerRepository.findLineupEntriesByLeagueId(leagueId)) {
+            if (!RosterRules.BENCH.equals(row[3])) {
+                starterTeams.add(((Number) row[0]).intValue());
+                starterIds.add(((Number) row[1]).intValue());
+            }
+        }
+        long[] points = scoringService.getPoints(leagueId, league.getSeason(), week,
+                starterIds.stream().mapToInt(Integer::intValue).toArray());
+        Map<Integer, Long> teamPoints = new HashMap<>();
+        for (int i = 0; i < points.length; i++) {
+            teamPoints.merge(starterTeams.get(i), points[i], Long::sum);
+        }
+        for (Matchup matchup : scheduled) {
+            applyResult(matchup, ScoringFormula.toPoints(teamPoints.getOrDefault(matchup.getHomeTeamId(), 0L)),
+                    ScoringFormula.toPoints(teamPoints.getOrDefault(matchup.getAwayTeamId(), 0L)));
+        }
+        rank(leagueId);
+        return scheduled;
+    }
+
+    /**
+     * The league's standings in rank order.
+     *
+     * @throws RuntimeException if the league does not exist
+     */
+    @Transactional(readOnly = true)
+    public List<StandingView> getStandings(Integer leagueId) {
+        List<StandingView> standings = standingRepository.findViewsByLeagueId(leagueId);
+        if (standings.isEmpty() && !leagueRepository.existsById(leagueId)) {
+            throw new RuntimeException("League not found");
+        }
+        return standings;
+    }
+
+    private League lockLeague(Integer leagueId) {
+        return leagueRepository.findForUpdate(leagueId).orElseThrow(() -> new RuntimeException("League not found"));
+    }
+
+    private void applyResult(Matchup matchup, BigDecimal homePoints, BigDecimal awayPoints) {
+        LeagueStanding home = standingFor(matchup.getLeagueId(), matchup.getHomeTeamId());
+        LeagueStanding away = standingFor(matchup.getLeagueId(), matchup.getAwayTeamId());
+        boolean correction = matchup.isFinal();
+        if (correction) {
+            MatchupOutcome previous = matchup.homeOutcome();
+            home.apply(previous, matchup.getHomePoints(), matchup.getAwayPoints(), -1);
+            away.apply(previous.opposite(), matchup.getAwayPoints(), matchup.getHomePoints(), -1);
+            addHeadToHead(matchup, previous, -1);
+        }
+        matchup.setHomePoints(homePoints);
+        matchup.setAwayPoints(awayPoints);
+        matchup.setStatus(Matchup.FINAL);
+        matchup.setFinalizedAt(LocalDateTime.now());
+        MatchupOutcome outcome = matchup.homeOutcome();
+        home.apply(outcome, homePoints, awayPoints, 1);
+        away.apply(outcome.opposite(), awayPoints, homePoints, 1);
+        addHeadToHead(matchup, outcome, 1);
+        updateStreak(home, outcome, matchup.getWeek(), correction);
+        updateStreak(away, outcome.opposite(), matchup.getWeek(), correction);
+    }
+
+    private void updateStreak(LeagueStanding standing, MatchupOutcome outcome, int week, boolean correction) {
+        if (!correction && standing.isAfterLastWeek(week)) {
+            standing.extendStreak(outcome, week);
+            return;
+        }
+        // Out of week order or corrected: count back from the team's newest game
+        List<Matchup> games = matchupRepository.findFinalByLeagueIdAndTeamId(standing.getLeagueId(), standing.getTeamId());
+        if (games.isEmpty()) {
+            standing.setStreak(null, 0, 0);
+            return;
+        }
+        MatchupOutcome latest = outcomeFor(games.get(0), standing.getTeamId());
+        int length = 1;
+        while (length < games.size() && outcomeFor(games.get(length), standing.getTeamId()) == latest) {
+            length++;
+        }
+        standing.setStreak(latest, length, games.get(0).getWeek());
+    }
+
+    private void addHeadToHead(Matchup matchup, MatchupOutcome homeOutcome, int sign) {
+        addHeadToHead(matchup.getLeagueId(), matchup.getHomeTeamId(), matchup.getAwayTeamId(), homeOutcome, sign);
+        addHeadToHead(matchup.getLeagueId(), matchup.getAwayTeamId(), matchup.getHomeTeamId(), homeOutcome.opposite(), sign);
+    }
+
+    private void addHeadToHead(Integer leagueId, Integer teamId, Integer opponentId, MatchupOutcome outcome, int sign) {
+        standingRepository.addHeadToHead(leagueId, teamId, opponentId,
+                outcome == MatchupOutcome.WIN ? sign : 0,
+                outcome == MatchupOutcome.LOSS ? sign : 0,
+                outcome == MatchupOutcome.TIE ? sign : 0);
+    }
+
+    private void rank(Integer leagueId) {
+        List<LeagueStanding> standings = standingRepository.findByLeagueId(leagueId);
+        List<Integer> order = StandingsRanker.rank(
+                standings.stream().map(LeagueStanding::toRecord).toList(),
+                () -> headToHead(leagueId));
+        Map<Integer, LeagueStanding> byTeam = new HashMap<>();
+        for (LeagueStanding standing : standings) {
+            byTeam.put(standing.getTeamId(), standing);
+        }
+        for (int i = 0; i < order.size(); i++) {
+            LeagueStanding standing = byTeam.get(order.get(i));
+            if (standing.getRank() != i + 1) {
+                standing.setRank(i + 1);
+            }
+        }
+    }
+
+    private StandingsRanker.HeadToHead headToHead(Integer leagueId) {
+        Map<Long, int[]> results = new HashMap<>();
+        for (Object[] row : standingRepository.findHeadToHead(leagueId)) {
+            int[] record = {((Number) row[2]).intValue(), ((Number) row[3]).intValue(), ((Number) row[4]).intValue()};
+            results.put(pair(((Number) row[0]).intValue(), ((Number) row[1]).intValue()), record);
+        }
+        int[] none = new int[3];
+        return (teamId, opponentId) -> results.getOrDefault(pair(teamId, opponentId), none);
+    }
+
+    private LeagueStanding standingFor(Integer leagueId, Integer teamId) {
+        return standingRepository.findById(new LeagueStanding.Key(leagueId, teamId)).orElseGet(() -> {
+            LeagueStanding standing = new LeagueStanding();
+            standing.setLeagueId(leagueId);
+            standing.setTeamId(teamId);
+            return standingRepository.save(standing);
+        });
+    }
+
+    private static MatchupOutcome outcomeFor(Matchup matchup, Integer teamId) {
+        MatchupOutcome home = matchup.homeOutcome();
+        return matchup.getHomeTeamId().equals(teamId) ? home : home.opposite();
+    }
+
+    private static long pair(int teamId, int opponentId) {
+        return ((long) teamId << 32) | (opponentId & 0xffffffffL);
+    }
+
+    private static void checkWeek(Integer week) {
+        if (week == null || week < 1 || week > SeasonStatsStore.MAX_WEEK) {
+            throw new IllegalArgumentException("Week " + week + " is outside 1-" + SeasonStatsStore.MAX_WEEK);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.fantasyfootball.service;
+
+import com.fantasyfootball.dto.LineupSlot;
+import com.fantasyfootball.dto.OptimalLineupView;
+import com.fantasyfootball.entity.TeamPlayer;
+import com.fantasyfootball.index.SeasonStatsStore;
+import com.fantasyfootball.repository.TeamPlayerRepository;
+import com.fantasyfootball.repository.TeamRepository;
+import com.fantasyfootball.roster.LineupOptimizer;
+import com.fantasyfootball.roster.RosterRules;
+import com.fantasyfootball.scoring.ScoringFormula;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds each team's highest-scoring starting lineup with {@link LineupOptimizer}, under
+ * the team's roster rules and its league's scoring rules.
+ *
+ * Points are a player's actual points in the given week or, without a week, their points
+ * per week played over the season as a projection. The difference to what the current
+ * starters score is the points left on the bench. A batch reads the rosters in one query
+ * and scores each league's players in one pass over the season stats.
+ */
+@Service
+public class LineupService {
+
+    // ScoringService scores a league without rules of its own with the standard rules,
+    // so teams in no league are scored under an id no league has.
+    private static final int NO_LEAGUE = 0;
+
+    @Autowired
+    private TeamPlayerRepository teamPlayerRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private RosterRulesService rosterRulesService;
+
+    @Autowired
+    private ScoringService scoringService;
+
+    @Autowired
+    private TeamService teamService;
+
+    /**
+     * @throws IllegalArgumentException if the season is missing or the week out of range
+     * @throws IllegalStateException if season stats are not loaded yet
+     * @throws RuntimeException if the team does not exist
+     */
+    @Transactional(readOnly = true)
+    public OptimalLineupView getOptimalLineup(Integer teamId, Integer season, Integer week) {
+        checkWeek(season, week);
+        List<TeamPlayer> players = teamPlayerRepository.findByTeamIdWithPlayerDetails(teamId);
+        if (players.isEmpty() && !teamRepository.existsById(teamId)) {
+            throw new RuntimeException("Team not found");
+        }
+        Roster roster = new Roster(teamId);
+        for (TeamPlayer teamPlayer : players) {
+            roster.add(teamPlayer.getPlayer().getId(), teamPlayer.getPlayer().getPosition(),
+                    teamPlayer.getRosterPosition());
+        }
+        Integer leagueId = rosterRulesService.leagueOf(teamId);
+        long[] points = scoringService.getPoints(scoringLeague(leagueId), season, week, roster.playerIdArray());
+        return optimize(roster, leagueId, season, week, points, 0);
+    }
+
+    /**
+     * The optimal lineup of every team with players in the league, or of every team with
+     * players when {@code leagueId} is null, in team id order. Each team is scored under
+     * the requested league's rules, or its own league's without one.
+     */
+    @Transactional(readOnly = true)
+    public List<OptimalLineupView> getOptimalLineups(Integer leagueId, Integer season, Integer week) {
+        checkWeek(season, week);
+        List<Object[]> rows = leagueId != null
+                ? teamPlayerRepository.findLineupEntriesByLeagueId(leagueId)
+                : teamPlayerRepository.findAllLineupEntries();
+        Map<Integer, List<Roster>> byLeague = new LinkedHashMap<>();
+        List<Roster> rosters = new ArrayList<>();
+        Roster roster = null;
+        for (Object[] row : rows) {
+            int teamId = ((Number) row[0]).intValue();
+            if (roster == null || roster.teamId != teamId) {
+                roster = new Roster(teamId);
+                roster.leagueId = leagueId != null ? leagueId : rosterRulesService.leagueOf(teamId);
+                rosters.add(roster);
+                byLeague.computeIfAbsent(scoringLeague(roster.leagueId), id -> new ArrayList<>()).add(roster);
+            }
+            roster.add(((Number) row[1]).intValue(), (String) row[2], (String) row[3]);
+        }
+        Map<Roster, OptimalLineupView> optimal = new LinkedHashMap<>();
+        byLeague.forEach((scoringLeague, teams) -> {
+            int[] playerIds = teams.stream().flatMapToInt(team -> Arrays.stream(team.playerIdArray())).toArray();
+            long[] points = scoringService.getPoints(scoringLeague, season, week, playerIds);
+            int offset = 0;
+            for (Roster team : teams) {
+                optimal.put(team, optimize(team, team.leagueId, season, week, points, offset));
+                offset += team.size();
+            }
+        });
+        return rosters.stream().map(optimal::get).toList();
+    }
+
+    /**
+     * Sets the team's lineup to its optimal one through {@link TeamService#setLineup},
+     * which checks it again against the roster it reads. Not transactional itself, so
+     * the write does not see the entities read here; run it on the team's
+     * {@link RosterWriteExecutor} stripe so no other roster write falls in between.
+     */
+    public List<TeamPlayer> applyOptimalLineup(Integer teamId, Integer season, Integer week) {
+        return teamService.setLineup(teamId, getOptimalLineup(teamId, season, week).lineup());
+    }
+
+    private OptimalLineupView optimize(Roster roster, Integer leagueId, Integer season, Integer week,
+                                       long[] points, int offset) {
+        int size = roster.size();
+        long[] own = Arrays.copyOfRange(points, offset, offset + size);
+        String[] current = roster.slots.toArray(String[]::new);
+        RosterRules rules = rosterRulesService.rulesForTeam(roster.teamId);
+        LineupOptimizer.Solution best = LineupOptimizer.solve(rules,
+                roster.positions.toArray(String[]::new), own, current);
+        long currentPoints = 0;
+        List<LineupSlot> lineup = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (!RosterRules.BENCH.equals(current[i])) {
+                currentPoints += own[i];
+            }
+            lineup.add(new LineupSlot(roster.playerIds.get(i), best.slots()[i]));
+        }
+        return new OptimalLineupView(roster.teamId, leagueId, season, week,
+                ScoringFormula.toPoints(best.points()), ScoringFormula.toPoints(currentPoints),
+                ScoringFormula.toPoints(Math.max(0, best.points() - currentPoints)), lineup);
+    }
+
+    private static void checkWeek(Integer season, Integer week) {
+        if (season == null) {
+            throw new IllegalArgumentException("A season is required");
+        }
+        if (week != null && (week < 1 || week > SeasonStatsStore.MAX_WEEK)) {
+            throw new IllegalArgumentException("Week " + week + " is outside 1-" + SeasonStatsStore.MAX_WEEK);
+        }
+    }
+
+    private static int scoringLeague(Integer leagueId) {
+        return leagueId != null ? leagueId : NO_LEAGUE;
+    }
+
+    private static final class Roster {
+
+        private final int teamId;
+        private final List<Integer> playerIds = new ArrayList<>();
+        private final List<String> positions = new ArrayList<>();
+        private final List<String> slots = new ArrayList<>();
+        private Integer leagueId;
+
+        Roster(int teamId) {
+            this.teamId = teamId;
+        }
+
+        void add(int playerId, String position, String slot) {
+            playerIds.add(playerId);
+            positions.add(position);
+            slots.add(slot);
+        }
+
+        int size() {
+            return playerIds.size();
+        }
+
+        int[] playerIdArray() {
+            return playerIds.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.fantasyfootball.service;
+
+import com.fantasyfootball.dto.PlayerFacetQuery;
+import com.fantasyfootball.dto.PlayerSummary;
+import com.fantasyfootball.event.PlayerChangedEvent;
+import com.fantasyfootball.event.RosterChangedEvent;
+import com.fantasyfootball.event.TeamJoinedLeagueEvent;
+import com.fantasyfootball.index.PlayerFacetIndex;
+import com.fantasyfootball.repository.TeamPlayerRepository;
+import com.fantasyfootball.repository.TeamRepository;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Tracks which players are rostered in each league as a bitmap of player ids, so "who is
+ * still available in my league" is a bitmap ANDNOT against the facet index instead of a
+ * {@code NOT IN} subquery. Teams that do not belong to a league are their own scope.
+ *
+ * Per-team bitmaps are the source of truth; a league bitmap is the union of its teams'
+ * bitmaps and is maintained incrementally from roster events.
+ */
+@Service
+public class PlayerAvailabilityService {
+
+    private static final Logger log = LoggerFactory.getLogger(PlayerAvailabilityService.class);
+
+    @Autowired
+    private TeamPlayerRepository teamPlayerRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private PlayerFacetIndex playerFacetIndex;
+
+    @Autowired
+    private PlayerIndexService playerIndexService;
+
+    private final Map<Integer, RoaringBitmap> rosteredByTeam = new HashMap<>();
+    private final Map<Integer, RoaringBitmap> rosteredByLeague = new HashMap<>();
+    private final Map<Integer, Integer> leagueByTeam = new HashMap<>();
+    private final Map<Integer, Set<Integer>> teamsByLeague = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Changes that arrive while load() queries its snapshot, replayed over the snapshot;
+    // null when changes apply directly
+    private List<Runnable> pending;
+
+    private volatile boolean ready;
+
+    /**
+     * Both queries return plain ids, so no transaction is held here; that also keeps a failing
+     * query from marking a surrounding transaction rollback-only and failing startup.
+     *
+     * The lock is not held across the queries, since a roster listener waiting on it runs
+     * after its commit and may still hold a pooled connection. Roster and league events
+     * that arrive meanwhile are queued instead, and replayed once the snapshot is in place;
+     * replaying one the snapshot already reflects changes nothing.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        setPending(new ArrayList<>());
+        try {
+            List<Object[]> assignments = teamRepository.findAllLeagueAssignments();
+            List<Object[]> rosterRows = teamPlayerRepository.findAllTeamAndPlayerIds();
+            lock.writeLock().lock();
+            try {
+                rosteredByTeam.clear();
+                rosteredByLeague.clear();
+                leagueByTeam.clear();
+                teamsByLeague.clear();
+                for (Object[] row : assignments) {
+                    assignTeam(((Number) row[0]).intValue(), ((Number) row[1]).intValue());
+                }
+                for (Object[] row : rosterRows) {
+                    addRostered((Integer) row[0], (Integer) row[1]);
+                }
+                pending.forEach(Runnable::run);
+            } finally {
+                pending = null;
+                lock.writeLock().unlock();
+            }
+            ready = true;
+            log.info("Loaded roster availability for {} teams in {} leagues", rosteredByTeam.size(), teamsByLeague.size());
+        } catch (RuntimeException e) {
+            setPending(null);
+            ready = false;
+            log.warn("Could not load roster availability", e);
+        }
+    }
+
+    /**
+     * Active players not rostered by any team in {@code leagueId}, filtered by position and
+     * ranked like {@code /players/query}.
+     */
+    public List<PlayerSummary> getAvailablePlayersInLeague(Integer leagueId, List<String> positions, String sort, int limit) {
+        requireReady();
+        RoaringBitmap rostered;
+        lock.readLock().lock();
+        try {
+            rostered = rosteredByLeague.getOrDefault(leagueId, new RoaringBitmap()).clone();
+        } finally {
+            lock.readLock().unlock();
+        }
+        return playerFacetIndex.query(availableQuery(positions, sort, limit), rostered);
+    }
+
+    /**
+     * Same as {@link #getAvailablePlayersInLeague} for the league {@code teamId} plays in, or
+     * just that team's roster when it is not in a league.
+     */
+    public List<PlayerSummary> getAvailablePlayersForTeam(Integer teamId, List<String> positions, String sort, int limit) {
+        requireReady();
+        RoaringBitmap rostered;
+        lock.readLock().lock();
+        try {
+            Integer leagueId = leagueByTeam.get(teamId);
+            RoaringBitmap source = leagueId != null ? rosteredByLeague.get(leagueId) : rosteredByTeam.get(teamId);
+            rostered = source != null ? source.clone() : new RoaringBitmap();
+        } finally {
+            lock.readLock().unlock();
+        }
+        return playerFacetIndex.query(availableQuery(positions, sort, limit), rostered);
+    }
+
+    public boolean isRosteredInLeague(Integer leagueId, Integer playerId) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap rostered = rosteredByLeague.get(leagueId);
+            return rostered != null && rostered.contains(playerId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Records that {@code teamId} joined {@code leagueId}; its current roster counts towards the
+     * league. A team joins at most one league (see {@link LeagueService#addTeam}).
+     */
+    public void onTeamJoinedLeague(Integer teamId, Integer leagueId) {
+        update(() -> {
+            assignTeam(teamId, leagueId);
+            RoaringBitmap roster = rosteredByTeam.get(teamId);
+            if (roster != null) {
+                rosteredByLeague.computeIfAbsent(leagueId, k -> new RoaringBitmap()).or(roster);
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamJoinedLeague(TeamJoinedLeagueEvent event) {
+        onTeamJoinedLeague(event.teamId(), event.leagueId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRosterChanged(RosterChangedEvent event) {
+        update(() -> {
+            switch (event.type()) {
+                case ADDED -> addRostered(event.teamId(), event.playerId());
+                case REMOVED -> removeRostered(event.teamId(), event.playerId());
+                case CLEARED -> clearTeam(event.teamId());
+                case MOVED -> { }
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        if (!event.isDeleted()) {
+            return;
+        }
+        update(() -> {
+            for (Map.Entry<Integer, RoaringBitmap> team : rosteredByTeam.entrySet()) {
+                if (team.getValue().contains(event.playerId())) {
+                    removeRostered(team.getKey(), event.playerId());
+                }
+            }
+        });
+    }
+
+    private void update(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            if (pending != null) {
+                pending.add(change);
+            } else {
+                change.run();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void setPending(List<Runnable> changes) {
+        lock.writeLock().lock();
+        try {
+            pending = changes;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void requireReady() {
+        if (!ready || !playerIndexService.isReady()) {
+            throw new IllegalStateException("Player availability is not loaded");
+        }
+    }
+
+    private static PlayerFacetQuery availableQuery(List<String> positions, String sort, int limit) {
+        return new PlayerFacetQuery(positions, null, null, null, true, null, sort, limit);
+    }
+
+    private void assignTeam(int teamId, int leagueId) {
+        Integer previous = leagueByTeam.put(teamId, leagueId);
+        if (previous != null && previous != leagueId) {
+            teamsByLeague.getOrDefault(previous, new HashSet<>()).remove(teamId);
+        }
+        teamsByLeague.computeIfAbsent(leagueId, k -> new HashSet<>()).add(teamId);
+    }
+
+    private void addRostered(int teamId, int playerId) {
+        rosteredByTeam.computeIfAbsent(teamId, k -> new RoaringBitmap()).add(playerId);
+        Integer leagueId = leagueByTeam.get(teamId);
+        if (leagueId != null) {
+            rosteredByLeague.computeIfAbsent(leagueId, k -> new RoaringBitmap()).add(playerId);
+        }
+    }
+
+    private void removeRostered(int teamId, int playerId) {
+        RoaringBitmap roster = rosteredByTeam.get(teamId);
+        if (roster != null) {
+            roster.remove(playerId);
+        }
+        Integer leagueId = leagueByTeam.get(teamId);
+        if (leagueId != null && !rosteredElsewhereInLeague(leagueId, teamId, playerId)) {
+            RoaringBitmap leagueRoster = rosteredByLeague.get(leagueId);
+            if (leagueRoster != null) {
+                leagueRoster.remove(playerId);
+            }
+        }
+    }
+
+    private void clearTeam(int teamId) {
+        RoaringBitmap roster = rosteredByTeam.get(teamId);
+        if (roster != null) {
+            for (int playerId : roster.toArray()) {
+                removeRostered(teamId, playerId);
+            }
+            rosteredByTeam.remove(teamId);
+        }
+        Integer leagueId = leagueByTeam.remove(teamId);
+        if (leagueId != null) {
+            teamsByLeague.getOrDefault(leagueId, new HashSet<>()).remove(teamId);
+        }
+    }
+
+    private boolean rosteredElsewhereInLeague(int leagueId, int teamId, int playerId) {
+        for (Integer otherTeam : teamsByLeague.getOrDefault(leagueId, Set.of())) {
+            RoaringBitmap roster = rosteredByTeam.get(otherTeam);
+            if (otherTeam != teamId && roster != null && roster.contains(playerId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,67 @@
+package com.fantasyfootball.service;
+
+import com.fantasyfootball.entity.Player;
+import com.fantasyfootball.event.PlayerChangedEvent;
+import com.fantasyfootball.index.PlayerIndex;
+import com.fantasyfootball.repository.PlayerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Loads every {@link PlayerIndex} from the players table once the application is up and
+ * applies player writes to them after the writing transaction commits.
+ */
+@Service
+public class PlayerIndexService {
+
+    private static final Logger log = LoggerFactory.getLogger(PlayerIndexService.class);
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private List<PlayerIndex> indexes;
+
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildAll() {
+        try {
+            long start = System.nanoTime();
+            List<Player> players = playerRepository.findAllWithNflTeam();
+            for (PlayerIndex index : indexes) {
+                index.rebuild(players);
+            }
+            ready = true;
+            log.info("Built {} player indexes over {} players in {} ms",
+                    indexes.size(), players.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            ready = false;
+            log.warn("Could not build player indexes, falling back to database queries", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        for (PlayerIndex index : indexes) {
+            if (event.isDeleted()) {
+                index.remove(event.playerId());
+            } else {
+                index.upsert(event.player());
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+}
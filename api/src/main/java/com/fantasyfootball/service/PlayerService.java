@@ -1,39 +1,145 @@
 package com.fantasyfootball.service;
 
+import com.fantasyfootball.dto.CursorPage;
+import com.fantasyfootball.dto.LeaderboardEntry;
+import com.fantasyfootball.dto.PageCursor;
+import com.fantasyfootball.dto.PlayerFacetQuery;
+import com.fantasyfootball.dto.PlayerRank;
+import com.fantasyfootball.dto.PlayerSuggestion;
+import com.fantasyfootball.dto.PlayerSummary;
+import com.fantasyfootball.dto.PlayerWithStatsView;
+import com.fantasyfootball.entity.NflTeam;
 import com.fantasyfootball.entity.Player;
+import com.fantasyfootball.event.PlayerChangedEvent;
+import com.fantasyfootball.index.PlayerFacetIndex;
+import com.fantasyfootball.index.PlayerFuzzyIndex;
+import com.fantasyfootball.index.PlayerLeaderboardIndex;
+import com.fantasyfootball.index.PlayerNameIndex;
+import com.fantasyfootball.index.PlayerSuggestIndex;
+import com.fantasyfootball.repository.NflTeamRepository;
 import com.fantasyfootball.repository.PlayerRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 @Transactional
 public class PlayerService {
     
+    public static final int MAX_PAGE_SIZE = 500;
+    
+    public static final int MAX_LEADERBOARD_SIZE = 500;
+    
+    private static final List<Boolean> ACTIVE_ONLY = List.of(true);
+    private static final List<Boolean> ACTIVE_AND_INACTIVE = List.of(true, false);
+    
     @Autowired
     private PlayerRepository playerRepository;
     
+    @Autowired
+    private NflTeamRepository nflTeamRepository;
+    
+    @Autowired
+    private PlayerIndexService playerIndexService;
+    
+    @Autowired
+    private PlayerNameIndex playerNameIndex;
+    
+    @Autowired
+    private PlayerSuggestIndex playerSuggestIndex;
+    
+    @Autowired
+    private PlayerFuzzyIndex playerFuzzyIndex;
+    
+    @Autowired
+    private PlayerLeaderboardIndex playerLeaderboardIndex;
+    
+    @Autowired
+    private PlayerFacetIndex playerFacetIndex;
+    
+    @Autowired
+    private SeasonArchiveService seasonArchiveService;
+    
+    @Autowired
+    private RosterDocumentService rosterDocumentService;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Value("${fantasy.search.index-enabled:true}")
+    private boolean searchIndexEnabled = true;
+    
     public List<Player> getAllPlayers() {
-        return playerRepository.findAll();
+        return playerRepository.findAllWithNflTeam();
     }
     
     public List<Player> getActivePlayers() {
         return playerRepository.findByIsActiveTrue();
     }
     
+    /**
+     * Returns one page of players ordered by {@code points} (fantasy points descending) or
+     * {@code name} (last name, D/ST name for defenses). Pass the previous page's
+     * {@code nextCursor} to continue; each page costs one indexed range scan.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<PlayerSummary> getPlayerPage(String sort, String cursor, int size, boolean activeOnly) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<Boolean> activeStates = activeOnly ? ACTIVE_ONLY : ACTIVE_AND_INACTIVE;
+        PageCursor after = cursor != null && !cursor.isBlank() ? PageCursor.decode(cursor) : null;
+        
+        List<PlayerSummary> rows;
+        if ("points".equalsIgnoreCase(sort)) {
+            rows = after == null
+                    ? playerRepository.findSummariesByPoints(activeStates, limit)
+                    : playerRepository.findSummariesByPointsAfter(activeStates, parsePoints(after), after.id(), limit);
+        } else if ("name".equalsIgnoreCase(sort)) {
+            rows = after == null
+                    ? playerRepository.findSummariesByName(activeStates, limit)
+                    : playerRepository.findSummariesByNameAfter(activeStates, after.sortKey(), after.id(), limit);
+        } else {
+            throw new IllegalArgumentException("Unsupported sort: " + sort);
+        }
+        
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+        List<PlayerSummary> page = rows.subList(0, pageSize);
+        PlayerSummary last = page.get(pageSize - 1);
+        // the same coalesced keys the queries order by
+        String sortKey = "points".equalsIgnoreCase(sort)
+                ? (last.fantasyPoints() != null ? last.fantasyPoints() : BigDecimal.ZERO).toPlainString()
+                : sortName(last);
+        return new CursorPage<>(List.copyOf(page), new PageCursor(sortKey, last.id()).encode());
+    }
+    
     public Optional<Player> getPlayerById(Integer id) {
-        return playerRepository.findById(id);
+        return playerRepository.findByIdWithNflTeam(id);
     }
     
     public Optional<Player> getPlayerWithNflTeam(Integer id) {
         return playerRepository.findByIdWithNflTeam(id);
     }
     
-    public Optional<Player> getPlayerWithStats(Integer id) {
-        return playerRepository.findByIdWithStats(id);
+    /**
+     * The player with every week of stats: live seasons from {@code player_stats} and
+     * archived seasons from their {@link SeasonArchiveService} files.
+     */
+    public Optional<PlayerWithStatsView> getPlayerWithStats(Integer id) {
+        return playerRepository.findByIdWithStats(id)
+                .map(player -> PlayerWithStatsView.from(player, seasonArchiveService.getArchivedWeeks(id)));
     }
     
     public List<Player> getPlayersByPosition(String position) {
@@ -61,29 +167,109 @@ public class PlayerService {
     }
     
     public List<Player> searchPlayersByName(String searchTerm) {
-        return playerRepository.findByNameContainingIgnoreCase(searchTerm);
+        if (!searchIndexEnabled || !playerIndexService.isReady()) {
+            return playerRepository.findByNameContainingIgnoreCase(searchTerm);
+        }
+        return findAllByIdInOrder(playerNameIndex.search(searchTerm));
+    }
+    
+    /**
+     * Typo-tolerant name search: tolerates misspellings, missing punctuation and names that
+     * sound alike, closest matches first. Until the index is loaded this degrades to the
+     * substring search.
+     */
+    public List<Player> searchPlayersFuzzy(String searchTerm) {
+        if (!searchIndexEnabled || !playerIndexService.isReady()) {
+            return searchPlayersByName(searchTerm);
+        }
+        return findAllByIdInOrder(playerFuzzyIndex.search(searchTerm));
+    }
+    
+    public PlayerSuggestion[] suggestPlayers(String prefix, int limit) {
+        return playerSuggestIndex.suggest(prefix, Math.min(limit, PlayerSuggestIndex.MAX_SUGGESTIONS));
+    }
+    
+    public List<PlayerSummary> queryPlayers(PlayerFacetQuery query) {
+        if (!playerIndexService.isReady()) {
+            throw new IllegalStateException("Player index is not loaded");
+        }
+        return playerFacetIndex.query(query);
+    }
+    
+    /**
+     * Returns up to {@code limit} active players ranked by fantasy points starting at the
+     * 1-based rank {@code fromRank}, within {@code position} or across all positions when
+     * it is null. Ties are ordered by player id, so every player has a distinct rank.
+     */
+    public List<LeaderboardEntry> getLeaderboard(String position, int fromRank, int limit) {
+        if (fromRank < 1 || limit < 1) {
+            throw new IllegalArgumentException("fromRank and limit must be positive");
+        }
+        if (!playerIndexService.isReady()) {
+            throw new IllegalStateException("Player index is not loaded");
+        }
+        List<Integer> ids = playerLeaderboardIndex.range(position, fromRank, Math.min(limit, MAX_LEADERBOARD_SIZE));
+        List<LeaderboardEntry> entries = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            PlayerSummary summary = playerFacetIndex.getSummary(ids.get(i));
+            if (summary != null) {
+                entries.add(new LeaderboardEntry(fromRank + i, summary));
+            }
+        }
+        return entries;
+    }
+    
+    public Optional<PlayerRank> getPlayerRank(Integer playerId) {
+        if (!playerIndexService.isReady()) {
+            throw new IllegalStateException("Player index is not loaded");
+        }
+        String position = playerLeaderboardIndex.positionOf(playerId);
+        if (position == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new PlayerRank(playerId, position,
+                playerLeaderboardIndex.rank(position, playerId), playerLeaderboardIndex.size(position),
+                playerLeaderboardIndex.rank(null, playerId), playerLeaderboardIndex.size(null)));
     }
     
     public List<Player> getAvailablePlayersNotOnTeam(Integer teamId) {
         return playerRepository.findAvailablePlayersNotOnTeam(teamId);
     }
     
+    /**
+     * @throws IllegalArgumentException if the player's NFL team does not exist
+     */
     public Player savePlayer(Player player) {
-        return playerRepository.save(player);
+        player.setNflTeam(resolveNflTeam(player.getNflTeam()));
+        List<Integer> rosteredOn = player.getId() != null
+                ? rosterDocumentService.lockTeamsOfPlayer(player.getId())
+                : List.of();
+        Player savedPlayer = playerRepository.save(player);
+        rosterDocumentService.refreshTeams(savedPlayer, rosteredOn);
+        eventPublisher.publishEvent(PlayerChangedEvent.saved(savedPlayer));
+        return savedPlayer;
     }
     
     public void deletePlayer(Integer id) {
+        List<Integer> rosteredOn = rosterDocumentService.lockTeamsOfPlayer(id);
         playerRepository.deleteById(id);
+        rosterDocumentService.refreshTeams(rosteredOn);
+        eventPublisher.publishEvent(PlayerChangedEvent.deleted(id));
     }
     
+    /**
+     * @throws IllegalArgumentException if the player's NFL team does not exist
+     * @throws RuntimeException if the player does not exist
+     */
     public Player updatePlayer(Integer id, Player playerDetails) {
         Optional<Player> playerOpt = playerRepository.findById(id);
         if (playerOpt.isPresent()) {
+            List<Integer> rosteredOn = rosterDocumentService.lockTeamsOfPlayer(id);
             Player player = playerOpt.get();
             player.setFirstName(playerDetails.getFirstName());
             player.setLastName(playerDetails.getLastName());
             player.setPosition(playerDetails.getPosition());
-            player.setNflTeam(playerDetails.getNflTeam());
+            player.setNflTeam(resolveNflTeam(playerDetails.getNflTeam()));
             player.setJerseyNumber(playerDetails.getJerseyNumber());
             player.setHeightInches(playerDetails.getHeightInches());
             player.setWeightLbs(playerDetails.getWeightLbs());
@@ -94,9 +280,76 @@ public class PlayerService {
             player.setIsActive(playerDetails.getIsActive());
             player.setIsDst(playerDetails.getIsDst());
             player.setDstTeamName(playerDetails.getDstTeamName());
-            return playerRepository.save(player);
+            Player savedPlayer = playerRepository.save(player);
+            rosterDocumentService.refreshTeams(savedPlayer, rosteredOn);
+            eventPublisher.publishEvent(PlayerChangedEvent.saved(savedPlayer));
+            return savedPlayer;
         } else {
             throw new RuntimeException("Player not found with id: " + id);
         }
     }
+    
+    /**
+     * Sets the fantasy points {@link ScoringService} derives from the player's stats. Runs
+     * once the stats write has committed, so in a transaction of its own; nothing is
+     * written or published if the player is gone or already has these points.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void updateFantasyPoints(Integer id, BigDecimal points) {
+        Optional<Player> playerOpt = playerRepository.findById(id);
+        if (playerOpt.isEmpty() || (playerOpt.get().getFantasyPoints() != null
+                && playerOpt.get().getFantasyPoints().compareTo(points) == 0)) {
+            return;
+        }
+        List<Integer> rosteredOn = rosterDocumentService.lockTeamsOfPlayer(id);
+        Player player = playerOpt.get();
+        player.setFantasyPoints(points);
+        Player savedPlayer = playerRepository.save(player);
+        rosterDocumentService.refreshTeams(savedPlayer, rosteredOn);
+        eventPublisher.publishEvent(PlayerChangedEvent.saved(savedPlayer));
+    }
+    
+    // Request bodies name the NFL team by id only; the player is stored, indexed and
+    // returned with the team itself
+    private NflTeam resolveNflTeam(NflTeam nflTeam) {
+        if (nflTeam == null || nflTeam.getId() == null) {
+            return null;
+        }
+        return nflTeamRepository.findById(nflTeam.getId())
+                .orElseThrow(() -> new IllegalArgumentException("NFL team not found with id: " + nflTeam.getId()));
+    }
+    
+    // COALESCE(last_name, dst_team_name, ''): a D/ST's display name is its dst_team_name
+    private static String sortName(PlayerSummary summary) {
+        if (summary.lastName() != null) {
+            return summary.lastName();
+        }
+        return Boolean.TRUE.equals(summary.isDst()) && summary.displayName() != null ? summary.displayName() : "";
+    }
+    
+    private static BigDecimal parsePoints(PageCursor cursor) {
+        try {
+            return new BigDecimal(cursor.sortKey());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid page cursor for points sort", e);
+        }
+    }
+    
+    private List<Player> findAllByIdInOrder(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, Player> byId = new HashMap<>();
+        for (Player player : playerRepository.findByIdIn(ids)) {
+            byId.put(player.getId(), player);
+        }
+        List<Player> ordered = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            Player player = byId.get(id);
+            if (player != null) {
+                ordered.add(player);
+            }
+        }
+        return ordered;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.fantasyfootball.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Year;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates the season partitions of {@code player_stats} (see the V6 migration) ahead of
+ * the rows that go into them. The current and next season are created at startup; any
+ * other season is created the first time it is written. Rows of a season without a
+ * partition still land in the default partition, so a failure here only costs pruning.
+ */
+@Service
+public class PlayerStatsPartitionService {
+
+    private static final Logger log = LoggerFactory.getLogger(PlayerStatsPartitionService.class);
+
+    private static final String ENSURE_SQL = "SELECT ensure_player_stats_partition(?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Set<Integer> ensured = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createUpcomingPartitions() {
+        int season = Year.now().getValue();
+        ensure(season);
+        ensure(season + 1);
+    }
+
+    /**
+     * Makes sure {@code season} has its own partition, at most once per season and process.
+     * Runs in a transaction of its own that locks the default partition, so it must be
+     * called before the caller's transaction reads {@code player_stats}.
+     */
+    public void ensure(int season) {
+        if (ensured.contains(season)) {
+            return;
+        }
+        TransactionTemplate ddl = new TransactionTemplate(transactionManager);
+        ddl.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            Boolean created = ddl.execute(status -> jdbcTemplate.queryForObject(ENSURE_SQL, Boolean.class, season));
+            if (Boolean.TRUE.equals(created)) {
+                log.info("Created player_stats partition for season {}", season);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not create player_stats partition for season {}", season, e);
+        }
+        ensured.add(season);
+    }
+}
@@ -0,0 +1,189 @@
+package com.fantasyfootball.service;
+
+import com.fantasyfootball.dto.RosterEntryView;
+import com.fantasyfootball.entity.Player;
+import com.fantasyfootball.entity.TeamPlayer;
+import com.fantasyfootball.repository.TeamPlayerRepository;
+import com.fantasyfootball.repository.TeamRepository;
+import com.fantasyfootball.repository.TeamRosterDocumentRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Keeps each team's roster as a pre-serialized JSON document in
+ * {@code team_roster_documents}, so a roster read is one primary-key lookup whose bytes
+ * go to the client as they are. The document is the body the joined roster query
+ * produced before: entries in slot display order, each with its player, the player's
+ * NFL team and the slot embedded.
+ *
+ * Documents are written only on writes. {@link TeamService} rewrites a team's document
+ * in the transaction of every roster change, and {@link PlayerService} rewrites those of
+ * the teams holding a player it changes, having locked their rows first, so no roster
+ * change rebuilds one of them from the old player in between. Teams that have no
+ * document yet, such as those whose rosters have not changed since documents were
+ * introduced, get one from {@link #backfill} at startup; a read in the meantime builds
+ * the roster without storing it. The V9 migration's note that a team gets its row on
+ * its first roster read predates the backfill: reads never store a document.
+ */
+@Service
+@Transactional
+public class RosterDocumentService {
+
+    private static final Logger log = LoggerFactory.getLogger(RosterDocumentService.class);
+
+    private static final byte[] EMPTY = "[]".getBytes(StandardCharsets.UTF_8);
+
+    @Autowired
+    private TeamRosterDocumentRepository documentRepository;
+
+    @Autowired
+    private TeamPlayerRepository teamPlayerRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${fantasy.roster.document-backfill-batch-size:500}")
+    private int backfillBatchSize;
+
+    /**
+     * Stores a document for every team without one, a batch of teams per transaction.
+     * A team row is share-locked while its document is built, and a document a roster
+     * change wrote meanwhile is kept.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfill() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int built = 0;
+        try {
+            List<Integer> teamIds;
+            do {
+                teamIds = transaction.execute(status -> {
+                    List<Integer> batch = documentRepository.findTeamIdsWithoutDocument(backfillBatchSize);
+                    for (Integer teamId : batch) {
+                        if (!documentRepository.lockTeam(teamId).isEmpty()) {
+                            documentRepository.insertIfAbsent(teamId, build(teamId));
+                        }
+                    }
+                    return batch;
+                });
+                built += teamIds.size();
+            } while (teamIds.size() == backfillBatchSize);
+            if (built > 0) {
+                log.info("Built roster documents for {} teams", built);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not build missing roster documents", e);
+        }
+    }
+
+    /**
+     * The team's roster as UTF-8 JSON. A team without a stored document has its roster
+     * built for this read only; an unknown team has an empty roster, as before.
+     */
+    @Transactional(readOnly = true)
+    public byte[] getDocument(Integer teamId) {
+        return documentRepository.findDocumentByTeamId(teamId)
+                .orElseGet(() -> teamRepository.existsById(teamId) ? build(teamId) : EMPTY);
+    }
+
+    /**
+     * Rewrites the team's document from its roster as the current transaction sees it,
+     * pending entity changes included.
+     */
+    public void refresh(Integer teamId) {
+        entityManager.flush();
+        documentRepository.lockTeam(teamId);
+        documentRepository.upsert(teamId, build(teamId));
+    }
+
+    /**
+     * Locks the rows of the teams holding the player and returns their ids, ahead of a
+     * change to the player. A deleted player's roster rows are gone after the change, so
+     * the teams are found before it.
+     */
+    public List<Integer> lockTeamsOfPlayer(Integer playerId) {
+        return documentRepository.lockTeamsOfPlayer(playerId);
+    }
+
+    /**
+     * Rewrites the documents of teams locked with {@link #lockTeamsOfPlayer}, pending
+     * entity changes included.
+     */
+    public void refreshTeams(List<Integer> teamIds) {
+        refreshTeams(null, teamIds);
+    }
+
+    /**
+     * As {@link #refreshTeams(List)} after a change to {@code player}, which is reloaded
+     * first so the documents embed it as stored rather than as the request set it.
+     */
+    public void refreshTeams(Player player, List<Integer> teamIds) {
+        if (teamIds.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        if (player != null) {
+            entityManager.refresh(player);
+        }
+        for (Integer teamId : teamIds) {
+            documentRepository.upsert(teamId, build(teamId));
+        }
+    }
+
+    private byte[] build(Integer teamId) {
+        List<RosterEntryView> roster = teamPlayerRepository.findByTeamIdWithPlayerDetails(teamId).stream()
+                .map(RosterDocumentService::asStored)
+                .toList();
+        try {
+            return objectMapper.writeValueAsBytes(roster);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize the roster of team " + teamId, e);
+        }
+    }
+
+    /**
+     * The entry with its values as the columns store them: timestamps rounded to
+     * microseconds, half up like the JDBC driver, and cost to two places. An entry
+     * written in the transaction that adds it then reads the same as when loaded again.
+     */
+    private static RosterEntryView asStored(TeamPlayer teamPlayer) {
+        RosterEntryView entry = RosterEntryView.from(teamPlayer);
+        return new RosterEntryView(entry.id(), entry.player(), entry.rosterPosition(), entry.rosterPositionEntity(),
+                toMicros(entry.acquisitionDate()),
+                entry.cost() != null ? entry.cost().setScale(2, RoundingMode.HALF_UP) : null,
+                toMicros(entry.createdAt()));
+    }
+
+    private static LocalDateTime toMicros(LocalDateTime time) {
+        return time != null ? time.plusNanos(500).truncatedTo(ChronoUnit.MICROS) : null;
+    }
+}
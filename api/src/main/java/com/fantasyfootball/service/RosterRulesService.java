@@ -0,0 +1,186 @@
+package com.fantasyfootball.service;
+
+import com.fantasyfootball.dto.RosterSlotRuleView;
+import com.fantasyfootball.entity.LeagueRosterSlot;
+import com.fantasyfootball.entity.RosterPosition;
+import com.fantasyfootball.event.RosterRulesChangedEvent;
+import com.fantasyfootball.event.TeamJoinedLeagueEvent;
+import com.fantasyfootball.repository.LeagueRosterSlotRepository;
+import com.fantasyfootball.repository.RosterPositionRepository;
+import com.fantasyfootball.repository.TeamRepository;
+import com.fantasyfootball.roster.RosterPreset;
+import com.fantasyfootball.roster.RosterRules;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Roster rules per league, compiled into {@link RosterRules} once, at startup or when a
+ * league's rules change, so validating a roster move reads nothing from the database.
+ *
+ * A team follows the rules of its league, as the roster trigger does; a team is in at
+ * most one league. A league without rules of its own, or a team in no league, follows
+ * {@link RosterPreset#STANDARD}. The {@code roster_positions} catalogue is cached
+ * alongside for the slot details shown with roster entries.
+ */
+@Service
+public class RosterRulesService {
+
+    private static final Logger log = LoggerFactory.getLogger(RosterRulesService.class);
+
+    private static final RosterRules STANDARD = RosterRules.compile(RosterPreset.STANDARD.rules());
+
+    @Autowired
+    private LeagueRosterSlotRepository leagueRosterSlotRepository;
+
+    @Autowired
+    private RosterPositionRepository rosterPositionRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final Map<Integer, RosterRules> rulesByLeague = new ConcurrentHashMap<>();
+    private final Map<Integer, Integer> leagueByTeam = new ConcurrentHashMap<>();
+    private volatile Map<String, RosterPosition> positions;
+
+    /**
+     * Loads the slot catalogue, compiles every league's stored rules and maps teams to
+     * leagues. A league whose rules fail to compile is logged and follows the standard
+     * rules. Also runs on first use if a roster is changed before startup finishes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        try {
+            Map<String, RosterPosition> catalogue = new HashMap<>();
+            for (RosterPosition position : rosterPositionRepository.findAll()) {
+                catalogue.put(position.getPositionCode(), position);
+            }
+            Map<Integer, List<RosterSlotRuleView>> stored = leagueRosterSlotRepository
+                    .findAllByOrderByLeagueIdAscIdAsc()
+                    .stream()
+                    .collect(Collectors.groupingBy(LeagueRosterSlot::getLeagueId,
+                            Collectors.mapping(RosterSlotRuleView::from, Collectors.toList())));
+            rulesByLeague.clear();
+            stored.forEach((leagueId, rules) -> {
+                try {
+                    rulesByLeague.put(leagueId, RosterRules.compile(rules));
+                } catch (IllegalArgumentException e) {
+                    log.warn("Invalid roster rules for league {}: {}", leagueId, e.getMessage());
+                }
+            });
+            leagueByTeam.clear();
+            for (Object[] row : teamRepository.findAllLeagueAssignments()) {
+                leagueByTeam.put(((Number) row[0]).intValue(), ((Number) row[1]).intValue());
+            }
+            positions = catalogue;
+            log.info("Compiled roster rules for {} leagues", rulesByLeague.size());
+        } catch (RuntimeException e) {
+            log.warn("Could not load roster rules", e);
+        }
+    }
+
+    /**
+     * The rules a team's roster follows.
+     */
+    public RosterRules rulesForTeam(Integer teamId) {
+        catalogue();
+        Integer leagueId = leagueByTeam.get(teamId);
+        return leagueId != null ? rulesByLeague.getOrDefault(leagueId, STANDARD) : STANDARD;
+    }
+
+    /**
+     * The league whose rules the team follows, or {@code null} if it is in none.
+     */
+    public Integer leagueOf(Integer teamId) {
+        catalogue();
+        return leagueByTeam.get(teamId);
+    }
+
+    /**
+     * The catalogue entry of a roster slot, or {@code null} if there is none.
+     */
+    public RosterPosition getPosition(String code) {
+        return catalogue().get(code);
+    }
+
+    /**
+     * The league's own rules, or the standard preset if it has none.
+     */
+    public List<RosterSlotRuleView> getRules(Integer leagueId) {
+        List<LeagueRosterSlot> slots = leagueRosterSlotRepository.findByLeagueIdOrderById(leagueId);
+        return slots.isEmpty() ? STANDARD.rules() : RosterSlotRuleView.fromAll(slots);
+    }
+
+    /**
+     * Replaces the league's rules. They are compiled and checked against the slot
+     * catalogue first, so invalid rules are rejected with an
+     * {@link IllegalArgumentException} before anything is written. Rosters already over a
+     * new limit are left as they are until they next change.
+     */
+    @Transactional
+    public List<RosterSlotRuleView> replaceRules(Integer leagueId, List<RosterSlotRuleView> rules) {
+        RosterRules compiled = RosterRules.compile(rules);
+        for (String slot : compiled.slots()) {
+            if (getPosition(slot) == null) {
+                throw new IllegalArgumentException("Unknown roster slot: " + slot);
+            }
+        }
+        leagueRosterSlotRepository.deleteByLeagueId(leagueId);
+        List<LeagueRosterSlot> entities = new ArrayList<>(compiled.rules().size());
+        for (RosterSlotRuleView view : compiled.rules()) {
+            LeagueRosterSlot slot = new LeagueRosterSlot();
+            slot.setLeagueId(leagueId);
+            slot.setSlotCode(view.slot());
+            slot.setMaxCount(view.maxCount());
+            slot.setEligiblePositions(String.join(",", view.eligible()));
+            entities.add(slot);
+        }
+        List<RosterSlotRuleView> saved = RosterSlotRuleView.fromAll(leagueRosterSlotRepository.saveAll(entities));
+        eventPublisher.publishEvent(new RosterRulesChangedEvent(leagueId, saved));
+        return saved;
+    }
+
+    @Transactional
+    public List<RosterSlotRuleView> applyPreset(Integer leagueId, String preset) {
+        return replaceRules(leagueId, RosterPreset.fromParam(preset).rules());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRulesChanged(RosterRulesChangedEvent event) {
+        rulesByLeague.put(event.leagueId(), RosterRules.compile(event.rules()));
+    }
+
+    // A team joins at most one league (see LeagueService.addTeam)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamJoinedLeague(TeamJoinedLeagueEvent event) {
+        leagueByTeam.put(event.teamId(), event.leagueId());
+    }
+
+    private Map<String, RosterPosition> catalogue() {
+        Map<String, RosterPosition> loaded = positions;
+        if (loaded == null) {
+            load();
+            loaded = positions;
+            if (loaded == null) {
+                throw new IllegalStateException("Roster rules are not loaded");
+            }
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,97 @@
+package com.fantasyfootball.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs roster writes one team at a time. Teams are striped by id over a fixed set of
+ * single-thread executors, so writes to one team run in the order they were submitted
+ * and never overlap, while writes to teams on different stripes run in parallel. A
+ * capacity check followed by an insert is then safe within this instance without
+ * leaning on the roster trigger, and same-team writes never wait on each other's row
+ * locks.
+ *
+ * Each write runs in its own transaction on the stripe's thread; callers get a future
+ * that completes after it commits. A stripe's queue is bounded, and a write that does not
+ * fit fails with a {@link RosterWriteRejectedException} rather than queueing without limit.
+ */
+@Service
+public class RosterWriteExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(RosterWriteExecutor.class);
+
+    @Value("${fantasy.roster.write-stripes:8}")
+    private int stripeCount;
+
+    @Value("${fantasy.roster.write-queue-capacity:1000}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor[] stripes;
+
+    @PostConstruct
+    void startExecutors() {
+        stripes = new ThreadPoolExecutor[Math.max(1, stripeCount)];
+        for (int i = 0; i < stripes.length; i++) {
+            String name = "roster-writer-" + i;
+            stripes[i] = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), runnable -> daemon(runnable, name));
+        }
+    }
+
+    /**
+     * Lets queued writes finish, for a few seconds, so a shutdown does not cut a
+     * transaction short.
+     */
+    @PreDestroy
+    void stopExecutors() {
+        for (ThreadPoolExecutor stripe : stripes) {
+            stripe.shutdown();
+        }
+        try {
+            for (ThreadPoolExecutor stripe : stripes) {
+                if (!stripe.awaitTermination(5, TimeUnit.SECONDS)) {
+                    log.warn("Dropping {} queued roster writes", stripe.shutdownNow().size());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Queues {@code write} behind the team's earlier writes. The future completes with its
+     * result, or exceptionally with what it threw.
+     */
+    public <T> CompletableFuture<T> submit(Integer teamId, Supplier<T> write) {
+        ThreadPoolExecutor stripe = stripes[Math.floorMod(teamId, stripes.length)];
+        try {
+            return CompletableFuture.supplyAsync(write, stripe);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new RosterWriteRejectedException(teamId));
+        }
+    }
+
+    public CompletableFuture<Void> run(Integer teamId, Runnable write) {
+        return submit(teamId, () -> {
+            write.run();
+            return null;
+        });
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
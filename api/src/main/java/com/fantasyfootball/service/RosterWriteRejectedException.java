@@ -0,0 +1,11 @@
+package com.fantasyfootball.service;
+
+/**
+ * Thrown when a roster write does not fit in its team's {@link RosterWriteExecutor} queue.
+ */
+public class RosterWriteRejectedException extends RuntimeException {
+
+    public RosterWriteRejectedException(Integer teamId) {
+        super("Too many roster writes queued for team " + teamId);
+    }
+}
@@ -0,0 +1,226 @@
+package com.fantasyfootball.service;
+
+import com.fantasyfootball.dto.ScheduleOptions;
+import com.fantasyfootball.dto.SeasonScheduleResult;
+import com.fantasyfootball.entity.Matchup;
+import com.fantasyfootball.index.SeasonStatsStore;
+import com.fantasyfootball.league.ScheduleGenerator;
+import com.fantasyfootball.repository.LeagueRepository;
+import com.fantasyfootball.repository.MatchupRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates league regular seasons with {@link ScheduleGenerator} and stores them as
+ * {@code matchups} rows.
+ *
+ * Matchups are written with batched JDBC inserts rather than one entity save each, and a
+ * whole season is set up in slices of leagues run in parallel on
+ * {@code fantasy.schedule.parallelism} workers. Each slice locks its leagues, reads their
+ * teams in one query, generates every schedule in memory and inserts the games in one
+ * batch, all in its own transaction, so a failed slice leaves its leagues unscheduled
+ * and running the season again schedules only what is missing.
+ */
+@Service
+public class ScheduleService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO matchups (league_id, week, home_team_id, away_team_id) VALUES (?, ?, ?, ?)";
+
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private LeagueRepository leagueRepository;
+
+    @Autowired
+    private MatchupRepository matchupRepository;
+
+    @Value("${fantasy.schedule.parallelism:4}")
+    private int parallelism;
+
+    @Value("${fantasy.schedule.leagues-per-slice:200}")
+    private int leaguesPerSlice;
+
+    private ExecutorService workers;
+
+    @PostConstruct
+    void startExecutor() {
+        AtomicInteger workerCount = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(Math.max(1, parallelism),
+                runnable -> daemon(runnable, "schedule-worker-" + workerCount.incrementAndGet()));
+    }
+
+    @PreDestroy
+    void stopExecutor() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * Replaces the league's scheduled matchups with a generated season.
+     *
+     * @throws IllegalArgumentException if the options are invalid, the league has fewer
+     *         than two teams or has a final matchup already
+     * @throws RuntimeException if the league does not exist
+     */
+    public List<Matchup> generateSchedule(Integer leagueId, ScheduleOptions options) {
+        Set<Integer> rivalryWeeks = validate(options);
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            leagueRepository.findForUpdate(leagueId).orElseThrow(() -> new RuntimeException("League not found"));
+            if (matchupRepository.countFinalByLeagueId(leagueId) > 0) {
+                throw new IllegalArgumentException("League " + leagueId + " has results already");
+            }
+            matchupRepository.deleteScheduledByLeagueId(leagueId);
+            List<ScheduleGenerator.Entrant> entrants = new ArrayList<>();
+            jdbcTemplate.query("SELECT team_id, division, rival_team_id FROM league_teams WHERE league_id = ? ORDER BY team_id",
+                    rs -> {
+                        entrants.add(new ScheduleGenerator.Entrant(rs.getInt(1),
+                                (Integer) rs.getObject(2), (Integer) rs.getObject(3)));
+                    }, leagueId);
+            List<int[]> rows = new ArrayList<>();
+            addRows(rows, leagueId, ScheduleGenerator.generate(entrants, options.weeks(), rivalryWeeks, leagueId));
+            insert(rows);
+            return matchupRepository.findByLeagueIdOrderByWeekAscIdAsc(leagueId);
+        });
+    }
+
+    /**
+     * Generates a schedule for every league of the season that has none yet.
+     *
+     * @throws IllegalArgumentException if the options are invalid
+     */
+    public SeasonScheduleResult generateSeason(Integer season, ScheduleOptions options) {
+        Set<Integer> rivalryWeeks = validate(options);
+        List<Integer> leagueIds = jdbcTemplate.queryForList(
+                "SELECT l.id FROM leagues l WHERE l.season = ? " +
+                "AND NOT EXISTS (SELECT 1 FROM matchups m WHERE m.league_id = l.id) ORDER BY l.id",
+                Integer.class, season);
+        List<Future<int[]>> slices = new ArrayList<>();
+        int sliceSize = Math.max(1, leaguesPerSlice);
+        for (int start = 0; start < leagueIds.size(); start += sliceSize) {
+            int first = leagueIds.get(start);
+            int last = leagueIds.get(Math.min(start + sliceSize, leagueIds.size()) - 1);
+            slices.add(workers.submit(() -> scheduleSlice(season, first, last, options.weeks(), rivalryWeeks)));
+        }
+        int scheduled = 0;
+        int skipped = 0;
+        int matchups = 0;
+        try {
+            for (Future<int[]> slice : slices) {
+                int[] counts = slice.get();
+                scheduled += counts[0];
+                skipped += counts[1];
+                matchups += counts[2];
+            }
+        } catch (ExecutionException e) {
+            slices.forEach(slice -> slice.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            slices.forEach(slice -> slice.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating schedules", e);
+        }
+        return new SeasonScheduleResult(scheduled, skipped, matchups);
+    }
+
+    /**
+     * Schedules the season's leagues with ids in {@code [first, last]} that have no
+     * matchups, in one transaction. Returns the leagues scheduled and skipped and the
+     * matchups inserted.
+     */
+    private int[] scheduleSlice(int season, int first, int last, int weeks, Set<Integer> rivalryWeeks) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            List<Integer> locked = jdbcTemplate.queryForList(
+                    "SELECT id FROM leagues WHERE season = ? AND id BETWEEN ? AND ? ORDER BY id FOR UPDATE",
+                    Integer.class, season, first, last);
+            // read after locking, so leagues scheduled meanwhile are seen and left alone
+            Set<Integer> started = new HashSet<>(jdbcTemplate.queryForList(
+                    "SELECT DISTINCT league_id FROM matchups WHERE league_id BETWEEN ? AND ?",
+                    Integer.class, first, last));
+            Map<Integer, List<ScheduleGenerator.Entrant>> entrants = new LinkedHashMap<>();
+            jdbcTemplate.query(
+                    "SELECT lt.league_id, lt.team_id, lt.division, lt.rival_team_id FROM league_teams lt " +
+                    "JOIN leagues l ON l.id = lt.league_id " +
+                    "WHERE l.season = ? AND lt.league_id BETWEEN ? AND ? ORDER BY lt.league_id, lt.team_id",
+                    rs -> {
+                        entrants.computeIfAbsent(rs.getInt(1), k -> new ArrayList<>())
+                                .add(new ScheduleGenerator.Entrant(rs.getInt(2),
+                                        (Integer) rs.getObject(3), (Integer) rs.getObject(4)));
+                    }, season, first, last);
+            List<int[]> rows = new ArrayList<>();
+            int scheduled = 0;
+            int skipped = 0;
+            for (Integer leagueId : locked) {
+                List<ScheduleGenerator.Entrant> teams = entrants.getOrDefault(leagueId, List.of());
+                if (started.contains(leagueId) || teams.size() < 2) {
+                    skipped++;
+                    continue;
+                }
+                addRows(rows, leagueId, ScheduleGenerator.generate(teams, weeks, rivalryWeeks, leagueId));
+                scheduled++;
+            }
+            insert(rows);
+            return new int[] {scheduled, skipped, rows.size()};
+        });
+    }
+
+    private void insert(List<int[]> rows) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, INSERT_BATCH_SIZE, (statement, row) -> {
+            for (int i = 0; i < row.length; i++) {
+                statement.setInt(i + 1, row[i]);
+            }
+        });
+    }
+
+    private static void addRows(List<int[]> rows, int leagueId, List<ScheduleGenerator.Game> games) {
+        for (ScheduleGenerator.Game game : games) {
+            rows.add(new int[] {leagueId, game.week(), game.homeTeamId(), game.awayTeamId()});
+        }
+    }
+
+    private static Set<Integer> validate(ScheduleOptions options) {
+        Integer weeks = options != null ? options.weeks() : null;
+        if (weeks == null || weeks < 1 || weeks > SeasonStatsStore.MAX_WEEK) {
+            throw new IllegalArgumentException("Weeks must be between 1 and " + SeasonStatsStore.MAX_WEEK);
+        }
+        Set<Integer> rivalryWeeks = options.rivalryWeeks() != null ? new HashSet<>(options.rivalryWeeks()) : Set.of();
+        for (Integer week : rivalryWeeks) {
+            if (week == null || week < 1 || week > weeks) {
+                throw new IllegalArgumentException("Rivalry week " + week + " is outside 1-" + weeks);
+            }
+        }
+        return rivalryWeeks;
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
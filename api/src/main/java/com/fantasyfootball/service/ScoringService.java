@@ -0,0 +1,391 @@
+package com.fantasyfootball.service;
+
+import com.fantasyfootball.archive.SeasonArchive;
+import com.fantasyfootball.dto.PlayerSeasonScore;
+import com.fantasyfootball.dto.PlayerSummary;
+import com.fantasyfootball.dto.ScoringRuleView;
+import com.fantasyfootball.entity.ScoringRule;
+import com.fantasyfootball.event.PlayerChangedEvent;
+import com.fantasyfootball.event.PlayerStatsChangedEvent;
+import com.fantasyfootball.event.PlayerStatsImportedEvent;
+import com.fantasyfootball.event.ScoringRulesChangedEvent;
+import com.fantasyfootball.event.SeasonArchivedEvent;
+import com.fantasyfootball.index.PlayerFacetIndex;
+import com.fantasyfootball.index.SeasonStatsStore;
+import com.fantasyfootball.index.StatColumn;
+import com.fantasyfootball.repository.ScoringRuleRepository;
+import com.fantasyfootball.scoring.ScoringFormula;
+import com.fantasyfootball.scoring.ScoringPreset;
+import com.fantasyfootball.scoring.SeasonScore;
+import com.fantasyfootball.scoring.SeasonScoreBoard;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+
+/**
+ * Scores players under each league's own rules.
+ *
+ * Rules are compiled into a {@link ScoringFormula} once, at startup or when a league's
+ * rules change. A league-season is scored in one parallel pass over the
+ * {@link SeasonStatsStore} the first time it is read and kept as a
+ * {@link SeasonScoreBoard}; after that every stat write rescores only the player it
+ * touched, on every cached board of that season. Archived seasons are scored from their
+ * archive file.
+ *
+ * Stat writes and imports also keep {@code Player.fantasyPoints} at the player's total
+ * under the standard rules for the latest season they have stats in, through
+ * {@link PlayerService#updateFantasyPoints}, so the player indexes and leaderboards move
+ * the players whose points changed. A player without stats keeps the points they were
+ * given; archiving a season leaves points as they are.
+ */
+@Service
+public class ScoringService {
+
+    public static final int MAX_RESULTS = 200;
+
+    private static final Logger log = LoggerFactory.getLogger(ScoringService.class);
+
+    private static final ScoringFormula STANDARD = ScoringFormula.compile(ScoringPreset.STANDARD.rules());
+
+    @Autowired
+    private ScoringRuleRepository scoringRuleRepository;
+
+    @Autowired
+    private SeasonStatsStore seasonStatsStore;
+
+    @Autowired
+    private SeasonStatsService seasonStatsService;
+
+    @Autowired
+    private SeasonArchiveService seasonArchiveService;
+
+    @Autowired
+    private PlayerFacetIndex playerFacetIndex;
+
+    @Autowired
+    private PlayerIndexService playerIndexService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final Map<Integer, ScoringFormula> formulas = new ConcurrentHashMap<>();
+    private final Map<BoardKey, SeasonScoreBoard> boards = new HashMap<>();
+    private final ReadWriteLock boardLock = new ReentrantReadWriteLock();
+
+    /**
+     * Compiles every league's stored rules. A league whose rules fail to compile is logged
+     * and scored with the standard preset.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            Map<Integer, List<ScoringRuleView>> rulesByLeague = scoringRuleRepository.findAllByOrderByLeagueIdAscIdAsc()
+                    .stream()
+                    .collect(Collectors.groupingBy(ScoringRule::getLeagueId,
+                            Collectors.mapping(ScoringRuleView::from, Collectors.toList())));
+            formulas.clear();
+            rulesByLeague.forEach((leagueId, rules) -> {
+                try {
+                    formulas.put(leagueId, ScoringFormula.compile(rules));
+                } catch (IllegalArgumentException e) {
+                    log.warn("Invalid scoring rules for league {}: {}", leagueId, e.getMessage());
+                }
+            });
+            log.info("Compiled scoring rules for {} leagues", formulas.size());
+        } catch (RuntimeException e) {
+            log.warn("Could not load league scoring rules", e);
+        }
+    }
+
+    /**
+     * The league's own rules, or the standard preset if it has none.
+     */
+    public List<ScoringRuleView> getRules(Integer leagueId) {
+        List<ScoringRule> rules = scoringRuleRepository.findByLeagueIdOrderById(leagueId);
+        return rules.isEmpty() ? ScoringPreset.STANDARD.rules() : ScoringRuleView.fromAll(rules);
+    }
+
+    /**
+     * Replaces the league's rules. They are compiled first, so invalid rules are rejected
+     * with an {@link IllegalArgumentException} before anything is written.
+     */
+    @Transactional
+    public List<ScoringRuleView> replaceRules(Integer leagueId, List<ScoringRuleView> rules) {
+        ScoringFormula.compile(rules);
+        scoringRuleRepository.deleteByLeagueId(leagueId);
+        List<ScoringRule> entities = new ArrayList<>(rules.size());
+        for (ScoringRuleView view : rules) {
+            ScoringRule rule = new ScoringRule();
+            rule.setLeagueId(leagueId);
+            rule.setStat(view.stat());
+            rule.setPoints(view.points());
+            rule.setThreshold(view.threshold());
+            entities.add(rule);
+        }
+        List<ScoringRuleView> saved = ScoringRuleView.fromAll(scoringRuleRepository.saveAll(entities));
+        eventPublisher.publishEvent(new ScoringRulesChangedEvent(leagueId, saved));
+        return saved;
+    }
+
+    @Transactional
+    public List<ScoringRuleView> applyPreset(Integer leagueId, String preset) {
+        return replaceRules(leagueId, ScoringPreset.fromParam(preset).rules());
+    }
+
+    public Optional<PlayerSeasonScore> getPlayerScore(Integer leagueId, Integer playerId, Integer season) {
+        requireReady();
+        SeasonScore score = withBoard(leagueId, season, board -> board.get(playerId));
+        return Optional.ofNullable(score).map(s -> toView(leagueId, season, s));
+    }
+
+    /**
+     * The highest-scoring players of a season under the league's rules, optionally within
+     * one position.
+     */
+    public List<PlayerSeasonScore> getSeasonLeaders(Integer leagueId, Integer season, String position, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        requireReady();
+        IntPredicate include = id -> true;
+        if (position != null) {
+            if (!playerIndexService.isReady()) {
+                throw new IllegalStateException("Player index is not loaded");
+            }
+            include = id -> {
+                PlayerSummary summary = playerFacetIndex.getSummary(id);
+                return summary != null && position.equalsIgnoreCase(summary.position());
+            };
+        }
+        IntPredicate filter = include;
+        List<SeasonScore> top = withBoard(leagueId, season, board -> board.top(Math.min(limit, MAX_RESULTS), filter));
+        return top.stream().map(s -> toView(leagueId, season, s)).toList();
+    }
+
+    /**
+     * Each player's points under the league's rules, fixed-point as in
+     * {@link ScoringFormula}: in {@code week}, or per week played over the season when
+     * {@code week} is null. Players without stats score zero. The stats are read once for
+     * all the players, so a whole league's rosters are best scored in one call.
+     */
+    public long[] getPoints(Integer leagueId, Integer season, Integer week, int[] playerIds) {
+        requireReady();
+        if (week == null) {
+            return withBoard(leagueId, season, board -> {
+                long[] points = new long[playerIds.length];
+                for (int i = 0; i < playerIds.length; i++) {
+                    SeasonScore score = board.get(playerIds[i]);
+                    points[i] = score != null ? score.points() / score.weeks() : 0;
+                }
+                return points;
+            });
+        }
+        ScoringFormula formula = formulaFor(leagueId);
+        Optional<SeasonArchive> archive = seasonArchiveService.getArchive(season);
+        if (archive.isEmpty()) {
+            return seasonStatsStore.scoreWeek(playerIds, season, week, formula);
+        }
+        Map<Integer, Long> scored = new HashMap<>();
+        for (int playerId : playerIds) {
+            scored.put(playerId, 0L);
+        }
+        int[][] scratch = new int[StatColumn.values().length][1];
+        archive.get().forEachInWeek(week, (playerId, values) -> {
+            if (scored.containsKey(playerId)) {
+                for (int c = 0; c < values.length; c++) {
+                    scratch[c][0] = values[c];
+                }
+                scored.put(playerId, formula.scoreWeek(scratch, 0));
+            }
+        });
+        long[] points = new long[playerIds.length];
+        for (int i = 0; i < playerIds.length; i++) {
+            points[i] = scored.get(playerIds[i]);
+        }
+        return points;
+    }
+
+    /**
+     * Rescores the changed player on every cached board of the season, and their fantasy
+     * points. Runs after {@link SeasonStatsService#onStatsChanged}, so the store already
+     * holds the new week.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatsChanged(PlayerStatsChangedEvent event) {
+        boardLock.writeLock().lock();
+        try {
+            Iterator<Map.Entry<BoardKey, SeasonScoreBoard>> entries = boards.entrySet().iterator();
+            while (entries.hasNext()) {
+                Map.Entry<BoardKey, SeasonScoreBoard> entry = entries.next();
+                if (entry.getKey().season() != event.season()) {
+                    continue;
+                }
+                SeasonScore score = seasonStatsStore.scorePlayer(event.playerId(), event.season(),
+                        formulaFor(entry.getKey().leagueId()));
+                if (!entry.getValue().update(score)) {
+                    entries.remove();
+                }
+            }
+        } finally {
+            boardLock.writeLock().unlock();
+        }
+        refreshFantasyPoints(List.of(event.playerId()));
+    }
+
+    /**
+     * Drops the boards of imported seasons; they are rebuilt from the reloaded store on
+     * their next read. Runs after {@link SeasonStatsService#onStatsImported} has reloaded
+     * the store, and refreshes the fantasy points of every player with stats in those
+     * seasons.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatsImported(PlayerStatsImportedEvent event) {
+        boardLock.writeLock().lock();
+        try {
+            boards.keySet().removeIf(key -> event.seasons().contains(key.season()));
+        } finally {
+            boardLock.writeLock().unlock();
+        }
+        Set<Integer> playerIds = new HashSet<>();
+        for (Integer season : event.seasons()) {
+            playerIds.addAll(seasonStatsStore.playerIds(season));
+        }
+        refreshFantasyPoints(playerIds);
+    }
+
+    /**
+     * Drops the season's boards; they are rebuilt from its archive on their next read.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeasonArchived(SeasonArchivedEvent event) {
+        boardLock.writeLock().lock();
+        try {
+            boards.keySet().removeIf(key -> key.season() == event.season());
+        } finally {
+            boardLock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        if (!event.isDeleted()) {
+            return;
+        }
+        boardLock.writeLock().lock();
+        try {
+            for (SeasonScoreBoard board : boards.values()) {
+                board.update(new SeasonScore(event.playerId(), 0, 0));
+            }
+        } finally {
+            boardLock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRulesChanged(ScoringRulesChangedEvent event) {
+        boardLock.writeLock().lock();
+        try {
+            formulas.put(event.leagueId(), ScoringFormula.compile(event.rules()));
+            boards.keySet().removeIf(key -> key.leagueId() == event.leagueId());
+        } finally {
+            boardLock.writeLock().unlock();
+        }
+    }
+
+    private <T> T withBoard(Integer leagueId, Integer season, Function<SeasonScoreBoard, T> read) {
+        BoardKey key = new BoardKey(leagueId, season);
+        boardLock.readLock().lock();
+        try {
+            SeasonScoreBoard board = boards.get(key);
+            if (board != null) {
+                return read.apply(board);
+            }
+        } finally {
+            boardLock.readLock().unlock();
+        }
+        boardLock.writeLock().lock();
+        try {
+            SeasonScoreBoard board = boards.computeIfAbsent(key, k -> seasonArchiveService.getArchive(season)
+                    .map(archive -> archive.score(formulaFor(leagueId)))
+                    .orElseGet(() -> seasonStatsStore.scoreSeason(season, formulaFor(leagueId))));
+            return read.apply(board);
+        } finally {
+            boardLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Writes each player's standard points for their latest season with stats, skipping
+     * players the facet index already shows with those points. A player that fails is
+     * logged and the rest carry on.
+     */
+    private void refreshFantasyPoints(Collection<Integer> playerIds) {
+        if (!seasonStatsService.isReady()) {
+            return;
+        }
+        for (Integer playerId : playerIds) {
+            OptionalInt season = seasonStatsStore.latestSeason(playerId);
+            if (season.isEmpty()) {
+                continue;
+            }
+            BigDecimal points = ScoringFormula.toPoints(
+                    seasonStatsStore.scorePlayer(playerId, season.getAsInt(), STANDARD).points());
+            PlayerSummary summary = playerIndexService.isReady() ? playerFacetIndex.getSummary(playerId) : null;
+            if (summary != null && summary.fantasyPoints() != null && summary.fantasyPoints().compareTo(points) == 0) {
+                continue;
+            }
+            try {
+                playerService.updateFantasyPoints(playerId, points);
+            } catch (RuntimeException e) {
+                log.warn("Could not update fantasy points of player {}", playerId, e);
+            }
+        }
+    }
+
+    private ScoringFormula formulaFor(Integer leagueId) {
+        return formulas.getOrDefault(leagueId, STANDARD);
+    }
+
+    private void requireReady() {
+        if (!seasonStatsService.isReady()) {
+            throw new IllegalStateException("Season stats are not loaded");
+        }
+    }
+
+    private static PlayerSeasonScore toView(Integer leagueId, Integer season, SeasonScore score) {
+        BigDecimal points = ScoringFormula.toPoints(score.points());
+        return new PlayerSeasonScore(score.playerId(), leagueId, season, score.weeks(), points,
+                points.divide(BigDecimal.valueOf(score.weeks()), 2, RoundingMode.HALF_UP));
+    }
+
+    private record BoardKey(int leagueId, int season) {
+    }
+}
@@ -0,0 +1,205 @@
+package com.fantasyfootball.service;
+
+import com.fantasyfootball.archive.SeasonArchive;
+import com.fantasyfootball.archive.SeasonArchiveWriter;
+import com.fantasyfootball.dto.ArchivedSeasonView;
+import com.fantasyfootball.dto.PlayerStatsRow;
+import com.fantasyfootball.event.SeasonArchivedEvent;
+import com.fantasyfootball.repository.PlayerStatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Year;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Moves closed seasons out of {@code player_stats} into one {@link SeasonArchive} file
+ * per season in {@code fantasy.archive.directory}, and serves them from there.
+ *
+ * Archiving writes the file, checks it against the table and then drops the season's
+ * rows, detaching and dropping its partition when it has one. The files are mapped at
+ * startup; an archived season is read-only and reads of it never touch the database or
+ * the {@code SeasonStatsStore}. Season summaries are kept, and a player's archived weeks
+ * are still listed with the live ones by {@code PlayerService#getPlayerWithStats}.
+ */
+@Service
+public class SeasonArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(SeasonArchiveService.class);
+
+    private static final String FILE_GLOB = "season-*.ffsa";
+
+    @Autowired
+    private PlayerStatsRepository playerStatsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${fantasy.archive.directory:./archive}")
+    private String directory;
+
+    private final Map<Integer, SeasonArchive> archives = new ConcurrentHashMap<>();
+
+    /**
+     * Maps every archive file in the directory. A file that cannot be read is logged and
+     * skipped, leaving its season unarchived.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Path root = Paths.get(directory);
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(root, FILE_GLOB)) {
+            for (Path file : files) {
+                try {
+                    SeasonArchive archive = SeasonArchive.open(file);
+                    archives.put(archive.season(), archive);
+                } catch (IOException | IllegalArgumentException e) {
+                    log.warn("Could not open season archive {}", file, e);
+                }
+            }
+            log.info("Mapped {} season archives", archives.size());
+        } catch (IOException e) {
+            log.warn("Could not list season archives in {}", root, e);
+        }
+    }
+
+    /**
+     * Archives a season that has ended and drops its rows from {@code player_stats}.
+     *
+     * @throws IllegalArgumentException if the season is current or already archived
+     * @throws RuntimeException if the season has no stats
+     */
+    public ArchivedSeasonView archiveSeason(Integer season) {
+        if (season >= Year.now().getValue()) {
+            throw new IllegalArgumentException("Only past seasons can be archived");
+        }
+        if (archives.containsKey(season)) {
+            throw new IllegalArgumentException("Season " + season + " is already archived");
+        }
+        Path file = Paths.get(directory).resolve("season-" + season + ".ffsa");
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        SeasonArchive archive;
+        try {
+            archive = transaction.execute(status -> {
+                SeasonArchiveWriter writer = new SeasonArchiveWriter(season);
+                try (Stream<PlayerStatsRow> rows = playerStatsRepository.streamSeasonRows(season)) {
+                    rows.forEach(writer::add);
+                }
+                if (writer.rows() == 0) {
+                    throw new RuntimeException("No stats for season " + season);
+                }
+                SeasonArchive written = write(writer, file);
+                if (written.rows() != playerStatsRepository.countBySeason(season)) {
+                    throw new IllegalStateException("Archive of season " + season + " does not match its rows");
+                }
+                dropRows(season);
+                return written;
+            });
+        } catch (RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+        archives.put(season, archive);
+        log.info("Archived season {}: {} rows in {} bytes", season, archive.rows(), archive.sizeBytes());
+        eventPublisher.publishEvent(new SeasonArchivedEvent(season));
+        return ArchivedSeasonView.from(archive);
+    }
+
+    public boolean isArchived(Integer season) {
+        return season != null && archives.containsKey(season);
+    }
+
+    public Optional<SeasonArchive> getArchive(Integer season) {
+        return Optional.ofNullable(season).map(archives::get);
+    }
+
+    /**
+     * Every archived season, oldest first.
+     */
+    public List<SeasonArchive> getArchives() {
+        return archives.values().stream()
+                .sorted(Comparator.comparingInt(SeasonArchive::season))
+                .toList();
+    }
+
+    public List<ArchivedSeasonView> getSeasons() {
+        return getArchives().stream().map(ArchivedSeasonView::from).toList();
+    }
+
+    /**
+     * The archived weekly rows of a player's season, oldest week first.
+     *
+     * @throws RuntimeException if the season is not archived
+     */
+    public List<PlayerStatsRow> getWeeks(Integer playerId, Integer season) {
+        return getArchive(season)
+                .orElseThrow(() -> new RuntimeException("Season " + season + " is not archived"))
+                .weeks(playerId);
+    }
+
+    /**
+     * The player's weekly rows from every archived season, oldest first.
+     */
+    public List<PlayerStatsRow> getArchivedWeeks(Integer playerId) {
+        return getArchives().stream()
+                .flatMap(archive -> archive.weeks(playerId).stream())
+                .toList();
+    }
+
+    private SeasonArchive write(SeasonArchiveWriter writer, Path file) {
+        try {
+            Files.createDirectories(file.getParent());
+            writer.writeTo(file);
+            return SeasonArchive.open(file);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not write " + file, e);
+        }
+    }
+
+    private void dropRows(int season) {
+        String partition = "player_stats_" + season;
+        Boolean partitioned = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class,
+                partition);
+        if (Boolean.TRUE.equals(partitioned)) {
+            jdbcTemplate.execute("ALTER TABLE player_stats DETACH PARTITION " + partition);
+            jdbcTemplate.execute("DROP TABLE " + partition);
+        } else {
+            playerStatsRepository.deleteBySeason(season);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.fantasyfootball.service;
+
+import com.fantasyfootball.archive.SeasonArchive;
+import com.fantasyfootball.dto.PlayerStatsRow;
+import com.fantasyfootball.dto.PlayerSummary;
+import com.fantasyfootball.dto.SeasonStatLine;
+import com.fantasyfootball.entity.Player;
+import com.fantasyfootball.entity.PlayerStats;
+import com.fantasyfootball.event.PlayerChangedEvent;
+import com.fantasyfootball.event.PlayerStatsChangedEvent;
+import com.fantasyfootball.event.PlayerStatsImportedEvent;
+import com.fantasyfootball.event.SeasonArchivedEvent;
+import com.fantasyfootball.index.PlayerFacetIndex;
+import com.fantasyfootball.index.SeasonStatsStore;
+import com.fantasyfootball.index.StatColumn;
+import com.fantasyfootball.repository.PlayerRepository;
+import com.fantasyfootball.repository.PlayerStatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntPredicate;
+import java.util.stream.Stream;
+
+/**
+ * Writes weekly player statistics and answers season aggregates from the in-memory
+ * {@link SeasonStatsStore}, which is bulk-loaded at startup and updated after each write
+ * commits. Each write updates the persisted season summary in the same transaction, so
+ * the summary never commits without the row it was computed from.
+ * Archived seasons are read-only and answered from their archive file instead.
+ */
+@Service
+public class SeasonStatsService {
+
+    public static final int MAX_LEADERS = 200;
+
+    private static final Logger log = LoggerFactory.getLogger(SeasonStatsService.class);
+
+    @Autowired
+    private PlayerStatsRepository playerStatsRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private SeasonStatsStore seasonStatsStore;
+
+    @Autowired
+    private PlayerFacetIndex playerFacetIndex;
+
+    @Autowired
+    private PlayerIndexService playerIndexService;
+
+    @Autowired
+    private SeasonSummaryService seasonSummaryService;
+
+    @Autowired
+    private PlayerStatsPartitionService partitionService;
+
+    @Autowired
+    private SeasonArchiveService seasonArchiveService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private volatile boolean ready;
+
+    /**
+     * Streams every {@code player_stats} row into the store. The read runs in its own
+     * transaction so a failure is logged and leaves the store unloaded instead of failing
+     * startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        try {
+            long start = System.nanoTime();
+            readOnly.executeWithoutResult(status -> {
+                try (Stream<PlayerStatsRow> rows = playerStatsRepository.streamAllRows()) {
+                    seasonStatsStore.replaceAll(rows.iterator());
+                }
+            });
+            ready = true;
+            log.info("Loaded season stats store in {} ms", (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            ready = false;
+            log.warn("Could not load season stats store", e);
+        }
+    }
+
+    /**
+     * Creates or replaces the statistics of one player-week.
+     */
+    @Transactional
+    public PlayerStats saveWeek(Integer playerId, Integer season, Integer week, PlayerStats values) {
+        requireValidWeek(week);
+        requireNotArchived(season);
+        partitionService.ensure(season);
+        Player player = playerRepository.findById(playerId)
+                .orElseThrow(() -> new RuntimeException("Player not found with id: " + playerId));
+        PlayerStats stats = playerStatsRepository.findByPlayerIdAndSeasonAndWeek(playerId, season, week)
+                .orElseGet(PlayerStats::new);
+        PlayerStatsRow previous = stats.getId() != null ? PlayerStatsRow.from(playerId, stats) : null;
+        stats.setPlayer(player);
+        stats.setSeason(season);
+        stats.setWeek(week);
+        stats.setGamesPlayed(values.getGamesPlayed());
+        stats.setPointsScored(values.getPointsScored());
+        stats.setYardsGained(values.getYardsGained());
+        stats.setTouchdowns(values.getTouchdowns());
+        stats.setFieldGoals(values.getFieldGoals());
+        stats.setInterceptions(values.getInterceptions());
+        stats.setFumbles(values.getFumbles());
+        stats.setReceptions(values.getReceptions());
+        PlayerStats saved = playerStatsRepository.save(stats);
+        PlayerStatsRow row = PlayerStatsRow.from(playerId, saved);
+        seasonSummaryService.apply(previous, row);
+        eventPublisher.publishEvent(PlayerStatsChangedEvent.saved(row));
+        return saved;
+    }
+
+    @Transactional
+    public void deleteWeek(Integer playerId, Integer season, Integer week) {
+        requireNotArchived(season);
+        PlayerStats stats = playerStatsRepository.findByPlayerIdAndSeasonAndWeek(playerId, season, week)
+                .orElseThrow(() -> new RuntimeException("No stats for player " + playerId + " in week " + week));
+        PlayerStatsRow previous = PlayerStatsRow.from(playerId, stats);
+        playerStatsRepository.delete(stats);
+        seasonSummaryService.apply(previous, null);
+        eventPublisher.publishEvent(PlayerStatsChangedEvent.deleted(playerId, season, week));
+    }
+
+    /**
+     * Totals and per-week averages for a player's season, or for their {@code lastWeeks}
+     * most recent weeks with stats when that is positive.
+     */
+    public Optional<SeasonStatLine> getSeasonLine(Integer playerId, Integer season, int lastWeeks) {
+        Optional<SeasonArchive> archive = seasonArchiveService.getArchive(season);
+        if (archive.isPresent()) {
+            return archive.get().line(playerId, lastWeeks);
+        }
+        requireReady();
+        return seasonStatsStore.line(playerId, season, lastWeeks);
+    }
+
+    /**
+     * Players with the highest season total of {@code stat}, optionally within one position.
+     */
+    public List<SeasonStatLine> getSeasonLeaders(Integer season, String stat, String position, int limit) {
+        StatColumn column = StatColumn.fromParam(stat);
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        Optional<SeasonArchive> archive = seasonArchiveService.getArchive(season);
+        if (archive.isEmpty()) {
+            requireReady();
+        }
+        IntPredicate include = id -> true;
+        if (position != null) {
+            if (!playerIndexService.isReady()) {
+                throw new IllegalStateException("Player index is not loaded");
+            }
+            include = id -> {
+                PlayerSummary summary = playerFacetIndex.getSummary(id);
+                return summary != null && position.equalsIgnoreCase(summary.position());
+            };
+        }
+        if (archive.isPresent()) {
+            return archive.get().leaders(column, include, Math.min(limit, MAX_LEADERS));
+        }
+        return seasonStatsStore.leaders(season, column, include, Math.min(limit, MAX_LEADERS));
+    }
+
+    /**
+     * Runs ahead of other stats listeners so they read the store with this week applied.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatsChanged(PlayerStatsChangedEvent event) {
+        if (event.isDeleted()) {
+            seasonStatsStore.remove(event.playerId(), event.season(), event.week());
+        } else {
+            seasonStatsStore.put(event.row());
+        }
+    }
+
+    /**
+     * A bulk import wrote rows without per-week events, so the store is reloaded.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatsImported(PlayerStatsImportedEvent event) {
+        load();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeasonArchived(SeasonArchivedEvent event) {
+        seasonStatsStore.removeSeason(event.season());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        if (event.isDeleted()) {
+            seasonStatsStore.removePlayer(event.playerId());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private void requireReady() {
+        if (!ready) {
+            throw new IllegalStateException("Season stats are not loaded");
+        }
+    }
+
+    private void requireNotArchived(Integer season) {
+        if (seasonArchiveService.isArchived(season)) {
+            throw new IllegalArgumentException("Season " + season + " is archived");
+        }
+    }
+
+    private static void requireValidWeek(Integer week) {
+        if (week == null || week < 1 || week > SeasonStatsStore.MAX_WEEK) {
+            throw new IllegalArgumentException("Week must be between 1 and " + SeasonStatsStore.MAX_WEEK);
+        }
+    }
+}
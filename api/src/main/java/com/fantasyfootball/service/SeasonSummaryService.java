@@ -0,0 +1,76 @@
+package com.fantasyfootball.service;
+
+import com.fantasyfootball.dto.PlayerStatsRow;
+import com.fantasyfootball.dto.SeasonSummaryView;
+import com.fantasyfootball.entity.PlayerSeasonSummary;
+import com.fantasyfootball.repository.PlayerSeasonSummaryRepository;
+import com.fantasyfootball.repository.PlayerStatsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Keeps {@code player_season_summaries} in step with {@code player_stats}. Week writes are
+ * folded into the summary row in the writer's transaction, under a row lock so concurrent
+ * writes to one player's season serialize; bulk writes rebuild whole seasons instead.
+ */
+@Service
+public class SeasonSummaryService {
+
+    @Autowired
+    private PlayerSeasonSummaryRepository summaryRepository;
+
+    @Autowired
+    private PlayerStatsRepository playerStatsRepository;
+
+    /**
+     * Replaces the {@code previous} version of a week with {@code current}; either may be
+     * null for an insert or a delete. Only a deleted week within the recent window reads
+     * {@code player_stats} again, to pull in the next older week.
+     */
+    @Transactional
+    public void apply(PlayerStatsRow previous, PlayerStatsRow current) {
+        PlayerStatsRow row = current != null ? current : previous;
+        if (row == null) {
+            return;
+        }
+        summaryRepository.insertIfAbsent(row.playerId(), row.season());
+        PlayerSeasonSummary summary = summaryRepository.findForUpdate(row.playerId(), row.season())
+                .orElseThrow(() -> new IllegalStateException("Season summary missing for player " + row.playerId()));
+        summary.apply(previous, current);
+        if (summary.getWeeksPlayed() == 0) {
+            summaryRepository.delete(summary);
+            return;
+        }
+        if (!summary.isRecentComplete()) {
+            List<Object[]> recent = playerStatsRepository.findRecentWeekPoints(row.playerId(), row.season(),
+                    PageRequest.of(0, PlayerSeasonSummary.RECENT_WEEKS));
+            int[] weeks = new int[recent.size()];
+            BigDecimal[] points = new BigDecimal[recent.size()];
+            for (int i = 0; i < weeks.length; i++) {
+                weeks[i] = (Integer) recent.get(i)[0];
+                points[i] = recent.get(i)[1] != null ? (BigDecimal) recent.get(i)[1] : BigDecimal.ZERO;
+            }
+            summary.setRecent(weeks, points);
+        }
+    }
+
+    /**
+     * Recomputes every summary of the given seasons from {@code player_stats}.
+     */
+    @Transactional
+    public int rebuildSeasons(Collection<Integer> seasons) {
+        return seasons.isEmpty() ? 0 : summaryRepository.rebuildSeasons(seasons);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<SeasonSummaryView> getSummary(Integer playerId, Integer season) {
+        return summaryRepository.findByPlayerIdAndSeason(playerId, season).map(SeasonSummaryView::from);
+    }
+}
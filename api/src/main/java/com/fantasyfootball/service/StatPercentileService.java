@@ -0,0 +1,230 @@
+package com.fantasyfootball.service;
+
+import com.fantasyfootball.archive.SeasonArchive;
+import com.fantasyfootball.dto.PlayerPercentileView;
+import com.fantasyfootball.dto.PlayerStatsRow;
+import com.fantasyfootball.dto.PlayerSummary;
+import com.fantasyfootball.dto.StatQuantilesView;
+import com.fantasyfootball.dto.StatRankView;
+import com.fantasyfootball.event.PlayerChangedEvent;
+import com.fantasyfootball.event.PlayerStatsChangedEvent;
+import com.fantasyfootball.event.PlayerStatsImportedEvent;
+import com.fantasyfootball.event.SeasonArchivedEvent;
+import com.fantasyfootball.index.KllSketch;
+import com.fantasyfootball.index.PlayerFacetIndex;
+import com.fantasyfootball.index.SeasonStatsStore;
+import com.fantasyfootball.index.StatColumn;
+import com.fantasyfootball.index.WeekVisitor;
+import com.fantasyfootball.index.WeeklyStatSketches;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * Positional percentiles of weekly stats, from the {@link WeeklyStatSketches} kept in step
+ * with stat writes. Weeks are built from the {@link SeasonStatsStore}, or from the archive
+ * of an archived season, the first time they are read; positions come from the player
+ * index. Results are estimates within about 1% of the sample once a range holds more
+ * values than a sketch retains, and exact below that.
+ */
+@Service
+public class StatPercentileService {
+
+    public static final int MAX_SEASONS = 30;
+    public static final int MAX_QUANTILES = 20;
+
+    @Autowired
+    private WeeklyStatSketches sketches;
+
+    @Autowired
+    private SeasonStatsStore seasonStatsStore;
+
+    @Autowired
+    private SeasonStatsService seasonStatsService;
+
+    @Autowired
+    private SeasonArchiveService seasonArchiveService;
+
+    @Autowired
+    private PlayerFacetIndex playerFacetIndex;
+
+    @Autowired
+    private PlayerIndexService playerIndexService;
+
+    /**
+     * The percentile of the player's week among all players of their position that week.
+     * Empty if the player has no stats that week.
+     */
+    public Optional<PlayerPercentileView> getPlayerPercentile(Integer playerId, Integer season, Integer week,
+                                                              String stat) {
+        StatColumn column = StatColumn.fromParam(stat);
+        requireValidRange(season, season, week, week);
+        requireReady(season, season);
+        PlayerSummary player = playerFacetIndex.getSummary(playerId);
+        if (player == null || player.position() == null) {
+            return Optional.empty();
+        }
+        OptionalInt value = valueOf(playerId, season, week, column);
+        if (value.isEmpty()) {
+            return Optional.empty();
+        }
+        KllSketch sketch = merge(player.position(), column, season, season, week, week);
+        return Optional.of(new PlayerPercentileView(playerId, player.position(), season, week, column.paramName(),
+                column.toDecimal(value.getAsInt()), percentile(sketch, value.getAsInt()), sketch.count()));
+    }
+
+    /**
+     * The percentile of {@code value} among the position's weekly values of the stat over
+     * the range.
+     */
+    public StatRankView getRank(String position, String stat, Integer fromSeason, Integer toSeason, int fromWeek,
+                                int toWeek, BigDecimal value) {
+        StatColumn column = StatColumn.fromParam(stat);
+        if (value == null) {
+            throw new IllegalArgumentException("A value is required");
+        }
+        int stored = column.fromDecimal(value);
+        int lastSeason = toSeason != null ? toSeason : fromSeason;
+        requireValidRange(fromSeason, lastSeason, fromWeek, toWeek);
+        requireReady(fromSeason, lastSeason);
+        KllSketch sketch = merge(position, column, fromSeason, lastSeason, fromWeek, toWeek);
+        return new StatRankView(position.toUpperCase(Locale.ROOT), column.paramName(), fromSeason, lastSeason,
+                fromWeek, toWeek, column.toDecimal(stored), sketch.isEmpty() ? null : percentile(sketch, stored),
+                sketch.count());
+    }
+
+    /**
+     * Estimated values of the stat at each requested quantile (0-1) of the position's
+     * weekly values over the range. Empty quantiles if there are no values.
+     */
+    public StatQuantilesView getQuantiles(String position, String stat, Integer fromSeason, Integer toSeason,
+                                          int fromWeek, int toWeek, List<Double> quantiles) {
+        StatColumn column = StatColumn.fromParam(stat);
+        if (quantiles == null || quantiles.isEmpty() || quantiles.size() > MAX_QUANTILES) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_QUANTILES + " quantiles are required");
+        }
+        for (Double quantile : quantiles) {
+            if (quantile == null || !(quantile >= 0 && quantile <= 1)) {
+                throw new IllegalArgumentException("Quantiles must be between 0 and 1");
+            }
+        }
+        int lastSeason = toSeason != null ? toSeason : fromSeason;
+        requireValidRange(fromSeason, lastSeason, fromWeek, toWeek);
+        requireReady(fromSeason, lastSeason);
+        KllSketch sketch = merge(position, column, fromSeason, lastSeason, fromWeek, toWeek);
+        List<StatQuantilesView.Quantile> values = new ArrayList<>(quantiles.size());
+        if (!sketch.isEmpty()) {
+            for (Double quantile : quantiles) {
+                values.add(new StatQuantilesView.Quantile(quantile, column.toDecimal(sketch.quantile(quantile))));
+            }
+        }
+        return new StatQuantilesView(position.toUpperCase(Locale.ROOT), column.paramName(), fromSeason, lastSeason,
+                fromWeek, toWeek, sketch.count(), values);
+    }
+
+    /**
+     * Runs after {@link SeasonStatsService#onStatsChanged}, like the other stats listeners,
+     * so a week built concurrently from the store already counts this row and the row is
+     * treated as a rewrite.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatsChanged(PlayerStatsChangedEvent event) {
+        if (event.isDeleted()) {
+            sketches.remove(event.playerId(), event.season(), event.week());
+            return;
+        }
+        PlayerSummary player = playerFacetIndex.getSummary(event.playerId());
+        int[] values = new int[StatColumn.values().length];
+        for (StatColumn column : StatColumn.values()) {
+            values[column.ordinal()] = column.valueOf(event.row());
+        }
+        sketches.add(event.playerId(), event.season(), event.week(), player != null ? player.position() : null,
+                values);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatsImported(PlayerStatsImportedEvent event) {
+        event.seasons().forEach(sketches::removeSeason);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeasonArchived(SeasonArchivedEvent event) {
+        sketches.removeSeason(event.season());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        sketches.playerChanged(event.playerId(), event.isDeleted() ? null : event.player().getPosition());
+    }
+
+    private KllSketch merge(String position, StatColumn column, int fromSeason, int toSeason, int fromWeek,
+                            int toWeek) {
+        return sketches.merge(position, column, fromSeason, toSeason, fromWeek, toWeek, this::forEachInWeek,
+                playerId -> {
+                    PlayerSummary summary = playerFacetIndex.getSummary(playerId);
+                    return summary != null ? summary.position() : null;
+                });
+    }
+
+    private void forEachInWeek(int season, int week, WeekVisitor visitor) {
+        Optional<SeasonArchive> archive = seasonArchiveService.getArchive(season);
+        if (archive.isPresent()) {
+            archive.get().forEachInWeek(week, visitor);
+        } else {
+            seasonStatsStore.forEachInWeek(season, week, visitor);
+        }
+    }
+
+    private OptionalInt valueOf(int playerId, int season, int week, StatColumn column) {
+        Optional<SeasonArchive> archive = seasonArchiveService.getArchive(season);
+        if (archive.isEmpty()) {
+            return seasonStatsStore.value(playerId, season, week, column);
+        }
+        for (PlayerStatsRow row : archive.get().weeks(playerId)) {
+            if (row.week() == week) {
+                return OptionalInt.of(column.valueOf(row));
+            }
+        }
+        return OptionalInt.empty();
+    }
+
+    /**
+     * Mid-rank percentile: the share of values below {@code value} plus half of those
+     * equal to it, so a stat most players share (zero field goals) lands mid-pack.
+     */
+    private static BigDecimal percentile(KllSketch sketch, int value) {
+        long below = sketch.rank(value, false);
+        long atOrBelow = sketch.rank(value, true);
+        return BigDecimal.valueOf(50.0 * (below + atOrBelow) / sketch.count()).setScale(1, RoundingMode.HALF_UP);
+    }
+
+    private void requireReady(int fromSeason, int toSeason) {
+        if (!playerIndexService.isReady()) {
+            throw new IllegalStateException("Player index is not loaded");
+        }
+        for (int season = fromSeason; season <= toSeason; season++) {
+            if (!seasonArchiveService.isArchived(season) && !seasonStatsService.isReady()) {
+                throw new IllegalStateException("Season stats are not loaded");
+            }
+        }
+    }
+
+    private static void requireValidRange(Integer fromSeason, Integer toSeason, Integer fromWeek, Integer toWeek) {
+        if (fromSeason == null || toSeason == null || toSeason < fromSeason
+                || toSeason - fromSeason >= MAX_SEASONS) {
+            throw new IllegalArgumentException("Seasons must be an ascending range of at most " + MAX_SEASONS);
+        }
+        if (fromWeek == null || toWeek == null || fromWeek < 1 || toWeek > SeasonStatsStore.MAX_WEEK
+                || toWeek < fromWeek) {
+            throw new IllegalArgumentException("Weeks must be an ascending range within 1-" + SeasonStatsStore.MAX_WEEK);
+        }
+    }
+}
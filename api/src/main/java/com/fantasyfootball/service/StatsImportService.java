@@ -0,0 +1,230 @@
+package com.fantasyfootball.service;
+
+import com.fantasyfootball.dto.StatsImportProgress;
+import com.fantasyfootball.event.PlayerStatsImportedEvent;
+import com.fantasyfootball.ingest.StatsFileFormat;
+import com.fantasyfootball.ingest.StatsFileLoader;
+import com.fantasyfootball.ingest.StatsImportJob;
+import com.fantasyfootball.repository.PlayerRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk-loads weekly player stats from CSV or NDJSON files in
+ * {@code fantasy.import.directory}.
+ *
+ * An import runs in the background: {@link StatsFileLoader} stages the file with parallel
+ * COPY streams, then one statement upserts the staged rows into {@code player_stats} on
+ * {@code (player_id, week, season)}, the last line of the file winning for duplicate
+ * keys. Rows whose values did not change are skipped, so re-importing a file only writes
+ * what differs and {@code rowsUpserted} counts those rows. The season summaries of the
+ * imported seasons are rebuilt and the staged rows cleared in the same transaction, so
+ * the summaries never disagree with {@code player_stats}; the in-memory stores reload
+ * once it commits, before the job reports completion. A file with rows of an archived
+ * season fails before anything is upserted. Imports run one at a time; their progress is kept for the most
+ * recent few.
+ */
+@Service
+public class StatsImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(StatsImportService.class);
+
+    private static final int MAX_RETAINED_JOBS = 20;
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO player_stats (player_id, week, season, games_played, points_scored, yards_gained, " +
+            "touchdowns, field_goals, interceptions, fumbles, receptions, created_at) " +
+            "SELECT DISTINCT ON (player_id, week, season) player_id, week, season, games_played, points_scored, " +
+            "yards_gained, touchdowns, field_goals, interceptions, fumbles, receptions, now() " +
+            "FROM stats_import_staging WHERE import_id = ? " +
+            "ORDER BY player_id, week, season, line_offset DESC " +
+            "ON CONFLICT (player_id, week, season) DO UPDATE SET " +
+            "games_played = EXCLUDED.games_played, points_scored = EXCLUDED.points_scored, " +
+            "yards_gained = EXCLUDED.yards_gained, touchdowns = EXCLUDED.touchdowns, " +
+            "field_goals = EXCLUDED.field_goals, interceptions = EXCLUDED.interceptions, " +
+            "fumbles = EXCLUDED.fumbles, receptions = EXCLUDED.receptions " +
+            "WHERE (player_stats.games_played, player_stats.points_scored, player_stats.yards_gained, " +
+            "player_stats.touchdowns, player_stats.field_goals, player_stats.interceptions, player_stats.fumbles, " +
+            "player_stats.receptions) IS DISTINCT FROM (EXCLUDED.games_played, EXCLUDED.points_scored, " +
+            "EXCLUDED.yards_gained, EXCLUDED.touchdowns, EXCLUDED.field_goals, EXCLUDED.interceptions, " +
+            "EXCLUDED.fumbles, EXCLUDED.receptions)";
+
+    private static final String CLEANUP_SQL = "DELETE FROM stats_import_staging WHERE import_id = ?";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private SeasonSummaryService seasonSummaryService;
+
+    @Autowired
+    private PlayerStatsPartitionService partitionService;
+
+    @Autowired
+    private SeasonArchiveService seasonArchiveService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${fantasy.import.directory:imports}")
+    private String directory;
+
+    @Value("${fantasy.import.parallelism:4}")
+    private int parallelism;
+
+    @Value("${fantasy.import.chunk-size:67108864}")
+    private long chunkSize;
+
+    private final AtomicLong nextId = new AtomicLong(System.currentTimeMillis());
+    private final Map<Long, StatsImportJob> jobs = new LinkedHashMap<>();
+
+    private ExecutorService runner;
+    private ExecutorService workers;
+
+    @PostConstruct
+    void startExecutors() {
+        runner = Executors.newSingleThreadExecutor(runnable -> daemon(runnable, "stats-import"));
+        AtomicInteger workerCount = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(Math.max(1, parallelism),
+                runnable -> daemon(runnable, "stats-import-worker-" + workerCount.incrementAndGet()));
+    }
+
+    @PreDestroy
+    void stopExecutors() {
+        runner.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    /**
+     * Queues an import of {@code fileName}, resolved inside the import directory.
+     *
+     * @throws IllegalArgumentException if the name leaves the directory or has an
+     *         unsupported extension
+     * @throws RuntimeException if the file does not exist
+     */
+    public StatsImportProgress startImport(String fileName) {
+        StatsFileFormat format = StatsFileFormat.fromFileName(fileName);
+        Path root = Paths.get(directory).toAbsolutePath().normalize();
+        Path file = root.resolve(fileName).normalize();
+        if (!file.startsWith(root)) {
+            throw new IllegalArgumentException("Import file must be inside the import directory");
+        }
+        if (!Files.isRegularFile(file)) {
+            throw new RuntimeException("Import file not found: " + fileName);
+        }
+        StatsImportJob job = new StatsImportJob(nextId.incrementAndGet(), root.relativize(file).toString(), format);
+        synchronized (jobs) {
+            jobs.put(job.getId(), job);
+            Iterator<StatsImportJob> oldest = jobs.values().iterator();
+            while (jobs.size() > MAX_RETAINED_JOBS && oldest.hasNext()) {
+                StatsImportJob candidate = oldest.next();
+                if (candidate.getStatus() == StatsImportJob.Status.COMPLETED
+                        || candidate.getStatus() == StatsImportJob.Status.FAILED) {
+                    oldest.remove();
+                }
+            }
+        }
+        runner.submit(() -> run(job, file));
+        return job.toProgress();
+    }
+
+    public Optional<StatsImportProgress> getImport(Long id) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(id)).map(StatsImportJob::toProgress);
+        }
+    }
+
+    public List<StatsImportProgress> getImports() {
+        synchronized (jobs) {
+            List<StatsImportProgress> progress = new ArrayList<>(jobs.size());
+            jobs.values().forEach(job -> progress.add(job.toProgress()));
+            return progress;
+        }
+    }
+
+    private void run(StatsImportJob job, Path file) {
+        job.started();
+        try {
+            BitSet seasons = new StatsFileLoader(dataSource, workers, chunkSize)
+                    .load(file, job, playerRepository.findAllEspnIds());
+            job.loaded();
+            Set<Integer> touched = seasons.stream().boxed().collect(Collectors.toSet());
+            for (Integer season : touched) {
+                if (seasonArchiveService.isArchived(season)) {
+                    throw new IllegalStateException("Season " + season + " is archived");
+                }
+            }
+            touched.forEach(partitionService::ensure);
+            Integer upserted = new TransactionTemplate(transactionManager).execute(status -> {
+                int rows = jdbcTemplate.update(UPSERT_SQL, job.getId());
+                if (rows > 0) {
+                    seasonSummaryService.rebuildSeasons(touched);
+                }
+                jdbcTemplate.update(CLEANUP_SQL, job.getId());
+                return rows;
+            });
+            eventPublisher.publishEvent(new PlayerStatsImportedEvent(job.getId(), touched));
+            job.completed(upserted);
+            StatsImportProgress progress = job.toProgress();
+            log.info("Imported {}: {} rows upserted, {} rejected, {} unresolved, {} rows/s",
+                    progress.file(), upserted, progress.rowsRejected(), progress.rowsUnresolved(),
+                    progress.rowsPerSecond());
+        } catch (Exception e) {
+            log.warn("Stats import {} failed", job.getId(), e);
+            clearStaged(job);
+            job.failed(e);
+        }
+    }
+
+    // A failed import leaves its staged rows behind; the transaction that clears them on
+    // success rolled back, or never ran
+    private void clearStaged(StatsImportJob job) {
+        try {
+            jdbcTemplate.update(CLEANUP_SQL, job.getId());
+        } catch (RuntimeException e) {
+            log.warn("Could not clear staged rows of import {}", job.getId(), e);
+        }
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
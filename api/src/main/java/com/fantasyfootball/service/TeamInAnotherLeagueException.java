@@ -0,0 +1,11 @@
+package com.fantasyfootball.service;
+
+/**
+ * Thrown when a team that already plays in one league is added to another.
+ */
+public class TeamInAnotherLeagueException extends RuntimeException {
+
+    public TeamInAnotherLeagueException(Integer teamId) {
+        super("Team " + teamId + " already plays in another league");
+    }
+}
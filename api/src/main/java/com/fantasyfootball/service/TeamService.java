@@ -1,25 +1,52 @@
 package com.fantasyfootball.service;
 
+import com.fantasyfootball.dto.CursorPage;
+import com.fantasyfootball.dto.LineupSlot;
+import com.fantasyfootball.dto.PageCursor;
+import com.fantasyfootball.dto.TeamSummary;
 import com.fantasyfootball.entity.Team;
 import com.fantasyfootball.entity.TeamPlayer;
 import com.fantasyfootball.entity.Player;
 import com.fantasyfootball.entity.RosterPosition;
+import com.fantasyfootball.event.RosterChangedEvent;
+import com.fantasyfootball.event.TeamChangedEvent;
 import com.fantasyfootball.repository.TeamRepository;
 import com.fantasyfootball.repository.TeamPlayerRepository;
 import com.fantasyfootball.repository.PlayerRepository;
 import com.fantasyfootball.repository.RosterPositionRepository;
+import com.fantasyfootball.roster.RosterRules;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 @Transactional
 public class TeamService {
     
+    public static final int MAX_PAGE_SIZE = 500;
+    
+    // Roster aggregates per team through a lateral subquery, so a page sorted by name
+    // walks idx_teams_name_id and aggregates only the teams it returns
+    private static final String SUMMARY_SELECT =
+            "SELECT t.id, t.name, u.username, t.budget, r.roster_size, r.starters_filled, r.spent FROM teams t " +
+            "LEFT JOIN users u ON u.id = t.owner_id " +
+            "CROSS JOIN LATERAL (SELECT COUNT(tp.id) AS roster_size, " +
+            "COUNT(tp.id) FILTER (WHERE rp.is_starting) AS starters_filled, " +
+            "COALESCE(SUM(tp.cost), 0.00) AS spent FROM team_players tp " +
+            "LEFT JOIN roster_positions rp ON rp.position_code = tp.roster_position " +
+            "WHERE tp.team_id = t.id) r WHERE TRUE";
+    
     @Autowired
     private TeamRepository teamRepository;
     
@@ -32,12 +59,79 @@ public class TeamService {
     @Autowired
     private RosterPositionRepository rosterPositionRepository;
     
+    @Autowired
+    private RosterRulesService rosterRulesService;
+    
+    @Autowired
+    private RosterDocumentService rosterDocumentService;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
     public List<Team> getAllTeams() {
         return teamRepository.findAll();
     }
     
+    /**
+     * One keyset-paginated page of team summaries, each aggregated over its roster in the
+     * same query, so a page is a single round trip however many teams and players there
+     * are. Sorts are {@code name}, {@code budget}, {@code rosterSize},
+     * {@code startersFilled} and {@code spent}, each with the id as tiebreaker; names sort
+     * ascending and the rest descending unless {@code order} says otherwise. Filters are
+     * optional: an owner, a league, and part of the team name, matched case-insensitively.
+     *
+     * @throws IllegalArgumentException for an unknown sort or order or a malformed cursor
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TeamSummary> getTeamSummaries(String sort, String order, String cursor, int size,
+                                                    Integer ownerId, Integer leagueId, String name) {
+        SummarySort summarySort = SummarySort.of(sort);
+        boolean descending = order == null || order.isBlank() ? summarySort.descending : isDescending(order);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageCursor after = cursor != null && !cursor.isBlank() ? PageCursor.decode(cursor) : null;
+        
+        StringBuilder sql = new StringBuilder(SUMMARY_SELECT);
+        List<Object> args = new ArrayList<>();
+        if (ownerId != null) {
+            sql.append(" AND t.owner_id = ?");
+            args.add(ownerId);
+        }
+        if (leagueId != null) {
+            sql.append(" AND EXISTS (SELECT 1 FROM league_teams lt WHERE lt.team_id = t.id AND lt.league_id = ?)");
+            args.add(leagueId);
+        }
+        if (name != null && !name.isBlank()) {
+            sql.append(" AND t.name ILIKE ? ESCAPE '\\'");
+            args.add("%" + name.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%");
+        }
+        if (after != null) {
+            // A row comparison, which the index on (name, id) can seek to
+            sql.append(" AND (").append(summarySort.column).append(", t.id)").append(descending ? " < " : " > ")
+               .append("(?, ?)");
+            args.add(summarySort.parseKey(after.sortKey()));
+            args.add(after.id());
+        }
+        String direction = descending ? " DESC" : " ASC";
+        sql.append(" ORDER BY ").append(summarySort.column).append(direction).append(", t.id").append(direction)
+           .append(" LIMIT ?");
+        args.add(pageSize + 1);
+        
+        List<TeamSummary> rows = jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new TeamSummary(
+                rs.getInt("id"), rs.getString("name"), rs.getString("username"), rs.getBigDecimal("budget"),
+                rs.getInt("roster_size"), rs.getInt("starters_filled"), rs.getBigDecimal("spent")), args.toArray());
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+        List<TeamSummary> page = rows.subList(0, pageSize);
+        TeamSummary last = page.get(pageSize - 1);
+        return new CursorPage<>(List.copyOf(page), new PageCursor(summarySort.keyOf(last), last.id()).encode());
+    }
+    
     public Optional<Team> getTeamById(Integer id) {
-        return teamRepository.findById(id);
+        return teamRepository.findByIdWithOwner(id);
     }
     
     public Optional<Team> getTeamWithPlayers(Integer id) {
@@ -49,11 +143,14 @@ public class TeamService {
     }
     
     public Team saveTeam(Team team) {
-        return teamRepository.save(team);
+        Team saved = teamRepository.save(team);
+        eventPublisher.publishEvent(new TeamChangedEvent(saved.getId()));
+        return saved;
     }
     
     public void deleteTeam(Integer id) {
         teamRepository.deleteById(id);
+        eventPublisher.publishEvent(RosterChangedEvent.cleared(id));
     }
     
     public List<TeamPlayer> getTeamRoster(Integer teamId) {
@@ -71,9 +168,9 @@ public class TeamService {
     public TeamPlayer addPlayerToTeam(Integer teamId, Integer playerId, String rosterPosition, BigDecimal cost) {
         Optional<Team> teamOpt = teamRepository.findById(teamId);
         Optional<Player> playerOpt = playerRepository.findById(playerId);
-        Optional<RosterPosition> rosterPosOpt = rosterPositionRepository.findByPositionCode(rosterPosition);
+        RosterRules rules = rosterRulesService.rulesForTeam(teamId);
         
-        if (teamOpt.isEmpty() || playerOpt.isEmpty() || rosterPosOpt.isEmpty()) {
+        if (teamOpt.isEmpty() || playerOpt.isEmpty() || !rules.hasSlot(rosterPosition)) {
             throw new RuntimeException("Team, Player, or Roster Position not found");
         }
         
@@ -82,15 +179,14 @@ public class TeamService {
         }
         
         // Validate roster position capacity
-        RosterPosition rosterPos = rosterPosOpt.get();
         long currentCount = teamPlayerRepository.countByTeamIdAndRosterPosition(teamId, rosterPosition);
-        if (currentCount >= rosterPos.getMaxCount()) {
-            throw new RuntimeException("Roster position " + rosterPosition + " is full (max: " + rosterPos.getMaxCount() + ")");
+        if (currentCount >= rules.maxCount(rosterPosition)) {
+            throw new RuntimeException("Roster position " + rosterPosition + " is full (max: " + rules.maxCount(rosterPosition) + ")");
         }
         
         // Validate position compatibility
         Player player = playerOpt.get();
-        if (!isValidPositionForRosterSlot(player, rosterPosition)) {
+        if (!rules.canPlay(rosterPosition, player.getPosition())) {
             throw new RuntimeException("Player position " + player.getPosition() + " is not valid for roster slot " + rosterPosition);
         }
         
@@ -98,36 +194,21 @@ public class TeamService {
         teamPlayer.setTeam(teamOpt.get());
         teamPlayer.setPlayer(player);
         teamPlayer.setRosterPosition(rosterPosition);
+        teamPlayer.setRosterPositionEntity(rosterRulesService.getPosition(rosterPosition));
         teamPlayer.setCost(cost);
         
-        return teamPlayerRepository.save(teamPlayer);
-    }
-    
-    private boolean isValidPositionForRosterSlot(Player player, String rosterPosition) {
-        String playerPosition = player.getPosition();
-        
-        // Direct position matches
-        if (rosterPosition.equals(playerPosition)) {
-            return true;
-        }
-        
-        // FLEX can hold RB, WR, or TE
-        if ("FLEX".equals(rosterPosition)) {
-            return "RB".equals(playerPosition) || "WR".equals(playerPosition) || "TE".equals(playerPosition);
-        }
-        
-        // BENCH can hold any position
-        if ("BENCH".equals(rosterPosition)) {
-            return true;
-        }
-        
-        return false;
+        TeamPlayer savedTeamPlayer = teamPlayerRepository.save(teamPlayer);
+        rosterDocumentService.refresh(teamId);
+        eventPublisher.publishEvent(RosterChangedEvent.added(teamId, playerId));
+        return savedTeamPlayer;
     }
     
     public void removePlayerFromTeam(Integer teamId, Integer playerId) {
         Optional<TeamPlayer> teamPlayerOpt = teamPlayerRepository.findByTeamIdAndPlayerId(teamId, playerId);
         if (teamPlayerOpt.isPresent()) {
             teamPlayerRepository.delete(teamPlayerOpt.get());
+            rosterDocumentService.refresh(teamId);
+            eventPublisher.publishEvent(RosterChangedEvent.removed(teamId, playerId));
         } else {
             throw new RuntimeException("Player not found on team");
         }
@@ -135,9 +216,9 @@ public class TeamService {
     
     public TeamPlayer movePlayerToRosterPosition(Integer teamId, Integer playerId, String newRosterPosition) {
         Optional<TeamPlayer> teamPlayerOpt = teamPlayerRepository.findByTeamIdAndPlayerId(teamId, playerId);
-        Optional<RosterPosition> rosterPosOpt = rosterPositionRepository.findByPositionCode(newRosterPosition);
+        RosterRules rules = rosterRulesService.rulesForTeam(teamId);
         
-        if (teamPlayerOpt.isEmpty() || rosterPosOpt.isEmpty()) {
+        if (teamPlayerOpt.isEmpty() || !rules.hasSlot(newRosterPosition)) {
             throw new RuntimeException("TeamPlayer or Roster Position not found");
         }
         
@@ -145,19 +226,119 @@ public class TeamService {
         Player player = teamPlayer.getPlayer();
         
         // Validate position compatibility
-        if (!isValidPositionForRosterSlot(player, newRosterPosition)) {
+        if (!rules.canPlay(newRosterPosition, player.getPosition())) {
             throw new RuntimeException("Player position " + player.getPosition() + " is not valid for roster slot " + newRosterPosition);
         }
         
         // Validate roster position capacity (exclude current player)
-        RosterPosition rosterPos = rosterPosOpt.get();
         long currentCount = teamPlayerRepository.countByTeamIdAndRosterPosition(teamId, newRosterPosition);
-        if (currentCount >= rosterPos.getMaxCount()) {
-            throw new RuntimeException("Roster position " + newRosterPosition + " is full (max: " + rosterPos.getMaxCount() + ")");
+        if (currentCount >= rules.maxCount(newRosterPosition)) {
+            throw new RuntimeException("Roster position " + newRosterPosition + " is full (max: " + rules.maxCount(newRosterPosition) + ")");
         }
         
         teamPlayer.setRosterPosition(newRosterPosition);
-        return teamPlayerRepository.save(teamPlayer);
+        teamPlayer.setRosterPositionEntity(rosterRulesService.getPosition(newRosterPosition));
+        TeamPlayer savedTeamPlayer = teamPlayerRepository.save(teamPlayer);
+        rosterDocumentService.refresh(teamId);
+        eventPublisher.publishEvent(RosterChangedEvent.moved(teamId, playerId));
+        return savedTeamPlayer;
+    }
+    
+    /**
+     * Sets the whole lineup of a team at once: each listed player moves to the given slot
+     * and every other player on the roster moves to the bench. The lineup is validated in
+     * memory against the roster and the team's {@link RosterRules}, then written with
+     * one UPDATE while the roster trigger is deferred, so players can swap slots. Returns
+     * the roster as it now is.
+     *
+     * @throws IllegalArgumentException if a player is not on the team or listed twice, a
+     *         slot is unknown or does not fit the player, or a slot would be over its limit
+     * @throws RuntimeException if the team does not exist
+     */
+    public List<TeamPlayer> setLineup(Integer teamId, List<LineupSlot> lineup) {
+        if (lineup == null) {
+            throw new IllegalArgumentException("A lineup is required");
+        }
+        List<TeamPlayer> roster = teamPlayerRepository.findByTeamIdReadOnly(teamId);
+        if (roster.isEmpty() && !teamRepository.existsById(teamId)) {
+            throw new RuntimeException("Team not found");
+        }
+        RosterRules rules = rosterRulesService.rulesForTeam(teamId);
+        Map<Integer, TeamPlayer> byPlayer = new HashMap<>();
+        for (TeamPlayer teamPlayer : roster) {
+            byPlayer.put(teamPlayer.getPlayer().getId(), teamPlayer);
+        }
+        
+        Map<Integer, String> assigned = new HashMap<>();
+        for (LineupSlot slot : lineup) {
+            TeamPlayer teamPlayer = slot.playerId() != null ? byPlayer.get(slot.playerId()) : null;
+            if (teamPlayer == null) {
+                throw new IllegalArgumentException("Player " + slot.playerId() + " is not on team " + teamId);
+            }
+            if (!rules.hasSlot(slot.rosterPosition())) {
+                throw new IllegalArgumentException("Unknown roster position " + slot.rosterPosition());
+            }
+            if (assigned.put(slot.playerId(), slot.rosterPosition()) != null) {
+                throw new IllegalArgumentException("Player " + slot.playerId() + " is listed more than once");
+            }
+            if (!rules.canPlay(slot.rosterPosition(), teamPlayer.getPlayer().getPosition())) {
+                throw new IllegalArgumentException("Player position " + teamPlayer.getPlayer().getPosition()
+                        + " is not valid for roster slot " + slot.rosterPosition());
+            }
+        }
+        
+        Map<String, Integer> counts = new HashMap<>();
+        List<TeamPlayer> changed = new ArrayList<>();
+        for (TeamPlayer teamPlayer : roster) {
+            String position = assigned.getOrDefault(teamPlayer.getPlayer().getId(), RosterRules.BENCH);
+            int count = counts.merge(position, 1, Integer::sum);
+            if (count > rules.maxCount(position)) {
+                throw new IllegalArgumentException("Roster position " + position + " is full (max: "
+                        + rules.maxCount(position) + ")");
+            }
+            if (!position.equals(teamPlayer.getRosterPosition())) {
+                teamPlayer.setRosterPosition(position);
+                teamPlayer.setRosterPositionEntity(rosterRulesService.getPosition(position));
+                changed.add(teamPlayer);
+            }
+        }
+        if (!changed.isEmpty()) {
+            writeLineup(teamId, changed);
+            rosterDocumentService.refresh(teamId);
+            for (TeamPlayer teamPlayer : changed) {
+                eventPublisher.publishEvent(RosterChangedEvent.moved(teamId, teamPlayer.getPlayer().getId()));
+            }
+        }
+        roster.sort(Comparator.comparing((TeamPlayer tp) -> tp.getRosterPositionEntity().getDisplayOrder())
+                .thenComparing(TeamPlayer::getId));
+        return roster;
+    }
+    
+    /**
+     * One UPDATE over a VALUES list of the changed rows. The roster trigger is deferred
+     * while it runs and checked again before returning, so a limit broken by a concurrent
+     * change fails here rather than at commit.
+     */
+    private void writeLineup(Integer teamId, List<TeamPlayer> changed) {
+        StringBuilder sql = new StringBuilder("UPDATE team_players AS tp SET roster_position = v.roster_position FROM (VALUES ");
+        List<Object> args = new ArrayList<>(changed.size() * 2 + 1);
+        for (int i = 0; i < changed.size(); i++) {
+            sql.append(i == 0 ? "(?, ?)" : ", (?, ?)");
+            args.add(changed.get(i).getId());
+            args.add(changed.get(i).getRosterPosition());
+        }
+        sql.append(") AS v(id, roster_position) WHERE tp.id = v.id AND tp.team_id = ?");
+        args.add(teamId);
+        try {
+            jdbcTemplate.execute("SET CONSTRAINTS validate_roster_composition DEFERRED");
+            int updated = jdbcTemplate.update(sql.toString(), args.toArray());
+            jdbcTemplate.execute("SET CONSTRAINTS validate_roster_composition IMMEDIATE");
+            if (updated != changed.size()) {
+                throw new IllegalArgumentException("Roster of team " + teamId + " changed during the lineup update");
+            }
+        } catch (DataAccessException e) {
+            throw new IllegalArgumentException("Lineup breaks the roster limits of team " + teamId, e);
+        }
     }
     
     public List<RosterPosition> getAllRosterPositions() {
@@ -175,4 +356,71 @@ public class TeamService {
     public long getTeamSize(Integer teamId) {
         return teamPlayerRepository.countByTeamId(teamId);
     }
+    
+    private static boolean isDescending(String order) {
+        if ("desc".equalsIgnoreCase(order)) {
+            return true;
+        }
+        if ("asc".equalsIgnoreCase(order)) {
+            return false;
+        }
+        throw new IllegalArgumentException("Unsupported order: " + order);
+    }
+    
+    /**
+     * The sortable summary columns. Budget sorts with no budget as zero, so every sort key
+     * is non-null and the keyset comparison holds.
+     */
+    private enum SummarySort {
+        
+        NAME("name", "t.name", false),
+        BUDGET("budget", "COALESCE(t.budget, 0)", true),
+        ROSTER_SIZE("rosterSize", "r.roster_size", true),
+        STARTERS_FILLED("startersFilled", "r.starters_filled", true),
+        SPENT("spent", "r.spent", true);
+        
+        private final String param;
+        private final String column;
+        private final boolean descending;
+        
+        SummarySort(String param, String column, boolean descending) {
+            this.param = param;
+            this.column = column;
+            this.descending = descending;
+        }
+        
+        static SummarySort of(String sort) {
+            if (sort == null || sort.isBlank()) {
+                return NAME;
+            }
+            for (SummarySort summarySort : values()) {
+                if (summarySort.param.equalsIgnoreCase(sort)) {
+                    return summarySort;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported sort: " + sort);
+        }
+        
+        String keyOf(TeamSummary summary) {
+            return switch (this) {
+                case NAME -> summary.name();
+                case BUDGET -> (summary.budget() != null ? summary.budget() : BigDecimal.ZERO).toPlainString();
+                case ROSTER_SIZE -> String.valueOf(summary.rosterSize());
+                case STARTERS_FILLED -> String.valueOf(summary.startersFilled());
+                case SPENT -> summary.spent().toPlainString();
+            };
+        }
+        
+        Object parseKey(String key) {
+            try {
+                return switch (this) {
+                    case NAME -> key;
+                    case BUDGET, SPENT -> new BigDecimal(key);
+                    case ROSTER_SIZE, STARTERS_FILLED -> Integer.valueOf(key);
+                };
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid page cursor for " + param + " sort", e);
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.fantasyfootball.service;
+
+import com.fantasyfootball.event.PlayerChangedEvent;
+import com.fantasyfootball.event.RosterChangedEvent;
+import com.fantasyfootball.event.TeamChangedEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A version per team, advanced after every committed change to the team or its roster,
+ * so team and roster GETs can carry an ETag and answer {@code If-None-Match} with a 304
+ * from this map alone, without a query.
+ *
+ * A team not changed since startup has the shared base version, which a player change
+ * advances for every team, since rosters show player details. ETags also carry the
+ * startup time, so none from before a restart matches again. Versions live in this
+ * instance only; changes made through another instance are not seen here.
+ */
+@Service
+public class TeamVersionService {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong counter = new AtomicLong();
+    private final Map<Integer, Long> versions = new ConcurrentHashMap<>();
+
+    private volatile long baseVersion;
+
+    /**
+     * The ETag of the team's current data, unquoted. Read it before the data it is sent
+     * with: a change committed in between then only makes the tag older than the data,
+     * and the next conditional GET fetches again.
+     */
+    public String etag(Integer teamId) {
+        long version = versions.getOrDefault(teamId, baseVersion);
+        return epoch + "-" + Long.toString(version, 36);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRosterChanged(RosterChangedEvent event) {
+        versions.put(event.teamId(), counter.incrementAndGet());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        versions.put(event.teamId(), counter.incrementAndGet());
+    }
+
+    /**
+     * Moves every team to a new base version. Teams changed since startup keep their own
+     * version in the map, so they are moved past it as well.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPlayerChanged(PlayerChangedEvent event) {
+        long version = counter.incrementAndGet();
+        baseVersion = version;
+        versions.replaceAll((teamId, previous) -> version);
+    }
+}
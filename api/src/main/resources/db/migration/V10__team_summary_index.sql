@@ -0,0 +1,4 @@
+-- Keyset order of the team summary listing sorted by name (see TeamService), so a page
+-- reads its teams off the index and aggregates only their rosters.
+
+CREATE INDEX IF NOT EXISTS idx_teams_name_id ON teams (name, id);
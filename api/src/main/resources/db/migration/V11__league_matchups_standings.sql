@@ -0,0 +1,56 @@
+-- Weekly head-to-head matchups and standings kept in step with them (see
+-- LeagueService): each finalized result is applied to the two teams' standings rows
+-- and their head-to-head record, and the league is ranked again from those rows, so
+-- reading standings never goes through the games.
+
+CREATE TABLE IF NOT EXISTS matchups (
+    id SERIAL PRIMARY KEY,
+    league_id INTEGER NOT NULL REFERENCES leagues(id) ON DELETE CASCADE,
+    week INTEGER NOT NULL CHECK (week > 0),
+    home_team_id INTEGER NOT NULL REFERENCES teams(id) ON DELETE CASCADE,
+    away_team_id INTEGER NOT NULL REFERENCES teams(id) ON DELETE CASCADE,
+    home_points DECIMAL(8,2),
+    away_points DECIMAL(8,2),
+    status VARCHAR(10) NOT NULL DEFAULT 'SCHEDULED' CHECK (status IN ('SCHEDULED', 'FINAL')),
+    finalized_at TIMESTAMP,
+    CHECK (home_team_id <> away_team_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_matchups_league_week ON matchups (league_id, week);
+CREATE INDEX IF NOT EXISTS idx_matchups_home_team ON matchups (home_team_id, week);
+CREATE INDEX IF NOT EXISTS idx_matchups_away_team ON matchups (away_team_id, week);
+
+CREATE TABLE IF NOT EXISTS league_standings (
+    league_id INTEGER NOT NULL REFERENCES leagues(id) ON DELETE CASCADE,
+    team_id INTEGER NOT NULL REFERENCES teams(id) ON DELETE CASCADE,
+    wins INTEGER NOT NULL DEFAULT 0,
+    losses INTEGER NOT NULL DEFAULT 0,
+    ties INTEGER NOT NULL DEFAULT 0,
+    points_for DECIMAL(10,2) NOT NULL DEFAULT 0,
+    points_against DECIMAL(10,2) NOT NULL DEFAULT 0,
+    streak_result VARCHAR(1),
+    streak_length INTEGER NOT NULL DEFAULT 0,
+    last_week INTEGER NOT NULL DEFAULT 0,
+    rank INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (league_id, team_id)
+);
+
+-- Results of each team against each opponent, both directions stored, for the
+-- head-to-head tiebreaker
+CREATE TABLE IF NOT EXISTS league_head_to_head (
+    league_id INTEGER NOT NULL REFERENCES leagues(id) ON DELETE CASCADE,
+    team_id INTEGER NOT NULL REFERENCES teams(id) ON DELETE CASCADE,
+    opponent_id INTEGER NOT NULL REFERENCES teams(id) ON DELETE CASCADE,
+    wins INTEGER NOT NULL DEFAULT 0,
+    losses INTEGER NOT NULL DEFAULT 0,
+    ties INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (league_id, team_id, opponent_id)
+);
+
+-- Every team already in a league starts with an empty record
+INSERT INTO league_standings (league_id, team_id, rank)
+SELECT league_id, team_id, row_number() OVER (PARTITION BY league_id ORDER BY team_id)
+FROM league_teams
+WHERE league_id IS NOT NULL AND team_id IS NOT NULL
+ON CONFLICT (league_id, team_id) DO NOTHING;
@@ -0,0 +1,5 @@
+-- Divisions and rivals for schedule generation (see ScheduleGenerator). A team without
+-- a division shares the league's default one; rivals name each other.
+
+ALTER TABLE league_teams ADD COLUMN IF NOT EXISTS division INTEGER;
+ALTER TABLE league_teams ADD COLUMN IF NOT EXISTS rival_team_id INTEGER REFERENCES teams(id) ON DELETE SET NULL;
@@ -0,0 +1,13 @@
+-- Keyset pagination of players orders on COALESCE(fantasy_points, 0) and
+-- COALESCE(last_name, dst_team_name, ''), so players without points or a sort name
+-- keep their place across pages (see PlayerRepository). Rebuild the V2 indexes on
+-- those expressions.
+
+DROP INDEX IF EXISTS idx_players_points_id;
+DROP INDEX IF EXISTS idx_players_sort_name_id;
+
+CREATE INDEX IF NOT EXISTS idx_players_points_id
+    ON players ((COALESCE(fantasy_points, 0)) DESC, id);
+
+CREATE INDEX IF NOT EXISTS idx_players_sort_name_id
+    ON players ((COALESCE(last_name, dst_team_name, '')), id);
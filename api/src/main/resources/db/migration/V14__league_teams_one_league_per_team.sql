@@ -0,0 +1,7 @@
+-- A team plays in one league: roster rules and player availability are judged against
+-- the team's league (see RosterRulesService, PlayerAvailabilityService), and
+-- LeagueService rejects joining a second one with 409 Conflict. This index also settles
+-- two concurrent joins to different leagues. It fails to build if a team is already
+-- in several leagues; move those teams to one league first.
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_league_teams_team_id ON league_teams (team_id);
@@ -0,0 +1,24 @@
+-- V8 gave SUPERFLEX the display order of FLEX, so rosters listed the two slots in no
+-- particular order. Starting slots now follow the lineup: offense, the superflex right
+-- after the flex, kicker and defense, then the IDP slots. The bench stays last.
+UPDATE roster_positions rp
+SET display_order = o.display_order
+FROM (VALUES
+    ('QB', 1),
+    ('RB', 2),
+    ('WR', 3),
+    ('TE', 4),
+    ('FLEX', 5),
+    ('SUPERFLEX', 6),
+    ('K', 7),
+    ('DST', 8),
+    ('DL', 9),
+    ('LB', 10),
+    ('DB', 11),
+    ('IDP', 12),
+    ('BENCH', 20)
+) AS o (position_code, display_order)
+WHERE rp.position_code = o.position_code;
+
+-- Every slot the catalogue allows has its own order from here on
+ALTER TABLE roster_positions ADD CONSTRAINT uq_roster_positions_display_order UNIQUE (display_order);
@@ -0,0 +1,34 @@
+-- V8 looked up the rules of a team's lowest-id league, for teams in several leagues.
+-- Since V14 a team is in at most one league, so the trigger reads that league, as
+-- RosterRulesService does. A slot its league does not configure falls back to max_count.
+CREATE OR REPLACE FUNCTION validate_roster_composition()
+RETURNS TRIGGER AS $$
+DECLARE
+    current_count INTEGER;
+    max_allowed INTEGER;
+    position_name_var VARCHAR(50);
+BEGIN
+    SELECT COALESCE(lrs.max_count, rp.max_count), rp.position_name
+    INTO max_allowed, position_name_var
+    FROM roster_positions rp
+    LEFT JOIN league_teams lt
+        ON lt.team_id = NEW.team_id
+    LEFT JOIN league_roster_slots lrs
+        ON lrs.league_id = lt.league_id
+        AND lrs.slot_code = rp.position_code
+    WHERE rp.position_code = NEW.roster_position;
+
+    SELECT COUNT(*)
+    INTO current_count
+    FROM team_players tp
+    WHERE tp.team_id = NEW.team_id
+    AND tp.roster_position = NEW.roster_position;
+
+    IF current_count > max_allowed THEN
+        RAISE EXCEPTION 'Team already has the maximum number of % players (%). Cannot add more players to this position.',
+                       position_name_var, max_allowed;
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
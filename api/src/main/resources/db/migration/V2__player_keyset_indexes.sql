@@ -0,0 +1,9 @@
+-- Indexes backing keyset pagination of players (GET /players/page).
+-- Existing databases are baselined at version 1, so every migration here is idempotent
+-- with respect to database/complete_schema.sql.
+
+CREATE INDEX IF NOT EXISTS idx_players_points_id
+    ON players (fantasy_points DESC, id);
+
+CREATE INDEX IF NOT EXISTS idx_players_sort_name_id
+    ON players ((COALESCE(last_name, dst_team_name)), id);
@@ -0,0 +1,17 @@
+-- Receptions, needed by PPR scoring, and per-league scoring rules (see ScoringFormula).
+-- Idempotent with respect to database/complete_schema.sql, like every migration here.
+
+ALTER TABLE player_stats ADD COLUMN IF NOT EXISTS receptions INTEGER DEFAULT 0;
+
+-- A rule with no threshold awards points per unit of the stat; a rule with a threshold
+-- awards its points once per week in which the stat reaches the threshold.
+CREATE TABLE IF NOT EXISTS league_scoring_rules (
+    id SERIAL PRIMARY KEY,
+    league_id INTEGER NOT NULL REFERENCES leagues(id) ON DELETE CASCADE,
+    stat VARCHAR(20) NOT NULL,
+    points DECIMAL(8,4) NOT NULL,
+    threshold INTEGER
+);
+
+CREATE INDEX IF NOT EXISTS idx_league_scoring_rules_league
+    ON league_scoring_rules (league_id);
@@ -0,0 +1,23 @@
+-- Staging table for bulk stats imports (POST /imports/stats). Rows are COPYed in per
+-- import, upserted into player_stats and deleted, so the table is unlogged and unindexed
+-- to keep COPY cheap.
+
+CREATE UNLOGGED TABLE IF NOT EXISTS stats_import_staging (
+    import_id BIGINT NOT NULL,
+    line_offset BIGINT NOT NULL,
+    player_id INTEGER NOT NULL,
+    week INTEGER NOT NULL,
+    season INTEGER NOT NULL,
+    games_played INTEGER,
+    points_scored DECIMAL(6,2),
+    yards_gained INTEGER,
+    touchdowns INTEGER,
+    field_goals INTEGER,
+    interceptions INTEGER,
+    fumbles INTEGER,
+    receptions INTEGER
+);
+
+-- Same columns as the unique constraint's index; dropping it halves index maintenance
+-- on every imported row.
+DROP INDEX IF EXISTS idx_player_stats_player_week;
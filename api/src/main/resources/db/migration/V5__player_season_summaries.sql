@@ -0,0 +1,39 @@
+-- One row per player and season, maintained alongside every player_stats write (see
+-- PlayerSeasonSummary): stat totals, a Welford mean and sum of squared deviations of
+-- weekly points, and the points of the most recent weeks, newest first.
+
+CREATE TABLE IF NOT EXISTS player_season_summaries (
+    player_id INTEGER NOT NULL REFERENCES players(id) ON DELETE CASCADE,
+    season INTEGER NOT NULL,
+    weeks_played INTEGER NOT NULL DEFAULT 0,
+    total_points DECIMAL(8,2) NOT NULL DEFAULT 0,
+    total_yards INTEGER NOT NULL DEFAULT 0,
+    total_touchdowns INTEGER NOT NULL DEFAULT 0,
+    total_field_goals INTEGER NOT NULL DEFAULT 0,
+    total_interceptions INTEGER NOT NULL DEFAULT 0,
+    total_fumbles INTEGER NOT NULL DEFAULT 0,
+    total_receptions INTEGER NOT NULL DEFAULT 0,
+    mean_points DOUBLE PRECISION NOT NULL DEFAULT 0,
+    m2_points DOUBLE PRECISION NOT NULL DEFAULT 0,
+    recent_weeks INTEGER[] NOT NULL DEFAULT '{}',
+    recent_points DECIMAL(6,2)[] NOT NULL DEFAULT '{}',
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (player_id, season)
+);
+
+-- Backfill from existing weekly rows; the same aggregate rebuilds seasons after a bulk import
+INSERT INTO player_season_summaries (player_id, season, weeks_played, total_points, total_yards,
+    total_touchdowns, total_field_goals, total_interceptions, total_fumbles, total_receptions,
+    mean_points, m2_points, recent_weeks, recent_points, updated_at)
+SELECT player_id, season, count(*), sum(coalesce(points_scored, 0)), sum(coalesce(yards_gained, 0)),
+    sum(coalesce(touchdowns, 0)), sum(coalesce(field_goals, 0)), sum(coalesce(interceptions, 0)),
+    sum(coalesce(fumbles, 0)), sum(coalesce(receptions, 0)),
+    avg(coalesce(points_scored, 0)), var_pop(coalesce(points_scored, 0)) * count(*),
+    coalesce(array_agg(week ORDER BY week DESC) FILTER (WHERE recency <= 3), '{}'),
+    coalesce(array_agg(coalesce(points_scored, 0) ORDER BY week DESC) FILTER (WHERE recency <= 3), '{}'),
+    CURRENT_TIMESTAMP
+FROM (SELECT ps.*, row_number() OVER (PARTITION BY player_id, season ORDER BY week DESC) AS recency
+      FROM player_stats ps
+      WHERE player_id IS NOT NULL) s
+GROUP BY player_id, season
+ON CONFLICT (player_id, season) DO NOTHING;
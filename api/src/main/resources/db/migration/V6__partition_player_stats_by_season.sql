@@ -0,0 +1,84 @@
+-- player_stats becomes a table list-partitioned by season, one partition per season plus
+-- a default partition for seasons nobody created a partition for yet. Queries that filter
+-- on season only touch that season's partition, and old seasons vacuum independently.
+--
+-- The primary key has to include the partition key, so it becomes (id, season); ids still
+-- come from the same sequence and stay unique.
+
+-- Creates the partition of one season unless it exists, moving any rows of that season
+-- out of the default partition first. Called at startup for the current and next season
+-- and before writing a season that has no partition (see PlayerStatsPartitionService).
+CREATE OR REPLACE FUNCTION ensure_player_stats_partition(p_season INTEGER) RETURNS BOOLEAN AS $$
+DECLARE
+    partition_name TEXT := 'player_stats_' || p_season;
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+    PERFORM pg_advisory_xact_lock(hashtext('player_stats_partitions'));
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+    EXECUTE format('CREATE TABLE %I (LIKE player_stats INCLUDING DEFAULTS, CHECK (season = %s))',
+                   partition_name, p_season);
+    EXECUTE format('WITH moved AS (DELETE FROM player_stats_default WHERE season = %s RETURNING *) ' ||
+                   'INSERT INTO %I SELECT * FROM moved', p_season, partition_name);
+    EXECUTE format('ALTER TABLE player_stats ATTACH PARTITION %I FOR VALUES IN (%s)',
+                   partition_name, p_season);
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+DO $$
+DECLARE
+    id_sequence TEXT := pg_get_serial_sequence('player_stats', 'id');
+    stats_season INTEGER;
+BEGIN
+    IF (SELECT relkind FROM pg_class WHERE oid = 'player_stats'::regclass) = 'p' THEN
+        RETURN;
+    END IF;
+
+    ALTER TABLE player_stats RENAME TO player_stats_unpartitioned;
+    ALTER TABLE player_stats_unpartitioned DROP CONSTRAINT IF EXISTS player_stats_pkey;
+    ALTER TABLE player_stats_unpartitioned DROP CONSTRAINT IF EXISTS player_stats_player_id_week_season_key;
+    ALTER TABLE player_stats_unpartitioned DROP CONSTRAINT IF EXISTS player_stats_player_id_fkey;
+
+    CREATE TABLE player_stats (
+        id INTEGER NOT NULL,
+        player_id INTEGER REFERENCES players(id) ON DELETE CASCADE,
+        week INTEGER NOT NULL,
+        season INTEGER NOT NULL,
+        games_played INTEGER DEFAULT 0,
+        points_scored DECIMAL(6,2) DEFAULT 0.00,
+        yards_gained INTEGER DEFAULT 0,
+        touchdowns INTEGER DEFAULT 0,
+        field_goals INTEGER DEFAULT 0,
+        interceptions INTEGER DEFAULT 0,
+        fumbles INTEGER DEFAULT 0,
+        created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+        receptions INTEGER DEFAULT 0,
+        PRIMARY KEY (id, season),
+        UNIQUE (player_id, week, season)
+    ) PARTITION BY LIST (season);
+
+    -- The sequence moves to the new table before the old one, which owns it, is dropped
+    EXECUTE format('ALTER TABLE player_stats ALTER COLUMN id SET DEFAULT nextval(%L::regclass)', id_sequence);
+    EXECUTE format('ALTER SEQUENCE %s OWNED BY player_stats.id', id_sequence);
+
+    CREATE TABLE player_stats_default PARTITION OF player_stats DEFAULT;
+    FOR stats_season IN SELECT DISTINCT season FROM player_stats_unpartitioned ORDER BY season LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF player_stats FOR VALUES IN (%s)',
+                       'player_stats_' || stats_season, stats_season);
+    END LOOP;
+
+    INSERT INTO player_stats (id, player_id, week, season, games_played, points_scored, yards_gained,
+                              touchdowns, field_goals, interceptions, fumbles, created_at, receptions)
+    SELECT id, player_id, week, season, games_played, points_scored, yards_gained,
+           touchdowns, field_goals, interceptions, fumbles, created_at, receptions
+    FROM player_stats_unpartitioned;
+
+    DROP TABLE player_stats_unpartitioned;
+END;
+$$;
+
+ANALYZE player_stats;
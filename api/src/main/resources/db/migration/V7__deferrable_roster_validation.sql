@@ -0,0 +1,49 @@
+-- Roster slot limits become a deferrable constraint trigger, so a lineup change that moves
+-- several players at once (a swap between two slots, say) can be checked against the
+-- final lineup instead of failing on the intermediate state of each row. The trigger
+-- stays INITIALLY IMMEDIATE, so single adds and moves are checked as before; the lineup
+-- update defers it for its transaction (see TeamService#setLineup).
+--
+-- The partial unique index on (team_id, roster_position) goes: an index cannot be
+-- deferred, and it allowed one player per starting slot even where max_count is 2
+-- (RB, WR). The trigger enforces max_count for every slot, which covers it.
+
+DROP INDEX IF EXISTS idx_team_players_unique_starting_position;
+
+DROP TRIGGER IF EXISTS validate_roster_before_insert ON team_players;
+DROP TRIGGER IF EXISTS validate_roster_before_update ON team_players;
+DROP TRIGGER IF EXISTS validate_roster_composition ON team_players;
+
+-- Runs after the row is written, so the count includes it
+CREATE OR REPLACE FUNCTION validate_roster_composition()
+RETURNS TRIGGER AS $$
+DECLARE
+    current_count INTEGER;
+    max_allowed INTEGER;
+    position_name_var VARCHAR(50);
+BEGIN
+    SELECT rp.max_count, rp.position_name
+    INTO max_allowed, position_name_var
+    FROM roster_positions rp
+    WHERE rp.position_code = NEW.roster_position;
+
+    SELECT COUNT(*)
+    INTO current_count
+    FROM team_players tp
+    WHERE tp.team_id = NEW.team_id
+    AND tp.roster_position = NEW.roster_position;
+
+    IF current_count > max_allowed THEN
+        RAISE EXCEPTION 'Team already has the maximum number of % players (%). Cannot add more players to this position.',
+                       position_name_var, max_allowed;
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE CONSTRAINT TRIGGER validate_roster_composition
+    AFTER INSERT OR UPDATE OF team_id, roster_position ON team_players
+    DEFERRABLE INITIALLY IMMEDIATE
+    FOR EACH ROW
+    EXECUTE FUNCTION validate_roster_composition();
@@ -0,0 +1,60 @@
+-- Per-league roster rules (see RosterRules): which positions may fill each slot and how
+-- many players it holds. Leagues without rows here use the standard rules, which match
+-- the roster_positions seed.
+
+-- Slots for superflex and IDP leagues. roster_positions stays the catalogue of slots
+-- team_players can reference; whether a team may use one is up to its league's rules.
+ALTER TABLE roster_positions DROP CONSTRAINT IF EXISTS chk_position_code;
+ALTER TABLE roster_positions ADD CONSTRAINT chk_position_code CHECK (position_code IN
+    ('QB', 'RB', 'WR', 'TE', 'FLEX', 'SUPERFLEX', 'K', 'DST', 'DL', 'LB', 'DB', 'IDP', 'BENCH'));
+
+INSERT INTO roster_positions (position_code, position_name, max_count, is_starting, display_order) VALUES
+('SUPERFLEX', 'Superflex (QB/RB/WR/TE)', 1, true, 5),
+('DL', 'Defensive Lineman', 2, true, 8),
+('LB', 'Linebacker', 2, true, 9),
+('DB', 'Defensive Back', 2, true, 10),
+('IDP', 'Flex (DL/LB/DB)', 1, true, 11)
+ON CONFLICT (position_code) DO NOTHING;
+
+UPDATE roster_positions SET display_order = 20 WHERE position_code = 'BENCH';
+
+CREATE TABLE IF NOT EXISTS league_roster_slots (
+    id SERIAL PRIMARY KEY,
+    league_id INTEGER NOT NULL REFERENCES leagues(id) ON DELETE CASCADE,
+    slot_code VARCHAR(10) NOT NULL REFERENCES roster_positions(position_code),
+    max_count INTEGER NOT NULL CHECK (max_count > 0),
+    eligible_positions VARCHAR(100) NOT NULL,
+    UNIQUE (league_id, slot_code)
+);
+
+-- A team in several leagues follows the rules of the one with the lowest id, as in
+-- RosterRulesService; a slot its league does not configure falls back to max_count.
+CREATE OR REPLACE FUNCTION validate_roster_composition()
+RETURNS TRIGGER AS $$
+DECLARE
+    current_count INTEGER;
+    max_allowed INTEGER;
+    position_name_var VARCHAR(50);
+BEGIN
+    SELECT COALESCE(lrs.max_count, rp.max_count), rp.position_name
+    INTO max_allowed, position_name_var
+    FROM roster_positions rp
+    LEFT JOIN league_roster_slots lrs
+        ON lrs.slot_code = rp.position_code
+        AND lrs.league_id = (SELECT MIN(lt.league_id) FROM league_teams lt WHERE lt.team_id = NEW.team_id)
+    WHERE rp.position_code = NEW.roster_position;
+
+    SELECT COUNT(*)
+    INTO current_count
+    FROM team_players tp
+    WHERE tp.team_id = NEW.team_id
+    AND tp.roster_position = NEW.roster_position;
+
+    IF current_count > max_allowed THEN
+        RAISE EXCEPTION 'Team already has the maximum number of % players (%). Cannot add more players to this position.',
+                       position_name_var, max_allowed;
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,12 @@
+-- One pre-serialized roster per team (see RosterDocumentService): the JSON body of
+-- GET /teams/{id}/roster, rewritten in the same transaction as every roster change.
+-- Stored as bytea rather than jsonb so the bytes are served exactly as written; jsonb
+-- would reorder keys and need serializing again on every read.
+--
+-- No backfill: a team without a row gets one on its first roster read.
+
+CREATE TABLE IF NOT EXISTS team_roster_documents (
+    team_id INTEGER PRIMARY KEY REFERENCES teams(id) ON DELETE CASCADE,
+    document BYTEA NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
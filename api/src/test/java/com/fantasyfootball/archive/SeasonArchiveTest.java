@@ -0,0 +1,142 @@
+package com.fantasyfootball.archive;
+
+import com.fantasyfootball.dto.PlayerStatsRow;
+import com.fantasyfootball.dto.SeasonStatLine;
+import com.fantasyfootball.index.SeasonStatsStore;
+import com.fantasyfootball.index.StatColumn;
+import com.fantasyfootball.scoring.ScoringFormula;
+import com.fantasyfootball.scoring.ScoringPreset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SeasonArchiveTest {
+
+    private static final List<PlayerStatsRow> ROWS = List.of(
+            row(1, 1, "20.50", 100, 1, 4),
+            row(1, 2, "-2.25", -7, 0, 0),
+            row(1, 4, "30.00", 150, 2, 6),
+            row(2, 1, "25.00", 80, 2, 3),
+            row(3, 1, "60.75", 20, 0, 1),
+            row(3, SeasonStatsStore.MAX_WEEK, "1234.56", 1_000_000, 0, 0));
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+    private SeasonArchive archive;
+    private SeasonStatsStore store;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        SeasonArchiveWriter writer = new SeasonArchiveWriter(2022);
+        ROWS.forEach(writer::add);
+        file = directory.resolve("season-2022.ffsa");
+        writer.writeTo(file);
+        archive = SeasonArchive.open(file);
+        store = new SeasonStatsStore();
+        store.replaceAll(ROWS.iterator());
+    }
+
+    @Test
+    void open_ShouldReadHeader() throws Exception {
+        // When & Then
+        assertEquals(2022, archive.season());
+        assertEquals(3, archive.players());
+        assertEquals(ROWS.size(), archive.rows());
+        assertEquals(Files.size(file), archive.sizeBytes());
+    }
+
+    @Test
+    void line_ShouldMatchStore() {
+        // When & Then
+        for (int playerId = 1; playerId <= 3; playerId++) {
+            for (int lastWeeks = 0; lastWeeks <= 3; lastWeeks++) {
+                assertEquals(store.line(playerId, 2022, lastWeeks), archive.line(playerId, lastWeeks));
+            }
+        }
+        assertTrue(archive.line(9, 0).isEmpty());
+    }
+
+    @Test
+    void weeks_ShouldRoundTripRowsWithoutIds() {
+        // When
+        List<PlayerStatsRow> weeks = archive.weeks(1);
+
+        // Then
+        assertEquals(ROWS.subList(0, 3), weeks);
+        assertEquals(new BigDecimal("-2.25"), weeks.get(1).pointsScored());
+        assertTrue(archive.weeks(9).isEmpty());
+    }
+
+    @Test
+    void allWeeks_ShouldListEveryRowByPlayerThenWeek() {
+        // When
+        List<PlayerStatsRow> rows = new ArrayList<>();
+        archive.allWeeks().forEachRemaining(rows::add);
+
+        // Then
+        assertEquals(ROWS, rows);
+    }
+
+    @Test
+    void leaders_ShouldMatchStore() {
+        // When & Then
+        for (StatColumn column : StatColumn.values()) {
+            assertEquals(store.leaders(2022, column, id -> true, 10), archive.leaders(column, id -> true, 10));
+            assertEquals(store.leaders(2022, column, id -> id != 3, 1), archive.leaders(column, id -> id != 3, 1));
+        }
+    }
+
+    @Test
+    void score_ShouldMatchStore() {
+        // Given
+        ScoringFormula ppr = ScoringFormula.compile(ScoringPreset.PPR.rules());
+
+        // When & Then
+        assertEquals(store.scoreSeason(2022, ppr).top(10, id -> true), archive.score(ppr).top(10, id -> true));
+    }
+
+    @Test
+    void add_WhenRowsOutOfOrder_ShouldThrow() {
+        // Given
+        SeasonArchiveWriter writer = new SeasonArchiveWriter(2022);
+        writer.add(row(2, 3, "1.00", 0, 0, 0));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> writer.add(row(2, 3, "1.00", 0, 0, 0)));
+        assertThrows(IllegalArgumentException.class, () -> writer.add(row(1, 4, "1.00", 0, 0, 0)));
+        assertThrows(IllegalArgumentException.class,
+                () -> writer.add(new PlayerStatsRow(null, 3, 1, 2021, 1, BigDecimal.ONE, 0, 0, 0, 0, 0, 0)));
+    }
+
+    @Test
+    void open_WhenFileCorrupt_ShouldThrow() throws Exception {
+        // Given
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 1;
+        Path corrupt = directory.resolve("corrupt.ffsa");
+        Files.write(corrupt, bytes);
+        Path truncated = directory.resolve("truncated.ffsa");
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 1));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> SeasonArchive.open(corrupt));
+        assertThrows(IllegalArgumentException.class, () -> SeasonArchive.open(truncated));
+    }
+
+    private static PlayerStatsRow row(int playerId, int week, String points, int yards, int touchdowns,
+                                      int receptions) {
+        return new PlayerStatsRow(null, playerId, week, 2022, 1, new BigDecimal(points), yards, touchdowns, 0, 0, 0,
+                receptions);
+    }
+}
@@ -0,0 +1,102 @@
+package com.fantasyfootball.controller;
+
+import com.fantasyfootball.dto.ArchivedSeasonView;
+import com.fantasyfootball.dto.PlayerStatsRow;
+import com.fantasyfootball.service.SeasonArchiveService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ArchiveController.class)
+public class ArchiveControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SeasonArchiveService seasonArchiveService;
+
+    @Test
+    @WithMockUser
+    void getArchivedSeasons_ShouldReturnSeasons() throws Exception {
+        // Given
+        when(seasonArchiveService.getSeasons()).thenReturn(List.of(new ArchivedSeasonView(2021, 1800, 28000, 410000)));
+
+        // When & Then
+        mockMvc.perform(get("/archive/seasons"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].season").value(2021))
+                .andExpect(jsonPath("$[0].rows").value(28000));
+    }
+
+    @Test
+    @WithMockUser
+    void archiveSeason_ShouldReturnCreated() throws Exception {
+        // Given
+        when(seasonArchiveService.archiveSeason(2021)).thenReturn(new ArchivedSeasonView(2021, 1800, 28000, 410000));
+
+        // When & Then
+        mockMvc.perform(post("/archive/seasons/2021").with(csrf()))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.bytes").value(410000));
+    }
+
+    @Test
+    @WithMockUser
+    void archiveSeason_WhenSeasonCurrent_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(seasonArchiveService.archiveSeason(2026))
+                .thenThrow(new IllegalArgumentException("Only past seasons can be archived"));
+
+        // When & Then
+        mockMvc.perform(post("/archive/seasons/2026").with(csrf()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    void archiveSeason_WhenNoStats_ShouldReturnNotFound() throws Exception {
+        // Given
+        when(seasonArchiveService.archiveSeason(1990)).thenThrow(new RuntimeException("No stats for season 1990"));
+
+        // When & Then
+        mockMvc.perform(post("/archive/seasons/1990").with(csrf()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser
+    void getArchivedWeeks_ShouldReturnWeeks() throws Exception {
+        // Given
+        when(seasonArchiveService.getWeeks(7, 2021)).thenReturn(List.of(
+                new PlayerStatsRow(null, 7, 1, 2021, 1, new BigDecimal("18.40"), 92, 1, 0, 0, 0, 5)));
+
+        // When & Then
+        mockMvc.perform(get("/archive/seasons/2021/players/7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].week").value(1))
+                .andExpect(jsonPath("$[0].pointsScored").value(18.40));
+    }
+
+    @Test
+    @WithMockUser
+    void getArchivedWeeks_WhenPlayerNotArchived_ShouldReturnNotFound() throws Exception {
+        // Given
+        when(seasonArchiveService.getWeeks(7, 2021)).thenReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(get("/archive/seasons/2021/players/7"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,85 @@
+package com.fantasyfootball.controller;
+
+import com.fantasyfootball.service.ExportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ExportController.class)
+public class ExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ExportService exportService;
+
+    @Test
+    @WithMockUser
+    void exportPlayers_ShouldStreamNdjson() throws Exception {
+        // Given
+        when(exportService.exportPlayers(any())).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        });
+
+        // When
+        MvcResult result = mockMvc.perform(get("/export/players"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+    }
+
+    @Test
+    @WithMockUser
+    void exportPlayerStats_ShouldPassSeasonFilter() throws Exception {
+        // Given
+        when(exportService.exportPlayerStats(eq(2024), any())).thenReturn(0L);
+
+        // When
+        MvcResult result = mockMvc.perform(get("/export/player-stats").param("season", "2024"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+        verify(exportService).exportPlayerStats(eq(2024), any());
+    }
+
+    @Test
+    @WithMockUser
+    void exportRosters_WithoutTeam_ShouldExportAllTeams() throws Exception {
+        // Given
+        when(exportService.exportRosters(isNull(), any())).thenReturn(0L);
+
+        // When
+        MvcResult result = mockMvc.perform(get("/export/rosters"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+        verify(exportService).exportRosters(isNull(), any());
+    }
+}
@@ -0,0 +1,90 @@
+package com.fantasyfootball.controller;
+
+import com.fantasyfootball.dto.StatsImportProgress;
+import com.fantasyfootball.service.StatsImportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ImportController.class)
+public class ImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private StatsImportService statsImportService;
+
+    @Test
+    @WithMockUser
+    void startStatsImport_ShouldReturnAcceptedWithJob() throws Exception {
+        // Given
+        when(statsImportService.startImport("week1.csv")).thenReturn(progress("QUEUED"));
+
+        // When & Then
+        mockMvc.perform(post("/imports/stats").param("file", "week1.csv").with(csrf()))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value(5))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+    }
+
+    @Test
+    @WithMockUser
+    void startStatsImport_WhenPathEscapesDirectory_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(statsImportService.startImport("../secrets.csv"))
+                .thenThrow(new IllegalArgumentException("Import file must be inside the import directory"));
+
+        // When & Then
+        mockMvc.perform(post("/imports/stats").param("file", "../secrets.csv").with(csrf()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    void startStatsImport_WhenFileMissing_ShouldReturnNotFound() throws Exception {
+        // Given
+        when(statsImportService.startImport("missing.csv"))
+                .thenThrow(new RuntimeException("Import file not found: missing.csv"));
+
+        // When & Then
+        mockMvc.perform(post("/imports/stats").param("file", "missing.csv").with(csrf()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser
+    void getStatsImport_ShouldReturnProgress() throws Exception {
+        // Given
+        when(statsImportService.getImport(5L)).thenReturn(Optional.of(progress("COMPLETED")));
+        when(statsImportService.getImport(6L)).thenReturn(Optional.empty());
+        when(statsImportService.getImports()).thenReturn(List.of(progress("COMPLETED")));
+
+        // When & Then
+        mockMvc.perform(get("/imports/stats/5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rowsUpserted").value(980))
+                .andExpect(jsonPath("$.rowsPerSecond").value(490000));
+        mockMvc.perform(get("/imports/stats/6"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/imports/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    private static StatsImportProgress progress(String status) {
+        return new StatsImportProgress(5L, "week1.csv", "CSV", status, 65536, 65536, 1000, 5, 15, 980, 980,
+                null, null, 1, 1, 490000, List.of(), null);
+    }
+}
@@ -0,0 +1,224 @@
+package com.fantasyfootball.controller;
+
+import com.fantasyfootball.dto.ScheduleOptions;
+import com.fantasyfootball.dto.SeasonScheduleResult;
+import com.fantasyfootball.dto.StandingView;
+import com.fantasyfootball.entity.League;
+import com.fantasyfootball.entity.Matchup;
+import com.fantasyfootball.service.LeagueService;
+import com.fantasyfootball.service.ScheduleService;
+import com.fantasyfootball.service.TeamInAnotherLeagueException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(LeagueController.class)
+public class LeagueControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private LeagueService leagueService;
+
+    @MockBean
+    private ScheduleService scheduleService;
+
+    @Test
+    @WithMockUser
+    void getLeague_WhenMissing_ShouldReturnNotFound() throws Exception {
+        // Given
+        when(leagueService.getLeague(9)).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(get("/leagues/9"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser
+    void createLeague_ShouldReturnSavedLeague() throws Exception {
+        // Given
+        League league = new League();
+        league.setId(1);
+        league.setName("Sunday League");
+        league.setSeason(2024);
+        when(leagueService.createLeague(any(League.class))).thenReturn(league);
+
+        // When & Then
+        mockMvc.perform(post("/leagues")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Sunday League\",\"season\":2024}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.name").value("Sunday League"));
+    }
+
+    @Test
+    @WithMockUser
+    void addTeam_WhenLeagueIsFull_ShouldReturnBadRequest() throws Exception {
+        // Given
+        doThrow(new IllegalArgumentException("League 1 is full")).when(leagueService).addTeam(1, 5);
+
+        // When & Then
+        mockMvc.perform(post("/leagues/1/teams/5").with(csrf()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    void addTeam_WhenTeamPlaysInAnotherLeague_ShouldReturnConflict() throws Exception {
+        // Given
+        doThrow(new TeamInAnotherLeagueException(5)).when(leagueService).addTeam(1, 5);
+
+        // When & Then
+        mockMvc.perform(post("/leagues/1/teams/5").with(csrf()))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @WithMockUser
+    void finalizeMatchup_ShouldReturnFinalMatchup() throws Exception {
+        // Given
+        Matchup matchup = new Matchup();
+        matchup.setId(10);
+        matchup.setLeagueId(1);
+        matchup.setWeek(1);
+        matchup.setHomeTeamId(4);
+        matchup.setAwayTeamId(5);
+        matchup.setHomePoints(new BigDecimal("120.50"));
+        matchup.setAwayPoints(new BigDecimal("98.00"));
+        matchup.setStatus(Matchup.FINAL);
+        when(leagueService.finalizeMatchup(1, 10, new BigDecimal("120.50"), new BigDecimal("98.00"))).thenReturn(matchup);
+
+        // When & Then
+        mockMvc.perform(put("/leagues/1/matchups/10/result")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"homePoints\":120.50,\"awayPoints\":98.00}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("FINAL"))
+                .andExpect(jsonPath("$.homePoints").value(120.5));
+    }
+
+    @Test
+    @WithMockUser
+    void finalizeWeek_WhenStatsAreNotLoaded_ShouldReturnServiceUnavailable() throws Exception {
+        // Given
+        when(leagueService.finalizeWeek(1, 3)).thenThrow(new IllegalStateException("Season stats are not loaded"));
+
+        // When & Then
+        mockMvc.perform(post("/leagues/1/weeks/3/finalize").with(csrf()))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    @WithMockUser
+    void getStandings_ShouldReturnRankedTeams() throws Exception {
+        // Given
+        when(leagueService.getStandings(1)).thenReturn(List.of(
+                new StandingView(1, 4, "Team A", 2, 0, 1, new BigDecimal("250.00"), new BigDecimal("200.00"), "W", 2),
+                new StandingView(2, 5, "Team B", 0, 3, 0, new BigDecimal("180.00"), new BigDecimal("230.00"), "L", 3)));
+
+        // When & Then
+        mockMvc.perform(get("/leagues/1/standings"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].teamName").value("Team A"))
+                .andExpect(jsonPath("$[0].winPercentage").value(0.833))
+                .andExpect(jsonPath("$[0].streak").value("W2"))
+                .andExpect(jsonPath("$[1].rank").value(2));
+    }
+
+    @Test
+    @WithMockUser
+    void getStandings_WhenLeagueIsMissing_ShouldReturnNotFound() throws Exception {
+        // Given
+        when(leagueService.getStandings(9)).thenThrow(new RuntimeException("League not found"));
+
+        // When & Then
+        mockMvc.perform(get("/leagues/9/standings"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser
+    void generateSchedule_ShouldReturnTheLeagueMatchups() throws Exception {
+        // Given
+        Matchup matchup = new Matchup();
+        matchup.setId(10);
+        matchup.setLeagueId(1);
+        matchup.setWeek(1);
+        matchup.setHomeTeamId(4);
+        matchup.setAwayTeamId(5);
+        when(scheduleService.generateSchedule(1, new ScheduleOptions(14, List.of(13)))).thenReturn(List.of(matchup));
+
+        // When & Then
+        mockMvc.perform(post("/leagues/1/schedule")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"weeks\":14,\"rivalryWeeks\":[13]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].homeTeamId").value(4))
+                .andExpect(jsonPath("$[0].status").value("SCHEDULED"));
+    }
+
+    @Test
+    @WithMockUser
+    void generateSchedule_WithResultsAlready_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(scheduleService.generateSchedule(eq(1), any())).thenThrow(new IllegalArgumentException("League 1 has results already"));
+
+        // When & Then
+        mockMvc.perform(post("/leagues/1/schedule")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"weeks\":14}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    void generateSeasonSchedules_ShouldReturnCounts() throws Exception {
+        // Given
+        when(scheduleService.generateSeason(eq(2024), any())).thenReturn(new SeasonScheduleResult(2000, 3, 168000));
+
+        // When & Then
+        mockMvc.perform(post("/leagues/seasons/2024/schedule")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"weeks\":14}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.leaguesScheduled").value(2000))
+                .andExpect(jsonPath("$.matchupsCreated").value(168000));
+    }
+
+    @Test
+    @WithMockUser
+    void updateTeam_WithRivalOutsideLeague_ShouldReturnBadRequest() throws Exception {
+        // Given
+        doThrow(new IllegalArgumentException("A rival must be another team of league 1"))
+                .when(leagueService).updateTeam(eq(1), eq(4), any());
+
+        // When & Then
+        mockMvc.perform(put("/leagues/1/teams/4")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"division\":1,\"rivalTeamId\":99}"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -1,7 +1,11 @@
 package com.fantasyfootball.controller;
 
+import com.fantasyfootball.dto.LeaderboardEntry;
+import com.fantasyfootball.dto.PlayerSummary;
+import com.fantasyfootball.dto.PlayerWithStatsView;
 import com.fantasyfootball.entity.NflTeam;
 import com.fantasyfootball.entity.Player;
+import com.fantasyfootball.service.PlayerAvailabilityService;
 import com.fantasyfootball.service.PlayerService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,6 +38,9 @@ public class PlayerControllerTest {
     @MockBean
     private PlayerService playerService;
 
+    @MockBean
+    private PlayerAvailabilityService playerAvailabilityService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -152,7 +159,7 @@ public class PlayerControllerTest {
     @WithMockUser
     void getPlayerWithStats_WhenPlayerExists_ShouldReturnPlayerWithStats() throws Exception {
         // Given
-        when(playerService.getPlayerWithStats(1)).thenReturn(Optional.of(testPlayer));
+        when(playerService.getPlayerWithStats(1)).thenReturn(Optional.of(PlayerWithStatsView.from(testPlayer)));
 
         // When & Then
         mockMvc.perform(get("/players/1/with-stats"))
@@ -211,6 +218,48 @@ public class PlayerControllerTest {
         verify(playerService).searchPlayersByName("Allen");
     }
 
+    @Test
+    @WithMockUser
+    void searchPlayersByName_WithFuzzy_ShouldUseFuzzySearch() throws Exception {
+        // Given
+        List<Player> players = Arrays.asList(testPlayer);
+        when(playerService.searchPlayersFuzzy("Alen")).thenReturn(players);
+
+        // When & Then
+        mockMvc.perform(get("/players/search").param("name", "Alen").param("fuzzy", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].lastName").value("Allen"));
+
+        verify(playerService).searchPlayersFuzzy("Alen");
+        verify(playerService, never()).searchPlayersByName(any());
+    }
+
+    @Test
+    @WithMockUser
+    void getLeaderboard_ShouldReturnRankedWindow() throws Exception {
+        // Given
+        PlayerSummary summary = new PlayerSummary(1, "Josh Allen", "Josh", "Allen", "QB", false,
+                1, "BUF", BigDecimal.valueOf(300), true);
+        when(playerService.getLeaderboard("QB", 40, 21)).thenReturn(List.of(new LeaderboardEntry(40, summary)));
+
+        // When & Then
+        mockMvc.perform(get("/players/leaderboard").param("position", "QB").param("from", "40").param("limit", "21"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].rank").value(40))
+                .andExpect(jsonPath("$[0].player.lastName").value("Allen"));
+    }
+
+    @Test
+    @WithMockUser
+    void getLeaderboard_WhenIndexNotLoaded_ShouldReturnServiceUnavailable() throws Exception {
+        // Given
+        when(playerService.getLeaderboard(isNull(), eq(1), eq(25))).thenThrow(new IllegalStateException("not loaded"));
+
+        // When & Then
+        mockMvc.perform(get("/players/leaderboard"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
     @Test
     @WithMockUser
     void getAvailablePlayersNotOnTeam_ShouldReturnAvailablePlayers() throws Exception {
@@ -0,0 +1,204 @@
+package com.fantasyfootball.controller;
+
+import com.fantasyfootball.entity.NflTeam;
+import com.fantasyfootball.entity.Player;
+import com.fantasyfootball.entity.PlayerStats;
+import com.fantasyfootball.entity.Team;
+import com.fantasyfootball.entity.User;
+import com.fantasyfootball.repository.NflTeamRepository;
+import com.fantasyfootball.repository.TeamRepository;
+import com.fantasyfootball.repository.UserRepository;
+import com.fantasyfootball.service.PlayerService;
+import com.fantasyfootball.service.TeamService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.MountableFile;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the number of SQL statements each read endpoint issues, so a missing fetch join or a
+ * lazy association touched during serialization shows up as a failing count rather than as
+ * an N+1 in production. Runs the Flyway migrations over database/complete_schema.sql, as
+ * roster rules read league_teams, which has no entity. Requires Docker for Testcontainers.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.flyway.enabled=true"
+})
+@AutoConfigureMockMvc
+@Testcontainers
+public class ReadModelStatementCountIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14")
+            .withDatabaseName("fantasy_football_test")
+            .withUsername("test")
+            .withPassword("test")
+            .withCopyFileToContainer(MountableFile.forHostPath("../database/complete_schema.sql"),
+                    "/docker-entrypoint-initdb.d/complete_schema.sql");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private NflTeamRepository nflTeamRepository;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private TeamService teamService;
+
+    private Statistics statistics;
+    private Team team;
+    private Player quarterback;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM PlayerStats").executeUpdate();
+            entityManager.createQuery("DELETE FROM TeamPlayer").executeUpdate();
+            entityManager.createQuery("DELETE FROM Team").executeUpdate();
+            entityManager.createQuery("DELETE FROM Player").executeUpdate();
+        });
+        NflTeam bills = nflTeamRepository.findByAbbreviation("BUF").orElseGet(() -> nflTeamRepository.save(nflTeam()));
+        User owner = userRepository.findByUsername("counter").orElseGet(() -> userRepository.save(user()));
+
+        team = new Team();
+        team.setName("Statement Counters");
+        team.setOwner(owner);
+        team = teamRepository.save(team);
+
+        quarterback = playerService.savePlayer(player("Josh", "Allen", "QB", bills, 300));
+        Player receiver = playerService.savePlayer(player("Khalil", "Shakir", "WR", bills, 150));
+        Player backup = playerService.savePlayer(player("Mitchell", "Trubisky", "QB", bills, 10));
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int week = 1; week <= 3; week++) {
+                PlayerStats stats = new PlayerStats();
+                stats.setPlayer(entityManager.getReference(Player.class, quarterback.getId()));
+                stats.setWeek(week);
+                stats.setSeason(2024);
+                stats.setPointsScored(BigDecimal.valueOf(20 + week));
+                entityManager.persist(stats);
+            }
+        });
+        teamService.addPlayerToTeam(team.getId(), quarterback.getId(), "QB", BigDecimal.TEN);
+        teamService.addPlayerToTeam(team.getId(), receiver.getId(), "WR", BigDecimal.ONE);
+        teamService.addPlayerToTeam(team.getId(), backup.getId(), "BENCH", BigDecimal.ONE);
+    }
+
+    @Test
+    void teamReadEndpoints_ShouldRunOneStatementEach() throws Exception {
+        assertStatements("/teams", 1);
+        assertStatements("/teams/" + team.getId(), 1);
+        assertStatements("/teams/" + team.getId() + "/with-players", 1);
+        assertStatements("/teams/" + team.getId() + "/roster", 1);
+        assertStatements("/teams/" + team.getId() + "/starters", 1);
+        assertStatements("/teams/" + team.getId() + "/bench", 1);
+        assertStatements("/teams/owner/" + team.getOwner().getId(), 1);
+    }
+
+    @Test
+    void playerReadEndpoints_ShouldRunOneStatementEach() throws Exception {
+        assertStatements("/players", 1);
+        assertStatements("/players/active", 1);
+        assertStatements("/players/" + quarterback.getId(), 1);
+        assertStatements("/players/" + quarterback.getId() + "/with-stats", 1);
+        assertStatements("/players/position/QB", 1);
+        assertStatements("/players/regular", 1);
+        assertStatements("/players/search?name=allen", 1);
+    }
+
+    @Test
+    void rosterRead_ShouldEmbedPlayerNflTeamAndSlot() throws Exception {
+        mockMvc.perform(get("/teams/" + team.getId() + "/roster"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].player.lastName").value("Allen"))
+                .andExpect(jsonPath("$[0].player.nflTeam.abbreviation").value("BUF"))
+                .andExpect(jsonPath("$[0].rosterPositionEntity.positionCode").value("QB"))
+                .andExpect(jsonPath("$[2].rosterPosition").value("BENCH"));
+    }
+
+    private void assertStatements(String url, long expected) throws Exception {
+        statistics.clear();
+        mockMvc.perform(get(url)).andExpect(status().isOk());
+        assertEquals(expected, statistics.getPrepareStatementCount(), "SQL statements for GET " + url);
+    }
+
+    private static NflTeam nflTeam() {
+        NflTeam team = new NflTeam();
+        team.setEspnId(2);
+        team.setEspnUid("s:20~l:28~t:2");
+        team.setName("Bills");
+        team.setLocation("Buffalo");
+        team.setDisplayName("Buffalo Bills");
+        team.setAbbreviation("BUF");
+        team.setSlug("buffalo-bills");
+        team.setConference("AFC");
+        team.setDivision("East");
+        return team;
+    }
+
+    private static User user() {
+        User user = new User();
+        user.setUsername("counter");
+        user.setEmail("counter@example.com");
+        user.setPasswordHash("hash");
+        return user;
+    }
+
+    private static Player player(String firstName, String lastName, String position, NflTeam team, int points) {
+        Player player = new Player();
+        player.setFirstName(firstName);
+        player.setLastName(lastName);
+        player.setPosition(position);
+        player.setNflTeam(team);
+        player.setFantasyPoints(BigDecimal.valueOf(points));
+        player.setIsActive(true);
+        return player;
+    }
+}
@@ -0,0 +1,101 @@
+package com.fantasyfootball.controller;
+
+import com.fantasyfootball.dto.RosterSlotRuleView;
+import com.fantasyfootball.roster.RosterPreset;
+import com.fantasyfootball.service.RosterRulesService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(RosterRulesController.class)
+public class RosterRulesControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private RosterRulesService rosterRulesService;
+
+    @Test
+    @WithMockUser
+    void getRules_ShouldReturnLeagueRules() throws Exception {
+        // Given
+        when(rosterRulesService.getRules(4)).thenReturn(RosterPreset.STANDARD.rules());
+
+        // When & Then
+        mockMvc.perform(get("/roster/leagues/4/rules"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[4].slot").value("FLEX"))
+                .andExpect(jsonPath("$[4].eligible.length()").value(3));
+    }
+
+    @Test
+    @WithMockUser
+    void replaceRules_ShouldReturnSavedRules() throws Exception {
+        // Given
+        List<RosterSlotRuleView> rules = List.of(
+                new RosterSlotRuleView("QB", 2, List.of("QB")),
+                new RosterSlotRuleView("BENCH", 6, List.of("QB", "RB")));
+        when(rosterRulesService.replaceRules(eq(4), eq(rules))).thenReturn(rules);
+
+        // When & Then
+        mockMvc.perform(put("/roster/leagues/4/rules")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"slot\":\"QB\",\"maxCount\":2,\"eligible\":[\"QB\"]},"
+                                + "{\"slot\":\"BENCH\",\"maxCount\":6,\"eligible\":[\"QB\",\"RB\"]}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].maxCount").value(2));
+    }
+
+    @Test
+    @WithMockUser
+    void replaceRules_WhenInvalid_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(rosterRulesService.replaceRules(eq(4), anyList()))
+                .thenThrow(new IllegalArgumentException("Roster rules need a BENCH slot"));
+
+        // When & Then
+        mockMvc.perform(put("/roster/leagues/4/rules")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"slot\":\"QB\",\"maxCount\":1,\"eligible\":[\"QB\"]}]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    void applyPreset_ShouldReturnPresetRules() throws Exception {
+        // Given
+        when(rosterRulesService.applyPreset(4, "superflex")).thenReturn(RosterPreset.SUPERFLEX.rules());
+
+        // When & Then
+        mockMvc.perform(put("/roster/leagues/4/rules/preset/superflex").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[5].slot").value("SUPERFLEX"));
+    }
+
+    @Test
+    @WithMockUser
+    void applyPreset_WhenUnknown_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(rosterRulesService.applyPreset(4, "dynasty"))
+                .thenThrow(new IllegalArgumentException("Unknown roster preset: dynasty"));
+
+        // When & Then
+        mockMvc.perform(put("/roster/leagues/4/rules/preset/dynasty").with(csrf()))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,117 @@
+package com.fantasyfootball.controller;
+
+import com.fantasyfootball.dto.PlayerSeasonScore;
+import com.fantasyfootball.dto.ScoringRuleView;
+import com.fantasyfootball.service.ScoringService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ScoringController.class)
+public class ScoringControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ScoringService scoringService;
+
+    @Test
+    @WithMockUser
+    void replaceRules_ShouldReturnSavedRules() throws Exception {
+        // Given
+        List<ScoringRuleView> rules = List.of(
+                new ScoringRuleView("receptions", new BigDecimal("1"), null),
+                new ScoringRuleView("yardsGained", new BigDecimal("3"), 100));
+        when(scoringService.replaceRules(eq(4), eq(rules))).thenReturn(rules);
+
+        // When & Then
+        mockMvc.perform(put("/scoring/leagues/4/rules")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"stat\":\"receptions\",\"points\":1},{\"stat\":\"yardsGained\",\"points\":3,\"threshold\":100}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].threshold").value(100));
+    }
+
+    @Test
+    @WithMockUser
+    void replaceRules_WhenInvalid_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(scoringService.replaceRules(eq(4), anyList()))
+                .thenThrow(new IllegalArgumentException("Unknown stat: sacks"));
+
+        // When & Then
+        mockMvc.perform(put("/scoring/leagues/4/rules")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"stat\":\"sacks\",\"points\":1}]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    void applyPreset_ShouldReturnPresetRules() throws Exception {
+        // Given
+        when(scoringService.applyPreset(4, "ppr"))
+                .thenReturn(List.of(new ScoringRuleView("receptions", BigDecimal.ONE, null)));
+
+        // When & Then
+        mockMvc.perform(put("/scoring/leagues/4/rules/preset/ppr").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].stat").value("receptions"));
+    }
+
+    @Test
+    @WithMockUser
+    void getSeasonLeaders_ShouldReturnScores() throws Exception {
+        // Given
+        when(scoringService.getSeasonLeaders(4, 2024, "WR", 10)).thenReturn(List.of(
+                new PlayerSeasonScore(7, 4, 2024, 2, new BigDecimal("52.00"), new BigDecimal("26.00"))));
+
+        // When & Then
+        mockMvc.perform(get("/scoring/leagues/4/seasons/2024/leaders")
+                        .param("position", "WR").param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].playerId").value(7))
+                .andExpect(jsonPath("$[0].points").value(52.00));
+    }
+
+    @Test
+    @WithMockUser
+    void getSeasonLeaders_WhenStatsNotLoaded_ShouldReturnServiceUnavailable() throws Exception {
+        // Given
+        when(scoringService.getSeasonLeaders(anyInt(), anyInt(), any(), anyInt()))
+                .thenThrow(new IllegalStateException("Season stats are not loaded"));
+
+        // When & Then
+        mockMvc.perform(get("/scoring/leagues/4/seasons/2024/leaders"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    @WithMockUser
+    void getPlayerScore_WhenNoStats_ShouldReturnNotFound() throws Exception {
+        // Given
+        when(scoringService.getPlayerScore(4, 7, 2024)).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(get("/scoring/leagues/4/players/7/seasons/2024"))
+                .andExpect(status().isNotFound());
+    }
+}
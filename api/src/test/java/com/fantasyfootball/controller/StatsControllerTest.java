@@ -0,0 +1,260 @@
+package com.fantasyfootball.controller;
+
+import com.fantasyfootball.dto.PlayerPercentileView;
+import com.fantasyfootball.dto.SeasonStatLine;
+import com.fantasyfootball.dto.SeasonSummaryView;
+import com.fantasyfootball.dto.StatQuantilesView;
+import com.fantasyfootball.entity.Player;
+import com.fantasyfootball.entity.PlayerStats;
+import com.fantasyfootball.service.SeasonStatsService;
+import com.fantasyfootball.service.SeasonSummaryService;
+import com.fantasyfootball.service.StatPercentileService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(StatsController.class)
+public class StatsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SeasonStatsService seasonStatsService;
+
+    @MockBean
+    private SeasonSummaryService seasonSummaryService;
+
+    @MockBean
+    private StatPercentileService statPercentileService;
+
+    @Test
+    @WithMockUser
+    void getSeasonLine_ShouldReturnLine() throws Exception {
+        // Given
+        when(seasonStatsService.getSeasonLine(1, 2024, 3)).thenReturn(Optional.of(line(1)));
+
+        // When & Then
+        mockMvc.perform(get("/stats/players/1/seasons/2024").param("lastWeeks", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.playerId").value(1))
+                .andExpect(jsonPath("$.weeks").value(3))
+                .andExpect(jsonPath("$.pointsScored").value(60.75));
+    }
+
+    @Test
+    @WithMockUser
+    void getSeasonLine_WhenNoStats_ShouldReturnNotFound() throws Exception {
+        // Given
+        when(seasonStatsService.getSeasonLine(1, 2024, 0)).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(get("/stats/players/1/seasons/2024"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser
+    void getSeasonSummary_ShouldReturnSummary() throws Exception {
+        // Given
+        SeasonSummaryView summary = new SeasonSummaryView(1, 2024, 4, new BigDecimal("80.00"), 350, 4, 0, 0, 1, 12,
+                new BigDecimal("20.00"), new BigDecimal("8.16"), new BigDecimal("0.41"), 3, new BigDecimal("23.33"));
+        when(seasonSummaryService.getSummary(1, 2024)).thenReturn(Optional.of(summary));
+
+        // When & Then
+        mockMvc.perform(get("/stats/players/1/seasons/2024/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.weeks").value(4))
+                .andExpect(jsonPath("$.pointsStdDev").value(8.16))
+                .andExpect(jsonPath("$.recentPointsPerWeek").value(23.33));
+    }
+
+    @Test
+    @WithMockUser
+    void getSeasonSummary_WhenNoStats_ShouldReturnNotFound() throws Exception {
+        // Given
+        when(seasonSummaryService.getSummary(1, 2024)).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(get("/stats/players/1/seasons/2024/summary"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser
+    void getSeasonLeaders_ShouldReturnLeaders() throws Exception {
+        // Given
+        when(seasonStatsService.getSeasonLeaders(2024, "touchdowns", "WR", 5)).thenReturn(List.of(line(7), line(3)));
+
+        // When & Then
+        mockMvc.perform(get("/stats/seasons/2024/leaders")
+                        .param("stat", "touchdowns").param("position", "WR").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].playerId").value(7));
+    }
+
+    @Test
+    @WithMockUser
+    void getSeasonLeaders_WhenUnknownStat_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(seasonStatsService.getSeasonLeaders(eq(2024), eq("bogus"), any(), anyInt()))
+                .thenThrow(new IllegalArgumentException("Unknown stat: bogus"));
+
+        // When & Then
+        mockMvc.perform(get("/stats/seasons/2024/leaders").param("stat", "bogus"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    void getSeasonLeaders_WhenStoreNotLoaded_ShouldReturnServiceUnavailable() throws Exception {
+        // Given
+        when(seasonStatsService.getSeasonLeaders(anyInt(), anyString(), any(), anyInt()))
+                .thenThrow(new IllegalStateException("Season stats are not loaded"));
+
+        // When & Then
+        mockMvc.perform(get("/stats/seasons/2024/leaders"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    @WithMockUser
+    void getPlayerPercentile_ShouldReturnPercentile() throws Exception {
+        // Given
+        PlayerPercentileView view = new PlayerPercentileView(1, "WR", 2024, 3, "receptions", new BigDecimal("9"),
+                new BigDecimal("92.5"), 140);
+        when(statPercentileService.getPlayerPercentile(1, 2024, 3, "receptions")).thenReturn(Optional.of(view));
+
+        // When & Then
+        mockMvc.perform(get("/stats/players/1/seasons/2024/weeks/3/percentile").param("stat", "receptions"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.position").value("WR"))
+                .andExpect(jsonPath("$.percentile").value(92.5))
+                .andExpect(jsonPath("$.sampleSize").value(140));
+    }
+
+    @Test
+    @WithMockUser
+    void getPlayerPercentile_WhenIndexNotLoaded_ShouldReturnServiceUnavailable() throws Exception {
+        // Given
+        when(statPercentileService.getPlayerPercentile(1, 2024, 3, "pointsScored"))
+                .thenThrow(new IllegalStateException("Player index is not loaded"));
+
+        // When & Then
+        mockMvc.perform(get("/stats/players/1/seasons/2024/weeks/3/percentile"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    @WithMockUser
+    void getPositionQuantiles_ShouldPassRangeAndQuantiles() throws Exception {
+        // Given
+        StatQuantilesView view = new StatQuantilesView("RB", "yardsGained", 2022, 2024, 1, 18, 9000,
+                List.of(new StatQuantilesView.Quantile(0.5, new BigDecimal("41")),
+                        new StatQuantilesView.Quantile(0.9, new BigDecimal("97"))));
+        when(statPercentileService.getQuantiles("RB", "yardsGained", 2022, 2024, 1, 18, List.of(0.5, 0.9)))
+                .thenReturn(view);
+
+        // When & Then
+        mockMvc.perform(get("/stats/positions/RB/quantiles")
+                        .param("season", "2022").param("toSeason", "2024").param("toWeek", "18")
+                        .param("stat", "yardsGained").param("q", "0.5,0.9"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.sampleSize").value(9000))
+                .andExpect(jsonPath("$.quantiles[1].value").value(97));
+    }
+
+    @Test
+    @WithMockUser
+    void getPositionRank_WhenRangeInvalid_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(statPercentileService.getRank(eq("QB"), eq("pointsScored"), eq(2024), isNull(), eq(5), eq(2), any()))
+                .thenThrow(new IllegalArgumentException("Weeks must be an ascending range"));
+
+        // When & Then
+        mockMvc.perform(get("/stats/positions/QB/rank")
+                        .param("season", "2024").param("fromWeek", "5").param("toWeek", "2").param("value", "20"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    void saveWeek_ShouldReturnSavedStats() throws Exception {
+        // Given
+        Player player = new Player();
+        player.setId(1);
+        PlayerStats saved = new PlayerStats();
+        saved.setId(10);
+        saved.setPlayer(player);
+        saved.setSeason(2024);
+        saved.setWeek(3);
+        saved.setPointsScored(new BigDecimal("18.40"));
+        when(seasonStatsService.saveWeek(eq(1), eq(2024), eq(3), any(PlayerStats.class))).thenReturn(saved);
+
+        // When & Then
+        mockMvc.perform(put("/stats/players/1/seasons/2024/weeks/3")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"pointsScored\":18.40,\"yardsGained\":92}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.week").value(3))
+                .andExpect(jsonPath("$.pointsScored").value(18.40));
+    }
+
+    @Test
+    @WithMockUser
+    void saveWeek_WhenWeekInvalid_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(seasonStatsService.saveWeek(eq(1), eq(2024), eq(40), any(PlayerStats.class)))
+                .thenThrow(new IllegalArgumentException("Week must be between 1 and 32"));
+
+        // When & Then
+        mockMvc.perform(put("/stats/players/1/seasons/2024/weeks/40")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    void deleteWeek_WhenMissing_ShouldReturnNotFound() throws Exception {
+        // Given
+        doThrow(new RuntimeException("No stats")).when(seasonStatsService).deleteWeek(1, 2024, 3);
+
+        // When & Then
+        mockMvc.perform(delete("/stats/players/1/seasons/2024/weeks/3").with(csrf()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser
+    void deleteWeek_WhenSeasonArchived_ShouldReturnBadRequest() throws Exception {
+        // Given
+        doThrow(new IllegalArgumentException("Season 2020 is archived")).when(seasonStatsService).deleteWeek(1, 2020, 3);
+
+        // When & Then
+        mockMvc.perform(delete("/stats/players/1/seasons/2020/weeks/3").with(csrf()))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static SeasonStatLine line(int playerId) {
+        return new SeasonStatLine(playerId, 2024, 3, new BigDecimal("60.75"), 300, 3, 0, 0, 0, 0,
+                new BigDecimal("20.25"), new BigDecimal("100.00"));
+    }
+}
@@ -1,25 +1,41 @@
 package com.fantasyfootball.controller;
 
+import com.fantasyfootball.dto.CursorPage;
+import com.fantasyfootball.dto.LineupSlot;
+import com.fantasyfootball.dto.OptimalLineupView;
+import com.fantasyfootball.dto.TeamSummary;
 import com.fantasyfootball.entity.Team;
 import com.fantasyfootball.entity.TeamPlayer;
 import com.fantasyfootball.entity.User;
+import com.fantasyfootball.event.RosterChangedEvent;
+import com.fantasyfootball.service.LineupService;
+import com.fantasyfootball.service.RosterDocumentService;
+import com.fantasyfootball.service.RosterWriteExecutor;
+import com.fantasyfootball.service.RosterWriteRejectedException;
 import com.fantasyfootball.service.TeamService;
+import com.fantasyfootball.service.TeamVersionService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -27,6 +43,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(TeamController.class)
+@Import({RosterWriteExecutor.class, TeamVersionService.class})
 public class TeamControllerTest {
 
     @Autowired
@@ -35,6 +52,18 @@ public class TeamControllerTest {
     @MockBean
     private TeamService teamService;
 
+    @MockBean
+    private LineupService lineupService;
+
+    @MockBean
+    private RosterDocumentService rosterDocumentService;
+
+    @SpyBean
+    private RosterWriteExecutor rosterWriteExecutor;
+
+    @Autowired
+    private TeamVersionService teamVersionService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -77,6 +106,44 @@ public class TeamControllerTest {
         verify(teamService).getAllTeams();
     }
 
+    @Test
+    @WithMockUser
+    void getTeamSummaries_ShouldReturnPageWithCursor() throws Exception {
+        // Given
+        TeamSummary summary = new TeamSummary(1, "Test Team", "testuser", new BigDecimal("100.00"),
+                15, 9, new BigDecimal("87.50"));
+        when(teamService.getTeamSummaries("spent", "asc", null, 1, 2, null, "test"))
+                .thenReturn(new CursorPage<>(List.of(summary), "next"));
+
+        // When & Then
+        mockMvc.perform(get("/teams/summary")
+                        .param("sort", "spent")
+                        .param("order", "asc")
+                        .param("size", "1")
+                        .param("ownerId", "2")
+                        .param("name", "test"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].ownerUsername").value("testuser"))
+                .andExpect(jsonPath("$.items[0].rosterSize").value(15))
+                .andExpect(jsonPath("$.items[0].startersFilled").value(9))
+                .andExpect(jsonPath("$.items[0].spent").value(87.50))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+
+        verify(teamService, never()).getAllTeams();
+    }
+
+    @Test
+    @WithMockUser
+    void getTeamSummaries_WithUnknownSort_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(teamService.getTeamSummaries(eq("owner"), any(), any(), anyInt(), any(), any(), any()))
+                .thenThrow(new IllegalArgumentException("Unsupported sort: owner"));
+
+        // When & Then
+        mockMvc.perform(get("/teams/summary").param("sort", "owner"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser
     void getTeamById_WhenTeamExists_ShouldReturnTeam() throws Exception {
@@ -197,7 +264,11 @@ public class TeamControllerTest {
         doNothing().when(teamService).deleteTeam(1);
 
         // When & Then
-        mockMvc.perform(delete("/teams/1").with(csrf()))
+        MvcResult result = mockMvc.perform(delete("/teams/1").with(csrf()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk());
 
         verify(teamService).deleteTeam(1);
@@ -210,7 +281,11 @@ public class TeamControllerTest {
         doThrow(new RuntimeException("Team not found")).when(teamService).deleteTeam(999);
 
         // When & Then
-        mockMvc.perform(delete("/teams/999").with(csrf()))
+        MvcResult result = mockMvc.perform(delete("/teams/999").with(csrf()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isNotFound());
 
         verify(teamService).deleteTeam(999);
@@ -235,17 +310,57 @@ public class TeamControllerTest {
 
     @Test
     @WithMockUser
-    void getTeamRoster_ShouldReturnTeamPlayers() throws Exception {
+    void getTeamRoster_ShouldReturnStoredDocument() throws Exception {
         // Given
-        List<TeamPlayer> roster = Arrays.asList(new TeamPlayer());
-        when(teamService.getTeamRoster(1)).thenReturn(roster);
+        String document = "[{\"id\":7,\"rosterPosition\":\"QB\"}]";
+        when(rosterDocumentService.getDocument(1)).thenReturn(document.getBytes(StandardCharsets.UTF_8));
 
         // When & Then
         mockMvc.perform(get("/teams/1/roster"))
                 .andExpect(status().isOk())
-                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().string(document))
+                .andExpect(jsonPath("$[0].rosterPosition").value("QB"));
+
+        verify(rosterDocumentService).getDocument(1);
+        verify(teamService, never()).getTeamRoster(any());
+    }
 
-        verify(teamService).getTeamRoster(1);
+    @Test
+    @WithMockUser
+    void getTeamRoster_WithCurrentETag_ShouldReturnNotModifiedWithoutReading() throws Exception {
+        // Given
+        when(rosterDocumentService.getDocument(1)).thenReturn("[]".getBytes(StandardCharsets.UTF_8));
+        String etag = mockMvc.perform(get("/teams/1/roster"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // When & Then
+        mockMvc.perform(get("/teams/1/roster").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+        mockMvc.perform(get("/teams/1").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        verify(rosterDocumentService, times(1)).getDocument(1);
+        verify(teamService, never()).getTeamById(1);
+    }
+
+    @Test
+    @WithMockUser
+    void getTeamRoster_AfterRosterChange_ShouldReturnNewETag() throws Exception {
+        // Given
+        when(rosterDocumentService.getDocument(1)).thenReturn("[{\"id\":7}]".getBytes(StandardCharsets.UTF_8));
+        String etag = mockMvc.perform(get("/teams/1/roster"))
+                .andReturn().getResponse().getHeader("ETag");
+        teamVersionService.onRosterChanged(RosterChangedEvent.added(1, 2));
+
+        // When & Then
+        mockMvc.perform(get("/teams/1/roster").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)))
+                .andExpect(jsonPath("$.length()").value(1));
     }
 
     @Test
@@ -319,7 +434,11 @@ public class TeamControllerTest {
         doNothing().when(teamService).removePlayerFromTeam(1, 2);
 
         // When & Then
-        mockMvc.perform(delete("/teams/1/players/2").with(csrf()))
+        MvcResult result = mockMvc.perform(delete("/teams/1/players/2").with(csrf()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk());
 
         verify(teamService).removePlayerFromTeam(1, 2);
@@ -333,12 +452,114 @@ public class TeamControllerTest {
                 .when(teamService).removePlayerFromTeam(1, 999);
 
         // When & Then
-        mockMvc.perform(delete("/teams/1/players/999").with(csrf()))
+        MvcResult result = mockMvc.perform(delete("/teams/1/players/999").with(csrf()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isNotFound());
 
         verify(teamService).removePlayerFromTeam(1, 999);
     }
 
+    @Test
+    @WithMockUser
+    void removePlayerFromTeam_WhenWriteQueueIsFull_ShouldReturnServiceUnavailableWithRetryAfter() throws Exception {
+        // Given
+        doReturn(CompletableFuture.failedFuture(new RosterWriteRejectedException(1)))
+                .when(rosterWriteExecutor).submit(eq(1), any());
+
+        // When & Then
+        MvcResult result = mockMvc.perform(delete("/teams/1/players/1").with(csrf()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+
+        verify(teamService, never()).removePlayerFromTeam(anyInt(), anyInt());
+    }
+
+    @Test
+    @WithMockUser
+    void removePlayerFromTeam_WhenWriteFailsWithIllegalState_ShouldKeepNotFound() throws Exception {
+        // Given
+        doThrow(new IllegalStateException("Roster rules are not loaded"))
+                .when(teamService).removePlayerFromTeam(1, 1);
+
+        // When & Then
+        MvcResult result = mockMvc.perform(delete("/teams/1/players/1").with(csrf()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist("Retry-After"));
+    }
+
+    @Test
+    @WithMockUser
+    void setLineup_WithValidLineup_ShouldReturnRoster() throws Exception {
+        // Given
+        List<LineupSlot> lineup = List.of(new LineupSlot(2, "RB"), new LineupSlot(3, "FLEX"));
+        TeamPlayer teamPlayer = new TeamPlayer();
+        teamPlayer.setRosterPosition("RB");
+        when(teamService.setLineup(1, lineup)).thenReturn(List.of(teamPlayer));
+
+        // When & Then
+        MvcResult result = mockMvc.perform(put("/teams/1/lineup")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(lineup)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].rosterPosition").value("RB"));
+
+        verify(teamService).setLineup(1, lineup);
+    }
+
+    @Test
+    @WithMockUser
+    void setLineup_WithInvalidLineup_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(teamService.setLineup(eq(1), anyList()))
+                .thenThrow(new IllegalArgumentException("Roster position QB is full (max: 1)"));
+
+        // When & Then
+        MvcResult result = mockMvc.perform(put("/teams/1/lineup")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"playerId\":2,\"rosterPosition\":\"QB\"},{\"playerId\":3,\"rosterPosition\":\"QB\"}]"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    void setLineup_WhenTeamNotExists_ShouldReturnNotFound() throws Exception {
+        // Given
+        when(teamService.setLineup(eq(999), anyList())).thenThrow(new RuntimeException("Team not found"));
+
+        // When & Then
+        MvcResult result = mockMvc.perform(put("/teams/999/lineup")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @WithMockUser
     void getTeamSize_ShouldReturnSize() throws Exception {
@@ -353,4 +574,81 @@ public class TeamControllerTest {
 
         verify(teamService).getTeamSize(1);
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser
+    void getOptimalLineup_ShouldReturnLineupAndPointsLeftOnBench() throws Exception {
+        // Given
+        OptimalLineupView optimal = new OptimalLineupView(1, 3, 2024, 5, new BigDecimal("98.40"),
+                new BigDecimal("90.10"), new BigDecimal("8.30"), List.of(new LineupSlot(2, "FLEX")));
+        when(lineupService.getOptimalLineup(1, 2024, 5)).thenReturn(optimal);
+
+        // When & Then
+        mockMvc.perform(get("/teams/1/lineup/optimal").param("season", "2024").param("week", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pointsLeftOnBench").value(8.3))
+                .andExpect(jsonPath("$.lineup[0].rosterPosition").value("FLEX"));
+    }
+
+    @Test
+    @WithMockUser
+    void getOptimalLineup_WhenStatsNotLoaded_ShouldReturnServiceUnavailable() throws Exception {
+        // Given
+        when(lineupService.getOptimalLineup(1, 2024, null))
+                .thenThrow(new IllegalStateException("Season stats are not loaded"));
+
+        // When & Then
+        mockMvc.perform(get("/teams/1/lineup/optimal").param("season", "2024"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    @WithMockUser
+    void applyOptimalLineup_ShouldSetLineupOnWriteExecutor() throws Exception {
+        // Given
+        TeamPlayer teamPlayer = new TeamPlayer();
+        teamPlayer.setRosterPosition("FLEX");
+        when(lineupService.applyOptimalLineup(1, 2024, 5)).thenReturn(List.of(teamPlayer));
+
+        // When & Then
+        MvcResult result = mockMvc.perform(put("/teams/1/lineup/optimal")
+                        .with(csrf())
+                        .param("season", "2024")
+                        .param("week", "5"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].rosterPosition").value("FLEX"));
+
+        verify(lineupService).applyOptimalLineup(1, 2024, 5);
+    }
+
+    @Test
+    @WithMockUser
+    void getOptimalLineups_ForLeague_ShouldReturnEveryTeam() throws Exception {
+        // Given
+        when(lineupService.getOptimalLineups(3, 2024, null)).thenReturn(List.of(
+                new OptimalLineupView(1, 3, 2024, null, BigDecimal.TEN, BigDecimal.ONE, new BigDecimal("9"), List.of()),
+                new OptimalLineupView(2, 3, 2024, null, BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ZERO, List.of())));
+
+        // When & Then
+        mockMvc.perform(get("/teams/lineups/optimal").param("leagueId", "3").param("season", "2024"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].pointsLeftOnBench").value(9));
+    }
+
+    @Test
+    @WithMockUser
+    void getOptimalLineups_WithInvalidWeek_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(lineupService.getOptimalLineups(null, 2024, 40))
+                .thenThrow(new IllegalArgumentException("Week 40 is outside 1-32"));
+
+        // When & Then
+        mockMvc.perform(get("/teams/lineups/optimal").param("season", "2024").param("week", "40"))
+                .andExpect(status().isBadRequest());
+    }
+}
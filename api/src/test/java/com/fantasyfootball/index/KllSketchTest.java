@@ -0,0 +1,100 @@
+package com.fantasyfootball.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KllSketchTest {
+
+    @Test
+    void smallStream_ShouldBeExact() {
+        // Given
+        KllSketch sketch = new KllSketch();
+        for (int value : new int[]{5, 1, 3, 3, 9}) {
+            sketch.update(value);
+        }
+
+        // When & Then
+        assertEquals(5, sketch.count());
+        assertEquals(1, sketch.rank(3, false));
+        assertEquals(3, sketch.rank(3, true));
+        assertEquals(1, sketch.quantile(0));
+        assertEquals(3, sketch.quantile(0.5));
+        assertEquals(9, sketch.quantile(1));
+    }
+
+    @Test
+    void largeStream_ShouldStayBoundedAndWithinRankError() {
+        // Given
+        KllSketch sketch = new KllSketch();
+        Random random = new Random(42);
+        int[] values = new int[200_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (int) (random.nextGaussian() * 1000);
+            sketch.update(values[i]);
+        }
+        Arrays.sort(values);
+
+        // When & Then
+        assertEquals(values.length, sketch.count());
+        assertTrue(sketch.retained() < 4 * KllSketch.DEFAULT_K, "retained " + sketch.retained());
+        for (double q : new double[]{0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99}) {
+            int estimate = sketch.quantile(q);
+            double trueRank = exactRank(values, estimate) / (double) values.length;
+            assertEquals(q, trueRank, 0.02, "quantile " + q);
+        }
+        assertEquals(values[0], sketch.quantile(0));
+        assertEquals(values[values.length - 1], sketch.quantile(1));
+    }
+
+    @Test
+    void merge_ShouldMatchSketchOfConcatenatedStreams() {
+        // Given
+        KllSketch low = new KllSketch();
+        KllSketch high = new KllSketch();
+        for (int i = 0; i < 50_000; i++) {
+            low.update(i);
+            high.update(50_000 + i);
+        }
+
+        // When
+        KllSketch merged = new KllSketch();
+        merged.merge(low);
+        merged.merge(high);
+
+        // Then
+        assertEquals(100_000, merged.count());
+        assertEquals(50_000, merged.quantile(0.5), 2_000);
+        assertEquals(50_000, merged.rank(50_000, false), 2_000);
+        assertEquals(50_000, low.count());
+        assertThrows(IllegalArgumentException.class, () -> merged.merge(new KllSketch(100)));
+    }
+
+    @Test
+    void quantile_WhenEmptyOrOutOfRange_ShouldThrow() {
+        // Given
+        KllSketch sketch = new KllSketch();
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> sketch.quantile(0.5));
+        sketch.update(1);
+        assertThrows(IllegalArgumentException.class, () -> sketch.quantile(1.5));
+    }
+
+    private static long exactRank(int[] sorted, int value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
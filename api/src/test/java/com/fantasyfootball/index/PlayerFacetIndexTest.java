@@ -0,0 +1,122 @@
+package com.fantasyfootball.index;
+
+import com.fantasyfootball.dto.PlayerFacetQuery;
+import com.fantasyfootball.dto.PlayerSummary;
+import com.fantasyfootball.entity.NflTeam;
+import com.fantasyfootball.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlayerFacetIndexTest {
+
+    private PlayerFacetIndex index;
+    private NflTeam bills;
+    private NflTeam lions;
+
+    @BeforeEach
+    void setUp() {
+        bills = nflTeam(1, "BUF", "AFC", "East");
+        lions = nflTeam(2, "DET", "NFC", "North");
+        index = new PlayerFacetIndex();
+        index.rebuild(Arrays.asList(
+                player(1, "James", "Cook", "RB", bills, 210),
+                player(2, "Khalil", "Shakir", "WR", bills, 150),
+                player(3, "Jahmyr", "Gibbs", "RB", lions, 260),
+                player(4, "Amon-Ra", "St. Brown", "WR", lions, 280),
+                player(5, "Sam", "LaPorta", "TE", lions, 170),
+                defense(6, "Detroit Lions D/ST", lions, 100)
+        ));
+    }
+
+    @Test
+    void query_ShouldOrValuesWithinFacetAndAndAcrossFacets() {
+        // When
+        List<PlayerSummary> result = index.query(query(List.of("RB", "WR"), List.of("NFC"), null, "points", 10));
+
+        // Then
+        assertEquals(List.of(4, 3), ids(result));
+        assertEquals("DET", result.get(0).nflTeamAbbreviation());
+    }
+
+    @Test
+    void query_WithDstFlag_ShouldExcludeOrSelectDefenses() {
+        // When
+        List<PlayerSummary> defenses = index.query(query(null, null, true, "points", 10));
+        List<PlayerSummary> regular = index.query(query(null, List.of("NFC"), false, "name", 10));
+
+        // Then
+        assertEquals(List.of(6), ids(defenses));
+        assertEquals(List.of(3, 5, 4), ids(regular));
+    }
+
+    @Test
+    void query_ShouldApplyLimitAfterSorting() {
+        // When
+        List<PlayerSummary> result = index.query(query(null, null, null, "points", 2));
+
+        // Then
+        assertEquals(List.of(4, 3), ids(result));
+    }
+
+    @Test
+    void upsert_ShouldMovePlayerBetweenFacetBuckets() {
+        // Given
+        Player traded = player(2, "Khalil", "Shakir", "WR", lions, 150);
+
+        // When
+        index.upsert(traded);
+
+        // Then
+        assertEquals(List.of(4, 2), ids(index.query(query(List.of("WR"), List.of("NFC"), null, "points", 10))));
+        assertTrue(index.query(query(List.of("WR"), List.of("AFC"), null, "points", 10)).isEmpty());
+    }
+
+    @Test
+    void query_WithUnknownSort_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> index.query(query(null, null, null, "salary", 10)));
+    }
+
+    private static PlayerFacetQuery query(List<String> positions, List<String> conferences, Boolean dst,
+                                          String sort, int limit) {
+        return new PlayerFacetQuery(positions, null, conferences, null, true, dst, sort, limit);
+    }
+
+    private static List<Integer> ids(List<PlayerSummary> players) {
+        return players.stream().map(PlayerSummary::id).toList();
+    }
+
+    private static NflTeam nflTeam(int id, String abbreviation, String conference, String division) {
+        NflTeam team = new NflTeam();
+        team.setId(id);
+        team.setAbbreviation(abbreviation);
+        team.setConference(conference);
+        team.setDivision(division);
+        return team;
+    }
+
+    private static Player player(int id, String firstName, String lastName, String position, NflTeam team, int points) {
+        Player player = new Player();
+        player.setId(id);
+        player.setFirstName(firstName);
+        player.setLastName(lastName);
+        player.setPosition(position);
+        player.setNflTeam(team);
+        player.setFantasyPoints(BigDecimal.valueOf(points));
+        player.setIsActive(true);
+        return player;
+    }
+
+    private static Player defense(int id, String name, NflTeam team, int points) {
+        Player player = player(id, null, null, "DST", team, points);
+        player.setIsDst(true);
+        player.setDstTeamName(name);
+        return player;
+    }
+}
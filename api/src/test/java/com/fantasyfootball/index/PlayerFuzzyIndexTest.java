@@ -0,0 +1,140 @@
+package com.fantasyfootball.index;
+
+import com.fantasyfootball.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlayerFuzzyIndexTest {
+
+    private PlayerFuzzyIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PlayerFuzzyIndex();
+        index.rebuild(Arrays.asList(
+                player(1, "Ja'Marr", "Chase", 310),
+                player(2, "Amon-Ra", "St. Brown", 290),
+                player(3, "Jaxon", "Smith-Njigba", 200),
+                player(4, "Geno", "Smith", 150),
+                player(5, "José", "Ramírez", 40),
+                player(6, "Jamar", "Chance", 20)
+        ));
+    }
+
+    @Test
+    void search_ShouldIgnorePunctuationAndCase() {
+        // When
+        List<Integer> result = index.search("JAMARR CHASE");
+
+        // Then
+        assertEquals(1, result.get(0));
+    }
+
+    @Test
+    void search_WithTypos_ShouldRankByEditDistance() {
+        // When
+        List<Integer> result = index.search("jamarr chace");
+
+        // Then
+        assertEquals(List.of(1, 6), result);
+    }
+
+    @Test
+    void search_WithHyphenatedName_ShouldMatchSpacedAndJoinedSpellings() {
+        // When & Then
+        assertEquals(3, index.search("smith njigba").get(0));
+        assertEquals(3, index.search("smithnjigba").get(0));
+        assertEquals(3, index.search("jaxon smith-njibga").get(0));
+    }
+
+    @Test
+    void search_WithWordsJoinedDifferently_ShouldMatchCompactName() {
+        // When
+        List<Integer> result = index.search("amonra stbrown");
+
+        // Then
+        assertEquals(2, result.get(0));
+    }
+
+    @Test
+    void search_ShouldStripDiacritics() {
+        // When
+        List<Integer> result = index.search("jose ramirez");
+
+        // Then
+        assertEquals(List.of(5), result);
+    }
+
+    @Test
+    void search_WithSoundAlikeName_ShouldMatchPhonetically() {
+        // When
+        List<Integer> result = index.search("chays");
+
+        // Then
+        assertEquals(List.of(1), result);
+    }
+
+    @Test
+    void search_WithUnrelatedName_ShouldReturnEmpty() {
+        // When
+        List<Integer> result = index.search("mahomes");
+
+        // Then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void upsert_WhenNameChanges_ShouldForgetOldName() {
+        // When
+        index.upsert(player(6, "Tyler", "Lockett", 20));
+
+        // Then
+        assertEquals(List.of(1), index.search("jamar chace"));
+        assertEquals(List.of(6), index.search("tyler lockit"));
+    }
+
+    @Test
+    void remove_ShouldDropPlayerFromResults() {
+        // When
+        index.remove(4);
+
+        // Then
+        assertEquals(List.of(3), index.search("smith"));
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    void soundex_ShouldFollowAmericanSoundexRules() {
+        // When & Then
+        assertEquals("r163", PlayerFuzzyIndex.soundex("robert"));
+        assertEquals("r163", PlayerFuzzyIndex.soundex("rupert"));
+        assertEquals("a261", PlayerFuzzyIndex.soundex("ashcraft"));
+        assertEquals("t522", PlayerFuzzyIndex.soundex("tymczak"));
+    }
+
+    @Test
+    void distance_ShouldCountEdits() {
+        // When & Then
+        assertEquals(0, LevenshteinTrie.distance("chase", "chase"));
+        assertEquals(1, LevenshteinTrie.distance("chase", "chace"));
+        assertEquals(3, LevenshteinTrie.distance("kitten", "sitting"));
+        assertEquals(5, LevenshteinTrie.distance("", "brown"));
+    }
+
+    private static Player player(int id, String firstName, String lastName, int points) {
+        Player player = new Player();
+        player.setId(id);
+        player.setFirstName(firstName);
+        player.setLastName(lastName);
+        player.setPosition("WR");
+        player.setFantasyPoints(BigDecimal.valueOf(points));
+        player.setIsActive(true);
+        return player;
+    }
+}
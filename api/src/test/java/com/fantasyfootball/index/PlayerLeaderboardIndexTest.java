@@ -0,0 +1,141 @@
+package com.fantasyfootball.index;
+
+import com.fantasyfootball.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlayerLeaderboardIndexTest {
+
+    private PlayerLeaderboardIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PlayerLeaderboardIndex();
+        index.rebuild(Arrays.asList(
+                player(1, "QB", "310.50"),
+                player(2, "QB", "280.00"),
+                player(3, "WR", "290.25"),
+                player(4, "WR", "290.25"),
+                player(5, "RB", "150.00"),
+                inactive(player(6, "QB", "400.00"))
+        ));
+    }
+
+    @Test
+    void range_ShouldReturnTopPlayersByPointsWithIdTieBreak() {
+        // When
+        List<Integer> overall = index.range(null, 1, 10);
+        List<Integer> receivers = index.range("wr", 1, 10);
+
+        // Then
+        assertEquals(List.of(1, 3, 4, 2, 5), overall);
+        assertEquals(List.of(3, 4), receivers);
+    }
+
+    @Test
+    void range_ShouldReturnWindowOfRanks() {
+        // When
+        List<Integer> window = index.range(null, 2, 3);
+
+        // Then
+        assertEquals(List.of(3, 4, 2), window);
+        assertTrue(index.range(null, 6, 3).isEmpty());
+    }
+
+    @Test
+    void rank_ShouldReturnPositionAndOverallRank() {
+        // When & Then
+        assertEquals(2, index.rank("QB", 2));
+        assertEquals(4, index.rank(null, 2));
+        assertEquals(0, index.rank(null, 6));
+        assertEquals("WR", index.positionOf(4));
+        assertNull(index.positionOf(6));
+    }
+
+    @Test
+    void upsert_WhenPointsChange_ShouldMovePlayer() {
+        // When
+        index.upsert(player(5, "RB", "500.00"));
+
+        // Then
+        assertEquals(1, index.rank(null, 5));
+        assertEquals(List.of(5, 1, 3), index.range(null, 1, 3));
+    }
+
+    @Test
+    void upsert_WhenPositionChanges_ShouldMoveBoards() {
+        // When
+        index.upsert(player(2, "WR", "280.00"));
+
+        // Then
+        assertEquals(1, index.size("QB"));
+        assertEquals(List.of(3, 4, 2), index.range("WR", 1, 10));
+    }
+
+    @Test
+    void remove_ShouldCloseGapInRanks() {
+        // When
+        index.remove(1);
+
+        // Then
+        assertEquals(1, index.rank(null, 3));
+        assertEquals(4, index.size(null));
+        assertEquals(List.of(2), index.range("QB", 1, 10));
+    }
+
+    @Test
+    void skipList_ShouldAgreeWithSortedListUnderRandomUpdates() {
+        // Given
+        Random random = new Random(42);
+        IndexedSkipList<Integer> skipList = new IndexedSkipList<>(Comparator.naturalOrder());
+        List<Integer> expected = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 5000; i++) {
+            int value = random.nextInt(1000);
+            if (random.nextBoolean()) {
+                assertEquals(!expected.contains(value), skipList.add(value));
+                if (!expected.contains(value)) {
+                    expected.add(value);
+                }
+            } else {
+                assertEquals(expected.remove(Integer.valueOf(value)), skipList.remove(value));
+            }
+        }
+        expected.sort(Comparator.naturalOrder());
+
+        // Then
+        assertEquals(expected.size(), skipList.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i + 1, skipList.rank(expected.get(i)));
+        }
+        assertEquals(expected, skipList.range(1, expected.size()));
+        int from = expected.size() / 2;
+        assertEquals(expected.subList(from - 1, Math.min(expected.size(), from + 19)), skipList.range(from, 20));
+    }
+
+    private static Player player(int id, String position, String points) {
+        Player player = new Player();
+        player.setId(id);
+        player.setFirstName("Player");
+        player.setLastName(String.valueOf(id));
+        player.setPosition(position);
+        player.setFantasyPoints(new BigDecimal(points));
+        player.setIsActive(true);
+        return player;
+    }
+
+    private static Player inactive(Player player) {
+        player.setIsActive(false);
+        return player;
+    }
+}
@@ -0,0 +1,122 @@
+package com.fantasyfootball.index;
+
+import com.fantasyfootball.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlayerNameIndexTest {
+
+    private PlayerNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PlayerNameIndex();
+        index.rebuild(Arrays.asList(
+                player(1, "Josh", "Allen", 300),
+                player(2, "Keenan", "Allen", 180),
+                player(3, "Allen", "Lazard", 90),
+                player(4, "Josh", "Jacobs", 220),
+                defense(5, "Buffalo Bills D/ST", 120)
+        ));
+    }
+
+    @Test
+    void search_ShouldRankPrefixMatchesBeforeWordAndSubstringMatches() {
+        // When
+        List<Integer> result = index.search("allen");
+
+        // Then
+        assertEquals(List.of(3, 1, 2), result);
+    }
+
+    @Test
+    void search_ShouldIgnoreCaseAndMatchDefenseNames() {
+        // When
+        List<Integer> result = index.search("BILLS");
+
+        // Then
+        assertEquals(List.of(5), result);
+    }
+
+    @Test
+    void search_WithShortTerm_ShouldScanAllNames() {
+        // When
+        List<Integer> result = index.search("jo");
+
+        // Then
+        assertEquals(List.of(1, 4), result);
+    }
+
+    @Test
+    void search_WithNoMatchingTrigram_ShouldReturnEmpty() {
+        // When
+        List<Integer> result = index.search("mahomes");
+
+        // Then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void upsert_WhenNameChanges_ShouldReplaceOldTrigrams() {
+        // Given
+        Player renamed = player(4, "Joshua", "Palmer", 220);
+
+        // When
+        index.upsert(renamed);
+
+        // Then
+        assertTrue(index.search("jacobs").isEmpty());
+        assertEquals(List.of(4), index.search("palmer"));
+    }
+
+    @Test
+    void upsert_WhenPlayerBecomesInactive_ShouldRemoveFromIndex() {
+        // Given
+        Player retired = player(2, "Keenan", "Allen", 180);
+        retired.setIsActive(false);
+
+        // When
+        index.upsert(retired);
+
+        // Then
+        assertEquals(List.of(3, 1), index.search("allen"));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void remove_ShouldDropPlayerFromResults() {
+        // When
+        index.remove(1);
+
+        // Then
+        assertEquals(List.of(4), index.search("josh"));
+    }
+
+    private static Player player(int id, String firstName, String lastName, int points) {
+        Player player = new Player();
+        player.setId(id);
+        player.setFirstName(firstName);
+        player.setLastName(lastName);
+        player.setPosition("WR");
+        player.setFantasyPoints(BigDecimal.valueOf(points));
+        player.setIsActive(true);
+        return player;
+    }
+
+    private static Player defense(int id, String name, int points) {
+        Player player = new Player();
+        player.setId(id);
+        player.setPosition("DST");
+        player.setIsDst(true);
+        player.setDstTeamName(name);
+        player.setFantasyPoints(BigDecimal.valueOf(points));
+        player.setIsActive(true);
+        return player;
+    }
+}
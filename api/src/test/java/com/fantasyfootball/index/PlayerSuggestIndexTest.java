@@ -0,0 +1,105 @@
+package com.fantasyfootball.index;
+
+import com.fantasyfootball.dto.PlayerSuggestion;
+import com.fantasyfootball.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlayerSuggestIndexTest {
+
+    private PlayerSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PlayerSuggestIndex(Runnable::run);
+        index.rebuild(Arrays.asList(
+                player(1, "Ja'Marr", "Chase", 280),
+                player(2, "Jalen", "Hurts", 330),
+                player(3, "Jahmyr", "Gibbs", 260),
+                player(4, "Joe", "Burrow", 250),
+                defense(5, "Chicago Bears D/ST", 110)
+        ));
+    }
+
+    @Test
+    void suggest_ShouldRankMatchesByFantasyPoints() {
+        // When
+        PlayerSuggestion[] result = index.suggest("Ja", 10);
+
+        // Then
+        assertEquals(List.of(2, 1, 3), ids(result));
+    }
+
+    @Test
+    void suggest_ShouldMatchLaterWordsAndDefenseNames() {
+        // When
+        PlayerSuggestion[] result = index.suggest("ch", 10);
+
+        // Then
+        assertEquals(List.of(1, 5), ids(result));
+        assertEquals("Chicago Bears D/ST", result[1].name());
+    }
+
+    @Test
+    void suggest_ShouldRespectLimit() {
+        // When
+        PlayerSuggestion[] result = index.suggest("j", 2);
+
+        // Then
+        assertEquals(List.of(2, 1), ids(result));
+    }
+
+    @Test
+    void suggest_WithUnknownPrefix_ShouldReturnEmpty() {
+        // When
+        PlayerSuggestion[] result = index.suggest("jax", 10);
+
+        // Then
+        assertEquals(0, result.length);
+    }
+
+    @Test
+    void upsert_ShouldReflectNewPointsAndRemovals() {
+        // Given
+        Player gibbs = player(3, "Jahmyr", "Gibbs", 400);
+
+        // When
+        index.upsert(gibbs);
+        index.remove(2);
+
+        // Then
+        assertEquals(List.of(3, 1), ids(index.suggest("ja", 10)));
+    }
+
+    private static List<Integer> ids(PlayerSuggestion[] suggestions) {
+        return Arrays.stream(suggestions).map(PlayerSuggestion::id).toList();
+    }
+
+    private static Player player(int id, String firstName, String lastName, int points) {
+        Player player = new Player();
+        player.setId(id);
+        player.setFirstName(firstName);
+        player.setLastName(lastName);
+        player.setPosition("WR");
+        player.setFantasyPoints(BigDecimal.valueOf(points));
+        player.setIsActive(true);
+        return player;
+    }
+
+    private static Player defense(int id, String name, int points) {
+        Player player = new Player();
+        player.setId(id);
+        player.setPosition("DST");
+        player.setIsDst(true);
+        player.setDstTeamName(name);
+        player.setFantasyPoints(BigDecimal.valueOf(points));
+        player.setIsActive(true);
+        return player;
+    }
+}
@@ -0,0 +1,153 @@
+package com.fantasyfootball.index;
+
+import com.fantasyfootball.dto.PlayerStatsRow;
+import com.fantasyfootball.dto.ScoringRuleView;
+import com.fantasyfootball.dto.SeasonStatLine;
+import com.fantasyfootball.scoring.ScoringFormula;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SeasonStatsStoreTest {
+
+    private SeasonStatsStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new SeasonStatsStore();
+        store.replaceAll(List.of(
+                row(1, 2024, 1, "20.50", 100, 1),
+                row(1, 2024, 2, "10.25", 50, 0),
+                row(1, 2024, 4, "30.00", 150, 2),
+                row(2, 2024, 1, "25.00", 80, 2),
+                row(3, 2024, 1, "60.75", 20, 0),
+                row(1, 2023, 1, "99.00", 300, 3)
+        ).iterator());
+    }
+
+    @Test
+    void line_ShouldSumWholeSeason() {
+        // When
+        SeasonStatLine line = store.line(1, 2024, 0).orElseThrow();
+
+        // Then
+        assertEquals(3, line.weeks());
+        assertEquals(new BigDecimal("60.75"), line.pointsScored());
+        assertEquals(300, line.yardsGained());
+        assertEquals(3, line.touchdowns());
+        assertEquals(new BigDecimal("20.25"), line.pointsPerWeek());
+        assertEquals(new BigDecimal("100.00"), line.yardsPerWeek());
+    }
+
+    @Test
+    void line_WithLastWeeks_ShouldSumMostRecentWeeksWithStats() {
+        // When
+        SeasonStatLine line = store.line(1, 2024, 2).orElseThrow();
+
+        // Then
+        assertEquals(2, line.weeks());
+        assertEquals(new BigDecimal("40.25"), line.pointsScored());
+        assertEquals(200, line.yardsGained());
+    }
+
+    @Test
+    void line_WhenPlayerHasNoStats_ShouldBeEmpty() {
+        // When & Then
+        assertTrue(store.line(2, 2023, 0).isEmpty());
+        assertTrue(store.line(9, 2024, 0).isEmpty());
+    }
+
+    @Test
+    void leaders_ShouldRankBySeasonTotalWithIdTieBreak() {
+        // When
+        List<SeasonStatLine> byPoints = store.leaders(2024, StatColumn.POINTS_SCORED, id -> true, 10);
+        List<SeasonStatLine> byTouchdowns = store.leaders(2024, StatColumn.TOUCHDOWNS, id -> true, 2);
+
+        // Then
+        assertEquals(List.of(1, 3, 2), byPoints.stream().map(SeasonStatLine::playerId).toList());
+        assertEquals(List.of(1, 2), byTouchdowns.stream().map(SeasonStatLine::playerId).toList());
+    }
+
+    @Test
+    void leaders_ShouldApplyFilter() {
+        // When
+        List<SeasonStatLine> leaders = store.leaders(2024, StatColumn.YARDS_GAINED, id -> id != 1, 10);
+
+        // Then
+        assertEquals(List.of(2, 3), leaders.stream().map(SeasonStatLine::playerId).toList());
+    }
+
+    @Test
+    void put_ShouldOverwriteWeek() {
+        // When
+        store.put(row(2, 2024, 1, "70.00", 80, 2));
+
+        // Then
+        assertEquals(new BigDecimal("70.00"), store.line(2, 2024, 0).orElseThrow().pointsScored());
+        assertEquals(2, store.leaders(2024, StatColumn.POINTS_SCORED, id -> true, 1).get(0).playerId());
+    }
+
+    @Test
+    void put_WhenWeekOutOfRange_ShouldThrow() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> store.put(row(1, 2024, SeasonStatsStore.MAX_WEEK + 1, "1.00", 0, 0)));
+    }
+
+    @Test
+    void remove_ShouldDropWeekAndPlayer() {
+        // When
+        store.remove(1, 2024, 4);
+        store.removePlayer(3);
+
+        // Then
+        assertEquals(2, store.line(1, 2024, 0).orElseThrow().weeks());
+        assertTrue(store.line(3, 2024, 0).isEmpty());
+        assertEquals(List.of(1, 2), store.leaders(2024, StatColumn.POINTS_SCORED, id -> true, 10)
+                .stream().map(SeasonStatLine::playerId).toList());
+    }
+
+    @Test
+    void latestSeason_ShouldSkipSeasonsWithoutStats() {
+        // When
+        store.remove(2, 2024, 1);
+
+        // Then
+        assertEquals(2024, store.latestSeason(1).getAsInt());
+        assertTrue(store.latestSeason(2).isEmpty());
+        assertTrue(store.latestSeason(9).isEmpty());
+        assertEquals(List.of(1, 3), store.playerIds(2024));
+        assertEquals(List.of(1), store.playerIds(2023));
+        assertEquals(List.of(), store.playerIds(2022));
+    }
+
+    @Test
+    void scoreWeek_ShouldScoreEachPlayerInThatWeekOnly() {
+        // Given
+        ScoringFormula formula = ScoringFormula.compile(List.of(
+                new ScoringRuleView("touchdowns", new BigDecimal("6"), null)));
+
+        // When
+        long[] week1 = store.scoreWeek(new int[] {3, 1, 9, 1}, 2024, 1, formula);
+        long[] week3 = store.scoreWeek(new int[] {1}, 2024, 3, formula);
+
+        // Then
+        assertArrayEquals(new long[] {0, 60000, 0, 60000}, week1);
+        assertArrayEquals(new long[] {0}, week3);
+    }
+
+    @Test
+    void statColumn_ShouldParseParamNames() {
+        // When & Then
+        assertEquals(StatColumn.FIELD_GOALS, StatColumn.fromParam("fieldGoals"));
+        assertThrows(IllegalArgumentException.class, () -> StatColumn.fromParam("rushingYards"));
+    }
+
+    private static PlayerStatsRow row(int playerId, int season, int week, String points, int yards, int touchdowns) {
+        return new PlayerStatsRow(null, playerId, week, season, 1, new BigDecimal(points), yards, touchdowns, 0, 0, 0, 0);
+    }
+}
@@ -0,0 +1,120 @@
+package com.fantasyfootball.index;
+
+import com.fantasyfootball.dto.PlayerStatsRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WeeklyStatSketchesTest {
+
+    private SeasonStatsStore store;
+    private WeeklyStatSketches sketches;
+    private Map<Integer, String> positions;
+    private AtomicInteger builds;
+
+    @BeforeEach
+    void setUp() {
+        store = new SeasonStatsStore();
+        store.replaceAll(List.of(
+                row(1, 1, "10.00"),
+                row(2, 1, "20.00"),
+                row(3, 1, "30.00"),
+                row(4, 1, "5.00"),
+                row(1, 2, "40.00")
+        ).iterator());
+        sketches = new WeeklyStatSketches();
+        positions = new HashMap<>(Map.of(1, "WR", 2, "WR", 3, "WR", 4, "QB"));
+        builds = new AtomicInteger();
+    }
+
+    @Test
+    void merge_ShouldBuildWeeksOncePerPosition() {
+        // When
+        KllSketch week1 = merge("wr", 1, 1);
+        KllSketch season = merge("WR", 1, 2);
+        KllSketch quarterbacks = merge("QB", 1, 1);
+
+        // Then
+        assertEquals(3, week1.count());
+        assertEquals(2000, week1.quantile(0.5));
+        assertEquals(4, season.count());
+        assertEquals(4000, season.quantile(1));
+        assertEquals(1, quarterbacks.count());
+        assertEquals(2, builds.get());
+    }
+
+    @Test
+    void add_ShouldCountNewRowWithoutRebuilding() {
+        // Given
+        merge("WR", 1, 1);
+        PlayerStatsRow added = row(5, 1, "50.00");
+        store.put(added);
+
+        // When
+        sketches.add(5, 2024, 1, "WR", values(added));
+
+        // Then
+        assertEquals(4, merge("WR", 1, 1).count());
+        assertEquals(1, builds.get());
+    }
+
+    @Test
+    void add_WhenRowAlreadyCounted_ShouldRebuildWeek() {
+        // Given
+        merge("WR", 1, 1);
+        PlayerStatsRow rewritten = row(1, 1, "90.00");
+        store.put(rewritten);
+
+        // When
+        sketches.add(1, 2024, 1, "WR", values(rewritten));
+        KllSketch week1 = merge("WR", 1, 1);
+
+        // Then
+        assertEquals(3, week1.count());
+        assertEquals(9000, week1.quantile(1));
+        assertEquals(2, builds.get());
+    }
+
+    @Test
+    void playerChanged_WhenPositionMoves_ShouldRebuildWeeksCountingPlayer() {
+        // Given
+        merge("WR", 1, 2);
+        positions.put(1, "TE");
+
+        // When
+        sketches.playerChanged(1, "TE");
+        sketches.playerChanged(2, "WR");
+
+        // Then
+        assertEquals(2, merge("WR", 1, 2).count());
+        assertEquals(2, merge("TE", 1, 2).count());
+        assertEquals(4, builds.get());
+    }
+
+    private KllSketch merge(String position, int fromWeek, int toWeek) {
+        return sketches.merge(position, StatColumn.POINTS_SCORED, 2024, 2024, fromWeek, toWeek,
+                (season, week, visitor) -> {
+                    builds.incrementAndGet();
+                    store.forEachInWeek(season, week, visitor);
+                }, positions::get);
+    }
+
+    private static int[] values(PlayerStatsRow row) {
+        int[] values = new int[StatColumn.values().length];
+        for (StatColumn column : StatColumn.values()) {
+            values[column.ordinal()] = column.valueOf(row);
+        }
+        return values;
+    }
+
+    private static PlayerStatsRow row(int playerId, int week, String points) {
+        return new PlayerStatsRow(null, playerId, week, 2024, 1, new BigDecimal(points), 0, 0, 0, 0, 0, 0);
+    }
+}
@@ -0,0 +1,118 @@
+package com.fantasyfootball.ingest;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StatsLineParserTest {
+
+    @Test
+    void parseNumber_ShouldHandleIntegersDecimalsAndQuotes() {
+        // When & Then
+        assertEquals(42, number("42", false));
+        assertEquals(-7, number(" \"-7\" ", false));
+        assertEquals(1850, number("18.5", true));
+        assertEquals(1234, number("12.335", true));
+        assertEquals(200, number("1.995", true));
+        assertEquals(3, number("3.0", false));
+        assertEquals(StatsLineParser.MISSING, number("  ", false));
+        assertEquals(StatsLineParser.MALFORMED, number("3.5", false));
+        assertEquals(StatsLineParser.MALFORMED, number("12a", false));
+        assertEquals(StatsLineParser.MALFORMED, number("-", false));
+    }
+
+    @Test
+    void csv_ShouldMapColumnsFromHeaderAndIgnoreUnknownOnes() {
+        // Given
+        int[] columns = {StatsImportField.ESPN_ID.ordinal(), -1, StatsImportField.SEASON.ordinal(),
+                StatsImportField.WEEK.ordinal(), StatsImportField.POINTS_SCORED.ordinal(),
+                StatsImportField.RECEPTIONS.ordinal()};
+        StatsLineParser parser = StatsLineParser.csv(columns);
+        StatsRecord record = new StatsRecord();
+
+        // When
+        String error = parse(parser, "\"3139477\",\"Mahomes, Patrick\",2024,3,24.36,", record);
+
+        // Then
+        assertNull(error);
+        assertTrue(record.hasRequired());
+        assertEquals(3139477, record.get(StatsImportField.ESPN_ID));
+        assertEquals(2024, record.get(StatsImportField.SEASON));
+        assertEquals(3, record.get(StatsImportField.WEEK));
+        assertEquals(2436, record.get(StatsImportField.POINTS_SCORED));
+        assertEquals(0, record.get(StatsImportField.RECEPTIONS));
+    }
+
+    @Test
+    void csv_WhenValueMalformed_ShouldReturnError() {
+        // Given
+        StatsLineParser parser = StatsLineParser.csv(new int[]{StatsImportField.ESPN_ID.ordinal(),
+                StatsImportField.WEEK.ordinal()});
+
+        // When
+        String error = parse(parser, "3139477,three", new StatsRecord());
+
+        // Then
+        assertEquals("Malformed week", error);
+    }
+
+    @Test
+    void ndjson_ShouldReadKnownKeysInEitherSpellingAndSkipOthers() {
+        // Given
+        StatsLineParser parser = StatsLineParser.ndjson();
+        StatsRecord record = new StatsRecord();
+
+        // When
+        String error = parse(parser, "{\"espnId\":\"4241389\", \"name\":\"A \\\"quoted\\\" name\", " +
+                "\"meta\":{\"tags\":[1,{\"x\":\"}\"}]}, \"season\":2024,\"week\":5,\"yards_gained\":112," +
+                "\"pointsScored\":-1.5,\"fumbles\":null}", record);
+
+        // Then
+        assertNull(error);
+        assertEquals(4241389, record.get(StatsImportField.ESPN_ID));
+        assertEquals(5, record.get(StatsImportField.WEEK));
+        assertEquals(112, record.get(StatsImportField.YARDS_GAINED));
+        assertEquals(-150, record.get(StatsImportField.POINTS_SCORED));
+        assertEquals(0, record.get(StatsImportField.FUMBLES));
+    }
+
+    @Test
+    void ndjson_WhenLineIsNotAnObject_ShouldReturnError() {
+        // Given
+        StatsLineParser parser = StatsLineParser.ndjson();
+
+        // When & Then
+        assertNotNull(parse(parser, "[1,2,3]", new StatsRecord()));
+        assertNotNull(parse(parser, "{\"week\":5", new StatsRecord()));
+        assertNotNull(parse(parser, "{\"week\":{\"n\":5}}", new StatsRecord()));
+    }
+
+    @Test
+    void espnPlayerIds_ShouldResolveNumericIdsOnly() {
+        // Given
+        EspnPlayerIds ids = EspnPlayerIds.of(List.of(
+                new Object[]{"4241389", 12},
+                new Object[]{"3139477", 7},
+                new Object[]{"dst-kc", 99}));
+
+        // When & Then
+        assertEquals(2, ids.size());
+        assertEquals(7, ids.resolve(3139477));
+        assertEquals(12, ids.resolve(4241389));
+        assertEquals(-1, ids.resolve(1));
+    }
+
+    private static long number(String text, boolean hundredths) {
+        ByteBuffer buffer = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+        return StatsLineParser.parseNumber(buffer, 0, buffer.limit(), hundredths);
+    }
+
+    private static String parse(StatsLineParser parser, String line, StatsRecord record) {
+        ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+        return parser.parse(buffer, 0, buffer.limit(), record);
+    }
+}
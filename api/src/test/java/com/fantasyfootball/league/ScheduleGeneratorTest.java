@@ -0,0 +1,162 @@
+package com.fantasyfootball.league;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScheduleGeneratorTest {
+
+    @Test
+    void generate_WithEvenTeams_ShouldPlayEveryOpponentOnceAndSplitHomeGames() {
+        // Given
+        List<ScheduleGenerator.Entrant> entrants = entrants(10, null);
+
+        // When
+        List<ScheduleGenerator.Game> games = ScheduleGenerator.generate(entrants, 9, Set.of(), 1L);
+
+        // Then
+        assertEquals(45, games.size());
+        assertEquals(45, pairings(games).size());
+        assertOncePerWeek(games, 10);
+        Map<Integer, Integer> homeGames = homeGames(games);
+        for (int team = 1; team <= 10; team++) {
+            int home = homeGames.getOrDefault(team, 0);
+            assertTrue(home == 4 || home == 5, "team " + team + " hosts " + home);
+        }
+    }
+
+    @Test
+    void generate_WithOddTeams_ShouldGiveEveryTeamOneByePerRoundRobin() {
+        // Given
+        List<ScheduleGenerator.Entrant> entrants = entrants(7, null);
+
+        // When
+        List<ScheduleGenerator.Game> games = ScheduleGenerator.generate(entrants, 7, Set.of(), 3L);
+
+        // Then
+        assertEquals(21, games.size());
+        assertEquals(21, pairings(games).size());
+        assertOncePerWeek(games, 7);
+        Map<Integer, Integer> played = new HashMap<>();
+        for (ScheduleGenerator.Game game : games) {
+            played.merge(game.homeTeamId(), 1, Integer::sum);
+            played.merge(game.awayTeamId(), 1, Integer::sum);
+        }
+        for (int team = 1; team <= 7; team++) {
+            assertEquals(6, played.get(team));
+        }
+    }
+
+    @Test
+    void generate_WithDivisions_ShouldPlayDivisionOpponentsTwicePerCycleHostingOnceEach() {
+        // Given
+        List<ScheduleGenerator.Entrant> entrants = entrants(8, team -> team <= 4 ? 1 : 2);
+
+        // When
+        List<ScheduleGenerator.Game> games = ScheduleGenerator.generate(entrants, 10, Set.of(), 5L);
+
+        // Then
+        assertOncePerWeek(games, 8);
+        Map<Set<Integer>, Integer> meetings = new HashMap<>();
+        Set<List<Integer>> hosted = new HashSet<>();
+        for (ScheduleGenerator.Game game : games) {
+            meetings.merge(Set.of(game.homeTeamId(), game.awayTeamId()), 1, Integer::sum);
+            hosted.add(List.of(game.homeTeamId(), game.awayTeamId()));
+        }
+        for (int team = 1; team <= 8; team++) {
+            for (int opponent = team + 1; opponent <= 8; opponent++) {
+                boolean sameDivision = (team <= 4) == (opponent <= 4);
+                assertEquals(sameDivision ? 2 : 1, meetings.get(Set.of(team, opponent)), team + " v " + opponent);
+                if (sameDivision) {
+                    assertTrue(hosted.contains(List.of(team, opponent)) && hosted.contains(List.of(opponent, team)));
+                }
+            }
+        }
+    }
+
+    @Test
+    void generate_InRivalryWeek_ShouldMatchRivals() {
+        // Given
+        List<ScheduleGenerator.Entrant> entrants = new ArrayList<>(entrants(6, null));
+        entrants.set(0, new ScheduleGenerator.Entrant(1, null, 4));
+        entrants.set(3, new ScheduleGenerator.Entrant(4, null, 1));
+        entrants.set(1, new ScheduleGenerator.Entrant(2, null, 5));
+
+        // When
+        List<ScheduleGenerator.Game> games = ScheduleGenerator.generate(entrants, 6, Set.of(6), 7L);
+
+        // Then
+        assertOncePerWeek(games, 6);
+        List<Set<Integer>> week6 = games.stream()
+                .filter(game -> game.week() == 6)
+                .map(game -> Set.of(game.homeTeamId(), game.awayTeamId()))
+                .toList();
+        assertEquals(3, week6.size());
+        assertTrue(week6.contains(Set.of(1, 4)));
+        // 2 names 5 as its rival but 5 does not agree, so they are not forced together
+        assertEquals(5, games.stream().filter(game -> game.week() < 6).map(ScheduleGenerator.Game::week).distinct().count());
+    }
+
+    @Test
+    void generate_WithTheSameSeed_ShouldRepeatTheSchedule() {
+        // Given
+        List<ScheduleGenerator.Entrant> entrants = entrants(12, team -> team % 3);
+
+        // When
+        List<ScheduleGenerator.Game> first = ScheduleGenerator.generate(entrants, 14, Set.of(13), 42L);
+        List<ScheduleGenerator.Game> second = ScheduleGenerator.generate(entrants, 14, Set.of(13), 42L);
+
+        // Then
+        assertEquals(first, second);
+        assertOncePerWeek(first, 12);
+    }
+
+    @Test
+    void generate_WithOneTeam_ShouldThrow() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> ScheduleGenerator.generate(entrants(1, null), 14, Set.of(), 1L));
+    }
+
+    private static List<ScheduleGenerator.Entrant> entrants(int teams, IntFunction<Integer> division) {
+        List<ScheduleGenerator.Entrant> entrants = new ArrayList<>();
+        for (int team = 1; team <= teams; team++) {
+            entrants.add(new ScheduleGenerator.Entrant(team, division != null ? division.apply(team) : null, null));
+        }
+        return entrants;
+    }
+
+    private static Set<Set<Integer>> pairings(List<ScheduleGenerator.Game> games) {
+        Set<Set<Integer>> pairings = new HashSet<>();
+        for (ScheduleGenerator.Game game : games) {
+            pairings.add(Set.of(game.homeTeamId(), game.awayTeamId()));
+        }
+        return pairings;
+    }
+
+    private static Map<Integer, Integer> homeGames(List<ScheduleGenerator.Game> games) {
+        Map<Integer, Integer> homeGames = new HashMap<>();
+        for (ScheduleGenerator.Game game : games) {
+            homeGames.merge(game.homeTeamId(), 1, Integer::sum);
+        }
+        return homeGames;
+    }
+
+    private static void assertOncePerWeek(List<ScheduleGenerator.Game> games, int teams) {
+        Map<Integer, Set<Integer>> playing = new HashMap<>();
+        for (ScheduleGenerator.Game game : games) {
+            Set<Integer> week = playing.computeIfAbsent(game.week(), k -> new HashSet<>());
+            assertTrue(week.add(game.homeTeamId()), "team " + game.homeTeamId() + " twice in week " + game.week());
+            assertTrue(week.add(game.awayTeamId()), "team " + game.awayTeamId() + " twice in week " + game.week());
+            assertTrue(week.size() <= teams);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.fantasyfootball.league;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StandingsRankerTest {
+
+    private static final StandingsRanker.HeadToHead NO_GAMES = (teamId, opponentId) -> new int[3];
+
+    @Test
+    void rank_ShouldOrderByWinPercentageCountingTiesAsHalf() {
+        // Given
+        List<StandingsRanker.Record> records = List.of(
+                record(1, 1, 2, 0, "300"),
+                record(2, 2, 0, 1, "250"),
+                record(3, 2, 1, 0, "400"));
+
+        // When
+        List<Integer> ranked = StandingsRanker.rank(records, () -> NO_GAMES);
+
+        // Then
+        assertEquals(List.of(2, 3, 1), ranked);
+    }
+
+    @Test
+    void rank_ShouldCountATeamWithoutGamesAsFiveHundred() {
+        // Given
+        List<StandingsRanker.Record> records = List.of(
+                record(1, 0, 1, 0, "90"),
+                record(2, 0, 0, 0, "0"),
+                record(3, 1, 0, 0, "110"));
+
+        // When
+        List<Integer> ranked = StandingsRanker.rank(records, () -> NO_GAMES);
+
+        // Then
+        assertEquals(List.of(3, 2, 1), ranked);
+    }
+
+    @Test
+    void rank_WhenLevel_ShouldUseHeadToHeadBeforePoints() {
+        // Given
+        List<StandingsRanker.Record> records = List.of(
+                record(1, 2, 1, 0, "500"),
+                record(2, 2, 1, 0, "400"));
+        StandingsRanker.HeadToHead headToHead = (teamId, opponentId) -> teamId == 2 ? new int[] {1, 0, 0} : new int[] {0, 1, 0};
+
+        // When
+        List<Integer> ranked = StandingsRanker.rank(records, () -> headToHead);
+
+        // Then
+        assertEquals(List.of(2, 1), ranked);
+    }
+
+    @Test
+    void rank_WhenHeadToHeadIsLevel_ShouldUsePointsForThenTeamId() {
+        // Given
+        List<StandingsRanker.Record> records = List.of(
+                record(3, 1, 1, 0, "200"),
+                record(1, 1, 1, 0, "250"),
+                record(2, 1, 1, 0, "250"));
+
+        // When
+        List<Integer> ranked = StandingsRanker.rank(records, () -> NO_GAMES);
+
+        // Then
+        assertEquals(List.of(1, 2, 3), ranked);
+    }
+
+    @Test
+    void rank_WithoutLevelTeams_ShouldNotAskForHeadToHead() {
+        // Given
+        List<StandingsRanker.Record> records = List.of(
+                record(1, 1, 0, 0, "100"),
+                record(2, 0, 1, 0, "90"));
+
+        // When
+        List<Integer> ranked = StandingsRanker.rank(records, () -> fail("head-to-head was not needed"));
+
+        // Then
+        assertEquals(List.of(1, 2), ranked);
+    }
+
+    private static StandingsRanker.Record record(int teamId, int wins, int losses, int ties, String pointsFor) {
+        return new StandingsRanker.Record(teamId, wins, losses, ties, new BigDecimal(pointsFor), BigDecimal.ZERO);
+    }
+}
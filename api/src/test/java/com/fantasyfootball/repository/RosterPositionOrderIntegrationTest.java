@@ -0,0 +1,59 @@
+package com.fantasyfootball.repository;
+
+import com.fantasyfootball.entity.RosterPosition;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.MountableFile;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Rosters are listed by the display order of their slots, so no two slots may share one.
+ * Runs the Flyway migrations over database/complete_schema.sql, where the slots are
+ * seeded. Requires Docker for Testcontainers.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true"
+})
+@Testcontainers
+public class RosterPositionOrderIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14")
+            .withDatabaseName("fantasy_football_test")
+            .withUsername("test")
+            .withPassword("test")
+            .withCopyFileToContainer(MountableFile.forHostPath("../database/complete_schema.sql"),
+                    "/docker-entrypoint-initdb.d/complete_schema.sql");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private RosterPositionRepository rosterPositionRepository;
+
+    @Test
+    void findAllOrderedByDisplayOrder_ShouldGiveEverySlotItsOwnOrder() {
+        // When
+        List<RosterPosition> positions = rosterPositionRepository.findAllOrderedByDisplayOrder();
+
+        // Then
+        assertEquals(13, positions.size());
+        assertEquals(positions.size(), positions.stream().map(RosterPosition::getDisplayOrder).distinct().count());
+        assertEquals(List.of("QB", "RB", "WR", "TE", "FLEX", "SUPERFLEX", "K", "DST", "DL", "LB", "DB", "IDP", "BENCH"),
+                positions.stream().map(RosterPosition::getPositionCode).toList());
+    }
+}
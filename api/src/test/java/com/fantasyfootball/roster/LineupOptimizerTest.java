@@ -0,0 +1,97 @@
+package com.fantasyfootball.roster;
+
+import com.fantasyfootball.dto.RosterSlotRuleView;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LineupOptimizerTest {
+
+    @Test
+    void solve_ShouldStartTheBestPlayersIncludingFlex() {
+        // Given
+        RosterRules rules = RosterRules.compile(RosterPreset.STANDARD.rules());
+        String[] positions = {"QB", "QB", "RB", "RB", "RB", "WR", "WR", "WR", "TE", "TE", "K", "DST"};
+        long[] points = {250, 300, 200, 180, 170, 160, 100, 90, 50, 40, 80, 60};
+
+        // When
+        LineupOptimizer.Solution solution = LineupOptimizer.solve(rules, positions, points, null);
+
+        // Then
+        assertArrayEquals(new String[] {"BENCH", "QB", "RB", "RB", "FLEX", "WR", "WR", "BENCH", "TE", "BENCH", "K", "DST"},
+                solution.slots());
+        assertEquals(300 + 200 + 180 + 170 + 160 + 100 + 50 + 80 + 60, solution.points());
+    }
+
+    @Test
+    void solve_ShouldPlaceFlexPlayersWhereTheyFreeUpOtherSlots() {
+        // Given
+        RosterRules rules = RosterRules.compile(List.of(
+                new RosterSlotRuleView("FLEX", 1, List.of("RB", "WR")),
+                new RosterSlotRuleView("RB", 1, List.of("RB")),
+                new RosterSlotRuleView("BENCH", 5, List.of("RB", "WR"))));
+
+        // When
+        LineupOptimizer.Solution solution = LineupOptimizer.solve(rules, new String[] {"RB", "WR"}, new long[] {10, 9}, null);
+
+        // Then
+        assertArrayEquals(new String[] {"RB", "FLEX"}, solution.slots());
+        assertEquals(19, solution.points());
+    }
+
+    @Test
+    void solve_ShouldFillSuperflexWithTheSecondQuarterback() {
+        // Given
+        RosterRules rules = RosterRules.compile(RosterPreset.SUPERFLEX.rules());
+        String[] positions = {"QB", "QB", "RB", "RB", "RB", "WR", "WR", "TE"};
+        long[] points = {300, 250, 200, 180, 170, 160, 100, 50};
+
+        // When
+        LineupOptimizer.Solution solution = LineupOptimizer.solve(rules, positions, points, null);
+
+        // Then
+        assertArrayEquals(new String[] {"QB", "SUPERFLEX", "RB", "RB", "FLEX", "WR", "WR", "TE"}, solution.slots());
+    }
+
+    @Test
+    void solve_ShouldStartPlayersScoringNothingButNotBelowZero() {
+        // Given
+        RosterRules rules = RosterRules.compile(RosterPreset.STANDARD.rules());
+
+        // When
+        LineupOptimizer.Solution solution = LineupOptimizer.solve(rules,
+                new String[] {"K", "QB", "FB"}, new long[] {-20, 0, 50}, null);
+
+        // Then
+        assertArrayEquals(new String[] {"BENCH", "QB", "BENCH"}, solution.slots());
+        assertEquals(0, solution.points());
+    }
+
+    @Test
+    void solve_WhenPointsTie_ShouldKeepCurrentSlots() {
+        // Given
+        RosterRules rules = RosterRules.compile(RosterPreset.STANDARD.rules());
+        String[] positions = {"RB", "RB", "RB", "RB"};
+        long[] points = {100, 100, 100, 100};
+        String[] current = {"BENCH", "RB", "FLEX", "RB"};
+
+        // When
+        LineupOptimizer.Solution solution = LineupOptimizer.solve(rules, positions, points, current);
+
+        // Then
+        assertArrayEquals(current, solution.slots());
+        assertEquals(300, solution.points());
+    }
+
+    @Test
+    void solve_WithMismatchedArrays_ShouldThrow() {
+        // Given
+        RosterRules rules = RosterRules.compile(RosterPreset.STANDARD.rules());
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> LineupOptimizer.solve(rules, new String[] {"QB"}, new long[0], null));
+    }
+}
@@ -0,0 +1,92 @@
+package com.fantasyfootball.roster;
+
+import com.fantasyfootball.dto.RosterSlotRuleView;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RosterRulesTest {
+
+    @Test
+    void standard_ShouldMatchTheFixedSlotRules() {
+        // Given
+        RosterRules rules = RosterRules.compile(RosterPreset.STANDARD.rules());
+
+        // When & Then
+        assertTrue(rules.canPlay("QB", "QB"));
+        assertFalse(rules.canPlay("QB", "RB"));
+        assertTrue(rules.canPlay("FLEX", "TE"));
+        assertFalse(rules.canPlay("FLEX", "QB"));
+        assertTrue(rules.canPlay("BENCH", "K"));
+        assertFalse(rules.hasSlot("SUPERFLEX"));
+        assertFalse(rules.canPlay("SUPERFLEX", "QB"));
+        assertEquals(2, rules.maxCount("RB"));
+        assertEquals(7, rules.maxCount("BENCH"));
+        assertEquals(0, rules.maxCount("IDP"));
+    }
+
+    @Test
+    void presets_ShouldAddTheirSlots() {
+        // Given
+        RosterRules twoQb = RosterRules.compile(RosterPreset.fromParam("2qb").rules());
+        RosterRules superflex = RosterRules.compile(RosterPreset.fromParam("superflex").rules());
+        RosterRules idp = RosterRules.compile(RosterPreset.fromParam("idp").rules());
+
+        // When & Then
+        assertEquals(2, twoQb.maxCount("QB"));
+        assertTrue(superflex.canPlay("SUPERFLEX", "QB"));
+        assertTrue(superflex.canPlay("SUPERFLEX", "WR"));
+        assertFalse(superflex.canPlay("SUPERFLEX", "K"));
+        assertTrue(idp.canPlay("IDP", "LB"));
+        assertTrue(idp.canPlay("DL", "DE"));
+        assertTrue(idp.canPlay("DB", "CB"));
+        assertFalse(idp.canPlay("IDP", "QB"));
+    }
+
+    @Test
+    void canPlay_OnTheBench_ShouldTakeUnknownPositions() {
+        // Given
+        RosterRules rules = RosterRules.compile(RosterPreset.STANDARD.rules());
+
+        // When & Then
+        assertTrue(rules.canPlay("BENCH", "FB"));
+        assertTrue(rules.canPlay("BENCH", null));
+        assertFalse(rules.canPlay("FLEX", "FB"));
+        assertFalse(rules.canPlay("FLEX", null));
+    }
+
+    @Test
+    void compile_ShouldNormalizeNames() {
+        // Given
+        List<RosterSlotRuleView> rules = List.of(
+                new RosterSlotRuleView("flex", 2, List.of("te", "rb")),
+                new RosterSlotRuleView("bench", 5, List.of("QB", "RB", "WR", "TE", "K", "DST")));
+
+        // When
+        RosterRules compiled = RosterRules.compile(rules);
+
+        // Then
+        assertEquals(new RosterSlotRuleView("FLEX", 2, List.of("RB", "TE")), compiled.rules().get(0));
+        assertTrue(compiled.canPlay("FLEX", "RB"));
+        assertFalse(compiled.canPlay("BENCH", "LB"));
+    }
+
+    @Test
+    void compile_ShouldRejectInvalidRules() {
+        List<RosterSlotRuleView> bench = List.of(new RosterSlotRuleView("BENCH", 7, List.of("QB")));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> RosterRules.compile(List.of(new RosterSlotRuleView("QB", 1, List.of("QB")))));
+        assertThrows(IllegalArgumentException.class,
+                () -> RosterRules.compile(List.of(bench.get(0), new RosterSlotRuleView("QB", 0, List.of("QB")))));
+        assertThrows(IllegalArgumentException.class,
+                () -> RosterRules.compile(List.of(bench.get(0), new RosterSlotRuleView("QB", 1, List.of()))));
+        assertThrows(IllegalArgumentException.class,
+                () -> RosterRules.compile(List.of(bench.get(0), new RosterSlotRuleView("QB", 1, List.of("FB")))));
+        assertThrows(IllegalArgumentException.class,
+                () -> RosterRules.compile(List.of(bench.get(0), new RosterSlotRuleView("bench", 1, List.of("QB")))));
+        assertThrows(IllegalArgumentException.class, () -> RosterPreset.fromParam("dynasty"));
+    }
+}
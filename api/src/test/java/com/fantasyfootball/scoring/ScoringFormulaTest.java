@@ -0,0 +1,117 @@
+package com.fantasyfootball.scoring;
+
+import com.fantasyfootball.dto.PlayerStatsRow;
+import com.fantasyfootball.dto.ScoringRuleView;
+import com.fantasyfootball.index.SeasonStatsStore;
+import com.fantasyfootball.index.StatColumn;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScoringFormulaTest {
+
+    @Test
+    void scoreWeek_ShouldApplyPerUnitRulesAndBonuses() {
+        // Given
+        ScoringFormula formula = ScoringFormula.compile(List.of(
+                rule("yardsGained", "0.04", null),
+                rule("yardsGained", "0.06", null),
+                rule("touchdowns", "6", null),
+                rule("fumbles", "-2", null),
+                rule("yardsGained", "3", 100)));
+
+        // When
+        long belowBonus = formula.scoreWeek(week(99, 1, 1, 0), 0);
+        long atBonus = formula.scoreWeek(week(100, 0, 0, 0), 0);
+
+        // Then
+        assertEquals(new BigDecimal("13.90"), ScoringFormula.toPoints(belowBonus));
+        assertEquals(new BigDecimal("13.00"), ScoringFormula.toPoints(atBonus));
+    }
+
+    @Test
+    void presets_ShouldDifferOnlyByPointsPerReception() {
+        // Given
+        int[][] columns = week(85, 1, 0, 6);
+
+        // When
+        long standard = ScoringFormula.compile(ScoringPreset.STANDARD.rules()).scoreWeek(columns, 0);
+        long halfPpr = ScoringFormula.compile(ScoringPreset.fromParam("half-ppr").rules()).scoreWeek(columns, 0);
+        long ppr = ScoringFormula.compile(ScoringPreset.PPR.rules()).scoreWeek(columns, 0);
+
+        // Then
+        assertEquals(new BigDecimal("14.50"), ScoringFormula.toPoints(standard));
+        assertEquals(new BigDecimal("17.50"), ScoringFormula.toPoints(halfPpr));
+        assertEquals(new BigDecimal("20.50"), ScoringFormula.toPoints(ppr));
+    }
+
+    @Test
+    void compile_WhenRuleInvalid_ShouldThrow() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> ScoringFormula.compile(List.of(rule("passingYards", "1", null))));
+        assertThrows(IllegalArgumentException.class,
+                () -> ScoringFormula.compile(List.of(rule("pointsScored", "1", null))));
+        assertThrows(IllegalArgumentException.class,
+                () -> ScoringFormula.compile(List.of(rule("touchdowns", "0.00001", null))));
+        assertThrows(IllegalArgumentException.class,
+                () -> ScoringFormula.compile(List.of(rule("touchdowns", "1", 0))));
+        assertThrows(IllegalArgumentException.class, () -> ScoringPreset.fromParam("superflex"));
+    }
+
+    @Test
+    void scoreSeason_ShouldMatchPerPlayerRescoreAfterUpdates() {
+        // Given
+        SeasonStatsStore store = new SeasonStatsStore();
+        store.replaceAll(List.of(
+                row(1, 1, 120, 1, 5),
+                row(1, 2, 40, 0, 3),
+                row(2, 1, 60, 2, 0),
+                row(3, 1, 10, 0, 9)).iterator());
+        ScoringFormula ppr = ScoringFormula.compile(ScoringPreset.PPR.rules());
+        SeasonScoreBoard board = store.scoreSeason(2024, ppr);
+
+        // When
+        store.put(row(3, 2, 200, 2, 10));
+        assertTrue(board.update(store.scorePlayer(3, 2024, ppr)));
+        List<SeasonScore> top = board.top(10, id -> true);
+
+        // Then
+        assertEquals(List.of(3, 1, 2), top.stream().map(SeasonScore::playerId).toList());
+        assertEquals(new BigDecimal("52.00"), ScoringFormula.toPoints(top.get(0).points()));
+        assertEquals(2, top.get(0).weeks());
+        assertEquals(store.scoreSeason(2024, ppr).top(10, id -> true), top);
+    }
+
+    @Test
+    void update_WhenPlayerNotOnBoard_ShouldRequestRebuild() {
+        // Given
+        SeasonScoreBoard board = new SeasonScoreBoard(new int[]{1}, new long[]{10}, new int[]{1});
+
+        // When & Then
+        assertTrue(board.update(new SeasonScore(2, 0, 0)));
+        assertFalse(board.update(new SeasonScore(2, 1, 50)));
+        assertTrue(board.update(new SeasonScore(1, 0, 0)));
+        assertNull(board.get(1));
+    }
+
+    private static ScoringRuleView rule(String stat, String points, Integer threshold) {
+        return new ScoringRuleView(stat, new BigDecimal(points), threshold);
+    }
+
+    private static int[][] week(int yards, int touchdowns, int fumbles, int receptions) {
+        int[][] columns = new int[StatColumn.values().length][1];
+        columns[StatColumn.YARDS_GAINED.ordinal()][0] = yards;
+        columns[StatColumn.TOUCHDOWNS.ordinal()][0] = touchdowns;
+        columns[StatColumn.FUMBLES.ordinal()][0] = fumbles;
+        columns[StatColumn.RECEPTIONS.ordinal()][0] = receptions;
+        return columns;
+    }
+
+    private static PlayerStatsRow row(int playerId, int week, int yards, int touchdowns, int receptions) {
+        return new PlayerStatsRow(null, playerId, week, 2024, 1, BigDecimal.ZERO, yards, touchdowns, 0, 0, 0, receptions);
+    }
+}
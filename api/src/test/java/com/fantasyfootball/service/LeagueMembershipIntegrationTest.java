@@ -0,0 +1,128 @@
+package com.fantasyfootball.service;
+
+import com.fantasyfootball.entity.League;
+import com.fantasyfootball.entity.Player;
+import com.fantasyfootball.entity.Team;
+import com.fantasyfootball.entity.User;
+import com.fantasyfootball.repository.PlayerRepository;
+import com.fantasyfootball.repository.TeamRepository;
+import com.fantasyfootball.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.MountableFile;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A team plays in one league, so roster rules and player availability judge it against
+ * the same league. Runs the Flyway migrations over database/complete_schema.sql, as
+ * league_teams has no entity. Requires Docker for Testcontainers.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true"
+})
+@Testcontainers
+public class LeagueMembershipIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14")
+            .withDatabaseName("fantasy_football_test")
+            .withUsername("test")
+            .withPassword("test")
+            .withCopyFileToContainer(MountableFile.forHostPath("../database/complete_schema.sql"),
+                    "/docker-entrypoint-initdb.d/complete_schema.sql");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private LeagueService leagueService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private PlayerAvailabilityService availabilityService;
+
+    @Autowired
+    private RosterRulesService rosterRulesService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Test
+    void joiningSecondLeague_ShouldBeRejectedAndDropsUpdateTheFirst() {
+        // Given
+        League first = leagueService.createLeague(league("First"));
+        League second = leagueService.createLeague(league("Second"));
+        Team team = teamRepository.save(team());
+        Player quarterback = playerRepository.save(quarterback());
+        leagueService.addTeam(first.getId(), team.getId());
+        teamService.addPlayerToTeam(team.getId(), quarterback.getId(), "QB", BigDecimal.ONE);
+
+        // When
+        assertThrows(TeamInAnotherLeagueException.class, () -> leagueService.addTeam(second.getId(), team.getId()));
+        teamService.removePlayerFromTeam(team.getId(), quarterback.getId());
+
+        // Then
+        assertEquals(first.getId(), rosterRulesService.leagueOf(team.getId()));
+        assertEquals(List.of(), leagueService.getTeamIds(second.getId()));
+        assertFalse(availabilityService.isRosteredInLeague(first.getId(), quarterback.getId()));
+        assertFalse(availabilityService.isRosteredInLeague(second.getId(), quarterback.getId()));
+
+        teamService.addPlayerToTeam(team.getId(), quarterback.getId(), "QB", BigDecimal.ONE);
+        assertTrue(availabilityService.isRosteredInLeague(first.getId(), quarterback.getId()));
+        assertFalse(availabilityService.isRosteredInLeague(second.getId(), quarterback.getId()));
+    }
+
+    private static League league(String name) {
+        League league = new League();
+        league.setName(name);
+        league.setSeason(2024);
+        return league;
+    }
+
+    private Team team() {
+        User owner = new User();
+        owner.setUsername("member");
+        owner.setEmail("member@example.com");
+        owner.setPasswordHash("hash");
+        Team team = new Team();
+        team.setName("Members");
+        team.setOwner(userRepository.save(owner));
+        return team;
+    }
+
+    private static Player quarterback() {
+        Player player = new Player();
+        player.setFirstName("Josh");
+        player.setLastName("Allen");
+        player.setPosition("QB");
+        player.setFantasyPoints(BigDecimal.valueOf(300));
+        player.setIsActive(true);
+        return player;
+    }
+}
@@ -0,0 +1,289 @@
+package com.fantasyfootball.service;
+
+import com.fantasyfootball.dto.LeagueTeamSettings;
+import com.fantasyfootball.entity.League;
+import com.fantasyfootball.entity.LeagueStanding;
+import com.fantasyfootball.entity.Matchup;
+import com.fantasyfootball.event.TeamJoinedLeagueEvent;
+import com.fantasyfootball.league.MatchupOutcome;
+import com.fantasyfootball.repository.LeagueRepository;
+import com.fantasyfootball.repository.LeagueStandingRepository;
+import com.fantasyfootball.repository.MatchupRepository;
+import com.fantasyfootball.repository.TeamPlayerRepository;
+import com.fantasyfootball.repository.TeamRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class LeagueServiceTest {
+
+    @Mock
+    private LeagueRepository leagueRepository;
+
+    @Mock
+    private MatchupRepository matchupRepository;
+
+    @Mock
+    private LeagueStandingRepository standingRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private TeamPlayerRepository teamPlayerRepository;
+
+    @Mock
+    private ScoringService scoringService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private LeagueService leagueService;
+
+    private final Map<Integer, LeagueStanding> standings = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        League league = new League();
+        league.setId(1);
+        league.setName("Test League");
+        league.setSeason(2024);
+        league.setMaxTeams(2);
+        when(leagueRepository.findForUpdate(1)).thenReturn(Optional.of(league));
+        when(standingRepository.findById(any())).thenAnswer(invocation -> {
+            LeagueStanding.Key key = invocation.getArgument(0);
+            return standings.values().stream()
+                    .filter(standing -> key.equals(new LeagueStanding.Key(standing.getLeagueId(), standing.getTeamId())))
+                    .findFirst();
+        });
+        when(standingRepository.save(any())).thenAnswer(invocation -> {
+            LeagueStanding standing = invocation.getArgument(0);
+            standings.put(standing.getTeamId(), standing);
+            return standing;
+        });
+        when(standingRepository.findByLeagueId(1)).thenAnswer(invocation -> List.copyOf(standings.values()));
+    }
+
+    @Test
+    void addTeam_ShouldCreateStandingRankedLastAndPublishEvent() {
+        // Given
+        when(teamRepository.existsById(5)).thenReturn(true);
+        when(leagueRepository.findTeamIds(1)).thenReturn(List.of(4));
+
+        // When
+        leagueService.addTeam(1, 5);
+
+        // Then
+        verify(leagueRepository).addTeam(1, 5);
+        assertEquals(2, standings.get(5).getRank());
+        verify(eventPublisher).publishEvent(new TeamJoinedLeagueEvent(1, 5));
+    }
+
+    @Test
+    void addTeam_WhenLeagueIsFull_ShouldThrow() {
+        // Given
+        when(teamRepository.existsById(6)).thenReturn(true);
+        when(leagueRepository.findTeamIds(1)).thenReturn(List.of(4, 5));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> leagueService.addTeam(1, 6));
+        verify(leagueRepository, never()).addTeam(any(), any());
+    }
+
+    @Test
+    void addTeam_WhenTeamPlaysInAnotherLeague_ShouldThrowWithoutPublishing() {
+        // Given
+        when(teamRepository.existsById(5)).thenReturn(true);
+        when(leagueRepository.findTeamIds(1)).thenReturn(List.of());
+        when(leagueRepository.findLeagueIdByTeamId(5)).thenReturn(Optional.of(2));
+
+        // When & Then
+        assertThrows(TeamInAnotherLeagueException.class, () -> leagueService.addTeam(1, 5));
+        verify(leagueRepository, never()).addTeam(any(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void updateTeam_ShouldEndOldRivalriesOfBothTeamsBeforeSettingTheNewOne() {
+        // Given
+        when(leagueRepository.findTeamIds(1)).thenReturn(List.of(4, 5, 6));
+
+        // When
+        leagueService.updateTeam(1, 4, new LeagueTeamSettings(2, 6));
+
+        // Then
+        InOrder order = inOrder(leagueRepository);
+        order.verify(leagueRepository).setDivision(1, 4, 2);
+        order.verify(leagueRepository).clearRivals(1, List.of(4, 6));
+        order.verify(leagueRepository).setRivals(1, 4, 6);
+    }
+
+    @Test
+    void updateTeam_WithItselfAsRival_ShouldThrow() {
+        // Given
+        when(leagueRepository.findTeamIds(1)).thenReturn(List.of(4, 5));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> leagueService.updateTeam(1, 4, new LeagueTeamSettings(null, 4)));
+        verify(leagueRepository, never()).clearRivals(any(), any());
+    }
+
+    @Test
+    void scheduleMatchup_WhenTeamAlreadyPlaysThatWeek_ShouldThrow() {
+        // Given
+        when(leagueRepository.findTeamIds(1)).thenReturn(List.of(4, 5));
+        when(matchupRepository.countByLeagueIdAndWeekAndTeams(1, 3, List.of(4, 5))).thenReturn(1L);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> leagueService.scheduleMatchup(1, 3, 4, 5));
+        verify(matchupRepository, never()).save(any());
+    }
+
+    @Test
+    void finalizeMatchup_ShouldApplyResultToBothTeamsAndRank() {
+        // Given
+        Matchup matchup = matchup(10, 1, 4, 5);
+        when(matchupRepository.findById(10)).thenReturn(Optional.of(matchup));
+
+        // When
+        leagueService.finalizeMatchup(1, 10, new BigDecimal("120.50"), new BigDecimal("98.00"));
+
+        // Then
+        LeagueStanding home = standings.get(4);
+        LeagueStanding away = standings.get(5);
+        assertTrue(matchup.isFinal());
+        assertEquals(1, home.getWins());
+        assertEquals(1, away.getLosses());
+        assertEquals(new BigDecimal("120.50"), home.getPointsFor());
+        assertEquals(new BigDecimal("120.50"), away.getPointsAgainst());
+        assertEquals("W", home.getStreakResult());
+        assertEquals(1, home.getRank());
+        assertEquals(2, away.getRank());
+        verify(standingRepository).addHeadToHead(1, 4, 5, 1, 0, 0);
+        verify(standingRepository).addHeadToHead(1, 5, 4, 0, 1, 0);
+        verify(matchupRepository, never()).findFinalByLeagueIdAndTeamId(any(), any());
+    }
+
+    @Test
+    void finalizeMatchup_WhenCorrected_ShouldTakeOutThePreviousResult() {
+        // Given
+        Matchup matchup = matchup(10, 1, 4, 5);
+        when(matchupRepository.findById(10)).thenReturn(Optional.of(matchup));
+        leagueService.finalizeMatchup(1, 10, new BigDecimal("120.50"), new BigDecimal("98.00"));
+        when(matchupRepository.findFinalByLeagueIdAndTeamId(eq(1), any())).thenReturn(List.of(matchup));
+
+        // When
+        leagueService.finalizeMatchup(1, 10, new BigDecimal("90.00"), new BigDecimal("98.00"));
+
+        // Then
+        LeagueStanding home = standings.get(4);
+        LeagueStanding away = standings.get(5);
+        assertEquals(0, home.getWins());
+        assertEquals(1, home.getLosses());
+        assertEquals(1, away.getWins());
+        assertEquals(0, away.getLosses());
+        assertEquals(0, new BigDecimal("90.00").compareTo(home.getPointsFor()));
+        assertEquals("L", home.getStreakResult());
+        assertEquals(1, home.getStreakLength());
+        assertEquals(1, away.getRank());
+        verify(standingRepository).addHeadToHead(1, 4, 5, -1, 0, 0);
+        verify(standingRepository).addHeadToHead(1, 4, 5, 0, 1, 0);
+    }
+
+    @Test
+    void finalizeMatchup_OutOfWeekOrder_ShouldRebuildStreakFromTheGames() {
+        // Given
+        Matchup week2 = matchup(11, 2, 4, 5);
+        week2.setHomePoints(new BigDecimal("100.00"));
+        week2.setAwayPoints(new BigDecimal("80.00"));
+        week2.setStatus(Matchup.FINAL);
+        LeagueStanding home = standing(4);
+        home.extendStreak(MatchupOutcome.WIN, 2);
+        LeagueStanding away = standing(5);
+        away.extendStreak(MatchupOutcome.LOSS, 2);
+        Matchup week1 = matchup(10, 1, 4, 5);
+        when(matchupRepository.findById(10)).thenReturn(Optional.of(week1));
+        when(matchupRepository.findFinalByLeagueIdAndTeamId(eq(1), any())).thenReturn(List.of(week2, week1));
+
+        // When
+        leagueService.finalizeMatchup(1, 10, new BigDecimal("110.00"), new BigDecimal("70.00"));
+
+        // Then
+        assertEquals("W", home.getStreakResult());
+        assertEquals(2, home.getStreakLength());
+        assertEquals(2, home.getLastWeek());
+        assertEquals("L", away.getStreakResult());
+        assertEquals(2, away.getStreakLength());
+    }
+
+    @Test
+    void finalizeMatchup_FromAnotherLeague_ShouldThrow() {
+        // Given
+        Matchup matchup = matchup(10, 1, 4, 5);
+        matchup.setLeagueId(2);
+        when(matchupRepository.findById(10)).thenReturn(Optional.of(matchup));
+
+        // When & Then
+        assertThrows(RuntimeException.class,
+                () -> leagueService.finalizeMatchup(1, 10, BigDecimal.ONE, BigDecimal.ZERO));
+        assertFalse(matchup.isFinal());
+    }
+
+    @Test
+    void finalizeWeek_ShouldScoreStartersAndSkipBench() {
+        // Given
+        Matchup matchup = matchup(10, 3, 4, 5);
+        when(matchupRepository.findByLeagueIdAndWeekOrderById(1, 3)).thenReturn(List.of(matchup));
+        when(teamPlayerRepository.findLineupEntriesByLeagueId(1)).thenReturn(List.of(
+                new Object[] {4, 100, "QB", "QB"},
+                new Object[] {4, 101, "RB", "BENCH"},
+                new Object[] {5, 200, "QB", "QB"}));
+        when(scoringService.getPoints(1, 2024, 3, new int[] {100, 200})).thenReturn(new long[] {2_150_000, 1_800_000});
+
+        // When
+        leagueService.finalizeWeek(1, 3);
+
+        // Then
+        assertTrue(matchup.isFinal());
+        assertEquals(1, standings.get(4).getWins());
+        assertEquals(1, standings.get(5).getLosses());
+    }
+
+    private LeagueStanding standing(int teamId) {
+        LeagueStanding standing = new LeagueStanding();
+        standing.setLeagueId(1);
+        standing.setTeamId(teamId);
+        standings.put(teamId, standing);
+        return standing;
+    }
+
+    private static Matchup matchup(int id, int week, int homeTeamId, int awayTeamId) {
+        Matchup matchup = new Matchup();
+        matchup.setId(id);
+        matchup.setLeagueId(1);
+        matchup.setWeek(week);
+        matchup.setHomeTeamId(homeTeamId);
+        matchup.setAwayTeamId(awayTeamId);
+        return matchup;
+    }
+}
@@ -0,0 +1,152 @@
+package com.fantasyfootball.service;
+
+import com.fantasyfootball.dto.PlayerSummary;
+import com.fantasyfootball.entity.Player;
+import com.fantasyfootball.event.PlayerChangedEvent;
+import com.fantasyfootball.event.RosterChangedEvent;
+import com.fantasyfootball.index.PlayerFacetIndex;
+import com.fantasyfootball.repository.TeamPlayerRepository;
+import com.fantasyfootball.repository.TeamRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PlayerAvailabilityServiceTest {
+
+    @Mock
+    private TeamPlayerRepository teamPlayerRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private PlayerIndexService playerIndexService;
+
+    @Spy
+    private PlayerFacetIndex playerFacetIndex = new PlayerFacetIndex();
+
+    @InjectMocks
+    private PlayerAvailabilityService availabilityService;
+
+    @BeforeEach
+    void setUp() {
+        playerFacetIndex.rebuild(Arrays.asList(
+                player(1, "RB", 250),
+                player(2, "RB", 200),
+                player(3, "WR", 220),
+                player(4, "RB", 150)
+        ));
+        // Teams 10 and 11 play in league 100, team 12 is in league 200
+        when(teamRepository.findAllLeagueAssignments()).thenReturn(Arrays.asList(
+                new Object[]{10, 100}, new Object[]{11, 100}, new Object[]{12, 200}));
+        when(teamPlayerRepository.findAllTeamAndPlayerIds()).thenReturn(Arrays.asList(
+                new Object[]{10, 1}, new Object[]{11, 3}, new Object[]{12, 2}));
+        lenient().when(playerIndexService.isReady()).thenReturn(true);
+        availabilityService.load();
+    }
+
+    @Test
+    void getAvailablePlayersInLeague_ShouldExcludePlayersRosteredByAnyLeagueTeam() {
+        // When
+        List<PlayerSummary> result = availabilityService.getAvailablePlayersInLeague(100, null, "points", 10);
+
+        // Then
+        assertEquals(List.of(2, 4), ids(result));
+    }
+
+    @Test
+    void getAvailablePlayersForTeam_ShouldUseTheTeamsLeagueAndPositionFilter() {
+        // When
+        List<PlayerSummary> result = availabilityService.getAvailablePlayersForTeam(12, List.of("RB"), "points", 10);
+
+        // Then
+        assertEquals(List.of(1, 4), ids(result));
+    }
+
+    @Test
+    void onRosterChanged_ShouldUpdateLeagueBitmap() {
+        // When
+        availabilityService.onRosterChanged(RosterChangedEvent.added(11, 2));
+        availabilityService.onRosterChanged(RosterChangedEvent.removed(10, 1));
+
+        // Then
+        assertEquals(List.of(1, 4), ids(availabilityService.getAvailablePlayersInLeague(100, List.of("RB"), "points", 10)));
+        assertTrue(availabilityService.isRosteredInLeague(100, 2));
+    }
+
+    @Test
+    void onRosterChanged_WhenTeamDeleted_ShouldReleaseItsPlayers() {
+        // When
+        availabilityService.onRosterChanged(RosterChangedEvent.cleared(11));
+
+        // Then
+        assertFalse(availabilityService.isRosteredInLeague(100, 3));
+        assertTrue(availabilityService.isRosteredInLeague(100, 1));
+    }
+
+    @Test
+    void onPlayerChanged_WhenPlayerDeleted_ShouldDropFromEveryRoster() {
+        // When
+        availabilityService.onPlayerChanged(PlayerChangedEvent.deleted(2));
+
+        // Then
+        assertFalse(availabilityService.isRosteredInLeague(200, 2));
+    }
+
+    @Test
+    void load_ShouldReplayRosterChangesThatArriveWhileItQueries() {
+        // Given
+        when(teamPlayerRepository.findAllTeamAndPlayerIds()).thenAnswer(invocation -> {
+            availabilityService.onRosterChanged(RosterChangedEvent.added(10, 4));
+            availabilityService.onTeamJoinedLeague(13, 100);
+            availabilityService.onRosterChanged(RosterChangedEvent.added(13, 2));
+            return Arrays.asList(new Object[]{10, 1}, new Object[]{11, 3}, new Object[]{12, 2});
+        });
+
+        // When
+        availabilityService.load();
+
+        // Then
+        assertTrue(availabilityService.isRosteredInLeague(100, 4));
+        assertTrue(availabilityService.isRosteredInLeague(100, 2));
+        assertTrue(availabilityService.isRosteredInLeague(100, 1));
+        assertEquals(List.of(), ids(availabilityService.getAvailablePlayersInLeague(100, List.of("RB"), "points", 10)));
+    }
+
+    @Test
+    void getAvailablePlayersInLeague_WhenNotLoaded_ShouldThrow() {
+        // Given
+        when(playerIndexService.isReady()).thenReturn(false);
+
+        // When & Then
+        assertThrows(IllegalStateException.class,
+                () -> availabilityService.getAvailablePlayersInLeague(100, null, "points", 10));
+    }
+
+    private static List<Integer> ids(List<PlayerSummary> players) {
+        return players.stream().map(PlayerSummary::id).toList();
+    }
+
+    private static Player player(int id, String position, int points) {
+        Player player = new Player();
+        player.setId(id);
+        player.setFirstName("Player");
+        player.setLastName(String.valueOf(id));
+        player.setPosition(position);
+        player.setFantasyPoints(BigDecimal.valueOf(points));
+        player.setIsActive(true);
+        return player;
+    }
+}
@@ -0,0 +1,109 @@
+package com.fantasyfootball.service;
+
+import com.fantasyfootball.dto.CursorPage;
+import com.fantasyfootball.dto.PlayerSummary;
+import com.fantasyfootball.entity.Player;
+import com.fantasyfootball.repository.PlayerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Walks GET /players/page cursors over players without fantasy points or a last name,
+ * which the keyset queries order as 0 and '' respectively. Requires Docker for
+ * Testcontainers.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+@Testcontainers
+public class PlayerPageIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14")
+            .withDatabaseName("fantasy_football_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    private Player first;
+    private Player second;
+    private Player unscored;
+    private Player scoreless;
+    private Player unnamed;
+
+    @BeforeEach
+    void setUp() {
+        playerRepository.deleteAll();
+        first = playerRepository.save(player("Josh", "Allen", 300));
+        second = playerRepository.save(player("James", "Cook", 200));
+        unscored = playerRepository.save(player("Dalton", "Kincaid", null));
+        scoreless = playerRepository.save(player("Ty", "Johnson", 0));
+        unnamed = playerRepository.save(player("Khalil", null, -2));
+    }
+
+    // ties on 0 break by id, and the page of three ends between the two 0-point players
+    @Test
+    void pointsPages_ShouldKeepPlayersWithoutPointsAcrossPageBoundary() {
+        // When
+        List<Integer> ids = walk("points", 3);
+
+        // Then
+        assertEquals(List.of(first.getId(), second.getId(), unscored.getId(), scoreless.getId(), unnamed.getId()), ids);
+    }
+
+    @Test
+    void namePages_ShouldKeepPlayersWithoutNameAcrossPageBoundary() {
+        // When
+        List<Integer> ids = walk("name", 1);
+
+        // Then
+        assertEquals(List.of(unnamed.getId(), first.getId(), second.getId(), scoreless.getId(), unscored.getId()), ids);
+    }
+
+    private List<Integer> walk(String sort, int size) {
+        List<Integer> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<PlayerSummary> page = playerService.getPlayerPage(sort, cursor, size, false);
+            page.items().forEach(summary -> ids.add(summary.id()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private static Player player(String firstName, String lastName, Integer points) {
+        Player player = new Player();
+        player.setFirstName(firstName);
+        player.setLastName(lastName);
+        player.setPosition("TE");
+        player.setFantasyPoints(points != null ? BigDecimal.valueOf(points) : null);
+        player.setIsActive(true);
+        return player;
+    }
+}
@@ -0,0 +1,122 @@
+package com.fantasyfootball.service;
+
+import com.fantasyfootball.entity.NflTeam;
+import com.fantasyfootball.entity.Player;
+import com.fantasyfootball.event.PlayerChangedEvent;
+import com.fantasyfootball.repository.NflTeamRepository;
+import com.fantasyfootball.repository.PlayerRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PlayerServiceTest {
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private NflTeamRepository nflTeamRepository;
+
+    @Mock
+    private RosterDocumentService rosterDocumentService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private PlayerService playerService;
+
+    @Test
+    void updatePlayer_WithIdOnlyNflTeam_ShouldSaveAndPublishTheManagedTeam() {
+        // Given
+        Player stored = player(7, null);
+        NflTeam bills = nflTeam(2, "BUF");
+        when(playerRepository.findById(7)).thenReturn(Optional.of(stored));
+        when(nflTeamRepository.findById(2)).thenReturn(Optional.of(bills));
+        when(rosterDocumentService.lockTeamsOfPlayer(7)).thenReturn(List.of());
+        when(playerRepository.save(stored)).thenReturn(stored);
+
+        // When
+        Player updated = playerService.updatePlayer(7, player(null, nflTeam(2, null)));
+
+        // Then
+        assertSame(bills, updated.getNflTeam());
+        ArgumentCaptor<PlayerChangedEvent> event = ArgumentCaptor.forClass(PlayerChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals("BUF", event.getValue().player().getNflTeam().getAbbreviation());
+    }
+
+    @Test
+    void savePlayer_WithUnknownNflTeam_ShouldThrowWithoutSaving() {
+        // Given
+        when(nflTeamRepository.findById(99)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> playerService.savePlayer(player(null, nflTeam(99, null))));
+        verify(playerRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void updateFantasyPoints_WhenPointsChange_ShouldSaveAndPublish() {
+        // Given
+        Player stored = player(7, null);
+        stored.setFantasyPoints(new BigDecimal("10.00"));
+        when(playerRepository.findById(7)).thenReturn(Optional.of(stored));
+        when(rosterDocumentService.lockTeamsOfPlayer(7)).thenReturn(List.of(3));
+        when(playerRepository.save(stored)).thenReturn(stored);
+
+        // When
+        playerService.updateFantasyPoints(7, new BigDecimal("24.50"));
+
+        // Then
+        assertEquals(new BigDecimal("24.50"), stored.getFantasyPoints());
+        verify(rosterDocumentService).refreshTeams(stored, List.of(3));
+        verify(eventPublisher).publishEvent(PlayerChangedEvent.saved(stored));
+    }
+
+    @Test
+    void updateFantasyPoints_WhenPointsAreUnchanged_ShouldWriteNothing() {
+        // Given
+        Player stored = player(7, null);
+        stored.setFantasyPoints(new BigDecimal("24.50"));
+        when(playerRepository.findById(7)).thenReturn(Optional.of(stored));
+
+        // When
+        playerService.updateFantasyPoints(7, new BigDecimal("24.5"));
+
+        // Then
+        verify(playerRepository, never()).save(any());
+        verifyNoInteractions(rosterDocumentService, eventPublisher);
+    }
+
+    private static Player player(Integer id, NflTeam nflTeam) {
+        Player player = new Player();
+        player.setId(id);
+        player.setFirstName("Josh");
+        player.setLastName("Allen");
+        player.setPosition("QB");
+        player.setNflTeam(nflTeam);
+        return player;
+    }
+
+    private static NflTeam nflTeam(Integer id, String abbreviation) {
+        NflTeam team = new NflTeam();
+        team.setId(id);
+        team.setAbbreviation(abbreviation);
+        return team;
+    }
+}
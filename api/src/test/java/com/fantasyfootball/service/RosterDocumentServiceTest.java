@@ -0,0 +1,209 @@
+package com.fantasyfootball.service;
+
+import com.fantasyfootball.entity.Player;
+import com.fantasyfootball.entity.TeamPlayer;
+import com.fantasyfootball.repository.TeamPlayerRepository;
+import com.fantasyfootball.repository.TeamRepository;
+import com.fantasyfootball.repository.TeamRosterDocumentRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RosterDocumentServiceTest {
+
+    @Mock
+    private TeamRosterDocumentRepository documentRepository;
+
+    @Mock
+    private TeamPlayerRepository teamPlayerRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @InjectMocks
+    private RosterDocumentService rosterDocumentService;
+
+    @Captor
+    private ArgumentCaptor<byte[]> document;
+
+    @Test
+    void getDocument_WhenStored_ShouldReturnItWithoutReadingTheRoster() {
+        // Given
+        byte[] stored = "[{\"id\":7}]".getBytes(StandardCharsets.UTF_8);
+        when(documentRepository.findDocumentByTeamId(1)).thenReturn(Optional.of(stored));
+
+        // When
+        byte[] document = rosterDocumentService.getDocument(1);
+
+        // Then
+        assertSame(stored, document);
+        verifyNoInteractions(teamPlayerRepository);
+        verify(documentRepository, never()).insertIfAbsent(anyInt(), any(byte[].class));
+    }
+
+    @Test
+    void getDocument_WhenMissing_ShouldBuildItWithoutStoringOrLocking() throws Exception {
+        // Given
+        when(documentRepository.findDocumentByTeamId(1)).thenReturn(Optional.empty());
+        when(teamRepository.existsById(1)).thenReturn(true);
+        when(teamPlayerRepository.findByTeamIdWithPlayerDetails(1)).thenReturn(List.of(teamPlayer(7, "Allen")));
+
+        // When
+        byte[] document = rosterDocumentService.getDocument(1);
+
+        // Then
+        JsonNode roster = objectMapper.readTree(document);
+        assertEquals(1, roster.size());
+        assertEquals("Allen", roster.get(0).get("player").get("lastName").asText());
+        assertEquals("QB", roster.get(0).get("rosterPosition").asText());
+        verify(documentRepository, never()).lockTeam(anyInt());
+        verify(documentRepository, never()).insertIfAbsent(anyInt(), any(byte[].class));
+        verify(documentRepository, never()).upsert(anyInt(), any(byte[].class));
+    }
+
+    @Test
+    void getDocument_ForUnknownTeam_ShouldReturnEmptyRoster() {
+        // Given
+        when(documentRepository.findDocumentByTeamId(99)).thenReturn(Optional.empty());
+        when(teamRepository.existsById(99)).thenReturn(false);
+
+        // When
+        byte[] document = rosterDocumentService.getDocument(99);
+
+        // Then
+        assertEquals("[]", new String(document, StandardCharsets.UTF_8));
+        verifyNoInteractions(teamPlayerRepository);
+    }
+
+    @Test
+    void refresh_ShouldFlushThenOverwriteTheDocument() throws Exception {
+        // Given
+        when(teamPlayerRepository.findByTeamIdWithPlayerDetails(1)).thenReturn(List.of(teamPlayer(7, "Allen")));
+
+        // When
+        rosterDocumentService.refresh(1);
+
+        // Then
+        InOrder order = inOrder(entityManager, documentRepository, teamPlayerRepository);
+        order.verify(entityManager).flush();
+        order.verify(documentRepository).lockTeam(1);
+        order.verify(teamPlayerRepository).findByTeamIdWithPlayerDetails(1);
+        order.verify(documentRepository).upsert(eq(1), argThat(document -> new String(document, StandardCharsets.UTF_8).contains("\"lastName\":\"Allen\"")));
+    }
+
+    @Test
+    void refresh_ShouldStoreValuesAsTheColumnsDo() throws Exception {
+        // Given
+        TeamPlayer entry = teamPlayer(7, "Allen");
+        entry.setCost(new BigDecimal("1.005"));
+        entry.setAcquisitionDate(LocalDateTime.of(2024, 9, 8, 13, 0, 0, 123_456_500));
+        when(teamPlayerRepository.findByTeamIdWithPlayerDetails(1)).thenReturn(List.of(entry));
+
+        // When
+        rosterDocumentService.refresh(1);
+
+        // Then
+        verify(documentRepository).upsert(eq(1), document.capture());
+        JsonNode stored = objectMapper.readTree(document.getValue()).get(0);
+        assertEquals("1.01", stored.get("cost").decimalValue().toPlainString());
+        assertEquals("2024-09-08T13:00:00.123457", stored.get("acquisitionDate").asText());
+    }
+
+    @Test
+    void refreshTeams_ShouldReloadThePlayerThenRewriteEachLockedTeam() {
+        // Given
+        Player player = new Player();
+        player.setId(7);
+        when(teamPlayerRepository.findByTeamIdWithPlayerDetails(anyInt())).thenReturn(List.of(teamPlayer(7, "Allen")));
+
+        // When
+        rosterDocumentService.refreshTeams(player, List.of(1, 3));
+
+        // Then
+        InOrder order = inOrder(entityManager, documentRepository);
+        order.verify(entityManager).flush();
+        order.verify(entityManager).refresh(player);
+        order.verify(documentRepository).upsert(eq(1), any(byte[].class));
+        order.verify(documentRepository).upsert(eq(3), any(byte[].class));
+        verify(documentRepository, never()).lockTeam(anyInt());
+    }
+
+    @Test
+    void refreshTeams_ForPlayerOnNoTeam_ShouldWriteNothing() {
+        // When
+        rosterDocumentService.refreshTeams(List.of());
+
+        // Then
+        verifyNoInteractions(entityManager, documentRepository, teamPlayerRepository);
+    }
+
+    @Test
+    void backfill_ShouldStoreDocumentsOfTeamsWithoutOne() {
+        // Given
+        ReflectionTestUtils.setField(rosterDocumentService, "backfillBatchSize", 2);
+        when(transactionManager.getTransaction(any(TransactionDefinition.class))).thenReturn(new SimpleTransactionStatus());
+        when(documentRepository.findTeamIdsWithoutDocument(2)).thenReturn(List.of(1, 2)).thenReturn(List.of(5));
+        when(documentRepository.lockTeam(1)).thenReturn(List.of(1));
+        when(documentRepository.lockTeam(2)).thenReturn(List.of());
+        when(documentRepository.lockTeam(5)).thenReturn(List.of(5));
+        when(teamPlayerRepository.findByTeamIdWithPlayerDetails(anyInt())).thenReturn(List.of());
+
+        // When
+        rosterDocumentService.backfill();
+
+        // Then
+        verify(documentRepository, times(2)).findTeamIdsWithoutDocument(2);
+        verify(documentRepository).insertIfAbsent(eq(1), any(byte[].class));
+        verify(documentRepository).insertIfAbsent(eq(5), any(byte[].class));
+        verify(documentRepository, never()).insertIfAbsent(eq(2), any(byte[].class));
+        verify(transactionManager, times(2)).commit(any(TransactionStatus.class));
+    }
+
+    private static TeamPlayer teamPlayer(int playerId, String lastName) {
+        Player player = new Player();
+        player.setId(playerId);
+        player.setLastName(lastName);
+        player.setPosition("QB");
+        TeamPlayer teamPlayer = new TeamPlayer();
+        teamPlayer.setId(playerId * 10);
+        teamPlayer.setPlayer(player);
+        teamPlayer.setRosterPosition("QB");
+        return teamPlayer;
+    }
+}
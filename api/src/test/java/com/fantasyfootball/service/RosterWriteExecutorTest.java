@@ -0,0 +1,133 @@
+package com.fantasyfootball.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RosterWriteExecutorTest {
+
+    private RosterWriteExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new RosterWriteExecutor();
+        ReflectionTestUtils.setField(executor, "stripeCount", 4);
+        ReflectionTestUtils.setField(executor, "queueCapacity", 2);
+        executor.startExecutors();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.stopExecutors();
+    }
+
+    @Test
+    void submit_ForOneTeam_ShouldRunWritesOneAtATimeInOrder() {
+        // Given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        List<Integer> order = new ArrayList<>();
+
+        // When
+        List<CompletableFuture<Integer>> writes = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            int write = i;
+            writes.add(executor.submit(7, () -> {
+                if (running.incrementAndGet() > 1) {
+                    overlaps.incrementAndGet();
+                }
+                sleep(20);
+                order.add(write);
+                running.decrementAndGet();
+                return write;
+            }));
+        }
+        CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new)).join();
+
+        // Then
+        assertEquals(0, overlaps.get());
+        assertEquals(List.of(0, 1, 2), order);
+        assertEquals(2, writes.get(2).join());
+    }
+
+    @Test
+    void submit_ForTeamsOnOtherStripes_ShouldRunInParallel() throws Exception {
+        // Given
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        // When
+        CompletableFuture<Boolean> first = executor.submit(1, () -> awaitOther(bothStarted));
+        CompletableFuture<Boolean> second = executor.submit(2, () -> awaitOther(bothStarted));
+
+        // Then
+        assertTrue(first.get(5, TimeUnit.SECONDS));
+        assertTrue(second.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void submit_WhenTheWriteFails_ShouldCompleteExceptionallyAndKeepTheStripeRunning() {
+        // Given
+        CompletableFuture<Object> failed = executor.submit(3, () -> {
+            throw new IllegalArgumentException("Roster position QB is full (max: 1)");
+        });
+
+        // When
+        CompletionException thrown = assertThrows(CompletionException.class, failed::join);
+
+        // Then
+        assertInstanceOf(IllegalArgumentException.class, thrown.getCause());
+        assertEquals("next", executor.submit(3, () -> "next").join());
+    }
+
+    @Test
+    void submit_WhenTheStripeQueueIsFull_ShouldRejectTheWrite() {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> blocked = executor.submit(5, () -> await(release));
+        sleep(50);
+        executor.submit(5, () -> true);
+        executor.submit(9, () -> true);
+
+        // When
+        CompletableFuture<Boolean> rejected = executor.submit(5, () -> true);
+
+        // Then
+        CompletionException thrown = assertThrows(CompletionException.class, rejected::join);
+        assertInstanceOf(RosterWriteRejectedException.class, thrown.getCause());
+        release.countDown();
+        assertTrue(blocked.join());
+    }
+
+    private static boolean awaitOther(CountDownLatch bothStarted) {
+        bothStarted.countDown();
+        return await(bothStarted);
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
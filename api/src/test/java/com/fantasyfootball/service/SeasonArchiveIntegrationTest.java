@@ -0,0 +1,136 @@
+package com.fantasyfootball.service;
+
+import com.fantasyfootball.dto.PlayerStatsView;
+import com.fantasyfootball.dto.PlayerWithStatsView;
+import com.fantasyfootball.entity.Player;
+import com.fantasyfootball.repository.PlayerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.MountableFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Archives a season, dropping its {@code player_stats} partition, and reads the player
+ * back with stats and exports the season. Runs the Flyway migrations over database/complete_schema.sql so
+ * {@code player_stats} is partitioned by season. Requires Docker for Testcontainers.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true"
+})
+@Testcontainers
+public class SeasonArchiveIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14")
+            .withDatabaseName("fantasy_football_test")
+            .withUsername("test")
+            .withPassword("test")
+            .withCopyFileToContainer(MountableFile.forHostPath("../database/complete_schema.sql"),
+                    "/docker-entrypoint-initdb.d/complete_schema.sql");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) throws IOException {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("fantasy.archive.directory", Files.createTempDirectory("season-archive")::toString);
+    }
+
+    @Autowired
+    private SeasonArchiveService seasonArchiveService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ExportService exportService;
+
+    @Test
+    void getPlayerWithStats_AfterArchivingSeason_ShouldListArchivedAndLiveWeeks() {
+        // Given
+        Player player = playerRepository.save(quarterback());
+        String insert = "INSERT INTO player_stats (player_id, week, season, games_played, points_scored, touchdowns) " +
+                "VALUES (?, ?, ?, 1, ?, ?)";
+        jdbcTemplate.update(insert, player.getId(), 1, 2022, new BigDecimal("21.50"), 2);
+        jdbcTemplate.update(insert, player.getId(), 2, 2022, new BigDecimal("14.25"), 1);
+        jdbcTemplate.update(insert, player.getId(), 1, 2024, new BigDecimal("30.00"), 3);
+
+        // When
+        seasonArchiveService.archiveSeason(2022);
+        PlayerWithStatsView view = playerService.getPlayerWithStats(player.getId()).orElseThrow();
+
+        // Then
+        assertNull(jdbcTemplate.queryForObject("SELECT to_regclass('player_stats_2022')::text", String.class));
+        List<PlayerStatsView> stats = view.playerStats();
+        assertEquals(3, stats.size());
+        assertEquals(List.of(2022, 2022, 2024), stats.stream().map(PlayerStatsView::season).toList());
+        assertEquals(List.of(1, 2, 1), stats.stream().map(PlayerStatsView::week).toList());
+        assertEquals(new BigDecimal("14.25"), stats.get(1).pointsScored());
+        assertEquals(1, stats.get(1).touchdowns());
+        assertNull(stats.get(0).id());
+    }
+
+    @Test
+    void exportPlayerStats_AfterArchivingSeason_ShouldStreamArchivedRows() throws Exception {
+        // Given
+        Player player = playerRepository.save(quarterback());
+        String insert = "INSERT INTO player_stats (player_id, week, season, games_played, points_scored, touchdowns) " +
+                "VALUES (?, ?, ?, 1, ?, ?)";
+        jdbcTemplate.update(insert, player.getId(), 1, 2021, new BigDecimal("18.00"), 1);
+        jdbcTemplate.update(insert, player.getId(), 3, 2021, new BigDecimal("9.50"), 0);
+        jdbcTemplate.update(insert, player.getId(), 1, 2025, new BigDecimal("30.00"), 3);
+        seasonArchiveService.archiveSeason(2021);
+
+        // When
+        ByteArrayOutputStream archived = new ByteArrayOutputStream();
+        long archivedCount = exportService.exportPlayerStats(2021, archived);
+        ByteArrayOutputStream all = new ByteArrayOutputStream();
+        exportService.exportPlayerStats(null, all);
+
+        // Then
+        List<String> lines = archived.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(2, archivedCount);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(1).contains("\"week\":3"));
+        assertTrue(lines.get(1).contains("\"pointsScored\":9.50"));
+        List<String> mine = all.toString(StandardCharsets.UTF_8).lines()
+                .filter(line -> line.contains("\"playerId\":" + player.getId() + ","))
+                .toList();
+        assertEquals(3, mine.size());
+        assertTrue(mine.get(0).contains("\"season\":2025"));
+        assertTrue(mine.get(2).contains("\"season\":2021"));
+    }
+
+    private static Player quarterback() {
+        Player player = new Player();
+        player.setFirstName("Josh");
+        player.setLastName("Allen");
+        player.setPosition("QB");
+        player.setIsActive(true);
+        return player;
+    }
+}
@@ -0,0 +1,137 @@
+package com.fantasyfootball.service;
+
+import com.fantasyfootball.dto.PlayerStatsRow;
+import com.fantasyfootball.dto.SeasonSummaryView;
+import com.fantasyfootball.entity.PlayerSeasonSummary;
+import com.fantasyfootball.repository.PlayerSeasonSummaryRepository;
+import com.fantasyfootball.repository.PlayerStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SeasonSummaryServiceTest {
+
+    @Mock
+    private PlayerSeasonSummaryRepository summaryRepository;
+
+    @Mock
+    private PlayerStatsRepository playerStatsRepository;
+
+    @InjectMocks
+    private SeasonSummaryService summaryService;
+
+    private PlayerSeasonSummary summary;
+
+    @BeforeEach
+    void setUp() {
+        summary = new PlayerSeasonSummary();
+        summary.setPlayerId(1);
+        summary.setSeason(2024);
+        lenient().when(summaryRepository.findForUpdate(1, 2024)).thenReturn(Optional.of(summary));
+    }
+
+    @Test
+    void apply_ShouldMatchFullAggregationAfterInsertsAndCorrections() {
+        // Given
+        Random random = new Random(7);
+        TreeMap<Integer, BigDecimal> weeks = new TreeMap<>();
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            int week = 1 + random.nextInt(17);
+            BigDecimal points = BigDecimal.valueOf(random.nextInt(4000), 2);
+            BigDecimal previous = weeks.put(week, points);
+            summaryService.apply(previous != null ? row(week, previous) : null, row(week, points));
+        }
+
+        // Then
+        double mean = weeks.values().stream().mapToDouble(BigDecimal::doubleValue).average().orElse(0);
+        double squares = weeks.values().stream().mapToDouble(p -> Math.pow(p.doubleValue() - mean, 2)).sum();
+        assertEquals(weeks.size(), summary.getWeeksPlayed());
+        assertEquals(weeks.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add), summary.getTotalPoints());
+        assertEquals(weeks.size() * 10, summary.getTotalYards());
+        assertEquals(mean, summary.getMeanPoints(), 1e-9);
+        assertEquals(Math.sqrt(squares / (weeks.size() - 1)), summary.getPointsStdDev(), 1e-9);
+        assertArrayEquals(weeks.descendingKeySet().stream().limit(3).mapToInt(Integer::intValue).toArray(),
+                summary.getRecentWeeks());
+        verify(playerStatsRepository, never()).findRecentWeekPoints(anyInt(), anyInt(), any());
+    }
+
+    @Test
+    void apply_WhenRecentWeekDeleted_ShouldRefillFromPlayerStats() {
+        // Given
+        for (int week = 1; week <= 5; week++) {
+            summaryService.apply(null, row(week, BigDecimal.valueOf(week * 10)));
+        }
+        when(playerStatsRepository.findRecentWeekPoints(eq(1), eq(2024), any())).thenReturn(Arrays.asList(
+                new Object[]{4, new BigDecimal("40")}, new Object[]{3, new BigDecimal("30")},
+                new Object[]{2, new BigDecimal("20")}));
+
+        // When
+        summaryService.apply(row(5, new BigDecimal("50")), null);
+
+        // Then
+        assertEquals(4, summary.getWeeksPlayed());
+        assertEquals(25.0, summary.getMeanPoints(), 1e-9);
+        assertArrayEquals(new int[]{4, 3, 2}, summary.getRecentWeeks());
+        SeasonSummaryView view = SeasonSummaryView.from(summary);
+        assertEquals(new BigDecimal("30.00"), view.recentPointsPerWeek());
+        assertEquals(new BigDecimal("12.91"), view.pointsStdDev());
+    }
+
+    @Test
+    void apply_WhenOlderWeekDeleted_ShouldNotReadPlayerStats() {
+        // Given
+        for (int week = 1; week <= 5; week++) {
+            summaryService.apply(null, row(week, BigDecimal.valueOf(week * 10)));
+        }
+
+        // When
+        summaryService.apply(row(1, new BigDecimal("10")), null);
+
+        // Then
+        assertArrayEquals(new int[]{5, 4, 3}, summary.getRecentWeeks());
+        assertEquals(35.0, summary.getMeanPoints(), 1e-9);
+        verify(playerStatsRepository, never()).findRecentWeekPoints(anyInt(), anyInt(), any());
+    }
+
+    @Test
+    void apply_WhenLastWeekDeleted_ShouldDeleteSummary() {
+        // Given
+        summaryService.apply(null, row(3, new BigDecimal("12.50")));
+
+        // When
+        summaryService.apply(row(3, new BigDecimal("12.50")), null);
+
+        // Then
+        assertEquals(0, summary.getWeeksPlayed());
+        assertEquals(0, summary.getTotalPoints().signum());
+        verify(summaryRepository).delete(summary);
+    }
+
+    @Test
+    void rebuildSeasons_WhenNoSeasons_ShouldSkipQuery() {
+        // When & Then
+        assertEquals(0, summaryService.rebuildSeasons(List.of()));
+        verify(summaryRepository, never()).rebuildSeasons(any());
+    }
+
+    private static PlayerStatsRow row(int week, BigDecimal points) {
+        return new PlayerStatsRow(null, 1, week, 2024, 1, points, 10, 0, 0, 0, 0, 0);
+    }
+}
@@ -92,7 +92,7 @@ public class TeamServiceTest {
     @Test
     void getTeamById_WhenTeamExists_ShouldReturnTeam() {
         // Given
-        when(teamRepository.findById(1)).thenReturn(Optional.of(testTeam));
+        when(teamRepository.findByIdWithOwner(1)).thenReturn(Optional.of(testTeam));
 
         // When
         Optional<Team> result = teamService.getTeamById(1);
@@ -106,7 +106,7 @@ public class TeamServiceTest {
     @Test
     void getTeamById_WhenTeamNotExists_ShouldReturnEmpty() {
         // Given
-        when(teamRepository.findById(999)).thenReturn(Optional.empty());
+        when(teamRepository.findByIdWithOwner(999)).thenReturn(Optional.empty());
 
         // When
         Optional<Team> result = teamService.getTeamById(999);
@@ -0,0 +1,84 @@
+package com.fantasyfootball.service;
+
+import com.fantasyfootball.event.PlayerChangedEvent;
+import com.fantasyfootball.event.RosterChangedEvent;
+import com.fantasyfootball.event.TeamChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TeamVersionServiceTest {
+
+    private TeamVersionService versions;
+
+    @BeforeEach
+    void setUp() {
+        versions = new TeamVersionService();
+    }
+
+    @Test
+    void etag_ShouldChangeOnlyForTheChangedTeam() {
+        // Given
+        String team1 = versions.etag(1);
+        String team2 = versions.etag(2);
+
+        // When
+        versions.onRosterChanged(RosterChangedEvent.moved(1, 10));
+
+        // Then
+        assertNotEquals(team1, versions.etag(1));
+        assertEquals(team2, versions.etag(2));
+    }
+
+    @Test
+    void etag_ShouldNeverRepeatForATeam() {
+        // Given
+        Set<String> seen = new HashSet<>();
+        seen.add(versions.etag(1));
+
+        // When
+        versions.onRosterChanged(RosterChangedEvent.added(1, 10));
+        boolean afterRoster = seen.add(versions.etag(1));
+        versions.onTeamChanged(new TeamChangedEvent(1));
+        boolean afterTeam = seen.add(versions.etag(1));
+        versions.onPlayerChanged(PlayerChangedEvent.deleted(10));
+        boolean afterPlayer = seen.add(versions.etag(1));
+        versions.onRosterChanged(RosterChangedEvent.cleared(1));
+        boolean afterDelete = seen.add(versions.etag(1));
+
+        // Then
+        assertTrue(afterRoster && afterTeam && afterPlayer && afterDelete);
+    }
+
+    @Test
+    void onPlayerChanged_ShouldMoveEveryTeam() {
+        // Given
+        versions.onRosterChanged(RosterChangedEvent.added(1, 10));
+        String changed = versions.etag(1);
+        String unchanged = versions.etag(2);
+
+        // When
+        versions.onPlayerChanged(PlayerChangedEvent.deleted(10));
+
+        // Then
+        assertNotEquals(changed, versions.etag(1));
+        assertNotEquals(unchanged, versions.etag(2));
+    }
+
+    @Test
+    void etag_ShouldDifferAcrossRestarts() throws InterruptedException {
+        // Given
+        String before = versions.etag(1);
+        Thread.sleep(5);
+
+        // When
+        String after = new TeamVersionService().etag(1);
+
+        // Then
+        assertNotEquals(before, after);
+    }
+}
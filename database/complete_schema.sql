@@ -1,6 +1,13 @@
 -- Complete PostgreSQL Database Schema for Fantasy Football Management Application
 -- Updated with ESPN API integration and all current modifications
 -- This represents the current state of the database as of 2025-08-17
+--
+-- This is version 1 of the schema. Later changes live only in the API's Flyway
+-- migrations (api/src/main/resources/db/migration, V2 onwards), which the API applies
+-- on startup: Flyway baselines a database loaded from this file at version 1 and runs
+-- the rest. The migrations are written to apply cleanly over this file, not to be
+-- contained in it. To start over, recreate the database rather than rerunning this
+-- file, which does not drop the tables or the Flyway history the migrations add.
 
 -- Create database (run this separately as superuser)
 -- CREATE DATABASE fantasy_football;
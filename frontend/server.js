@@ -16,6 +16,37 @@ app.use(express.static(path.join(__dirname, 'public')));
 app.set('view engine', 'ejs');
 app.set('views', path.join(__dirname, 'views'));
 
+// Team and roster responses carry an ETag that only changes when the team does, so the
+// last body is kept and revalidated with If-None-Match; a 304 costs the API no queries.
+// The cache is least recently used first (a Map iterates in insertion order, and a hit is
+// re-inserted), and the oldest entry goes once it holds more than ETAG_CACHE_SIZE.
+const ETAG_CACHE_SIZE = parseInt(process.env.ETAG_CACHE_SIZE, 10) || 500;
+const etagCache = new Map();
+
+function rememberEtag(url, entry) {
+    etagCache.delete(url);
+    etagCache.set(url, entry);
+    if (etagCache.size > ETAG_CACHE_SIZE) {
+        etagCache.delete(etagCache.keys().next().value);
+    }
+}
+
+async function getWithEtag(url) {
+    const cached = etagCache.get(url);
+    const response = await axios.get(url, {
+        headers: cached ? { 'If-None-Match': cached.etag } : {},
+        validateStatus: status => (status >= 200 && status < 300) || status === 304
+    });
+    if (response.status === 304 && cached) {
+        rememberEtag(url, cached);
+        return cached.data;
+    }
+    if (response.headers.etag) {
+        rememberEtag(url, { etag: response.headers.etag, data: response.data });
+    }
+    return response.data;
+}
+
 app.get('/', (req, res) => {
     res.render('index');
 });
@@ -33,14 +64,14 @@ app.get('/teams', async (req, res) => {
 app.get('/team/:id', async (req, res) => {
     try {
         const teamId = req.params.id;
-        const [teamResponse, rosterResponse] = await Promise.all([
-            axios.get(`${API_BASE_URL}/teams/${teamId}`),
-            axios.get(`${API_BASE_URL}/teams/${teamId}/roster`)
+        const [team, roster] = await Promise.all([
+            getWithEtag(`${API_BASE_URL}/teams/${teamId}`),
+            getWithEtag(`${API_BASE_URL}/teams/${teamId}/roster`)
         ]);
         
         res.render('team-detail', { 
-            team: teamResponse.data, 
-            roster: rosterResponse.data 
+            team: team, 
+            roster: roster 
         });
     } catch (error) {
         console.error('Error fetching team details:', error.message);
@@ -0,0 +1,96 @@
+-- Compares current-season query latency on player_stats laid out as one heap table (the
+-- schema before V6) and list-partitioned by season (V6 onwards).
+--
+-- Builds both layouts with the same synthetic rows in a scratch schema, so it can be run
+-- against any database without touching real data:
+--
+--   psql -d fantasy_football -f scripts/benchmark_player_stats_partitioning.sql
+--
+-- Each query is run under EXPLAIN ANALYZE; compare "Execution Time" and, for the
+-- partitioned table, check that the plan only scans player_stats_bench_part_2024.
+
+\set seasons 10
+\set players 4000
+\set weeks 18
+
+DROP SCHEMA IF EXISTS stats_bench CASCADE;
+CREATE SCHEMA stats_bench;
+SET search_path = stats_bench;
+
+CREATE TABLE player_stats_bench_flat (
+    id SERIAL PRIMARY KEY,
+    player_id INTEGER NOT NULL,
+    week INTEGER NOT NULL,
+    season INTEGER NOT NULL,
+    points_scored DECIMAL(6,2) DEFAULT 0.00,
+    yards_gained INTEGER DEFAULT 0,
+    touchdowns INTEGER DEFAULT 0,
+    receptions INTEGER DEFAULT 0,
+    UNIQUE (player_id, week, season)
+);
+
+CREATE TABLE player_stats_bench_part (
+    id SERIAL,
+    player_id INTEGER NOT NULL,
+    week INTEGER NOT NULL,
+    season INTEGER NOT NULL,
+    points_scored DECIMAL(6,2) DEFAULT 0.00,
+    yards_gained INTEGER DEFAULT 0,
+    touchdowns INTEGER DEFAULT 0,
+    receptions INTEGER DEFAULT 0,
+    PRIMARY KEY (id, season),
+    UNIQUE (player_id, week, season)
+) PARTITION BY LIST (season);
+
+CREATE TABLE player_stats_bench_part_default PARTITION OF player_stats_bench_part DEFAULT;
+
+SELECT format('CREATE TABLE player_stats_bench_part_%s PARTITION OF player_stats_bench_part FOR VALUES IN (%s)',
+              season, season)
+FROM generate_series(2025 - :seasons, 2024) AS season
+\gexec
+
+-- Seasons are inserted interleaved by week, as weekly loads arrive, so the heap table
+-- mixes every season on its pages
+INSERT INTO player_stats_bench_flat (player_id, week, season, points_scored, yards_gained, touchdowns, receptions)
+SELECT player_id, week, season, round((random() * 35)::numeric, 2), (random() * 150)::int,
+       (random() * 3)::int, (random() * 10)::int
+FROM generate_series(1, :weeks) AS week,
+     generate_series(2025 - :seasons, 2024) AS season,
+     generate_series(1, :players) AS player_id
+ORDER BY week, player_id, season;
+
+INSERT INTO player_stats_bench_part (player_id, week, season, points_scored, yards_gained, touchdowns, receptions)
+SELECT player_id, week, season, points_scored, yards_gained, touchdowns, receptions
+FROM player_stats_bench_flat;
+
+VACUUM ANALYZE player_stats_bench_flat;
+VACUUM ANALYZE player_stats_bench_part;
+
+\echo '== Season totals of every player, current season'
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT player_id, sum(points_scored), sum(yards_gained) FROM player_stats_bench_flat
+WHERE season = 2024 GROUP BY player_id;
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT player_id, sum(points_scored), sum(yards_gained) FROM player_stats_bench_part
+WHERE season = 2024 GROUP BY player_id;
+
+\echo '== One week of the current season'
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM player_stats_bench_flat WHERE season = 2024 AND week = 9;
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM player_stats_bench_part WHERE season = 2024 AND week = 9;
+
+\echo '== One player-week (SeasonStatsService.saveWeek lookup)'
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM player_stats_bench_flat WHERE player_id = 1234 AND season = 2024 AND week = 9;
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT * FROM player_stats_bench_part WHERE player_id = 1234 AND season = 2024 AND week = 9;
+
+\echo '== Update by id (Hibernate adds the season through @PartitionKey)'
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+UPDATE player_stats_bench_flat SET touchdowns = touchdowns WHERE id = 700000;
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+UPDATE player_stats_bench_part SET touchdowns = touchdowns WHERE id = 700000 AND season = 2024;
+
+RESET search_path;
+DROP SCHEMA stats_bench CASCADE;